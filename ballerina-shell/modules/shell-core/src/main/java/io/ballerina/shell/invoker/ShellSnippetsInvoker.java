@@ -91,6 +91,14 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
      * or a temp file.
      */
     private File bufferFile;
+    /**
+     * Project loaded from the buffer file for offline compilations.
+     * Later sources are compiled by updating the document of this project, so that
+     * the project environment and the package resolution are reused across snippets.
+     * This is not incremental compilation: the generated source holds all previous
+     * declarations, and the whole module is compiled for each snippet.
+     */
+    private Project offlineProject;
 
     protected ShellSnippetsInvoker() {
 
@@ -229,6 +237,9 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
 
     /**
      * Get the project with the context data.
+     * Offline projects are not reloaded for each source. Instead, the document of the
+     * previously loaded project is updated with the source, which only invalidates
+     * the package resolution if the imports changed.
      *
      * @param source    Source to use for generating project.
      * @param isOffline Whether to use offline flag for build options.
@@ -238,11 +249,21 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
     protected Project getProject(String source, boolean isOffline) throws InvokerException {
         try {
             File mainBal = writeToFile(source);
+            if (isOffline && offlineProject != null) {
+                Module module = offlineProject.currentPackage().getDefaultModule();
+                DocumentId documentId = module.documentIds().iterator().next();
+                module.document(documentId).modify().withContent(source).apply();
+                return offlineProject;
+            }
             BuildOptions buildOptions = BuildOptions.builder()
                     .setOffline(isOffline)
                     .targetDir(ProjectUtils.getTemporaryTargetPath())
                     .build();
-            return SingleFileProject.load(mainBal.toPath(), buildOptions);
+            Project project = SingleFileProject.load(mainBal.toPath(), buildOptions);
+            if (isOffline) {
+                offlineProject = project;
+            }
+            return project;
         } catch (IOException e) {
             addErrorDiagnostic("File writing failed: " + e.getMessage());
             throw new InvokerException(e);
@@ -311,6 +332,8 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
                 addErrorDiagnostic("Import resolution failed. Module not found.");
                 throw new InvokerException();
             }
+            // Load the offline project again so that it resolves the newly pulled module
+            offlineProject = null;
         }
     }
 
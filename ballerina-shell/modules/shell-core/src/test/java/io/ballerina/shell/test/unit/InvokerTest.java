@@ -19,7 +19,9 @@
 package io.ballerina.shell.test.unit;
 
 import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
 import io.ballerina.shell.exceptions.BallerinaShellException;
 import io.ballerina.shell.exceptions.InvokerException;
 import io.ballerina.shell.invoker.classload.ClassLoadInvoker;
@@ -30,9 +32,12 @@ import io.ballerina.shell.snippet.factory.SnippetFactory;
 import io.ballerina.shell.test.TestUtils;
 import io.ballerina.shell.test.unit.base.TestCase;
 import io.ballerina.shell.test.unit.base.TestCases;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -78,6 +83,31 @@ public class InvokerTest {
         testInvoker(SAME_PREFIX_FOUND);
     }
 
+    @Test
+    public void testOfflineProjectReuse() throws BallerinaShellException {
+        TreeParser treeParser = TestUtils.getTestTreeParser();
+        SnippetFactory snippetFactory = new BasicSnippetFactory();
+        ProjectTrackingInvoker invoker = new ProjectTrackingInvoker();
+        invoker.initialize();
+        Optional<Object> result = Optional.empty();
+        for (String input : List.of("int x = 10;", "function addToX(int y) returns int => x + y;",
+                "int z = addToX(5);", "addToX(z)")) {
+            Collection<Snippet> snippets = snippetFactory.createSnippets(treeParser.parseString(input));
+            PackageCompilation compilation = invoker.getCompilation(snippets);
+            result = invoker.execute(Optional.ofNullable(compilation));
+        }
+        Assert.assertEquals(result.orElseThrow().toString(), "25");
+
+        // Every offline compilation is done with the project loaded on initialization
+        Project offlineProject = invoker.projects.get(0);
+        for (Project project : invoker.projects) {
+            Assert.assertSame(project, offlineProject);
+        }
+        Module module = offlineProject.currentPackage().getDefaultModule();
+        String source = module.document(module.documentIds().iterator().next()).textDocument().toString();
+        Assert.assertEquals(source, invoker.sources.get(invoker.sources.size() - 1));
+    }
+
     private void testInvoker(String fileName) throws BallerinaShellException {
         TestCases testCases = TestUtils.loadTestCases(fileName, TestCases.class);
         TreeParser treeParser = TestUtils.getTestTreeParser();
@@ -91,4 +121,20 @@ public class InvokerTest {
             invoker.execute(Optional.ofNullable(compilation));
         }
     }
+
+    /**
+     * Invoker that records the projects used for the compilations.
+     */
+    private static class ProjectTrackingInvoker extends ClassLoadInvoker {
+        private final List<Project> projects = new ArrayList<>();
+        private final List<String> sources = new ArrayList<>();
+
+        @Override
+        protected Project getProject(String source, boolean isOffline) throws InvokerException {
+            Project project = super.getProject(source, isOffline);
+            projects.add(project);
+            sources.add(source);
+            return project;
+        }
+    }
 }
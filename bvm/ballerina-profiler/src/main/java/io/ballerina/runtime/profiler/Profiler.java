@@ -59,6 +59,7 @@ public class Profiler {
     private String balJarArgs = null;
     private String balJarName = null;
     private String profilerDebugArg = null;
+    private Integer samplingInterval = null;
     private final List<String> instrumentedPaths = new ArrayList<>();
     private final List<String> instrumentedFiles = new ArrayList<>();
     private final List<String> utilInitPaths = new ArrayList<>();
@@ -139,6 +140,10 @@ public class Profiler {
                     this.profilerDebugArg = args[i + 1];
                     addToUsedArgs(args, usedArgs, i);
                 }
+                case "--sampling-interval" -> {
+                    this.samplingInterval = extractSamplingInterval(args[i + 1]);
+                    addToUsedArgs(args, usedArgs, i);
+                }
                 default -> handleUnrecognizedArgument(args[i], usedArgs);
             }
         }
@@ -151,6 +156,19 @@ public class Profiler {
         return value;
     }
 
+    private int extractSamplingInterval(String value) {
+        int interval;
+        try {
+            interval = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ProfilerException("Invalid sampling interval found: " + value, e);
+        }
+        if (interval <= 0) {
+            throw new ProfilerException("Invalid sampling interval found: " + value);
+        }
+        return interval;
+    }
+
     private String extractBalJarArgs(String value) {
         if (value == null || !value.startsWith("[") || !value.endsWith("]")) {
             throw new ProfilerException("Invalid JAR arguments found: " + value);
@@ -172,7 +190,7 @@ public class Profiler {
     private void extractProfiler() throws ProfilerException {
         OUT_STREAM.printf("%s[1/6] Initializing...%s%n", Constants.ANSI_CYAN, Constants.ANSI_RESET);
         try {
-            Path profilerRuntimePath = Path.of("io/ballerina/runtime/profiler/runtime");
+            Path profilerRuntimePath = Path.of(Constants.PROFILER_RUNTIME_PATH);
             new ProcessBuilder("jar", "xvf", "Profiler.jar", profilerRuntimePath.toString()).start().waitFor();
         } catch (IOException | InterruptedException exception) {
             throw new ProfilerException(exception);
@@ -209,7 +227,10 @@ public class Profiler {
                 if (mainClassPackage == null || className.contains("$gen$")) {
                     continue;
                 }
-                if (className.startsWith(mainClassPackage.split("/")[0]) || utilPaths.contains(className)) {
+                if (samplingInterval != null) {
+                    // Only the main class is instrumented to start the sampler, the functions are sampled
+                    instrumentMainClass(jarFile, profilerClassLoader, className, mainClassPackage);
+                } else if (className.startsWith(mainClassPackage.split("/")[0]) || utilPaths.contains(className)) {
                     try (InputStream inputStream = jarFile.getInputStream(jarFile.getJarEntry(className))) {
                         String sourceClassName = className.replace(Constants.CLASS_SUFFIX, "");
                         byte[] code = profilerMethodWrapper.modifyMethods(inputStream, sourceClassName);
@@ -221,14 +242,34 @@ public class Profiler {
                     moduleCount++;
                 }
             }
-            OUT_STREAM.printf("      Instrumented module count: %d%n", moduleCount);
-            OUT_STREAM.printf("      Instrumented function count: %d%n", balFunctionCount);
+            if (samplingInterval != null) {
+                OUT_STREAM.printf("      Sampled module count: %d%n", moduleCount);
+                OUT_STREAM.printf("      Sampling interval: %d ms%n", samplingInterval);
+            } else {
+                OUT_STREAM.printf("      Instrumented module count: %d%n", moduleCount);
+                OUT_STREAM.printf("      Instrumented function count: %d%n", balFunctionCount);
+                profilerMethodWrapper.writeMethodNames(Path.of(Constants.PROFILER_RUNTIME_PATH,
+                        Constants.METHOD_NAMES_FILE));
+            }
             modifyJar();
         } catch (Throwable throwable) {
             throw new ProfilerException(throwable);
         }
     }
 
+    private void instrumentMainClass(JarFile jarFile, ProfilerClassLoader profilerClassLoader, String className,
+                                     String mainClassPackage) throws IOException {
+        if (!className.equals(mainClassPackage + "/$_init" + Constants.CLASS_SUFFIX)) {
+            return;
+        }
+        try (InputStream inputStream = jarFile.getInputStream(jarFile.getJarEntry(className))) {
+            String sourceClassName = className.replace(Constants.CLASS_SUFFIX, "");
+            byte[] code = profilerMethodWrapper.modifyMethods(inputStream, sourceClassName, true);
+            profilerClassLoader.loadClass(code);
+            profilerMethodWrapper.printCode(className, code, getFileNameWithoutExtension(balJarName));
+        }
+    }
+
     private void modifyJar() throws InterruptedException, IOException {
         try {
             final File userDirectory = new File(System.getProperty("user.dir")); // Get the user directory
@@ -240,9 +281,9 @@ public class Profiler {
             for (String instrumentedFilePath : instrumentedPaths) {
                 FileUtils.deleteDirectory(new File(instrumentedFilePath));
             }
-            Path filePath = Path.of("io/ballerina/runtime/profiler/runtime");
+            Path filePath = Path.of(Constants.PROFILER_RUNTIME_PATH);
             FileUtils.deleteDirectory(new File(filePath.toString()));
-            profilerMethodWrapper.invokeMethods(profilerDebugArg);
+            profilerMethodWrapper.invokeMethods(profilerDebugArg, samplingInterval);
         }
     }
 
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.codegen;
+
+import io.ballerina.runtime.profiler.util.ProfilerException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is used to assign the integer ids of the instrumented methods of the Ballerina profiler, so that the
+ * instrumented code identifies the methods without building strings at runtime.
+ *
+ * @since 2201.13.0
+ */
+public class MethodIndex {
+
+    private final Map<String, Integer> methodIds = new HashMap<>();
+    private final List<String> methodNames = new ArrayList<>();
+
+    public int getMethodId(String className, String methodName) {
+        String qualifiedName = className + "." + methodName;
+        Integer methodId = methodIds.get(qualifiedName);
+        if (methodId != null) {
+            return methodId;
+        }
+        int newMethodId = methodNames.size();
+        methodIds.put(qualifiedName, newMethodId);
+        methodNames.add(qualifiedName);
+        return newMethodId;
+    }
+
+    // Writes the method names, one per line in the order of their ids
+    public void write(Path filePath) {
+        try {
+            Files.write(filePath, methodNames, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ProfilerException("Error occurred while writing the method names to: " + filePath, e);
+        }
+    }
+}
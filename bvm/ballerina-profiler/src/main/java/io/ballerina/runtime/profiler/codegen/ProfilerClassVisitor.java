@@ -23,6 +23,8 @@ import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
+import static io.ballerina.runtime.profiler.util.Constants.MAIN_METHOD;
+import static io.ballerina.runtime.profiler.util.Constants.MAIN_METHOD_DESCRIPTOR;
 import static io.ballerina.runtime.profiler.util.Constants.STRAND_ARG;
 
 /**
@@ -33,18 +35,34 @@ import static io.ballerina.runtime.profiler.util.Constants.STRAND_ARG;
 public class ProfilerClassVisitor extends ClassVisitor {
 
     private final String className;
+    private final MethodIndex methodIndex;
+    private final boolean samplingMode;
 
-    public ProfilerClassVisitor(String className, ClassVisitor classVisitor) {
+    public ProfilerClassVisitor(String className, ClassVisitor classVisitor, MethodIndex methodIndex) {
+        this(className, classVisitor, methodIndex, false);
+    }
+
+    public ProfilerClassVisitor(String className, ClassVisitor classVisitor, MethodIndex methodIndex,
+                                boolean samplingMode) {
         super(Opcodes.ASM9, classVisitor);
         this.className = className;
+        this.methodIndex = methodIndex;
+        this.samplingMode = samplingMode;
     }
 
     @Override
     public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
         MethodVisitor methodVisitor = super.visitMethod(access, name, desc, signature, exceptions);
+        if (samplingMode) {
+            // Only the main method is instrumented to start the sampler
+            if (MAIN_METHOD.equals(name) && MAIN_METHOD_DESCRIPTOR.equals(desc)) {
+                return new SamplerStartAdapter(access, methodVisitor, name, desc);
+            }
+            return methodVisitor;
+        }
         if (desc.startsWith(STRAND_ARG) && !name.contains("$gen$")) {
             Main.incrementBalFunctionCount();
-            return new StrandCheckAdapter(className, access, methodVisitor, name, desc, (access & Opcodes.ACC_STATIC));
+            return new StrandCheckAdapter(methodIndex.getMethodId(className, name), access, methodVisitor, name, desc);
         }
         return methodVisitor;
     }
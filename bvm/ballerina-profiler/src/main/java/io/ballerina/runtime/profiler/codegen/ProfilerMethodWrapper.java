@@ -43,6 +43,7 @@ import java.util.jar.Manifest;
 import static io.ballerina.runtime.profiler.util.Constants.CURRENT_DIR_KEY;
 import static io.ballerina.runtime.profiler.util.Constants.ERROR_STREAM;
 import static io.ballerina.runtime.profiler.util.Constants.OUT_STREAM;
+import static io.ballerina.runtime.profiler.util.Constants.SAMPLING_INTERVAL_PROPERTY;
 import static io.ballerina.runtime.profiler.util.Constants.USER_DIR;
 
 /**
@@ -53,8 +54,13 @@ import static io.ballerina.runtime.profiler.util.Constants.USER_DIR;
 public class ProfilerMethodWrapper extends ClassLoader {
 
     public static final String JAVA_OPTS = "JAVA_OPTS";
+    private final MethodIndex methodIndex = new MethodIndex();
 
     public void invokeMethods(String debugArg) throws IOException, InterruptedException {
+        invokeMethods(debugArg, null);
+    }
+
+    public void invokeMethods(String debugArg, Integer samplingInterval) throws IOException, InterruptedException {
         String balJarArgs = Main.getBalJarArgs();
         List<String> commands = new ArrayList<>();
         String javaOpts = System.getenv().get(JAVA_OPTS);
@@ -62,6 +68,9 @@ public class ProfilerMethodWrapper extends ClassLoader {
         if (javaOpts != null) {
             commands.add(javaOpts.trim());
         }
+        if (samplingInterval != null) {
+            commands.add("-D" + SAMPLING_INTERVAL_PROPERTY + "=" + samplingInterval);
+        }
         commands.add("-jar");
         if (debugArg != null) {
             commands.add(debugArg);
@@ -98,12 +107,16 @@ public class ProfilerMethodWrapper extends ClassLoader {
     }
 
     public byte[] modifyMethods(InputStream inputStream, String className) {
+        return modifyMethods(inputStream, className, false);
+    }
+
+    public byte[] modifyMethods(InputStream inputStream, String className, boolean samplingMode) {
         byte[] code;
         try {
             ClassReader reader = new ClassReader(inputStream);
             ClassWriter classWriter = new ProfilerClassWriter(reader, ClassWriter.COMPUTE_MAXS |
                     ClassWriter.COMPUTE_FRAMES);
-            ClassVisitor change = new ProfilerClassVisitor(className, classWriter);
+            ClassVisitor change = new ProfilerClassVisitor(className, classWriter, methodIndex, samplingMode);
             reader.accept(change, ClassReader.EXPAND_FRAMES);
             code = classWriter.toByteArray();
             return code;
@@ -113,6 +126,11 @@ public class ProfilerMethodWrapper extends ClassLoader {
         return new byte[0]; // Return a zero-length byte array if the code was not modified
     }
 
+    // Write the names of the instrumented methods, so that the profiler runtime can map the method ids back to them
+    public void writeMethodNames(Path filePath) {
+        methodIndex.write(filePath);
+    }
+
     // Print out the modified class code
     public void printCode(String className, byte[] code, String balJarName) {
         int lastSlashIndex = className.lastIndexOf('/');
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.codegen;
+
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.commons.AdviceAdapter;
+
+import static io.ballerina.runtime.profiler.util.Constants.GET_SAMPLER_INSTANCE_DESCRIPTOR;
+import static io.ballerina.runtime.profiler.util.Constants.SAMPLING_PROFILER;
+
+/**
+ * This class is used as the advice adapter of the sampling mode of the Ballerina profiler.
+ * This will start the {@link io.ballerina.runtime.profiler.runtime.SamplingProfiler} at the beginning of the main
+ * method of the program, leaving the Ballerina functions themselves uninstrumented.
+ *
+ * @since 2201.13.0
+ */
+public class SamplerStartAdapter extends AdviceAdapter {
+
+    public SamplerStartAdapter(int access, MethodVisitor mv, String methodName, String description) {
+        super(Opcodes.ASM9, mv, access, methodName, description);
+    }
+
+    // It retrieves the sampling profiler instance and starts sampling.
+    @Override
+    protected void onMethodEnter() {
+        mv.visitMethodInsn(INVOKESTATIC, SAMPLING_PROFILER, "getInstance", GET_SAMPLER_INSTANCE_DESCRIPTOR, false);
+        mv.visitMethodInsn(INVOKEVIRTUAL, SAMPLING_PROFILER, "start", "()V", false);
+    }
+}
@@ -18,48 +18,40 @@
 
 package io.ballerina.runtime.profiler.codegen;
 
-import io.ballerina.runtime.internal.scheduling.Strand;
-import io.ballerina.runtime.profiler.runtime.Data;
+import io.ballerina.runtime.profiler.runtime.CallTreeNode;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.objectweb.asm.commons.AdviceAdapter;
 
-import static io.ballerina.runtime.profiler.util.Constants.DATA_CLASS;
+import static io.ballerina.runtime.profiler.util.Constants.CALL_TREE_NODE_CLASS;
+import static io.ballerina.runtime.profiler.util.Constants.ENTER_PROFILE_DESCRIPTOR;
+import static io.ballerina.runtime.profiler.util.Constants.EXIT_PROFILE_DESCRIPTOR;
 import static io.ballerina.runtime.profiler.util.Constants.GET_INSTANCE_DESCRIPTOR;
 import static io.ballerina.runtime.profiler.util.Constants.PROFILE_ANALYZER;
-import static io.ballerina.runtime.profiler.util.Constants.START_PROFILE_DESCRIPTOR;
-import static io.ballerina.runtime.profiler.util.Constants.STOP_PROFILE_DESCRIPTOR;
 
 /**
  * This class is used as the advice adapter for the Ballerina profiler.
  * This will wrap the ballerina methods with
- * {@link io.ballerina.runtime.profiler.runtime.ProfileAnalyzer#start(Strand, String, String)} and
- * {@link io.ballerina.runtime.profiler.runtime.ProfileAnalyzer#stop(Strand, Data)} methods.
+ * {@link io.ballerina.runtime.profiler.runtime.ProfileAnalyzer#enter(int)} and
+ * {@link io.ballerina.runtime.profiler.runtime.ProfileAnalyzer#exit(CallTreeNode)} methods, and count the allocations
+ * made by them with {@link CallTreeNode#allocated()}.
  *
  * @since 2201.8.0
  */
 public class StrandCheckAdapter extends AdviceAdapter {
 
-    private final String className;
-    private final String methodName;
-    private final Type dataType;
+    private final int methodId;
+    private final Type nodeType;
     Label tryStart = new Label();
-    int load;
-    int stackKeyIndex;
+    int nodeIndex;
+    boolean entered = false;
 
-    public StrandCheckAdapter(String className, int access, MethodVisitor mv, String methodName,
-                              String description, int load) {
+    public StrandCheckAdapter(int methodId, int access, MethodVisitor mv, String methodName, String description) {
         super(Opcodes.ASM9, mv, access, methodName, description);
-        this.className = className;
-        this.methodName = methodName;
-        if (load == 0) {
-            this.load = 1;
-        } else {
-            this.load = 0;
-        }
-        this.dataType = Type.getObjectType(DATA_CLASS);
+        this.methodId = methodId;
+        this.nodeType = Type.getObjectType(CALL_TREE_NODE_CLASS);
     }
 
     // It adds a label to the try block of the wrapped method.
@@ -69,16 +61,15 @@ public class StrandCheckAdapter extends AdviceAdapter {
         mv.visitLabel(tryStart);
     }
 
-    // It retrieves the profiler instance, gets the strand id and starts the profiling.
+    // It retrieves the profiler instance and enters the call tree node of the method.
     @Override
     protected void onMethodEnter() {
-        this.stackKeyIndex = this.newLocal(dataType);
+        this.nodeIndex = this.newLocal(nodeType);
         mv.visitMethodInsn(INVOKESTATIC, PROFILE_ANALYZER, "getInstance", GET_INSTANCE_DESCRIPTOR, false);
-        mv.visitVarInsn(ALOAD, load);
-        mv.visitLdcInsn(className);
-        mv.visitLdcInsn(methodName);
-        mv.visitMethodInsn(INVOKEVIRTUAL, PROFILE_ANALYZER, "start", START_PROFILE_DESCRIPTOR, false);
-        mv.visitVarInsn(ASTORE, this.stackKeyIndex);
+        mv.visitLdcInsn(methodId);
+        mv.visitMethodInsn(INVOKEVIRTUAL, PROFILE_ANALYZER, "enter", ENTER_PROFILE_DESCRIPTOR, false);
+        mv.visitVarInsn(ASTORE, this.nodeIndex);
+        this.entered = true;
     }
 
     // If the exit is not due to an exception, it calls the onFinally method.
@@ -89,6 +80,28 @@ public class StrandCheckAdapter extends AdviceAdapter {
         }
     }
 
+    @Override
+    public void visitTypeInsn(int opcode, String type) {
+        if (opcode == NEW || opcode == ANEWARRAY) {
+            onAllocation();
+        }
+        super.visitTypeInsn(opcode, type);
+    }
+
+    @Override
+    public void visitIntInsn(int opcode, int operand) {
+        if (opcode == NEWARRAY) {
+            onAllocation();
+        }
+        super.visitIntInsn(opcode, operand);
+    }
+
+    @Override
+    public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+        onAllocation();
+        super.visitMultiANewArrayInsn(descriptor, numDimensions);
+    }
+
     // This method is called to generate the max stack and max locals for the wrapped method.
     // It adds a try-catch block to the wrapped method and calls the onFinally method in the catch block.
     @Override
@@ -101,12 +114,21 @@ public class StrandCheckAdapter extends AdviceAdapter {
         mv.visitMaxs(-1, -1);
     }
 
+    // This method counts an allocation against the call tree node of the method.
+    // Allocations made before entering the node, such as the arguments of a super constructor call, are not counted.
+    private void onAllocation() {
+        if (!this.entered) {
+            return;
+        }
+        mv.visitVarInsn(ALOAD, this.nodeIndex);
+        mv.visitMethodInsn(INVOKEVIRTUAL, CALL_TREE_NODE_CLASS, "allocated", "()V", false);
+    }
+
     // This method stops the profiling for the wrapped method.
-    // It retrieves the profiler instance, gets the strand state and id, and stops the profiling.
+    // It retrieves the profiler instance and exits the call tree node of the method.
     private void onFinally() {
         mv.visitMethodInsn(INVOKESTATIC, PROFILE_ANALYZER, "getInstance", GET_INSTANCE_DESCRIPTOR, false);
-        mv.visitVarInsn(ALOAD, load);
-        mv.visitVarInsn(ALOAD, this.stackKeyIndex);
-        mv.visitMethodInsn(INVOKEVIRTUAL, PROFILE_ANALYZER, "stop", STOP_PROFILE_DESCRIPTOR, false);
+        mv.visitVarInsn(ALOAD, this.nodeIndex);
+        mv.visitMethodInsn(INVOKEVIRTUAL, PROFILE_ANALYZER, "exit", EXIT_PROFILE_DESCRIPTOR, false);
     }
 }
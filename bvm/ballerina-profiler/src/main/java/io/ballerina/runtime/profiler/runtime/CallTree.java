@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+/**
+ * This class is used as the call tree of a thread for the Ballerina profiler. A tree is owned by a single thread while
+ * it has calls in progress, and is handed over to other threads through {@link ProfileAnalyzer} afterwards.
+ *
+ * @since 2201.13.0
+ */
+final class CallTree {
+
+    static final int ROOT_METHOD_ID = -1;
+    static final int[] ROOT_PATH = new int[0];
+
+    final CallTreeNode root = new CallTreeNode(ROOT_METHOD_ID, null, this);
+    // Node of the call path the outermost call in progress was started from, e.g. the call path of the function
+    // that started the strand
+    CallTreeNode base = root;
+    CallTreeNode current = root;
+
+    // Starts recording an outermost call made from the given call path
+    void startFrom(int[] path) {
+        CallTreeNode node = this.root;
+        for (int methodId : path) {
+            node = node.getChild(methodId);
+        }
+        this.base = node;
+        this.current = node;
+    }
+
+    // Returns the method ids of the call path in progress, starting from the outermost call
+    int[] currentPath() {
+        int depth = 0;
+        for (CallTreeNode node = this.current; node != this.root; node = node.parent) {
+            depth++;
+        }
+        int[] path = new int[depth];
+        for (CallTreeNode node = this.current; node != this.root; node = node.parent) {
+            path[--depth] = node.methodId;
+        }
+        return path;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+/**
+ * This class is used as a node of the per-thread call trees of the Ballerina profiler. A node represents a call path
+ * and is only updated by the thread that owns its tree, so the instrumented calls neither allocate nor synchronize
+ * once the path has been visited. A child is stored before the child count is published, so the trees can be read
+ * by the thread merging them while their owners are still running.
+ *
+ * @since 2201.13.0
+ */
+public final class CallTreeNode {
+
+    private static final CallTreeNode[] NO_CHILDREN = new CallTreeNode[0];
+
+    final int methodId;
+    final CallTreeNode parent;
+    final CallTree tree;
+    private volatile CallTreeNode[] children = NO_CHILDREN;
+    private volatile int childCount = 0;
+    long startTime;
+    long totalTime;
+    long callCount;
+    long allocationCount;
+
+    CallTreeNode(int methodId, CallTreeNode parent, CallTree tree) {
+        this.methodId = methodId;
+        this.parent = parent;
+        this.tree = tree;
+    }
+
+    /**
+     * Records an object or array allocation made by the function of this node. Calls to this method are added before
+     * the allocation instructions of the instrumented functions.
+     */
+    public void allocated() {
+        this.allocationCount++;
+    }
+
+    CallTreeNode getChild(int childMethodId) {
+        int count = this.childCount;
+        CallTreeNode[] currentChildren = this.children;
+        for (int i = 0; i < count; i++) {
+            CallTreeNode child = currentChildren[i];
+            if (child.methodId == childMethodId) {
+                return child;
+            }
+        }
+        if (count == currentChildren.length) {
+            CallTreeNode[] newChildren = new CallTreeNode[Math.max(4, count * 2)];
+            System.arraycopy(currentChildren, 0, newChildren, 0, count);
+            currentChildren = newChildren;
+            this.children = newChildren;
+        }
+        CallTreeNode child = new CallTreeNode(childMethodId, this, this.tree);
+        currentChildren[count] = child;
+        // Published after the child is stored, so that readers never see an empty slot within the count
+        this.childCount = count + 1;
+        return child;
+    }
+
+    CallTreeNode[] getChildren() {
+        // The count is read first, as the array read afterwards holds at least that many children
+        int count = this.childCount;
+        CallTreeNode[] result = new CallTreeNode[count];
+        System.arraycopy(this.children, 0, result, 0, count);
+        return result;
+    }
+
+    // Adds the measurements of the given node and its descendants to this node
+    void merge(CallTreeNode other) {
+        this.totalTime += other.totalTime;
+        this.callCount += other.callCount;
+        this.allocationCount += other.allocationCount;
+        for (CallTreeNode otherChild : other.getChildren()) {
+            getChild(otherChild.methodId).merge(otherChild);
+        }
+    }
+
+    long getSelfTime() {
+        long childrenTime = 0;
+        for (CallTreeNode child : getChildren()) {
+            childrenTime += child.totalTime;
+        }
+        return Math.max(0, this.totalTime - childrenTime);
+    }
+}
@@ -18,26 +18,56 @@
 
 package io.ballerina.runtime.profiler.runtime;
 
-import io.ballerina.runtime.internal.scheduling.Strand;
-
+import java.io.BufferedReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 import static io.ballerina.runtime.profiler.util.Constants.CPU_PRE_JSON;
-import static io.ballerina.runtime.profiler.util.Constants.STRAND_PROFILER_STACK_PROPERTY;
+import static io.ballerina.runtime.profiler.util.Constants.METHOD_NAMES_FILE;
 
 /**
  * This class is used as the main profiler class for the Ballerina profiler.
+ * <p>
+ * Each thread records its calls in its own {@link CallTree}, using the method ids assigned when the classes were
+ * instrumented. A tree is released to a pool once its outermost call returns, so the number of trees is bounded by
+ * the number of threads running Ballerina functions at the same time rather than the number of strands. The calls of
+ * a thread are nested under the call path of the thread that created it, so the functions of a started strand are
+ * shown under the function that started it. The recording is stopped before the trees are merged when the program
+ * exits.
  *
  * @since 2201.8.0
  */
 public class ProfileAnalyzer {
 
-    private final ConcurrentHashMap<String, Data> profiles = new ConcurrentHashMap<>();
+    // Returned for the calls made after the recording is stopped, which are not recorded
+    private static final CallTreeNode NOT_RECORDED = new CallTreeNode(CallTree.ROOT_METHOD_ID, null, null);
+
+    private final ThreadLocal<CallTree> callTrees = new ThreadLocal<>();
+    // Call path each thread was created from, taken from the call in progress on the creating thread
+    private final InheritableThreadLocal<int[]> startPaths = new InheritableThreadLocal<>() {
+        @Override
+        protected int[] initialValue() {
+            return CallTree.ROOT_PATH;
+        }
+
+        @Override
+        protected int[] childValue(int[] parentPath) {
+            CallTree tree = callTrees.get();
+            return tree != null ? tree.currentPath() : parentPath;
+        }
+    };
+    private final Queue<CallTree> idleCallTrees = new ConcurrentLinkedQueue<>();
+    private final Queue<CallTree> allCallTrees = new ConcurrentLinkedQueue<>();
+    private volatile boolean recording = true;
 
     private static class ProfilerHolder {
         private static final ProfileAnalyzer PROFILER_INSTANCE = new ProfileAnalyzer();
@@ -48,49 +78,117 @@ public class ProfileAnalyzer {
     }
 
     private ProfileAnalyzer() {
-        addProfilerShutDownHook();
+        this(true);
+    }
+
+    // Creates a profiler which is not registered to write the output when the program exits
+    static ProfileAnalyzer create() {
+        return new ProfileAnalyzer(false);
     }
 
-    public Data start(Strand strand, String className, String methodName) {
-        Object stacksObj = strand.getProperty(STRAND_PROFILER_STACK_PROPERTY);
-        String stackIndex = StackTraceMap.getStackIndex(className + "." + methodName) + "$";
-        String stackKey;
-        if (stacksObj != null) {
-            stackKey = stacksObj + stackIndex;
-        } else {
-            stackKey = stackIndex;
+    private ProfileAnalyzer(boolean writeOnExit) {
+        if (writeOnExit) {
+            addProfilerShutDownHook();
         }
-        Data data;
-        if (this.profiles.containsKey(stackKey)) {
-            data = this.profiles.get(stackKey);
-        } else {
-            data = new Data(stackIndex, stackKey);
-            this.profiles.put(stackKey, data);
+    }
+
+    public CallTreeNode enter(int methodId) {
+        if (!this.recording) {
+            return NOT_RECORDED;
+        }
+        CallTree tree = this.callTrees.get();
+        if (tree == null) {
+            tree = acquireCallTree();
+            tree.startFrom(this.startPaths.get());
+            this.callTrees.set(tree);
         }
-        data.start(String.valueOf(strand.getId()));
-        strand.setProperty(STRAND_PROFILER_STACK_PROPERTY, stackKey);
-        return data;
+        CallTreeNode node = tree.current.getChild(methodId);
+        tree.current = node;
+        node.startTime = System.nanoTime();
+        return node;
     }
 
-    public void stop(Strand strand, Data data) {
-        data.stop(String.valueOf(strand.getId()));
-        strand.setProperty(STRAND_PROFILER_STACK_PROPERTY, data.stackKey.substring(0,
-                data.stackKey.length() - data.stackIndex.length()));
+    public void exit(CallTreeNode node) {
+        if (node == NOT_RECORDED) {
+            return;
+        }
+        node.totalTime += System.nanoTime() - node.startTime;
+        node.callCount++;
+        CallTree tree = node.tree;
+        tree.current = node.parent;
+        if (node.parent == tree.base) {
+            this.callTrees.remove();
+            this.idleCallTrees.offer(tree);
+        }
+    }
+
+    // Stops recording new calls. The trees are only appended to, so they can be merged afterwards while the calls
+    // that are still in progress complete.
+    void stop() {
+        this.recording = false;
+    }
+
+    private CallTree acquireCallTree() {
+        CallTree tree = this.idleCallTrees.poll();
+        if (tree == null) {
+            tree = new CallTree();
+            this.allCallTrees.offer(tree);
+        }
+        return tree;
+    }
+
+    // Merges the call trees of all the threads into a single tree
+    CallTreeNode mergeCallTrees() {
+        CallTreeNode mergedRoot = new CallTree().root;
+        for (CallTree tree : this.allCallTrees) {
+            mergedRoot.merge(tree.root);
+        }
+        return mergedRoot;
     }
 
     public final String getProfileStackString() {
-        StringBuilder sb = new StringBuilder("[");
-        ArrayList<Data> dataList = new ArrayList<>(this.profiles.values());
-        for (int i = 0; i < (dataList.size() - 1); i++) {
-            Data data = dataList.get(i);
-            data.stackTrace = StackTraceMap.getCallStackString(data.stackKey);
-            sb.append(data).append(",\n");
+        CallTreeNode mergedRoot = mergeCallTrees();
+        List<String> methodNames = readMethodNames();
+        List<String> profiles = new ArrayList<>();
+        List<String> stackTrace = new ArrayList<>();
+        for (CallTreeNode child : mergedRoot.getChildren()) {
+            populateProfiles(child, methodNames, stackTrace, profiles);
+        }
+        return "[" + String.join(",\n", profiles) + "\n]";
+    }
+
+    private void populateProfiles(CallTreeNode node, List<String> methodNames, List<String> stackTrace,
+                                  List<String> profiles) {
+        stackTrace.add("\"" + StackTraceMap.decodeStackElement(methodNames.get(node.methodId)) + "\"");
+        profiles.add("{\"time\": \"" + toMillis(node.totalTime) + "\", \"selfTime\": \"" +
+                toMillis(node.getSelfTime()) + "\", \"calls\": \"" + node.callCount + "\", \"allocations\": \"" +
+                node.allocationCount + "\", \"stackTrace\": [" + String.join(",", stackTrace) + "]}");
+        for (CallTreeNode child : node.getChildren()) {
+            populateProfiles(child, methodNames, stackTrace, profiles);
+        }
+        stackTrace.remove(stackTrace.size() - 1);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // The method names are written next to this class when the functions are instrumented, one per line in the
+    // order of their ids
+    private List<String> readMethodNames() {
+        List<String> methodNames = new ArrayList<>();
+        try (InputStream inputStream = ProfileAnalyzer.class.getResourceAsStream(METHOD_NAMES_FILE)) {
+            if (inputStream == null) {
+                throw new ProfilerRuntimeException("Error occurred while reading the " + METHOD_NAMES_FILE + " file");
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream,
+                    StandardCharsets.UTF_8))) {
+                reader.lines().forEach(methodNames::add);
+            }
+        } catch (IOException e) {
+            throw new ProfilerRuntimeException("Error occurred while reading the " + METHOD_NAMES_FILE + " file", e);
         }
-        Data data = dataList.get(dataList.size() - 1);
-        data.stackTrace = StackTraceMap.getCallStackString(data.stackKey);
-        sb.append(data).append("\n");
-        sb.append("]");
-        return sb.toString();
+        return methodNames;
     }
 
     private void printProfilerOutput(String dataStream) {
@@ -106,6 +204,7 @@ public class ProfileAnalyzer {
 
         Runtime.getRuntime().addShutdownHook(Thread.ofVirtual().unstarted(() -> {
             ProfileAnalyzer profiler = ProfileAnalyzer.getInstance();
+            profiler.stop();
             profiler.printProfilerOutput(profiler.getProfileStackString());
         }));
     }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.runtime.profiler.util.Constants.CPU_PRE_JSON;
+import static io.ballerina.runtime.profiler.util.Constants.DEFAULT_SAMPLING_INTERVAL;
+import static io.ballerina.runtime.profiler.util.Constants.SAMPLING_INTERVAL_PROPERTY;
+
+/**
+ * This class is used as the profiler of the sampling mode of the Ballerina profiler.
+ * <p>
+ * Instead of wrapping every Ballerina function, it consumes the JFR execution samples of the running program and
+ * counts the Ballerina frames found on them. JFR samples the threads without a safepoint and reports the stack of the
+ * virtual thread mounted on a carrier thread, so the strands are sampled as well. The stacks are recorded with the
+ * same {@link StackTraceMap} indexes as {@link ProfileAnalyzer}, so the output is rendered as the same flame graph.
+ *
+ * @since 2201.13.0
+ */
+public class SamplingProfiler {
+
+    private static final String EXECUTION_SAMPLE_EVENT = "jdk.ExecutionSample";
+    private static final String GENERATED_METHOD_IDENTIFIER = "$gen$";
+
+    private final long interval;
+    // Number of samples found in each stack key, counted for every prefix of the sampled stacks. It is only updated
+    // by the thread consuming the recording stream, and read once the stream is stopped.
+    private final Map<String, Long> sampleCounts = new HashMap<>();
+    private String balClassPrefix;
+    private RecordingStream recordingStream;
+
+    private static class SamplerHolder {
+        private static final SamplingProfiler SAMPLER_INSTANCE = new SamplingProfiler();
+    }
+
+    public static SamplingProfiler getInstance() {
+        return SamplerHolder.SAMPLER_INSTANCE;
+    }
+
+    private SamplingProfiler() {
+        this(Long.getLong(SAMPLING_INTERVAL_PROPERTY, DEFAULT_SAMPLING_INTERVAL));
+    }
+
+    SamplingProfiler(long interval) {
+        this.interval = Math.max(1, interval);
+    }
+
+    public synchronized void start() {
+        if (this.recordingStream != null) {
+            return;
+        }
+        // The sampler is started from the main method of the $_init class of the entry module, and the classes of
+        // the Ballerina functions are in packages starting with the organization name, as in the instrumented mode
+        Class<?> mainClass = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).getCallerClass();
+        String mainPackage = mainClass.getPackageName();
+        int orgSeparator = mainPackage.indexOf('.');
+        this.balClassPrefix = (orgSeparator < 0 ? mainPackage : mainPackage.substring(0, orgSeparator)) + ".";
+
+        this.recordingStream = new RecordingStream();
+        this.recordingStream.enable(EXECUTION_SAMPLE_EVENT).withPeriod(Duration.ofMillis(this.interval))
+                .withStackTrace();
+        this.recordingStream.onEvent(EXECUTION_SAMPLE_EVENT, this::recordSample);
+        // The thread of RecordingStream#startAsync is not a daemon thread, which would keep the program alive
+        Thread.ofPlatform().daemon().name("ballerina-profiler-sampler").start(this.recordingStream::start);
+        addProfilerShutDownHook();
+    }
+
+    private void recordSample(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return;
+        }
+        List<String> balFrames = new ArrayList<>();
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            RecordedMethod method = frame.getMethod();
+            if (!frame.isJavaFrame() || method.isHidden()) {
+                continue;
+            }
+            String className = method.getType().getName();
+            if (isBalMethod(this.balClassPrefix, className, method.getName())) {
+                balFrames.add(className.replace('.', '/') + "." + method.getName());
+            }
+        }
+        recordStack(balFrames);
+    }
+
+    // Frames are listed from the innermost call, whereas stack keys start from the outermost call
+    void recordStack(List<String> balFrames) {
+        StringBuilder stackKey = new StringBuilder();
+        for (int i = balFrames.size() - 1; i >= 0; i--) {
+            stackKey.append(StackTraceMap.getStackIndex(balFrames.get(i))).append("$");
+            this.sampleCounts.merge(stackKey.toString(), 1L, Long::sum);
+        }
+    }
+
+    // Returns whether the method belongs to a Ballerina function, i.e. it is one that the instrumented mode wraps
+    static boolean isBalMethod(String balClassPrefix, String className, String methodName) {
+        return className.startsWith(balClassPrefix) && !className.contains(GENERATED_METHOD_IDENTIFIER)
+                && !methodName.contains(GENERATED_METHOD_IDENTIFIER);
+    }
+
+    private synchronized void stop() {
+        if (this.recordingStream == null) {
+            return;
+        }
+        try {
+            // Stopping the stream waits until the recorded samples are consumed
+            this.recordingStream.stop();
+        } catch (IllegalStateException e) {
+            // The recording is already stopped by the JFR shutdown hook, wait until its samples are consumed
+            try {
+                this.recordingStream.awaitTermination();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        this.recordingStream.close();
+    }
+
+    final String getProfileStackString() {
+        StringBuilder sb = new StringBuilder("[");
+        String separator = "";
+        for (Map.Entry<String, Long> entry : this.sampleCounts.entrySet()) {
+            sb.append(separator).append("{\"time\": \"").append(entry.getValue() * this.interval)
+                    .append("\", \"stackTrace\": ").append(StackTraceMap.getCallStackString(entry.getKey()))
+                    .append("}");
+            separator = ",\n";
+        }
+        sb.append("\n]");
+        return sb.toString();
+    }
+
+    private void printProfilerOutput(String dataStream) {
+        try (Writer myWriter = new FileWriter(CPU_PRE_JSON, StandardCharsets.UTF_8)) {
+            myWriter.write(dataStream);
+        } catch (IOException e) {
+            throw new ProfilerRuntimeException("Error occurred while writing to the " + CPU_PRE_JSON + " file");
+        }
+    }
+
+    private void addProfilerShutDownHook() {
+        // add a shutdown hook to stop sampling and write the output when the program is closed
+        Runtime.getRuntime().addShutdownHook(Thread.ofVirtual().unstarted(() -> {
+            SamplingProfiler profiler = SamplingProfiler.getInstance();
+            profiler.stop();
+            profiler.printProfilerOutput(profiler.getProfileStackString());
+        }));
+    }
+}
@@ -61,7 +61,7 @@ public final class StackTraceMap {
         return sb.toString();
     }
 
-    private static String decodeStackElement(String stackElement) {
+    static String decodeStackElement(String stackElement) {
         return Utils.decodeIdentifier(stackElement.replace("$value$", ""));
     }
 }
@@ -27,6 +27,8 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -43,6 +45,12 @@ import static io.ballerina.runtime.profiler.util.Constants.PERFORMANCE_JSON;
 public class JsonParser {
 
     private static final String VALUE_KEY = "value";
+    private static final String TIME_KEY = "time";
+    private static final String SELF_TIME_KEY = "selfTime";
+    private static final String CALLS_KEY = "calls";
+    private static final String ALLOCATIONS_KEY = "allocations";
+    private static final String STACK_TRACE_KEY = "stackTrace";
+    private static final int SUMMARY_FUNCTION_COUNT = 10;
 
     public void initializeCPUParser(String cpuFilePath) {
         try {
@@ -54,6 +62,7 @@ public class JsonParser {
                 analyseStackTraceItems(stackTraceItem, output);
             }
             writeToValueJson(output);
+            printFunctionSummary(input);
         } catch (Exception throwable) {
             OUT_STREAM.println(throwable + "%n");
         }
@@ -87,6 +96,40 @@ public class JsonParser {
         for (int i = 1; i < stackTraceItem.stackTrace.size(); i++) {
             current = populateChildNodes(stackTraceItem, current, stackTraceItem.stackTrace.get(i));
         }
+        if (current != output) {
+            current.selfTime += stackTraceItem.selfTime;
+            current.calls += stackTraceItem.calls;
+            current.allocations += stackTraceItem.allocations;
+        }
+    }
+
+    // Prints the functions with the highest self time, which is only available when the functions are instrumented
+    private void printFunctionSummary(List<StackTraceItem> input) {
+        Map<String, StackTraceItem> functions = new LinkedHashMap<>();
+        for (StackTraceItem item : input) {
+            if (item.stackTrace.isEmpty()) {
+                continue;
+            }
+            String name = item.stackTrace.get(item.stackTrace.size() - 1);
+            StackTraceItem function = functions.computeIfAbsent(name,
+                    key -> new StackTraceItem(0, 0, 0, 0, List.of(key)));
+            function.selfTime += item.selfTime;
+            function.calls += item.calls;
+            function.allocations += item.allocations;
+        }
+        List<StackTraceItem> summary = functions.values().stream()
+                .filter(function -> function.calls > 0)
+                .sorted(Comparator.comparingLong((StackTraceItem function) -> function.selfTime).reversed())
+                .limit(SUMMARY_FUNCTION_COUNT)
+                .toList();
+        if (summary.isEmpty()) {
+            return;
+        }
+        OUT_STREAM.printf("      Top functions by self time (self time ms, calls, allocations):%n");
+        for (StackTraceItem function : summary) {
+            OUT_STREAM.printf("        %8d %10d %12d  %s%n", function.selfTime, function.calls, function.allocations,
+                    function.stackTrace.get(0));
+        }
     }
 
     private void writeToValueJson(Data output) {
@@ -113,13 +156,21 @@ public class JsonParser {
         ArrayList<StackTraceItem> stackTraceItems = new ArrayList<>();
         for (int i = 0; i < arr.getLength(); i++) {
             Map<BmpStringValue, Object> arrItem = (Map<BmpStringValue, Object>) arr.get(i);
-            stackTraceItems.add(new StackTraceItem(Integer.parseInt(arrItem.get(new BmpStringValue("time")).toString()),
-                    List.of(JsonInternalUtils.convertJSONToBArray(arrItem.get(new BmpStringValue("stackTrace")),
+            int time = Integer.parseInt(arrItem.get(new BmpStringValue(TIME_KEY)).toString());
+            stackTraceItems.add(new StackTraceItem(time, getLongField(arrItem, SELF_TIME_KEY),
+                    getLongField(arrItem, CALLS_KEY), getLongField(arrItem, ALLOCATIONS_KEY),
+                    List.of(JsonInternalUtils.convertJSONToBArray(arrItem.get(new BmpStringValue(STACK_TRACE_KEY)),
                             new BArrayType(TYPE_STRING)).getStringArray())));
         }
         return stackTraceItems;
     }
 
+    // The self time, call and allocation counts are only recorded when the functions are instrumented
+    private static long getLongField(Map<BmpStringValue, Object> arrItem, String key) {
+        Object value = arrItem.get(new BmpStringValue(key));
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+
     /**
      * This class is used as a custom data class.
      *
@@ -128,10 +179,16 @@ public class JsonParser {
     private static class StackTraceItem {
 
         int time;
+        long selfTime;
+        long calls;
+        long allocations;
         List<String> stackTrace;
 
-        public StackTraceItem(int time, List<String> stackTrace) {
+        public StackTraceItem(int time, long selfTime, long calls, long allocations, List<String> stackTrace) {
             this.time = time;
+            this.selfTime = selfTime;
+            this.calls = calls;
+            this.allocations = allocations;
             this.stackTrace = new ArrayList<>(stackTrace);
         }
     }
@@ -145,6 +202,9 @@ public class JsonParser {
 
         String name;
         int value;
+        long selfTime;
+        long calls;
+        long allocations;
         List<Data> children;
 
         Data(String name, int value, List<Data> children) {
@@ -157,7 +217,9 @@ public class JsonParser {
         public String toString() {
             StringBuilder text = new StringBuilder();
             text.append("{").append("\"name\":\"").append(this.name).append("\",\"value\":").
-                    append(this.value).append(",\"children\":[");
+                    append(this.value).append(",\"selfTime\":").append(this.selfTime).append(",\"calls\":").
+                    append(this.calls).append(",\"allocations\":").append(this.allocations).
+                    append(",\"children\":[");
             for (Data child : children) {
                 text.append(child.toString()).append(",");
             }
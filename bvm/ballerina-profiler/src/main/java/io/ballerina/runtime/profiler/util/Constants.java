@@ -39,18 +39,23 @@ public final class Constants {
     public static final String CPU_PRE_JSON = "cpu_pre.json";
     public static final String PERFORMANCE_JSON =  "performance_report.json";
     public static final String TEMP_JAR_FILE_NAME = "temp.jar";
-    public static final String STRAND_PROFILER_STACK_PROPERTY = "b7a.profile.stack";
+    public static final String METHOD_NAMES_FILE = "method_names.txt";
+    public static final String PROFILER_RUNTIME_PATH = "io/ballerina/runtime/profiler/runtime";
 
     public static final String STRAND_CLASS = "io/ballerina/runtime/internal/scheduling/Strand";
-    public static final String DATA_CLASS = "io/ballerina/runtime/profiler/runtime/Data";
+    public static final String CALL_TREE_NODE_CLASS = "io/ballerina/runtime/profiler/runtime/CallTreeNode";
     public static final String STRING_CLASS = "java/lang/String";
     public static final String STRAND_ARG = "(L" + STRAND_CLASS;
-    public static final String START_PROFILE_DESCRIPTOR =
-            "(L" + STRAND_CLASS + ";L" + STRING_CLASS + ";L" + STRING_CLASS + ";)L" + DATA_CLASS + ";";
-    public static final String STOP_PROFILE_DESCRIPTOR =
-            "(L" + STRAND_CLASS + ";L" + DATA_CLASS + ";)V";
+    public static final String ENTER_PROFILE_DESCRIPTOR = "(I)L" + CALL_TREE_NODE_CLASS + ";";
+    public static final String EXIT_PROFILE_DESCRIPTOR = "(L" + CALL_TREE_NODE_CLASS + ";)V";
     public static final String PROFILE_ANALYZER = "io/ballerina/runtime/profiler/runtime/ProfileAnalyzer";
     public static final String GET_INSTANCE_DESCRIPTOR = "()L" + PROFILE_ANALYZER + ";";
+    public static final String SAMPLING_PROFILER = "io/ballerina/runtime/profiler/runtime/SamplingProfiler";
+    public static final String GET_SAMPLER_INSTANCE_DESCRIPTOR = "()L" + SAMPLING_PROFILER + ";";
+    public static final String SAMPLING_INTERVAL_PROPERTY = "ballerina.profiler.samplingInterval";
+    public static final int DEFAULT_SAMPLING_INTERVAL = 10;
+    public static final String MAIN_METHOD = "main";
+    public static final String MAIN_METHOD_DESCRIPTOR = "([L" + STRING_CLASS + ";)V";
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String WORKING_DIRECTORY = "user.dir";
     public static final String PROFILE_DATA = "${profile_data}";
@@ -3,4 +3,5 @@ module io.ballerina.runtime.profiler {
     requires org.apache.commons.io;
     requires io.ballerina.runtime;
     requires io.ballerina.identifier;
+    requires jdk.jfr;
 }
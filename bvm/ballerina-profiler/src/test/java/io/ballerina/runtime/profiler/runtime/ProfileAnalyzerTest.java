@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tests the per-thread call trees of the instrumented mode of the profiler.
+ *
+ * @since 2201.13.0
+ */
+public class ProfileAnalyzerTest {
+
+    private static final int MAIN = 0;
+    private static final int FOO = 1;
+    private static final int BAR = 2;
+    private static final int BAZ = 3;
+
+    @Test
+    public void testMergeCallTreesOfThreads() throws InterruptedException {
+        ProfileAnalyzer profiler = ProfileAnalyzer.create();
+        runAndJoin(() -> call(profiler, FOO, () -> call(profiler, BAR, () -> { })));
+        runAndJoin(() -> {
+            call(profiler, FOO, () -> call(profiler, BAR, () -> { }));
+            call(profiler, FOO, () -> call(profiler, BAZ, () -> { }));
+        });
+
+        CallTreeNode root = profiler.mergeCallTrees();
+        Assert.assertEquals(root.getChildren().length, 1);
+        CallTreeNode foo = getChild(root, FOO);
+        Assert.assertEquals(foo.callCount, 3);
+        Assert.assertEquals(foo.getChildren().length, 2);
+        Assert.assertEquals(getChild(foo, BAR).callCount, 2);
+        Assert.assertEquals(getChild(foo, BAZ).callCount, 1);
+    }
+
+    @Test
+    public void testCallsOfStartedThreadAreNested() throws InterruptedException {
+        ProfileAnalyzer profiler = ProfileAnalyzer.create();
+        runAndJoin(() -> call(profiler, MAIN, () -> call(profiler, FOO, () -> {
+            // The thread is created within main -> foo, as a strand started by foo
+            Thread thread = Thread.ofVirtual().unstarted(() -> call(profiler, BAR, () -> { }));
+            thread.start();
+            join(thread);
+        })));
+        // A thread created outside any call is recorded from the root
+        runAndJoin(() -> call(profiler, BAZ, () -> { }));
+
+        CallTreeNode root = profiler.mergeCallTrees();
+        Assert.assertEquals(root.getChildren().length, 2);
+        CallTreeNode foo = getChild(getChild(root, MAIN), FOO);
+        Assert.assertEquals(foo.callCount, 1);
+        Assert.assertEquals(getChild(foo, BAR).callCount, 1);
+        Assert.assertEquals(getChild(root, BAZ).callCount, 1);
+    }
+
+    @Test
+    public void testMergeWhileRecording() throws InterruptedException {
+        ProfileAnalyzer profiler = ProfileAnalyzer.create();
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                int methodId = 0;
+                while (running.get()) {
+                    int childId = methodId++ % 1000;
+                    call(profiler, FOO, () -> call(profiler, childId, () -> { }));
+                }
+            }));
+        }
+        // Merge while the threads keep adding calls, until enough calls are recorded
+        long calls = 0;
+        while (calls < 10000) {
+            CallTreeNode[] children = profiler.mergeCallTrees().getChildren();
+            calls = children.length == 0 ? 0 : children[0].callCount;
+        }
+        profiler.stop();
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        CallTreeNode foo = getChild(profiler.mergeCallTrees(), FOO);
+        long childCalls = 0;
+        for (CallTreeNode child : foo.getChildren()) {
+            childCalls += child.callCount;
+        }
+        // A thread may have entered foo before the profiler stopped and bar after it
+        Assert.assertTrue(childCalls <= foo.callCount && childCalls >= foo.callCount - threads.size(),
+                childCalls + " calls to the children of " + foo.callCount + " calls");
+    }
+
+    @Test
+    public void testCallsAfterStopAreNotRecorded() throws InterruptedException {
+        ProfileAnalyzer profiler = ProfileAnalyzer.create();
+        runAndJoin(() -> call(profiler, FOO, () -> {
+            profiler.stop();
+            call(profiler, BAR, () -> { });
+        }));
+
+        CallTreeNode foo = getChild(profiler.mergeCallTrees(), FOO);
+        Assert.assertEquals(foo.callCount, 1);
+        Assert.assertEquals(foo.getChildren().length, 0);
+    }
+
+    private static void call(ProfileAnalyzer profiler, int methodId, Runnable body) {
+        CallTreeNode node = profiler.enter(methodId);
+        try {
+            body.run();
+        } finally {
+            profiler.exit(node);
+        }
+    }
+
+    private static void runAndJoin(Runnable runnable) throws InterruptedException {
+        Thread.ofPlatform().start(runnable).join();
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static CallTreeNode getChild(CallTreeNode node, int methodId) {
+        for (CallTreeNode child : node.getChildren()) {
+            if (child.methodId == methodId) {
+                return child;
+            }
+        }
+        throw new AssertionError("no call recorded for method id " + methodId);
+    }
+}
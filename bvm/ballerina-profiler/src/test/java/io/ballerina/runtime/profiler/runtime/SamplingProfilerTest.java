@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Tests the aggregation of the samples of the sampling mode of the profiler.
+ *
+ * @since 2201.13.0
+ */
+public class SamplingProfilerTest {
+
+    private static final String OUTER = "sampling/test/0/main.outer";
+    private static final String INNER = "sampling/test/0/main.inner";
+    private static final String OTHER = "sampling/test/0/main.other";
+
+    @Test
+    public void testSampleAggregation() {
+        SamplingProfiler profiler = new SamplingProfiler(10);
+        // Frames are given from the innermost call
+        profiler.recordStack(List.of(INNER, OUTER));
+        profiler.recordStack(List.of(INNER, OUTER));
+        profiler.recordStack(List.of(OUTER));
+        profiler.recordStack(List.of(OTHER, OUTER));
+
+        String output = profiler.getProfileStackString();
+        Assert.assertEquals(output.split("\n").length, 4, output);
+        Assert.assertTrue(output.contains("{\"time\": \"40\", \"stackTrace\": [\"" + OUTER + "\"]}"), output);
+        Assert.assertTrue(output.contains("{\"time\": \"20\", \"stackTrace\": [\"" + OUTER + "\",\"" + INNER + "\"]}"),
+                output);
+        Assert.assertTrue(output.contains("{\"time\": \"10\", \"stackTrace\": [\"" + OUTER + "\",\"" + OTHER + "\"]}"),
+                output);
+    }
+
+    @Test
+    public void testSamplesWithoutBalFrames() {
+        SamplingProfiler profiler = new SamplingProfiler(10);
+        profiler.recordStack(List.of());
+        Assert.assertEquals(profiler.getProfileStackString(), "[\n]");
+    }
+
+    @Test
+    public void testBalMethodFilter() {
+        Assert.assertTrue(SamplingProfiler.isBalMethod("sampling.", "sampling.test.0.main", "outer"));
+        Assert.assertFalse(SamplingProfiler.isBalMethod("sampling.", "java.lang.Thread", "run"));
+        Assert.assertFalse(SamplingProfiler.isBalMethod("sampling.", "sampling.test.0.$gen$main", "outer"));
+        Assert.assertFalse(SamplingProfiler.isBalMethod("sampling.", "sampling.test.0.main", "$gen$outer"));
+    }
+}
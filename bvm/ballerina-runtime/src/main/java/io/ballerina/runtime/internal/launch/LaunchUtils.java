@@ -29,8 +29,11 @@ import io.ballerina.runtime.internal.configurable.providers.env.EnvVarProvider;
 import io.ballerina.runtime.internal.configurable.providers.toml.TomlContentProvider;
 import io.ballerina.runtime.internal.configurable.providers.toml.TomlFileProvider;
 import io.ballerina.runtime.internal.diagnostics.RuntimeDiagnosticLog;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.SchedulerTelemetry;
 import io.ballerina.runtime.internal.troubleshoot.StrandDump;
 import io.ballerina.runtime.internal.utils.RuntimeUtils;
+import io.ballerina.runtime.observability.ObserveUtils;
 import sun.misc.Signal;
 
 import java.io.File;
@@ -104,6 +107,7 @@ public final class LaunchUtils {
         RuntimeDiagnosticLog diagnosticLog = new RuntimeDiagnosticLog();
         CliProvider cliConfigProvider = new CliProvider(rootModule, args);
         List<ConfigProvider> supportedConfigProviders = new LinkedList<>();
+        Scheduler.addConfigData(configurationData);
         Set<Module> moduleSet = configurationData.keySet();
         if (configContent != null) {
             supportedConfigProviders.add(new TomlContentProvider(rootModule, configContent, moduleSet));
@@ -125,6 +129,11 @@ public final class LaunchUtils {
         if (!diagnosticLog.getDiagnosticList().isEmpty()) {
             RuntimeUtils.handleDiagnosticErrors(diagnosticLog);
         }
+        // Configured before the module initialization starts any strand
+        Scheduler.configure();
+        if (ObserveUtils.isMetricsEnabled()) {
+            SchedulerTelemetry.enable();
+        }
     }
 
     public static ConfigDetails getConfigurationDetails() {
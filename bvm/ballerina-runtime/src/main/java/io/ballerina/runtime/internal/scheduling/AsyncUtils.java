@@ -61,6 +61,7 @@ public final class AsyncUtils {
         if (future.getAndSetWaited()) {
             return ErrorUtils.createWaitOnSameFutureError();
         }
+        future.strand.scheduler.startIfQueued(future);
         return handleWait(strand, future.completableFuture);
     }
 
@@ -83,6 +84,7 @@ public final class AsyncUtils {
             if (future.getAndSetWaited()) {
                 return ErrorUtils.createWaitOnSameFutureError();
             }
+            future.strand.scheduler.startIfQueued(future);
             cFutures[i] = future.completableFuture;
         }
         return handleWaitAny(strand, cFutures);
@@ -101,6 +103,7 @@ public final class AsyncUtils {
             FutureValue future = entry.getValue();
             future.strand.checkStrandCancelled();
             if (!future.getAndSetWaited()) {
+                future.strand.scheduler.startIfQueued(future);
                 cFutures.add(future.completableFuture);
             } else {
                 alreadyWaitedKeys.add(entry.getKey());
@@ -34,6 +34,7 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BNever;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.internal.BalRuntime;
+import io.ballerina.runtime.internal.configurable.VariableKey;
 import io.ballerina.runtime.internal.types.BServiceType;
 import io.ballerina.runtime.internal.utils.ErrorUtils;
 import io.ballerina.runtime.internal.values.FPValue;
@@ -59,10 +60,29 @@ public class Scheduler {
 
     public  final BalRuntime runtime;
 
+    private final StrandLimiter strandLimiter = new StrandLimiter();
+
     public Scheduler(BalRuntime runtime) {
         this.runtime = runtime;
     }
 
+    /**
+     * Adds the configurable variables read by the scheduler to the given configuration data, so that they are
+     * resolved even when their modules are not imported by the program.
+     *
+     * @param configurationData configurable variables of the program by module
+     */
+    public static void addConfigData(Map<Module, VariableKey[]> configurationData) {
+        StrandLimiter.addConfigData(configurationData);
+    }
+
+    /**
+     * Reads the configurable variables of the scheduler, once the configurable values are initialized.
+     */
+    public static void configure() {
+        StrandLimiter.configure();
+    }
+
     public static Strand getStrand() {
         return strandHolder.get().strand;
     }
@@ -114,15 +134,18 @@ public class Scheduler {
         FutureValue future = createFuture(parentStrand, strandName, true, returnType,
                 null, workerChannelMap);
         args[0] = future.strand;
-        Thread.startVirtualThread(() -> {
+        startStrand(future.strand, parentStrand, workerChannelMap, () -> {
+            SchedulerTelemetry.strandStarted();
             try {
                 strandHolder.get().strand = future.strand;
                 Object result = fp.function.apply(args);
                 future.completableFuture.complete(result);
             } catch (Throwable t) {
                 future.completableFuture.completeExceptionally(ErrorUtils.createErrorFromThrowable(t));
+            } finally {
+                SchedulerTelemetry.strandCompleted();
             }
-        }).setName(future.strand.name);
+        });
         return future;
     }
 
@@ -134,7 +157,8 @@ public class Scheduler {
                                               WorkerChannelMap workerChannelMap, Object[] args) {
         FutureValue future = createFuture(parentStrand, strandName, false, returnType, null, workerChannelMap);
         args[0] = future.strand;
-        Thread.startVirtualThread(() -> {
+        startStrand(future.strand, parentStrand, workerChannelMap, () -> {
+            SchedulerTelemetry.strandStarted();
             try {
                 future.strand.resume();
                 strandHolder.get().strand = future.strand;
@@ -144,11 +168,35 @@ public class Scheduler {
                 future.completableFuture.completeExceptionally(ErrorUtils.createErrorFromThrowable(t));
             } finally {
                 future.strand.done();
+                SchedulerTelemetry.strandCompleted();
             }
-        }).setName(future.strand.name);
+        });
         return future;
     }
 
+    /**
+     * Starts the given strand on its own thread. Strands started with {@code start} are subject to the configured
+     * concurrency limit, while entry point strands and strands of functions with named workers are not, as named
+     * workers may need to run together to communicate.
+     */
+    private void startStrand(Strand strand, Strand parentStrand, WorkerChannelMap workerChannelMap, Runnable task) {
+        if (parentStrand == null || workerChannelMap != null) {
+            Thread.startVirtualThread(task).setName(strand.name);
+            return;
+        }
+        strandLimiter.start(parentStrand, strand, task);
+    }
+
+    /**
+     * Starts the strand of the given future right away if it is queued by the concurrency limit, as it is about to
+     * be waited on.
+     *
+     * @param future future to be waited on
+     */
+    public void startIfQueued(FutureValue future) {
+        strandLimiter.startIfQueued(future.strand);
+    }
+
     private Strand getStrand(String strandName, StrandMetadata metadata) {
         Strand strand = Scheduler.getStrand();
         Map<String, Object> properties = null;
@@ -202,6 +250,7 @@ public class Scheduler {
         FutureValue future = createFutureWithMetadata(parentStrand, strandName, false, returnType, metadata, null);
         Object[] argsWithStrand = getArgsWithStrand(future.strand, args);
         Thread.startVirtualThread(() -> {
+            SchedulerTelemetry.strandStarted();
             try {
                 future.strand.resume();
                 strandHolder.get().strand = future.strand;
@@ -211,6 +260,7 @@ public class Scheduler {
                 future.completableFuture.completeExceptionally(ErrorUtils.createErrorFromThrowable(t));
             } finally {
                 future.strand.done();
+                SchedulerTelemetry.strandCompleted();
             }
         }).setName(strandName);
         return future;
@@ -307,6 +357,7 @@ public class Scheduler {
 
     private Strand createStrand(Strand parentStrand, String strandName, boolean isIsolated,
                                 Map<String, Object> properties, WorkerChannelMap workerChannelMap) {
+        SchedulerTelemetry.strandCreated();
         return new Strand(this, strandName, parentStrand, isIsolated, properties, workerChannelMap,
                 parentStrand != null ? parentStrand.currentTrxContext : null);
     }
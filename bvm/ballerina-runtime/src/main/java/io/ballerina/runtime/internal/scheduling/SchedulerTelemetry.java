@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Telemetry of the strands run by the scheduler. It tracks the strands created and running, the time non-isolated
+ * strands wait for the global non-isolated lock and the time strands wait on worker channels. Strands queued by the
+ * concurrency limit are tracked as well.
+ * <p>
+ * Telemetry is enabled together with metrics, once the configurable values are initialized and before any strand is
+ * started. Until then, each recording point only reads the {@code enabled} flag. The metrics are registered in the
+ * default metric registry when it is set by the metrics implementation, so strands created before that are only
+ * included in the strand dump.
+ *
+ * @since 2201.13.0
+ */
+public final class SchedulerTelemetry {
+
+    private static final String METRIC_PREFIX = "ballerina_scheduler_";
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static volatile boolean enabled;
+    private static final LongAdder createdStrands = new LongAdder();
+    private static final LongAdder liveStrands = new LongAdder();
+    private static final LongAdder queuedStrands = new LongAdder();
+    private static final WaitStatistics lockWaits = new WaitStatistics();
+    private static final WaitStatistics channelWaits = new WaitStatistics();
+    private static volatile Metrics metrics;
+
+    private SchedulerTelemetry() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enable the telemetry.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /*
+     * Used in tests
+     */
+    static void disable() {
+        enabled = false;
+    }
+
+    static void strandCreated() {
+        if (!enabled) {
+            return;
+        }
+        createdStrands.increment();
+        getMetrics().createdStrandCounter.increment();
+    }
+
+    static void strandStarted() {
+        if (enabled) {
+            liveStrands.increment();
+        }
+    }
+
+    static void strandCompleted() {
+        if (enabled) {
+            liveStrands.decrement();
+        }
+    }
+
+    static void strandQueued() {
+        if (enabled) {
+            queuedStrands.increment();
+        }
+    }
+
+    static void strandDequeued() {
+        if (enabled) {
+            queuedStrands.decrement();
+        }
+    }
+
+    static void recordLockWait(long waitNanos) {
+        lockWaits.record(waitNanos);
+        getMetrics().lockWaitGauge.setValue(waitNanos / NANOS_PER_SECOND);
+    }
+
+    static void recordChannelWait(long waitNanos) {
+        channelWaits.record(waitNanos);
+        getMetrics().channelWaitGauge.setValue(waitNanos / NANOS_PER_SECOND);
+    }
+
+    static long getCreatedStrandCount() {
+        return createdStrands.sum();
+    }
+
+    static long getLiveStrandCount() {
+        return liveStrands.sum();
+    }
+
+    static long getQueuedStrandCount() {
+        return queuedStrands.sum();
+    }
+
+    private static Metrics getMetrics() {
+        return getMetrics(DefaultMetricRegistry.getInstance());
+    }
+
+    /**
+     * Returns the metrics registered in the given registry, registering them if the registry has changed since the
+     * last registration.
+     *
+     * @param registry metric registry the metrics are registered in
+     * @return metrics registered in the given registry
+     */
+    static Metrics getMetrics(MetricRegistry registry) {
+        Metrics current = metrics;
+        if (current != null && current.registry == registry) {
+            return current;
+        }
+        synchronized (SchedulerTelemetry.class) {
+            current = metrics;
+            if (current == null || current.registry != registry) {
+                current = new Metrics(registry);
+                metrics = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Returns a summary of the telemetry to be included in the strand dump.
+     *
+     * @return telemetry summary, or an empty string if the telemetry is not enabled
+     */
+    public static String getSummary() {
+        if (!enabled) {
+            return "";
+        }
+        return "Created Strand count       \t\t\t:\t" + createdStrands.sum() + "\n\n" +
+                "Live Strand count       \t\t\t:\t" + liveStrands.sum() + "\n\n" +
+                "Queued Strand count       \t\t\t:\t" + queuedStrands.sum() + "\n\n" +
+                "Non Isolated Lock waits       \t\t\t:\t" + lockWaits + "\n\n" +
+                "Worker Channel waits       \t\t\t:\t" + channelWaits + "\n\n";
+    }
+
+    /**
+     * Metrics of the telemetry registered in a metric registry.
+     */
+    static final class Metrics {
+
+        private final MetricRegistry registry;
+        private final Counter createdStrandCounter;
+        private final Gauge lockWaitGauge;
+        private final Gauge channelWaitGauge;
+
+        private Metrics(MetricRegistry registry) {
+            this.registry = registry;
+            this.createdStrandCounter = Counter.builder(METRIC_PREFIX + "strands_created_total")
+                    .description("Number of strands created")
+                    .register(registry);
+            PolledGauge.builder(METRIC_PREFIX + "live_strands", liveStrands, LongAdder::sum)
+                    .description("Number of strands started on their own thread and not yet completed")
+                    .register(registry);
+            PolledGauge.builder(METRIC_PREFIX + "queued_strands", queuedStrands, LongAdder::sum)
+                    .description("Number of strands waiting for the concurrency limit to start")
+                    .register(registry);
+            this.lockWaitGauge = Gauge.builder(METRIC_PREFIX + "non_isolated_lock_wait_time_seconds")
+                    .description("Time non-isolated strands waited for the global non-isolated lock")
+                    .summarize(StatisticConfig.DEFAULT)
+                    .register(registry);
+            this.channelWaitGauge = Gauge.builder(METRIC_PREFIX + "worker_channel_wait_time_seconds")
+                    .description("Time strands waited to receive from worker channels")
+                    .summarize(StatisticConfig.DEFAULT)
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Count, total and maximum of the recorded waits.
+     */
+    private static final class WaitStatistics {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long waitNanos) {
+            count.increment();
+            totalNanos.add(waitNanos);
+            maxNanos.accumulate(waitNanos);
+        }
+
+        @Override
+        public String toString() {
+            long waits = count.sum();
+            long averageMicros = waits == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos.sum() / waits);
+            return waits + " (average " + averageMicros + " us, max " +
+                    TimeUnit.NANOSECONDS.toMicros(maxNanos.get()) + " us)";
+        }
+    }
+}
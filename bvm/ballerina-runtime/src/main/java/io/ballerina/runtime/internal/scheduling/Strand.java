@@ -21,11 +21,13 @@ package io.ballerina.runtime.internal.scheduling;
 import io.ballerina.runtime.internal.utils.ErrorUtils;
 import io.ballerina.runtime.transactions.TransactionLocalContext;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Stack;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.CURRENT_TRANSACTION_CONTEXT_PROPERTY;
 
@@ -39,12 +41,17 @@ public class Strand {
     private final int id;
     private static final AtomicInteger nextStrandId = new AtomicInteger(0);
     private Map<String, Object> globalProps;
+    // Whether globalProps may be referred by another strand, in which case it is copied before being modified.
+    // Children are created by the thread running their parent, so the parent sees the flag set by a child before
+    // its next write; the flag is volatile so that this does not rely on the parent staying on the same thread.
+    private volatile boolean globalPropsShared;
 
     public final String name;
     public final boolean isIsolated;
     public boolean cancelled;
     public Scheduler scheduler;
     public TransactionLocalContext currentTrxContext;
+    // Created on the first transaction context pushed to it
     public Stack<TransactionLocalContext> trxContexts;
     public WorkerChannelMap workerChannelMap;
     public int acquiredLockCount;
@@ -54,14 +61,17 @@ public class Strand {
         this.id = nextStrandId.incrementAndGet();
         this.name = Objects.requireNonNullElse(strandName, "$anon");
         this.scheduler = scheduler;
-        this.trxContexts = new Stack<>();
         this.isIsolated = isIsolated;
         if (properties != null) {
             this.globalProps = properties;
-        } else if (parent != null && parent.globalProps != null) {
-            this.globalProps = new HashMap<>(parent.globalProps);
+        } else if (parent != null) {
+            // Shared with the parent until either of them modifies it
+            parent.globalPropsShared = true;
+            this.globalProps = parent.globalProps;
+            this.globalPropsShared = true;
         } else {
-            this.globalProps = new HashMap<>();
+            this.globalProps = Collections.emptyMap();
+            this.globalPropsShared = true;
         }
         this.workerChannelMap = workerChannelMap;
     }
@@ -71,7 +81,7 @@ public class Strand {
                   TransactionLocalContext currentTrxContext) {
         this(scheduler, strandName, parent, isIsolated, properties, workerChannelMap);
         if (currentTrxContext != null) {
-            this.trxContexts = parent.trxContexts;
+            this.trxContexts = parent.getTrxContexts();
             this.trxContexts.push(currentTrxContext);
             this.currentTrxContext = currentTrxContext;
         } else {
@@ -87,10 +97,24 @@ public class Strand {
     public void resume() {
         checkStrandCancelled();
         if (!this.isIsolated && !scheduler.globalNonIsolatedLock.isHeldByCurrentThread()) {
-            this.scheduler.globalNonIsolatedLock.lock();
+            lockNonIsolated(this.scheduler.globalNonIsolatedLock);
         }
     }
 
+    private static void lockNonIsolated(ReentrantLock lock) {
+        if (!SchedulerTelemetry.isEnabled()) {
+            lock.lock();
+            return;
+        }
+        // Only the waits of strands that find the lock held are recorded
+        if (lock.tryLock()) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        lock.lock();
+        SchedulerTelemetry.recordLockWait(System.nanoTime() - startTime);
+    }
+
     public void yield() {
         checkStrandCancelled();
         if (!this.isIsolated && scheduler.globalNonIsolatedLock.isHeldByCurrentThread()) {
@@ -130,7 +154,7 @@ public class Strand {
     }
 
     public void setProperty(String key, Object value) {
-        this.globalProps.put(key, value);
+        getWritableGlobalProps().put(key, value);
     }
 
     public boolean isInTransaction() {
@@ -138,21 +162,40 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
-            this.globalProps.put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+            getWritableGlobalProps().put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
             return;
         }
-        this.globalProps.remove(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
+        if (this.globalProps.containsKey(CURRENT_TRANSACTION_CONTEXT_PROPERTY)) {
+            getWritableGlobalProps().remove(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
+        }
         this.currentTrxContext = null;
     }
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
-            this.trxContexts.push(this.currentTrxContext);
+            getTrxContexts().push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
-        this.globalProps.putIfAbsent(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+        if (this.globalProps.get(CURRENT_TRANSACTION_CONTEXT_PROPERTY) == null) {
+            getWritableGlobalProps().put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+        }
+    }
+
+    private Stack<TransactionLocalContext> getTrxContexts() {
+        if (this.trxContexts == null) {
+            this.trxContexts = new Stack<>();
+        }
+        return this.trxContexts;
+    }
+
+    private Map<String, Object> getWritableGlobalProps() {
+        if (this.globalPropsShared) {
+            this.globalProps = new HashMap<>(this.globalProps);
+            this.globalPropsShared = false;
+        }
+        return this.globalProps;
     }
 
     public int getId() {
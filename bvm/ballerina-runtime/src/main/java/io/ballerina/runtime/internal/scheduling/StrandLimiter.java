@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.internal.configurable.ConfigMap;
+import io.ballerina.runtime.internal.configurable.VariableKey;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUILTIN_PKG_PREFIX;
+
+/**
+ * Limits the number of strands started with {@code start} that run at the same time, as configured by the
+ * {@code maxConcurrentStrands} configurable of the {@code lang.runtime} module.
+ * <p>
+ * Strands started beyond the limit are queued and are started in order as the running strands complete. At most as
+ * many strands as the limit are queued. Once the queue is full, the starting strand waits until a strand can be
+ * queued or started. A waiting strand gives up its own running slot, if it has one, so that the queued strands can
+ * make progress, and takes a slot back before it continues. Such strands get the slots released by completed strands
+ * before the queued strands do. A queued strand that is waited on is started right away, so that strands waiting on
+ * queued strands cannot take up all the running slots and stall the program.
+ *
+ * @since 2201.13.0
+ */
+final class StrandLimiter {
+
+    private static final Module RUNTIME_MODULE = new Module(BALLERINA_BUILTIN_PKG_PREFIX, "lang.runtime", "0");
+    static final VariableKey MAX_CONCURRENT_STRANDS = new VariableKey(RUNTIME_MODULE, "maxConcurrentStrands",
+            PredefinedTypes.TYPE_INT, false);
+    private static final int UNLIMITED = 0;
+
+    // Read once the configurable values are initialized, the strands started before that are not limited
+    private static volatile int limit = UNLIMITED;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition queueNotFull = lock.newCondition();
+    private final Condition slotReleased = lock.newCondition();
+    private final Map<Strand, Runnable> queued = new LinkedHashMap<>();
+    // Strands started through the limiter that hold a running slot
+    private final Set<Strand> running = new HashSet<>();
+    // Number of strands that have given up their running slot to start a strand and wait to take a slot back
+    private int slotWaiters;
+
+    /**
+     * Adds the {@code maxConcurrentStrands} configurable to the given configuration data if it is not there, so that
+     * it is resolved even when the program does not import the {@code lang.runtime} module.
+     *
+     * @param configurationData configurable variables of the program by module
+     */
+    static void addConfigData(Map<Module, VariableKey[]> configurationData) {
+        VariableKey[] keys = configurationData.get(RUNTIME_MODULE);
+        if (keys == null) {
+            configurationData.put(RUNTIME_MODULE, new VariableKey[]{MAX_CONCURRENT_STRANDS});
+            return;
+        }
+        for (VariableKey key : keys) {
+            if (key.equals(MAX_CONCURRENT_STRANDS)) {
+                return;
+            }
+        }
+        VariableKey[] newKeys = new VariableKey[keys.length + 1];
+        System.arraycopy(keys, 0, newKeys, 0, keys.length);
+        newKeys[keys.length] = MAX_CONCURRENT_STRANDS;
+        configurationData.put(RUNTIME_MODULE, newKeys);
+    }
+
+    /**
+     * Reads the limit from the configurable values, which must be initialized.
+     */
+    static void configure() {
+        if (!ConfigMap.containsKey(MAX_CONCURRENT_STRANDS)
+                || !(ConfigMap.get(MAX_CONCURRENT_STRANDS) instanceof Long configValue) || configValue < 1) {
+            limit = UNLIMITED;
+            return;
+        }
+        limit = (int) Math.min(configValue, Integer.MAX_VALUE);
+    }
+
+    static int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Starts the given strand on its own thread now if the limit allows it, or queues it otherwise. The calling
+     * strand waits while the queue is full.
+     *
+     * @param parentStrand strand starting the strand, which runs on the current thread
+     * @param strand       strand to be started
+     * @param task         task that runs the strand
+     */
+    void start(Strand parentStrand, Strand strand, Runnable task) {
+        int limit = StrandLimiter.limit;
+        if (limit == UNLIMITED) {
+            startThread(strand, task);
+            return;
+        }
+        boolean queueFull = false;
+        lock.lock();
+        try {
+            if (running.size() < limit) {
+                running.add(strand);
+            } else if (queued.size() < limit) {
+                queue(strand, task);
+                return;
+            } else {
+                queueFull = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (queueFull) {
+            // The non-isolated lock is released while waiting, as the running strands may need it to complete
+            AsyncUtils.handleNonIsolatedStrand(parentStrand, () -> {
+                startWhenQueueNotFull(parentStrand, strand, task, limit);
+                return null;
+            });
+            return;
+        }
+        startLimitedThread(strand, task);
+    }
+
+    /**
+     * Starts the given strand right away if it is queued.
+     *
+     * @param strand strand to be waited on
+     */
+    void startIfQueued(Strand strand) {
+        if (limit == UNLIMITED) {
+            return;
+        }
+        Runnable task;
+        lock.lock();
+        try {
+            task = queued.remove(strand);
+            if (task == null) {
+                return;
+            }
+            running.add(strand);
+            queueNotFull.signal();
+        } finally {
+            lock.unlock();
+        }
+        SchedulerTelemetry.strandDequeued();
+        startLimitedThread(strand, task);
+    }
+
+    private void startWhenQueueNotFull(Strand parentStrand, Strand strand, Runnable task, int limit) {
+        Map.Entry<Strand, Runnable> next;
+        boolean queuedStrand = false;
+        boolean slotGivenUp;
+        lock.lock();
+        try {
+            // The slot of the waiting strand is handed over to the next queued strand
+            slotGivenUp = running.remove(parentStrand);
+            next = slotGivenUp ? pollNext() : null;
+            while (running.size() >= limit && queued.size() >= limit) {
+                queueNotFull.awaitUninterruptibly();
+            }
+            if (running.size() < limit) {
+                running.add(strand);
+            } else {
+                queue(strand, task);
+                queuedStrand = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (next != null) {
+            startLimitedThread(next.getKey(), next.getValue());
+        }
+        if (!queuedStrand) {
+            startLimitedThread(strand, task);
+        }
+        if (slotGivenUp) {
+            reacquireSlot(parentStrand, limit);
+        }
+    }
+
+    private void reacquireSlot(Strand strand, int limit) {
+        List<Map.Entry<Strand, Runnable>> nextStrands = new ArrayList<>();
+        lock.lock();
+        try {
+            slotWaiters++;
+            while (running.size() >= limit) {
+                slotReleased.awaitUninterruptibly();
+            }
+            slotWaiters--;
+            running.add(strand);
+            // Slots released while this strand was being woken up were not handed over to the queued strands
+            Map.Entry<Strand, Runnable> next;
+            while (slotWaiters == 0 && (next = pollNext()) != null) {
+                nextStrands.add(next);
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Map.Entry<Strand, Runnable> next : nextStrands) {
+            startLimitedThread(next.getKey(), next.getValue());
+        }
+    }
+
+    /**
+     * Releases the running slot of a completed strand, handing it over to a strand waiting to take its slot back or
+     * to the next queued strand if there is one.
+     *
+     * @param strand completed strand
+     */
+    private void release(Strand strand) {
+        Map.Entry<Strand, Runnable> next;
+        lock.lock();
+        try {
+            running.remove(strand);
+            if (slotWaiters > 0) {
+                slotReleased.signal();
+                return;
+            }
+            next = pollNext();
+        } finally {
+            lock.unlock();
+        }
+        if (next != null) {
+            startLimitedThread(next.getKey(), next.getValue());
+        }
+    }
+
+    // Takes the next queued strand into a free running slot, must be called holding the lock
+    private Map.Entry<Strand, Runnable> pollNext() {
+        if (running.size() >= limit || queued.isEmpty()) {
+            return null;
+        }
+        Iterator<Map.Entry<Strand, Runnable>> iterator = queued.entrySet().iterator();
+        Map.Entry<Strand, Runnable> next = iterator.next();
+        iterator.remove();
+        running.add(next.getKey());
+        queueNotFull.signal();
+        SchedulerTelemetry.strandDequeued();
+        return next;
+    }
+
+    private void queue(Strand strand, Runnable task) {
+        queued.put(strand, task);
+        SchedulerTelemetry.strandQueued();
+    }
+
+    private void startLimitedThread(Strand strand, Runnable task) {
+        startThread(strand, () -> {
+            try {
+                task.run();
+            } finally {
+                release(strand);
+            }
+        });
+    }
+
+    private static void startThread(Strand strand, Runnable task) {
+        Thread.startVirtualThread(task).setName(strand.name);
+    }
+}
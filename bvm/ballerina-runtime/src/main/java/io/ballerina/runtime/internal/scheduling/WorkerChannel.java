@@ -17,32 +17,54 @@
  */
 package io.ballerina.runtime.internal.scheduling;
 
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.internal.utils.ErrorUtils;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * This represents a worker channel that is created for each worker to worker interaction.
+ * <p>
+ * A channel carries a single message from the sending worker to the receiving worker, and the acknowledgement of the
+ * receive back to the sender. Each side has one waiting strand at a time, which parks on its virtual thread until
+ * the other side completes.
  *
  * @since 2201.11.0
  */
 
 public class WorkerChannel {
 
+    private static final Object PENDING = new Object();
+    private static final VarHandle RESULT;
+    private static final VarHandle RECEIVE_RESULT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            RESULT = lookup.findVarHandle(WorkerChannel.class, "result", Object.class);
+            RECEIVE_RESULT = lookup.findVarHandle(WorkerChannel.class, "receiveResult", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final String name;
-    private final AtomicInteger doneCount;
-    private final CompletableFuture<Object> resultFuture;
-    private final CompletableFuture<Object> receiveFuture;
-    private boolean cancel;
+    // Accessed only while holding the write lock of the worker channel map
+    private int doneCount;
+    // Sent message, or a Panic if the sender panicked
+    private volatile Object result = PENDING;
+    // Null or an error value on receive, or a Panic if the receiver panicked
+    private volatile Object receiveResult = PENDING;
+    private volatile Thread resultWaiter;
+    private volatile Thread receiveWaiter;
+    private volatile boolean cancel;
 
     public WorkerChannel(String name) {
         this.name = name;
-        this.resultFuture = new CompletableFuture<>();
-        this.receiveFuture = new CompletableFuture<>();
-        this.doneCount = new AtomicInteger(2);
-        this.cancel = false;
+        this.doneCount = 2;
     }
 
     public Object read() {
@@ -50,9 +72,19 @@ public class WorkerChannel {
             throw ErrorUtils.createCancelledFutureError();
         }
         try {
-            return AsyncUtils.getFutureResult(resultFuture);
+            if (!SchedulerTelemetry.isEnabled() || isWritten()) {
+                awaitWritten(this);
+                return getResult();
+            }
+            long startTime = System.nanoTime();
+            try {
+                awaitWritten(this);
+            } finally {
+                SchedulerTelemetry.recordChannelWait(System.nanoTime() - startTime);
+            }
+            return getResult();
         } finally {
-            receiveFuture.complete(null);
+            completeReceive(null);
         }
     }
 
@@ -60,59 +92,61 @@ public class WorkerChannel {
         if (cancel) {
             throw ErrorUtils.createCancelledFutureError();
         }
-        resultFuture.complete(result);
+        completeResult(result);
     }
 
     public void panicOnSend(BError error) {
-        if (resultFuture.isDone()) {
-            return;
-        }
-        resultFuture.completeExceptionally(error);
+        completeResult(new Panic(error));
     }
 
     public void panicOnReceive(BError error) {
-        if (receiveFuture.isDone()) {
-            return;
-        }
-        receiveFuture.completeExceptionally(error);
+        completeReceive(new Panic(error));
     }
 
     public void errorOnSend(String channelKey, Object returnValue) {
-        if (resultFuture.isDone()) {
+        if (isWritten()) {
             return;
         }
-        BError bError;
-        if (returnValue instanceof BError error) {
-            bError = error;
-        } else {
-            bError = ErrorUtils.createNoMessageError(channelKey);
-        }
-        resultFuture.complete(bError);
+        completeResult(getError(channelKey, returnValue));
     }
 
     public void errorOnReceive(String channelKey, Object returnValue) {
-        if (receiveFuture.isDone()) {
+        if (isReceived()) {
             return;
         }
-        BError bError;
-        if (returnValue instanceof BError error) {
-            bError = error;
-        } else {
-            bError = ErrorUtils.createNoMessageError(channelKey);
-        }
-        receiveFuture.complete(bError);
+        completeReceive(getError(channelKey, returnValue));
     }
 
     public boolean isWritten() {
-        return resultFuture.isDone();
+        return result != PENDING;
     }
 
     public boolean isReceived() {
-        return receiveFuture.isDone();
+        return receiveResult != PENDING;
+    }
+
+    /**
+     * Returns the sent message of a written channel.
+     *
+     * @return sent message
+     * @throws BError if the sender panicked
+     */
+    public Object getResult() {
+        return valueOf(result);
+    }
+
+    /**
+     * Returns the receive result of a received channel.
+     *
+     * @return null, or the error value if the receiving worker completed without receiving
+     * @throws BError if the receiver panicked
+     */
+    public Object getReceiveResult() {
+        return valueOf(receiveResult);
     }
 
     public boolean done() {
-        return doneCount.incrementAndGet() == 0;
+        return --doneCount == 0;
     }
 
     public void cancel() {
@@ -123,11 +157,170 @@ public class WorkerChannel {
         return name;
     }
 
-    public CompletableFuture<Object> getResultFuture() {
-        return resultFuture;
+    /**
+     * Wait until the given channel is written.
+     *
+     * @param channel channel to wait on
+     */
+    static void awaitWritten(WorkerChannel channel) {
+        if (channel.isWritten()) {
+            return;
+        }
+        channel.resultWaiter = Thread.currentThread();
+        try {
+            while (!channel.isWritten()) {
+                park();
+            }
+        } finally {
+            channel.resultWaiter = null;
+        }
+    }
+
+    /**
+     * Wait until any of the given channels is written.
+     *
+     * @param channels channels to wait on
+     */
+    static void awaitAnyWritten(WorkerChannel[] channels) {
+        if (anyWritten(channels)) {
+            return;
+        }
+        Thread currentThread = Thread.currentThread();
+        for (WorkerChannel channel : channels) {
+            channel.resultWaiter = currentThread;
+        }
+        try {
+            while (!anyWritten(channels)) {
+                park();
+            }
+        } finally {
+            for (WorkerChannel channel : channels) {
+                channel.resultWaiter = null;
+            }
+        }
+    }
+
+    /**
+     * Wait until all the given channels are written, or any of their senders panics.
+     *
+     * @param channels channels to wait on
+     * @throws BError if a sender panicked
+     */
+    static void awaitAllWritten(WorkerChannel[] channels) {
+        Thread currentThread = Thread.currentThread();
+        try {
+            for (WorkerChannel channel : channels) {
+                channel.resultWaiter = currentThread;
+            }
+            while (true) {
+                boolean allWritten = true;
+                for (WorkerChannel channel : channels) {
+                    Object channelResult = channel.result;
+                    if (channelResult == PENDING) {
+                        allWritten = false;
+                    } else if (channelResult instanceof Panic panic) {
+                        throw panic.error;
+                    }
+                }
+                if (allWritten) {
+                    return;
+                }
+                park();
+            }
+        } finally {
+            for (WorkerChannel channel : channels) {
+                channel.resultWaiter = null;
+            }
+        }
+    }
+
+    /**
+     * Wait until all the given channels are received, or any of their receivers panics.
+     *
+     * @param channels channels to wait on
+     * @throws BError if a receiver panicked
+     */
+    static void awaitAllReceived(WorkerChannel... channels) {
+        Thread currentThread = Thread.currentThread();
+        try {
+            for (WorkerChannel channel : channels) {
+                channel.receiveWaiter = currentThread;
+            }
+            while (true) {
+                boolean allReceived = true;
+                for (WorkerChannel channel : channels) {
+                    Object channelReceiveResult = channel.receiveResult;
+                    if (channelReceiveResult == PENDING) {
+                        allReceived = false;
+                    } else if (channelReceiveResult instanceof Panic panic) {
+                        throw panic.error;
+                    }
+                }
+                if (allReceived) {
+                    return;
+                }
+                park();
+            }
+        } finally {
+            for (WorkerChannel channel : channels) {
+                channel.receiveWaiter = null;
+            }
+        }
+    }
+
+    private static boolean anyWritten(WorkerChannel[] channels) {
+        for (WorkerChannel channel : channels) {
+            if (channel.isWritten()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void park() {
+        LockSupport.park();
+        if (Thread.interrupted()) {
+            throw ErrorCreator.createError(new InterruptedException());
+        }
+    }
+
+    private void completeResult(Object value) {
+        if (RESULT.compareAndSet(this, PENDING, value)) {
+            unpark(resultWaiter);
+        }
+    }
+
+    private void completeReceive(Object value) {
+        if (RECEIVE_RESULT.compareAndSet(this, PENDING, value)) {
+            unpark(receiveWaiter);
+        }
+    }
+
+    private static void unpark(Thread waiter) {
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    private static Object valueOf(Object channelResult) {
+        if (channelResult instanceof Panic panic) {
+            throw panic.error;
+        }
+        return channelResult;
+    }
+
+    private static BError getError(String channelKey, Object returnValue) {
+        if (returnValue instanceof BError error) {
+            return error;
+        }
+        return ErrorUtils.createNoMessageError(channelKey);
     }
 
-    public CompletableFuture<Object> getReceiveFuture() {
-        return receiveFuture;
+    /**
+     * Panic of the sending or the receiving worker.
+     *
+     * @param error error the worker panicked with
+     */
+    private record Panic(BError error) {
     }
 }
@@ -22,6 +22,7 @@ import io.ballerina.runtime.api.values.BError;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 /**
  * This class stores {@link WorkerChannel} reference to unique channel key.
@@ -59,49 +60,30 @@ public class WorkerChannelMap {
     }
 
     public void panicSendWorkerChannels(String channelKey, BError error) {
-        try {
-            channelMapLock.writeLock().lock();
-            WorkerChannel workerChannel = channelMap.get(channelKey);
-            workerChannel.panicOnSend(error);
-            if (workerChannel.done()) {
-                channelMap.remove(channelKey);
-            }
-        } finally {
-            channelMapLock.writeLock().unlock();
-        }
+        completeWorkerChannel(channelKey, workerChannel -> workerChannel.panicOnSend(error));
     }
 
     public void panicReceiveWorkerChannels(String channelKey, BError error) {
-        try {
-            channelMapLock.writeLock().lock();
-            WorkerChannel workerChannel = channelMap.get(channelKey);
-            workerChannel.panicOnReceive(error);
-            if (workerChannel.done()) {
-                channelMap.remove(channelKey);
-            }
-        } finally {
-            channelMapLock.writeLock().unlock();
-        }
+        completeWorkerChannel(channelKey, workerChannel -> workerChannel.panicOnReceive(error));
     }
 
     public void completeSendWorkerChannels(String channelKey, Object returnValue) {
-        try {
-            channelMapLock.writeLock().lock();
-            WorkerChannel workerChannel = channelMap.get(channelKey);
-            workerChannel.errorOnSend(channelKey, returnValue);
-            if (workerChannel.done()) {
-                channelMap.remove(channelKey);
-            }
-        } finally {
-            channelMapLock.writeLock().unlock();
-        }
+        completeWorkerChannel(channelKey, workerChannel -> workerChannel.errorOnSend(channelKey, returnValue));
     }
 
     public void completeReceiveWorkerChannels(String channelKey, Object returnValue) {
+        completeWorkerChannel(channelKey, workerChannel -> workerChannel.errorOnReceive(channelKey, returnValue));
+    }
+
+    private void completeWorkerChannel(String channelKey, Consumer<WorkerChannel> completion) {
         try {
             channelMapLock.writeLock().lock();
             WorkerChannel workerChannel = channelMap.get(channelKey);
-            workerChannel.errorOnReceive(channelKey, returnValue);
+            // The channel is removed once both sides are done, so later completions of either side are ignored
+            if (workerChannel == null) {
+                return;
+            }
+            completion.accept(workerChannel);
             if (workerChannel.done()) {
                 channelMap.remove(channelKey);
             }
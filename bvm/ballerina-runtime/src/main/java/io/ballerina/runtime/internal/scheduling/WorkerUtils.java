@@ -31,8 +31,9 @@ import io.ballerina.runtime.api.values.BMapInitialValueEntry;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
+import java.util.Arrays;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 
  /**
@@ -59,7 +60,13 @@ import java.util.concurrent.CompletableFuture;
      public static Object syncSend(Strand strand, WorkerChannelMap workerChannelMap, String channelKey, Object result) {
          WorkerChannel channel = workerChannelMap.get(channelKey);
          channel.write(result);
-         Object waitResult = AsyncUtils.handleWait(strand, channel.getReceiveFuture());
+         if (!channel.isReceived()) {
+             awaitChannels(strand, () -> {
+                 WorkerChannel.awaitAllReceived(channel);
+                 return null;
+             });
+         }
+         Object waitResult = channel.getReceiveResult();
          if (waitResult instanceof BError error) {
              return error;
          }
@@ -68,24 +75,17 @@ import java.util.concurrent.CompletableFuture;
      }
 
      public static Object flush(Strand strand, WorkerChannelMap workerChannelMap, String[] workerChannelKeys) {
-         CompletableFuture<?>[] futures = new CompletableFuture[workerChannelKeys.length];
          WorkerChannel[] channels = new WorkerChannel[workerChannelKeys.length];
          for (int i = 0; i < workerChannelKeys.length; i++) {
-             WorkerChannel channel = workerChannelMap.get(workerChannelKeys[i]);
-             futures[i] = channel.getReceiveFuture();
-             channels[i] = channel;
-         }
-         if (strand.isIsolated) {
-             AsyncUtils.waitForAllFutureResult(futures);
-         } else {
-             AsyncUtils.handleNonIsolatedStrand(strand, () -> {
-                 AsyncUtils.waitForAllFutureResult(futures);
-                 return null;
-             });
+             channels[i] = workerChannelMap.get(workerChannelKeys[i]);
          }
+         awaitChannels(strand, () -> {
+             WorkerChannel.awaitAllReceived(channels);
+             return null;
+         });
 
          for (WorkerChannel channel : channels) {
-             Object result = channel.getReceiveFuture().resultNow();
+             Object result = channel.getReceiveResult();
              if (result instanceof ErrorValue errorValue) {
                  return errorValue;
              }
@@ -112,11 +112,11 @@ import java.util.concurrent.CompletableFuture;
          for (String workerChanelKey : workerChannelKeys) {
              channels[count++] = workerChannelMap.get(workerChanelKey);
          }
-         CompletableFuture<?>[] futures = new CompletableFuture[channels.length];
-         for (int i = 0; i < channels.length; i++) {
-             futures[i] = channels[i].getResultFuture();
+         Object result = awaitChannels(strand, () -> timeChannelWait(() -> getFirstNonErrorResult(channels)));
+         for (WorkerChannel channel : channels) {
+             channel.read();
          }
-         return getAlternativeReceiveResult(strand, futures, channels);
+         return result;
      }
 
      /*
@@ -130,19 +130,11 @@ import java.util.concurrent.CompletableFuture;
          for (Map.Entry<String, String> entry : channelFieldNameMap.entrySet()) {
              channels[count++] = workerChannelMap.get(entry.getValue());
          }
-         CompletableFuture<?>[] futures = new CompletableFuture[channels.length];
-         for (int i = 0; i < channels.length; i++) {
-             futures[i] = channels[i].getResultFuture();
-         }
-         if (strand.isIsolated) {
-             AsyncUtils.waitForAllFutureResult(futures);
-             return getMultipleReceiveResult(workerChannelMap, channelFieldNameMap, targetType, channels);
-         }
-         return (BMap<BString, Object>) AsyncUtils.handleNonIsolatedStrand(strand,
-                 () -> {
-                     AsyncUtils.waitForAllFutureResult(futures);
-                     return getMultipleReceiveResult(workerChannelMap, channelFieldNameMap, targetType, channels);
-                 });
+         awaitChannels(strand, () -> timeChannelWait(() -> {
+             WorkerChannel.awaitAllWritten(channels);
+             return null;
+         }));
+         return getMultipleReceiveResult(workerChannelMap, channelFieldNameMap, targetType, channels);
      }
 
      /*
@@ -204,13 +196,48 @@ import java.util.concurrent.CompletableFuture;
          }
      }
 
-     private static Object getAlternativeReceiveResult(Strand strand, CompletableFuture<?>[] completableFutures,
-                                                       WorkerChannel[] channels) {
-         Object result = AsyncUtils.handleWaitAny(strand, completableFutures);
-         for (WorkerChannel channel : channels) {
-             channel.read();
+     @SuppressWarnings("unchecked")
+     private static <T> T awaitChannels(Strand strand, Supplier<T> waitFunction) {
+         if (strand.isIsolated) {
+             return waitFunction.get();
+         }
+         return (T) AsyncUtils.handleNonIsolatedStrand(strand, waitFunction);
+     }
+
+     private static <T> T timeChannelWait(Supplier<T> waitFunction) {
+         if (!SchedulerTelemetry.isEnabled()) {
+             return waitFunction.get();
+         }
+         long startTime = System.nanoTime();
+         try {
+             return waitFunction.get();
+         } finally {
+             SchedulerTelemetry.recordChannelWait(System.nanoTime() - startTime);
+         }
+     }
+
+     // Returns the first message that is not an error, or an error if all the senders sent errors
+     private static Object getFirstNonErrorResult(WorkerChannel[] channels) {
+         WorkerChannel[] pendingChannels = new WorkerChannel[channels.length];
+         while (true) {
+             Object error = null;
+             int pendingCount = 0;
+             for (WorkerChannel channel : channels) {
+                 if (!channel.isWritten()) {
+                     pendingChannels[pendingCount++] = channel;
+                     continue;
+                 }
+                 Object result = channel.getResult();
+                 if (!(result instanceof BError)) {
+                     return result;
+                 }
+                 error = result;
+             }
+             if (pendingCount == 0) {
+                 return error;
+             }
+             WorkerChannel.awaitAnyWritten(Arrays.copyOf(pendingChannels, pendingCount));
          }
-         return result;
      }
 
      private static BMap<BString, Object> getMultipleReceiveResult(WorkerChannelMap workerChannelMap,
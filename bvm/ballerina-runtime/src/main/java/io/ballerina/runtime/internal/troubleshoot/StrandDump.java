@@ -19,6 +19,7 @@
 package io.ballerina.runtime.internal.troubleshoot;
 
 import com.sun.management.HotSpotDiagnosticMXBean;
+import io.ballerina.runtime.internal.scheduling.SchedulerTelemetry;
 
 import java.io.File;
 import java.io.IOException;
@@ -117,6 +118,7 @@ public final class StrandDump {
         outputStr.append("Total Isolated Strand count       \t\t:\t").append(isolatedStrandList.size()).append("\n\n");
         outputStr.append("Total Non Isolated Strand count       \t\t:\t").append(nonIsolatedStrandList.size()).
                 append("\n\n");
+        outputStr.append(SchedulerTelemetry.getSummary());
         outputStr.append("================================================================\n");
         outputStr.append("\nIsolated Strands:\n\n");
         for (int strandId: isolatedStrandList) {
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.utils;
+
+import java.util.AbstractMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map from the values copied while cloning a value to their copies, which preserves shared and cyclic references in
+ * the clone. Values are compared by identity.
+ * <p>
+ * The first copied value is held in a field, and the identity map is only created when a second value is copied. A
+ * container without mutable structured members, such as a list of simple values, can only refer to itself, so
+ * cloning it does not create the map.
+ *
+ * @since 2201.13.0
+ */
+final class CloneRefMap extends AbstractMap<Object, Object> {
+
+    private Object firstRef;
+    private Object firstCopy;
+    private IdentityHashMap<Object, Object> refs;
+
+    @Override
+    public Object get(Object key) {
+        if (refs != null) {
+            return refs.get(key);
+        }
+        return key != null && key == firstRef ? firstCopy : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (refs != null) {
+            return refs.containsKey(key);
+        }
+        return key != null && key == firstRef;
+    }
+
+    @Override
+    public Object put(Object key, Object value) {
+        if (refs == null) {
+            if (firstRef == null || firstRef == key) {
+                Object previous = firstCopy;
+                firstRef = key;
+                firstCopy = value;
+                return previous;
+            }
+            refs = new IdentityHashMap<>();
+            refs.put(firstRef, firstCopy);
+            firstRef = null;
+            firstCopy = null;
+        }
+        return refs.put(key, value);
+    }
+
+    @Override
+    public Set<Map.Entry<Object, Object>> entrySet() {
+        if (refs != null) {
+            return refs.entrySet();
+        }
+        return firstRef == null ? Set.of() : Set.of(new SimpleImmutableEntry<>(firstRef, firstCopy));
+    }
+
+    boolean isInflated() {
+        return refs != null;
+    }
+}
@@ -26,11 +26,13 @@ import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.MapType;
 import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.ReferenceType;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.TupleType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.types.TypedescType;
+import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.types.semtype.Builder;
 import io.ballerina.runtime.api.types.semtype.Context;
 import io.ballerina.runtime.api.types.semtype.Core;
@@ -48,7 +50,6 @@ import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.TypeConverter;
-import io.ballerina.runtime.internal.commons.TypeValuePair;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
@@ -66,16 +67,21 @@ import io.ballerina.runtime.internal.values.XmlSequence;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 import static io.ballerina.runtime.api.creators.ErrorCreator.createError;
 import static io.ballerina.runtime.internal.utils.ErrorUtils.createConversionError;
 
 /**
  * Responsible for performing the conversion of values between subtypes of {@link AnydataType} at runtime.
+ * <p>
+ * The convertible type of the value being converted is resolved once, which checks the whole value against the
+ * target type. Members of structured values are then converted to the member types of the resolved type without
+ * checking them again, unless the member type is one that needs the member value to pick the type to convert to,
+ * such as a union.
  *
  * @since 2201.5.0
  */
@@ -88,10 +94,20 @@ public final class ValueConverter {
     }
 
     public static Object convert(Object value, Type targetType) {
-        return convert(value, targetType, new HashSet<>());
+        return convert(value, targetType, new IdentityHashMap<>(), false);
     }
 
-    private static Object convert(Object value, Type targetType, Set<TypeValuePair> unresolvedValues) {
+    /**
+     * Converts the value to the target type.
+     *
+     * @param value            value to be converted
+     * @param targetType       type to convert the value to
+     * @param unresolvedValues structured values being converted, with the target types they are being converted to
+     * @param validated        whether the value has already been checked to be convertible to the target type
+     * @return converted value
+     */
+    private static Object convert(Object value, Type targetType, Map<Object, List<Type>> unresolvedValues,
+                                  boolean validated) {
 
         if (value == null) {
             if (getTargetFromTypeDesc(targetType).isNilable()) {
@@ -103,18 +119,30 @@ public final class ValueConverter {
 
         Type sourceType = TypeUtils.getImpliedType(TypeChecker.getType(value));
 
-        TypeValuePair typeValuePair = new TypeValuePair(value, targetType);
-        if (unresolvedValues.contains(typeValuePair)) {
-            throw createError(ErrorReasons.BALLERINA_PREFIXED_CYCLIC_VALUE_REFERENCE_ERROR,
-                    ErrorHelper.getErrorMessage(ErrorCodes.CYCLIC_VALUE_REFERENCE, sourceType));
+        // Only structured values can refer back to themselves.
+        List<Type> unresolvedTargetTypes = null;
+        if (isStructuredType(sourceType)) {
+            unresolvedTargetTypes = unresolvedValues.computeIfAbsent(value, k -> new ArrayList<>(1));
+            if (unresolvedTargetTypes.contains(targetType)) {
+                throw createError(ErrorReasons.BALLERINA_PREFIXED_CYCLIC_VALUE_REFERENCE_ERROR,
+                        ErrorHelper.getErrorMessage(ErrorCodes.CYCLIC_VALUE_REFERENCE, sourceType));
+            }
+            unresolvedTargetTypes.add(targetType);
         }
-        unresolvedValues.add(typeValuePair);
 
-        List<String> errors = new ArrayList<>();
-        Type convertibleType = TypeConverter.getConvertibleType(value, targetType,
-                null, new HashSet<>(), errors, true);
-        if (convertibleType == null) {
-            throw CloneUtils.createConversionError(value, targetType, errors);
+        Type convertibleType;
+        boolean membersValidated;
+        if (validated && isStructuredType(targetType)) {
+            convertibleType = targetType;
+            membersValidated = true;
+        } else {
+            List<String> errors = new ArrayList<>();
+            convertibleType = TypeConverter.getConvertibleType(value, targetType, null, new HashSet<>(), errors,
+                    true);
+            if (convertibleType == null) {
+                throw CloneUtils.createConversionError(value, targetType, errors);
+            }
+            membersValidated = isMemberwiseChecked(targetType, convertibleType);
         }
 
         Object newValue;
@@ -122,14 +150,17 @@ public final class ValueConverter {
         switch (sourceType.getTag()) {
             case TypeTags.MAP_TAG:
             case TypeTags.RECORD_TYPE_TAG:
-                newValue = convertMap((BMap<?, ?>) value, matchingType, convertibleType, unresolvedValues);
+                newValue = convertMap((BMap<?, ?>) value, matchingType, convertibleType, unresolvedValues,
+                        membersValidated);
                 break;
             case TypeTags.ARRAY_TAG:
             case TypeTags.TUPLE_TAG:
-                newValue = convertArray((BArray) value, matchingType, convertibleType, unresolvedValues);
+                newValue = convertArray((BArray) value, matchingType, convertibleType, unresolvedValues,
+                        membersValidated);
                 break;
             case TypeTags.TABLE_TAG:
-                newValue = convertTable((BTable<?, ?>) value, matchingType, convertibleType, unresolvedValues);
+                newValue = convertTable((BTable<?, ?>) value, matchingType, convertibleType, unresolvedValues,
+                        membersValidated);
                 break;
             default:
                 if (TypeChecker.isRegExpType(targetType) && matchingType.getTag() == TypeTags.STRING_TAG) {
@@ -173,10 +204,59 @@ public final class ValueConverter {
                 throw createConversionError(value, targetType);
         }
 
-        unresolvedValues.remove(typeValuePair);
+        if (unresolvedTargetTypes != null) {
+            unresolvedTargetTypes.remove(unresolvedTargetTypes.size() - 1);
+            if (unresolvedTargetTypes.isEmpty()) {
+                unresolvedValues.remove(value);
+            }
+        }
         return newValue;
     }
 
+    private static boolean isStructuredType(Type type) {
+        return switch (getReferredType(type).getTag()) {
+            case TypeTags.MAP_TAG, TypeTags.RECORD_TYPE_TAG, TypeTags.ARRAY_TAG, TypeTags.TUPLE_TAG,
+                 TypeTags.TABLE_TAG -> true;
+            default -> false;
+        };
+    }
+
+    private static Type getReferredType(Type type) {
+        while (type.getTag() == TypeTags.TYPE_REFERENCED_TYPE_TAG) {
+            type = ((ReferenceType) type).getReferredType();
+        }
+        return type;
+    }
+
+    /**
+     * Checks whether the convertible type resolved for the target type was resolved by checking each member of the
+     * value against the member types of the convertible type. The convertible type then needs no further checks for
+     * the members. Structured types resolved for other target types, such as json, are built from the target type and
+     * the members are checked as they are converted.
+     *
+     * @param targetType      target type of the conversion
+     * @param convertibleType convertible type resolved for the target type
+     * @return true if the members of the value have been checked against the convertible type
+     */
+    private static boolean isMemberwiseChecked(Type targetType, Type convertibleType) {
+        if (!isStructuredType(convertibleType)) {
+            return false;
+        }
+        if (convertibleType == targetType) {
+            return true;
+        }
+        Type referredTargetType = getReferredType(targetType);
+        if (referredTargetType.getTag() != TypeTags.UNION_TAG) {
+            return false;
+        }
+        for (Type memberType : ((UnionType) referredTargetType).getMemberTypes()) {
+            if (memberType == convertibleType) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // This is a hack to workaround #43231
     private static Object xmlSequenceHack(Object value, Type targetType) {
         if (!(value instanceof XmlSequence xmlSequence)) {
@@ -207,14 +287,14 @@ public final class ValueConverter {
     }
 
     private static Object convertMap(BMap<?, ?> map, Type targetType, Type targetRefType,
-                                     Set<TypeValuePair> unresolvedValues) {
+                                     Map<Object, List<Type>> unresolvedValues, boolean validated) {
         switch (targetType.getTag()) {
             case TypeTags.MAP_TAG:
                 BMapInitialValueEntry[] initialValues = new BMapInitialValueEntry[map.entrySet().size()];
                 Type constraintType = ((MapType) targetType).getConstrainedType();
                 int count = 0;
                 for (Map.Entry<?, ?> entry : map.entrySet()) {
-                    Object newValue = convert(entry.getValue(), constraintType, unresolvedValues);
+                    Object newValue = convert(entry.getValue(), constraintType, unresolvedValues, validated);
                     initialValues[count] = ValueCreator
                             .createKeyFieldEntry(StringUtils.fromString(entry.getKey().toString()), newValue);
                     count++;
@@ -222,13 +302,8 @@ public final class ValueConverter {
                 return new MapValueImpl<>(targetRefType, initialValues);
             case TypeTags.RECORD_TYPE_TAG:
                 RecordType recordType = (RecordType) targetType;
-                Type restFieldType = recordType.getRestFieldType();
-                Map<String, Type> targetTypeField = new HashMap<>();
-                for (Field field : recordType.getFields().values()) {
-                    targetTypeField.put(field.getFieldName(), field.getFieldType());
-                }
-                return convertToRecord(map, unresolvedValues, targetRefType, restFieldType,
-                        targetTypeField);
+                return convertToRecord(map, unresolvedValues, targetRefType, recordType.getRestFieldType(),
+                        recordType.getFields(), validated);
             default:
                 break;
         }
@@ -236,12 +311,13 @@ public final class ValueConverter {
         throw createConversionError(map, targetType);
     }
 
-    private static BMap<BString, Object> convertToRecord(BMap<?, ?> map, Set<TypeValuePair> unresolvedValues,
+    private static BMap<BString, Object> convertToRecord(BMap<?, ?> map, Map<Object, List<Type>> unresolvedValues,
                                                          Type recordRefType, Type restFieldType,
-                                                         Map<String, Type> targetTypeField) {
+                                                         Map<String, Field> targetTypeFields, boolean validated) {
         Map<String, Object> valueMap = new HashMap<>();
         for (Map.Entry<?, ?> entry : map.entrySet()) {
-            Object newValue = convertRecordEntry(unresolvedValues, restFieldType, targetTypeField, entry);
+            Object newValue = convertRecordEntry(unresolvedValues, restFieldType, targetTypeFields, entry,
+                    validated);
             valueMap.put(entry.getKey().toString(), newValue);
         }
         Optional<IntersectionType> intersectionType = ((BRecordType) TypeUtils.getImpliedType(recordRefType))
@@ -253,21 +329,22 @@ public final class ValueConverter {
         return ValueCreator.createRecordValue(recordRefType.getPackage(), recordRefType.getName(), valueMap);
     }
 
-    private static Object convertRecordEntry(Set<TypeValuePair> unresolvedValues,
-                                             Type restFieldType, Map<String, Type> targetTypeField,
-                                             Map.Entry<?, ?> entry) {
-        Type fieldType = targetTypeField.getOrDefault(entry.getKey().toString(), restFieldType);
-        return convert(entry.getValue(), fieldType, unresolvedValues);
+    private static Object convertRecordEntry(Map<Object, List<Type>> unresolvedValues,
+                                             Type restFieldType, Map<String, Field> targetTypeFields,
+                                             Map.Entry<?, ?> entry, boolean validated) {
+        Field field = targetTypeFields.get(entry.getKey().toString());
+        Type fieldType = field != null ? field.getFieldType() : restFieldType;
+        return convert(entry.getValue(), fieldType, unresolvedValues, validated);
     }
 
     private static Object convertArray(BArray array, Type targetType, Type targetRefType,
-                                       Set<TypeValuePair> unresolvedValues) {
+                                       Map<Object, List<Type>> unresolvedValues, boolean validated) {
         switch (targetType.getTag()) {
             case TypeTags.ARRAY_TAG:
                 ArrayType arrayType = (ArrayType) targetType;
                 BListInitialValueEntry[] arrayValues = new BListInitialValueEntry[array.size()];
                 for (int i = 0; i < array.size(); i++) {
-                    Object newValue = convert(array.get(i), arrayType.getElementType(), unresolvedValues);
+                    Object newValue = convert(array.get(i), arrayType.getElementType(), unresolvedValues, validated);
                     arrayValues[i] = ValueCreator.createListInitialValueEntry(newValue);
                 }
                 return new ArrayValueImpl(targetRefType, arrayType.getSize(), arrayValues);
@@ -277,7 +354,7 @@ public final class ValueConverter {
                 BListInitialValueEntry[] tupleValues = new BListInitialValueEntry[array.size()];
                 for (int i = 0; i < array.size(); i++) {
                     Type elementType = (i < minLen) ? tupleType.getTupleTypes().get(i) : tupleType.getRestType();
-                    Object newValue = convert(array.get(i), elementType, unresolvedValues);
+                    Object newValue = convert(array.get(i), elementType, unresolvedValues, validated);
                     tupleValues[i] = ValueCreator.createListInitialValueEntry(newValue);
                 }
                 return new TupleValueImpl(targetRefType, tupleValues);
@@ -286,7 +363,7 @@ public final class ValueConverter {
                 Object[] tableValues = new Object[array.size()];
                 for (int i = 0; i < array.size(); i++) {
                     BMap<?, ?> bMap = (BMap<?, ?>) convert(array.get(i), tableType.getConstrainedType(),
-                            unresolvedValues);
+                            unresolvedValues, validated);
                     tableValues[i] = bMap;
                 }
                 BArray data = ValueCreator
@@ -300,25 +377,28 @@ public final class ValueConverter {
         throw createConversionError(array, targetType);
     }
 
-    private static Object convertTable(BTable<?, ?> bTable, Type targetType,
-                                       Type targetRefType, Set<TypeValuePair> unresolvedValues) {
+    private static Object convertTable(BTable<?, ?> bTable, Type targetType, Type targetRefType,
+                                       Map<Object, List<Type>> unresolvedValues, boolean validated) {
         TableType tableType = (TableType) targetType;
         Optional<IntersectionType> intersectionType = tableType.getIntersectionType();
         if (targetRefType.isReadOnly() && intersectionType.isPresent() && !bTable.getType().isReadOnly()) {
+            // The rows have been checked against the readonly row type, not the mutable one converted to here.
             tableType = (TableType) ReadOnlyUtils.getMutableType((BIntersectionType) intersectionType.get());
-            TableValueImpl<?, ?> tableValue = getTableValue(bTable, unresolvedValues, tableType, tableType);
+            TableValueImpl<?, ?> tableValue = getTableValue(bTable, unresolvedValues, tableType, tableType, false);
             tableValue.freezeDirect();
             return tableValue;
         }
-        return  getTableValue(bTable, unresolvedValues, tableType, targetRefType);
+        return  getTableValue(bTable, unresolvedValues, tableType, targetRefType, validated);
     }
 
-    private static TableValueImpl<?, ?> getTableValue(BTable<?, ?> bTable, Set<TypeValuePair> unresolvedValues,
-                                                      TableType tableType, Type targetRefType) {
+    private static TableValueImpl<?, ?> getTableValue(BTable<?, ?> bTable,
+                                                      Map<Object, List<Type>> unresolvedValues,
+                                                      TableType tableType, Type targetRefType, boolean validated) {
         Object[] tableValues = new Object[bTable.size()];
         int count = 0;
         for (Object tableValue : bTable.values()) {
-            BMap<?, ?> bMap = (BMap<?, ?>) convert(tableValue, tableType.getConstrainedType(), unresolvedValues);
+            BMap<?, ?> bMap = (BMap<?, ?>) convert(tableValue, tableType.getConstrainedType(), unresolvedValues,
+                    validated);
             tableValues[count++] = bMap;
         }
         BArray data = ValueCreator.createArrayValue(tableValues, TypeCreator.createArrayType(
@@ -45,6 +45,7 @@ import io.ballerina.runtime.internal.utils.ValueConverter;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.reflect.Array;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -754,6 +755,209 @@ public class ArrayValueImpl extends AbstractArrayValue {
         unshift(0, values);
     }
 
+    /**
+     * Appends the given values to the array. Values of a basic type matching the element type are stored directly in
+     * the backing array of the element type, without checking the type of each value.
+     *
+     * @param values values to be appended
+     */
+    public void appendAll(Object[] values) {
+        if (values.length == 0) {
+            return;
+        }
+        handleImmutableArrayValue();
+        int newSize = size + values.length;
+        int i = 0;
+        if (this.arrayType.getState() == ArrayState.OPEN && newSize <= maxSize) {
+            int tag = this.elementReferredType.getTag();
+            ensureCapacity(newSize, Array.getLength(getArrayFromType(tag)));
+            switch (tag) {
+                case TypeTags.INT_TAG:
+                    for (; i < values.length && values[i] instanceof Long value; i++) {
+                        intValues[size++] = value;
+                    }
+                    break;
+                case TypeTags.BOOLEAN_TAG:
+                    for (; i < values.length && values[i] instanceof Boolean value; i++) {
+                        booleanValues[size++] = value;
+                    }
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    for (; i < values.length && values[i] instanceof Double value; i++) {
+                        floatValues[size++] = value;
+                    }
+                    break;
+                case TypeTags.STRING_TAG:
+                    for (; i < values.length && values[i] instanceof BString value; i++) {
+                        bStringValues[size++] = value;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        for (; i < values.length; i++) {
+            addRefValue(size, values[i]);
+        }
+    }
+
+    /**
+     * Returns the index of the first member at or after the given index that is equal to the given value. Members of
+     * a basic type are compared in the backing array of the element type.
+     *
+     * @param value      value to search for
+     * @param startIndex index to start the search from
+     * @return index of the member, or -1 if there is no such member
+     */
+    public int indexOf(Object value, int startIndex) {
+        switch (this.elementReferredType.getTag()) {
+            case TypeTags.INT_TAG, TypeTags.SIGNED32_INT_TAG, TypeTags.SIGNED16_INT_TAG, TypeTags.SIGNED8_INT_TAG,
+                 TypeTags.UNSIGNED32_INT_TAG, TypeTags.UNSIGNED16_INT_TAG, TypeTags.UNSIGNED8_INT_TAG -> {
+                if (!isIntValue(value)) {
+                    return -1;
+                }
+                long intValue = ((Number) value).longValue();
+                for (int i = startIndex; i < size; i++) {
+                    if (intValues[i] == intValue) {
+                        return i;
+                    }
+                }
+            }
+            case TypeTags.BYTE_TAG -> {
+                if (!isIntValue(value)) {
+                    return -1;
+                }
+                long intValue = ((Number) value).longValue();
+                for (int i = startIndex; i < size; i++) {
+                    if (Byte.toUnsignedInt(byteValues[i]) == intValue) {
+                        return i;
+                    }
+                }
+            }
+            case TypeTags.FLOAT_TAG -> {
+                if (!(value instanceof Double floatValue)) {
+                    return -1;
+                }
+                for (int i = startIndex; i < size; i++) {
+                    if (isEqualFloat(floatValues[i], floatValue)) {
+                        return i;
+                    }
+                }
+            }
+            case TypeTags.BOOLEAN_TAG -> {
+                if (!(value instanceof Boolean booleanValue)) {
+                    return -1;
+                }
+                for (int i = startIndex; i < size; i++) {
+                    if (booleanValues[i] == booleanValue) {
+                        return i;
+                    }
+                }
+            }
+            case TypeTags.STRING_TAG, TypeTags.CHAR_STRING_TAG -> {
+                if (!(value instanceof BString)) {
+                    return -1;
+                }
+                for (int i = startIndex; i < size; i++) {
+                    if (value.equals(bStringValues[i])) {
+                        return i;
+                    }
+                }
+            }
+            default -> {
+                for (int i = startIndex; i < size; i++) {
+                    if (TypeChecker.isEqual(value, refValues[i])) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last member at or before the given index that is equal to the given value, comparing
+     * the members in the same way as {@link #indexOf(Object, int)}.
+     *
+     * @param value      value to search for
+     * @param startIndex index to start the search from, which must be less than the size of the array
+     * @return index of the member, or -1 if there is no such member
+     */
+    public int lastIndexOf(Object value, int startIndex) {
+        switch (this.elementReferredType.getTag()) {
+            case TypeTags.INT_TAG, TypeTags.SIGNED32_INT_TAG, TypeTags.SIGNED16_INT_TAG, TypeTags.SIGNED8_INT_TAG,
+                 TypeTags.UNSIGNED32_INT_TAG, TypeTags.UNSIGNED16_INT_TAG, TypeTags.UNSIGNED8_INT_TAG -> {
+                if (!isIntValue(value)) {
+                    return -1;
+                }
+                long intValue = ((Number) value).longValue();
+                for (int i = startIndex; i >= 0; i--) {
+                    if (intValues[i] == intValue) {
+                        return i;
+                    }
+                }
+            }
+            case TypeTags.BYTE_TAG -> {
+                if (!isIntValue(value)) {
+                    return -1;
+                }
+                long intValue = ((Number) value).longValue();
+                for (int i = startIndex; i >= 0; i--) {
+                    if (Byte.toUnsignedInt(byteValues[i]) == intValue) {
+                        return i;
+                    }
+                }
+            }
+            case TypeTags.FLOAT_TAG -> {
+                if (!(value instanceof Double floatValue)) {
+                    return -1;
+                }
+                for (int i = startIndex; i >= 0; i--) {
+                    if (isEqualFloat(floatValues[i], floatValue)) {
+                        return i;
+                    }
+                }
+            }
+            case TypeTags.BOOLEAN_TAG -> {
+                if (!(value instanceof Boolean booleanValue)) {
+                    return -1;
+                }
+                for (int i = startIndex; i >= 0; i--) {
+                    if (booleanValues[i] == booleanValue) {
+                        return i;
+                    }
+                }
+            }
+            case TypeTags.STRING_TAG, TypeTags.CHAR_STRING_TAG -> {
+                if (!(value instanceof BString)) {
+                    return -1;
+                }
+                for (int i = startIndex; i >= 0; i--) {
+                    if (value.equals(bStringValues[i])) {
+                        return i;
+                    }
+                }
+            }
+            default -> {
+                for (int i = startIndex; i >= 0; i--) {
+                    if (TypeChecker.isEqual(value, refValues[i])) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isIntValue(Object value) {
+        return value instanceof Long || value instanceof Integer;
+    }
+
+    // Same as the float equality of TypeChecker.isEqual, where NaN is equal to itself and -0.0 is equal to 0.0
+    private static boolean isEqualFloat(double member, double value) {
+        return member == value || (Double.isNaN(member) && Double.isNaN(value));
+    }
+
     @Override
     public String stringValue(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
@@ -36,6 +36,8 @@ import io.ballerina.runtime.internal.errors.ErrorReasons;
 import io.ballerina.runtime.internal.types.BDecimalType;
 import io.ballerina.runtime.internal.utils.ErrorUtils;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
@@ -65,12 +67,36 @@ public class DecimalValue implements SimpleValue, BDecimal {
             new BigDecimal("-9.999999999999999999999999999999999e6144", MathContext.DECIMAL128);
     private static final BigDecimal MIN_DECIMAL_MAGNITUDE =
             new BigDecimal("1.000000000000000000000000000000000e-6143", MathContext.DECIMAL128);
+    // Values with at most this many digits always have an unscaled value that fits in a long.
+    private static final int MAX_COMPACT_PRECISION = 18;
+    // Compact values with scales within this bound are always within the decimal range.
+    private static final int MAX_COMPACT_SCALE = 6000;
+    private static final byte COMPACT_UNKNOWN = 0;
+    private static final byte COMPACT = 1;
+    private static final byte NOT_COMPACT = 2;
+    private static final long[] LONG_TEN_POWERS = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+            10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L,
+            100_000_000_000_000_000L, 1_000_000_000_000_000_000L};
+    private static final VarHandle COMPACT_STATE;
+
+    static {
+        try {
+            COMPACT_STATE = MethodHandles.lookup().findVarHandle(DecimalValue.class, "compactState", byte.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
     // Variable used to track the kind of a decimal value.
     @Deprecated
     public DecimalValueKind valueKind = DecimalValueKind.OTHER;
 
     private final BigDecimal value;
+    // Unscaled value of the value when it fits in a long, used for arithmetic that does not need to go through
+    // BigDecimal. It is computed on the first arithmetic operation, and the release of the compact state publishes it.
+    private long unscaledValue;
+    private byte compactState;
     private BDecimalType type;
     private final boolean shapeCalculated = false;
 
@@ -103,6 +129,16 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
     }
 
+    private DecimalValue(long unscaledValue, int scale) {
+        this.type = DECIMAL_TYPE;
+        this.value = BigDecimal.valueOf(unscaledValue, scale);
+        this.unscaledValue = unscaledValue;
+        COMPACT_STATE.setRelease(this, COMPACT);
+        if (unscaledValue == 0) {
+            this.valueKind = DecimalValueKind.ZERO;
+        }
+    }
+
     public DecimalValue(String value, DecimalValueKind valueKind) {
         this(value);
         this.valueKind = valueKind;
@@ -119,6 +155,26 @@ public class DecimalValue implements SimpleValue, BDecimal {
         return bd;
     }
 
+    private boolean isCompact() {
+        byte state = (byte) COMPACT_STATE.getAcquire(this);
+        if (state == COMPACT_UNKNOWN) {
+            state = computeCompactState();
+        }
+        return state == COMPACT;
+    }
+
+    // Threads racing to compute the state compute the same state and unscaled value.
+    private byte computeCompactState() {
+        int scale = this.value.scale();
+        if (scale < -MAX_COMPACT_SCALE || scale > MAX_COMPACT_SCALE || this.value.precision() > MAX_COMPACT_PRECISION) {
+            COMPACT_STATE.setRelease(this, NOT_COMPACT);
+            return NOT_COMPACT;
+        }
+        this.unscaledValue = this.value.unscaledValue().longValue();
+        COMPACT_STATE.setRelease(this, COMPACT);
+        return COMPACT;
+    }
+
     /**
      * Get value of the decimal.
      * @return the value
@@ -260,6 +316,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (augend.valueKind == DecimalValueKind.ZERO) {
             return this;
         }
+        if (this.isCompact() && augend.isCompact()) {
+            DecimalValue sum = addCompact(this.unscaledValue, this.value.scale(), augend.unscaledValue,
+                    augend.value.scale());
+            if (sum != null) {
+                return sum;
+            }
+        }
         return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
     }
 
@@ -279,6 +342,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (subtrahend.valueKind == DecimalValueKind.ZERO) {
             return this;
         }
+        if (this.isCompact() && subtrahend.isCompact() && subtrahend.unscaledValue != Long.MIN_VALUE) {
+            DecimalValue difference = addCompact(this.unscaledValue, this.value.scale(), -subtrahend.unscaledValue,
+                    subtrahend.value.scale());
+            if (difference != null) {
+                return difference;
+            }
+        }
         return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                 MathContext.DECIMAL128));
     }
@@ -295,6 +365,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
             return this;
         }
         if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+            if (this.isCompact() && multiplicand.isCompact()) {
+                DecimalValue product = multiplyCompact(this.unscaledValue, this.value.scale(),
+                        multiplicand.unscaledValue, multiplicand.value.scale());
+                if (product != null) {
+                    return product;
+                }
+            }
             return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                     MathContext.DECIMAL128));
         }
@@ -346,11 +423,66 @@ public class DecimalValue implements SimpleValue, BDecimal {
     @Override
     public DecimalValue negate() {
         if (this.valueKind == DecimalValueKind.OTHER) {
+            if (this.isCompact() && this.unscaledValue != Long.MIN_VALUE) {
+                return new DecimalValue(-this.unscaledValue, this.value.scale());
+            }
             return new DecimalValue(this.decimalValue().negate());
         }
         return this;
     }
 
+    /**
+     * Adds two compact values with long arithmetic. The exact result has fewer digits than the decimal128 precision,
+     * so it is the same value with the same scale as the rounded BigDecimal addition.
+     *
+     * @return the sum, or null if it does not fit in a long
+     */
+    private static DecimalValue addCompact(long x, int xScale, long y, int yScale) {
+        if (xScale < yScale) {
+            x = scaleUp(x, yScale - xScale);
+        } else if (yScale < xScale) {
+            y = scaleUp(y, xScale - yScale);
+        }
+        if (x == Long.MIN_VALUE || y == Long.MIN_VALUE) {
+            return null;
+        }
+        long sum = x + y;
+        if (((x ^ sum) & (y ^ sum)) < 0) {
+            return null;
+        }
+        return new DecimalValue(sum, Math.max(xScale, yScale));
+    }
+
+    /**
+     * Multiplies two compact values with long arithmetic, in the same way as {@link #addCompact}.
+     *
+     * @return the product, or null if it does not fit in a long or its scale is out of the compact scale bound
+     */
+    private static DecimalValue multiplyCompact(long x, int xScale, long y, int yScale) {
+        int productScale = xScale + yScale;
+        if (productScale < -MAX_COMPACT_SCALE || productScale > MAX_COMPACT_SCALE) {
+            return null;
+        }
+        long product = x * y;
+        if (Math.multiplyHigh(x, y) != (product >> 63)) {
+            return null;
+        }
+        return new DecimalValue(product, productScale);
+    }
+
+    // Returns Long.MIN_VALUE if the scaled value does not fit in a long.
+    private static long scaleUp(long value, int scaleDifference) {
+        if (scaleDifference >= LONG_TEN_POWERS.length) {
+            return Long.MIN_VALUE;
+        }
+        long multiplier = LONG_TEN_POWERS[scaleDifference];
+        long scaled = value * multiplier;
+        if (Math.multiplyHigh(value, multiplier) != (scaled >> 63)) {
+            return Long.MIN_VALUE;
+        }
+        return scaled;
+    }
+
     @Override
     public BDecimal add(BDecimal augend) {
         return add((DecimalValue) augend);
@@ -421,7 +553,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(int value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, RoundingMode.HALF_EVEN));
+        return valueOf((long) value);
     }
 
     /**
@@ -430,6 +562,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(long value) {
+        if (value > Long.MIN_VALUE / 10 && value < Long.MAX_VALUE / 10) {
+            return new DecimalValue(value * 10, 1);
+        }
         return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, RoundingMode.HALF_EVEN));
     }
 
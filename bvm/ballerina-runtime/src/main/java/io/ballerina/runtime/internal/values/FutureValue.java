@@ -124,6 +124,7 @@ public class FutureValue implements BFuture, RefValue {
       */
      @Override
      public Object get() {
+         this.strand.scheduler.startIfQueued(this);
          return AsyncUtils.handleWait(Scheduler.getStrand(), this.completableFuture);
      }
 
@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.observability;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_FUNCTION_MODULE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_FUNCTION_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_SERVICE_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_CLIENT_REMOTE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_MAIN_FUNCTION;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_SERVICE_REMOTE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_SERVICE_RESOURCE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_WORKER;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_FUNCTION_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_MODULE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_OBJECT_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_POSITION;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_RESOURCE_ACCESSOR;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_RESOURCE_PATH;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_TRUE_VALUE;
+
+/**
+ * The tags of an observed call site, resolved once and shared by all the observations started at it.
+ * <p>
+ * Call sites are identified by the module and the position id passed by the generated code. As these arguments are
+ * constants of the module, the lookups are done with the same string instances on every call.
+ *
+ * @since 2201.13.0
+ */
+final class ObservationCallSite {
+
+    private static final int RESOURCE = 1;
+    private static final int REMOTE = 1 << 1;
+    private static final int MAIN_ENTRY_POINT = 1 << 2;
+    private static final int WORKER = 1 << 3;
+    private static final int CALLABLE = 1 << 4;
+
+    private static final Map<BString, Map<BString, ObservationCallSite>> CALL_SITES = new ConcurrentHashMap<>();
+
+    private final BString serviceName;
+    private final BString functionName;
+    private final BString resourceAccessor;
+    private final int kind;
+
+    final String operationName;
+    final Tag entrypointModuleTag;
+    final Tag entrypointServiceNameTag;
+    final Tag entrypointFunctionNameTag;
+    final Tag entrypointResourceAccessorTag;
+    private final Tag[] tags;
+    private volatile ObjectTypeTags objectTypeTags;
+
+    private ObservationCallSite(BString module, BString positionId, BString serviceName, BString functionName,
+                                BString resourceAccessor, int kind) {
+        this.serviceName = serviceName;
+        this.functionName = functionName;
+        this.resourceAccessor = resourceAccessor;
+        this.kind = kind;
+
+        List<Tag> siteTags = new ArrayList<>();
+        if ((kind & CALLABLE) == CALLABLE) {
+            this.operationName = functionName.getValue();
+            if ((kind & MAIN_ENTRY_POINT) == MAIN_ENTRY_POINT) {
+                siteTags.add(Tag.of(TAG_KEY_IS_SRC_MAIN_FUNCTION, TAG_TRUE_VALUE));
+            } else if ((kind & REMOTE) == REMOTE) {
+                siteTags.add(Tag.of(TAG_KEY_IS_SRC_CLIENT_REMOTE, TAG_TRUE_VALUE));
+            } else if ((kind & WORKER) == WORKER) {
+                siteTags.add(Tag.of(TAG_KEY_IS_SRC_WORKER, TAG_TRUE_VALUE));
+            }
+            this.entrypointServiceNameTag = null;
+            this.entrypointResourceAccessorTag = null;
+        } else {
+            if ((kind & RESOURCE) == RESOURCE) {
+                this.operationName = resourceAccessor.getValue() + " " + functionName.getValue();
+                siteTags.add(Tag.of(TAG_KEY_IS_SRC_SERVICE_RESOURCE, TAG_TRUE_VALUE));
+                siteTags.add(Tag.of(TAG_KEY_SRC_RESOURCE_ACCESSOR, resourceAccessor.getValue()));
+                siteTags.add(Tag.of(TAG_KEY_SRC_RESOURCE_PATH, functionName.getValue()));
+                this.entrypointResourceAccessorTag = Tag.of(TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR,
+                        resourceAccessor.getValue());
+            } else {
+                this.operationName = serviceName.getValue() + ":" + functionName.getValue();
+                if ((kind & REMOTE) == REMOTE) {
+                    siteTags.add(Tag.of(TAG_KEY_IS_SRC_SERVICE_REMOTE, TAG_TRUE_VALUE));
+                }
+                siteTags.add(Tag.of(TAG_KEY_SRC_FUNCTION_NAME, functionName.getValue()));
+                this.entrypointResourceAccessorTag = null;
+            }
+            siteTags.add(Tag.of(TAG_KEY_SRC_OBJECT_NAME, serviceName.getValue()));
+            this.entrypointServiceNameTag = Tag.of(TAG_KEY_ENTRYPOINT_SERVICE_NAME, serviceName.getValue());
+        }
+        if ((kind & CALLABLE) == CALLABLE) {
+            siteTags.add(Tag.of(TAG_KEY_SRC_FUNCTION_NAME, functionName.getValue()));
+        }
+        siteTags.add(Tag.of(TAG_KEY_SRC_MODULE, module.getValue()));
+        siteTags.add(Tag.of(TAG_KEY_SRC_POSITION, positionId.getValue()));
+        this.tags = siteTags.toArray(new Tag[0]);
+        this.entrypointModuleTag = Tag.of(TAG_KEY_ENTRYPOINT_FUNCTION_MODULE, module.getValue());
+        this.entrypointFunctionNameTag = Tag.of(TAG_KEY_ENTRYPOINT_FUNCTION_NAME, functionName.getValue());
+    }
+
+    static ObservationCallSite ofResource(BString module, BString positionId, BString serviceName,
+                                          BString resourcePathOrFunction, BString resourceAccessor,
+                                          boolean isResource, boolean isRemote) {
+        int kind = (isResource ? RESOURCE : 0) | (isRemote ? REMOTE : 0);
+        return get(module, positionId, serviceName, resourcePathOrFunction, isResource ? resourceAccessor : null,
+                kind);
+    }
+
+    static ObservationCallSite ofCallable(BString module, BString positionId, BString functionName,
+                                          boolean isMainEntryPoint, boolean isRemote, boolean isWorker) {
+        int kind = CALLABLE | (isMainEntryPoint ? MAIN_ENTRY_POINT : 0) | (isRemote ? REMOTE : 0) |
+                (isWorker ? WORKER : 0);
+        return get(module, positionId, null, functionName, null, kind);
+    }
+
+    private static ObservationCallSite get(BString module, BString positionId, BString serviceName,
+                                           BString functionName, BString resourceAccessor, int kind) {
+        Map<BString, ObservationCallSite> moduleCallSites = CALL_SITES.computeIfAbsent(module,
+                key -> new ConcurrentHashMap<>());
+        ObservationCallSite callSite = moduleCallSites.get(positionId);
+        if (callSite != null && callSite.matches(serviceName, functionName, resourceAccessor, kind)) {
+            return callSite;
+        }
+        ObservationCallSite newCallSite = new ObservationCallSite(module, positionId, serviceName, functionName,
+                resourceAccessor, kind);
+        if (callSite == null) {
+            // A different observation at an already cached position is resolved on every call instead of
+            // replacing the cached call site
+            moduleCallSites.putIfAbsent(positionId, newCallSite);
+        }
+        return newCallSite;
+    }
+
+    private boolean matches(BString serviceName, BString functionName, BString resourceAccessor, int kind) {
+        return this.kind == kind && this.functionName.equals(functionName) &&
+                Objects.equals(this.serviceName, serviceName) &&
+                Objects.equals(this.resourceAccessor, resourceAccessor);
+    }
+
+    void addTags(ObserverContext observerContext) {
+        for (Tag tag : tags) {
+            observerContext.addTag(tag);
+        }
+    }
+
+    /**
+     * Returns the object name tag and the operation name of a call to a function attached to an object of the
+     * given type. Call sites are mostly called with objects of the same type, so only the last type is kept.
+     *
+     * @param type type of the object
+     * @return object name tag and operation name
+     */
+    ObjectTypeTags getObjectTypeTags(ObjectType type) {
+        ObjectTypeTags typeTags = this.objectTypeTags;
+        if (typeTags != null && typeTags.type() == type) {
+            return typeTags;
+        }
+        Module typeModule = type.getPackage();
+        String objectName = typeModule.getOrg() + "/" + typeModule.getName() + "/" + type.getName();
+        typeTags = new ObjectTypeTags(type, Tag.of(TAG_KEY_SRC_OBJECT_NAME, objectName),
+                objectName + ":" + functionName.getValue());
+        this.objectTypeTags = typeTags;
+        return typeTags;
+    }
+
+    /**
+     * Object name tag and operation name of a call to a function attached to an object.
+     *
+     * @param type          type of the object
+     * @param objectNameTag object name tag
+     * @param operationName operation name
+     */
+    record ObjectTypeTags(ObjectType type, Tag objectNameTag, String operationName) {
+    }
+}
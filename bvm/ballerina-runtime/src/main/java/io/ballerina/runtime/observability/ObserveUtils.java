@@ -28,6 +28,7 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.configurable.ConfigMap;
 import io.ballerina.runtime.internal.configurable.VariableKey;
 import io.ballerina.runtime.internal.values.ErrorValue;
+import io.ballerina.runtime.observability.metrics.Tag;
 import io.ballerina.runtime.observability.tracer.BSpan;
 import io.opentelemetry.api.common.Attributes;
 
@@ -45,17 +46,8 @@ import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_FUNCTION_NAME;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_SERVICE_NAME;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_CLIENT_REMOTE;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_MAIN_FUNCTION;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_SERVICE_REMOTE;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_SERVICE_RESOURCE;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_WORKER;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_FUNCTION_NAME;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_MODULE;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_OBJECT_NAME;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_POSITION;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_RESOURCE_ACCESSOR;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_RESOURCE_PATH;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_TRUE_VALUE;
 
 /**
@@ -174,13 +166,38 @@ public final class ObserveUtils {
         if (!enabled) {
             return;
         }
+        startResourceObservation(env, module, StringUtils.fromString(generatePositionId(srcFileName, startLine,
+                startColumn)), serviceName, resourcePathOrFunction, resourceAccessor, isResource, isRemote);
+    }
 
+    /**
+     * Start observation of a resource invocation.
+     *
+     * @param env                    Ballerina environment
+     * @param module                 The module the resource belongs to
+     * @param positionId             The source code position the resource in defined in
+     * @param serviceName            Name of the service to which the observer context belongs
+     * @param resourcePathOrFunction Full path of the resource
+     * @param resourceAccessor       Accessor of the resource
+     * @param isResource             True if this was a resource function invocation
+     * @param isRemote               True if this was a remote function invocation
+     */
+    public static void startResourceObservation(Environment env, BString module, BString positionId,
+                                                BString serviceName, BString resourcePathOrFunction,
+                                                BString resourceAccessor, boolean isResource, boolean isRemote) {
+        if (!enabled) {
+            return;
+        }
+
+        ObservationCallSite callSite = ObservationCallSite.ofResource(module, positionId, serviceName,
+                resourcePathOrFunction, resourceAccessor, isResource, isRemote);
         ObserverContext observerContext = getObserverContextOfCurrentFrame(env);
         if (observerContext == null) {  // No context created by listener
             observerContext = new ObserverContext();
             setObserverContextToCurrentFrame(env, observerContext);
         }
 
+        ObserverContext parentObserverContext = null;
         if (observerContext.isStarted()) { // If a remote or resource was called by user code itself
             ObserverContext newObserverContext = new ObserverContext();
             setObserverContextToCurrentFrame(env, newObserverContext);
@@ -190,6 +207,7 @@ public final class ObserveUtils {
             newObserverContext.setEntrypointFunctionName(observerContext.getEntrypointFunctionName());
             newObserverContext.setEntrypointResourceAccessor(observerContext.getEntrypointResourceAccessor());
             newObserverContext.setParent(observerContext);
+            parentObserverContext = observerContext;
             observerContext = newObserverContext;
         } else {    // If created now or the listener created to add more tags
             observerContext.setEntrypointFunctionModule(module.getValue());
@@ -200,44 +218,9 @@ public final class ObserveUtils {
             }
         }
         observerContext.setServiceName(serviceName.getValue());
-
-        if (isResource) {
-            observerContext.setOperationName(resourceAccessor.getValue() + " " + resourcePathOrFunction.getValue());
-
-            observerContext.addTag(TAG_KEY_IS_SRC_SERVICE_RESOURCE, TAG_TRUE_VALUE);
-            observerContext.addTag(TAG_KEY_SRC_RESOURCE_ACCESSOR, resourceAccessor.getValue());
-            observerContext.addTag(TAG_KEY_SRC_RESOURCE_PATH, resourcePathOrFunction.getValue());
-        } else if (isRemote) {
-            observerContext.setOperationName(serviceName.getValue() + ":" + resourcePathOrFunction.getValue());
-
-            observerContext.addTag(TAG_KEY_IS_SRC_SERVICE_REMOTE, TAG_TRUE_VALUE);
-            observerContext.addTag(TAG_KEY_SRC_FUNCTION_NAME, resourcePathOrFunction.getValue());
-        } else {
-            observerContext.setOperationName(serviceName.getValue() + ":" + resourcePathOrFunction.getValue());
-
-            observerContext.addTag(TAG_KEY_SRC_FUNCTION_NAME, resourcePathOrFunction.getValue());
-        }
-        observerContext.addTag(TAG_KEY_SRC_OBJECT_NAME, serviceName.getValue());
-
-        observerContext.addTag(TAG_KEY_SRC_MODULE, module.getValue());
-        observerContext.addTag(TAG_KEY_SRC_POSITION, generatePositionId(srcFileName, startLine, startColumn));
-
-        if (observerContext.getEntrypointFunctionModule() != null) {
-            observerContext.addTag(TAG_KEY_ENTRYPOINT_FUNCTION_MODULE,
-                    observerContext.getEntrypointFunctionModule());
-        }
-        if (observerContext.getEntrypointServiceName() != null) {
-            observerContext.addTag(TAG_KEY_ENTRYPOINT_SERVICE_NAME,
-                    observerContext.getEntrypointServiceName());
-        }
-        if (observerContext.getEntrypointFunctionName() != null) {
-            observerContext.addTag(TAG_KEY_ENTRYPOINT_FUNCTION_NAME,
-                    observerContext.getEntrypointFunctionName());
-        }
-        if (observerContext.getEntrypointResourceAccessor() != null) {
-            observerContext.addTag(TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR,
-                    observerContext.getEntrypointResourceAccessor());
-        }
+        observerContext.setOperationName(callSite.operationName);
+        callSite.addTags(observerContext);
+        addEntrypointTags(observerContext, parentObserverContext, callSite);
 
         observerContext.setServer();
         observerContext.setStarted();
@@ -364,7 +347,31 @@ public final class ObserveUtils {
         if (!enabled) {
             return;
         }
+        startCallableObservation(env, module, StringUtils.fromString(generatePositionId(srcFileName, startLine,
+                startColumn)), typeDef, functionName, isMainEntryPoint, isRemote, isWorker);
+    }
 
+    /**
+     * Start observability for the synchronous function/action invocations.
+     *
+     * @param env              Ballerina environment
+     * @param module           The module the resource belongs to
+     * @param positionId       The source code position the resource in defined in
+     * @param typeDef          The type definition the function was attached to
+     * @param functionName     name of the function being invoked
+     * @param isMainEntryPoint True if this was a main entry point invocation
+     * @param isRemote         True if this was a remote function invocation
+     * @param isWorker         True if this was a worker start
+     */
+    public static void startCallableObservation(Environment env, BString module, BString positionId,
+                                                BObject typeDef, BString functionName, boolean isMainEntryPoint,
+                                                boolean isRemote, boolean isWorker) {
+        if (!enabled) {
+            return;
+        }
+
+        ObservationCallSite callSite = ObservationCallSite.ofCallable(module, positionId, functionName,
+                isMainEntryPoint, isRemote, isWorker);
         ObserverContext prevObserverCtx = getObserverContextOfCurrentFrame(env);
         ObserverContext newObContext = new ObserverContext();
         setObserverContextToCurrentFrame(env, newObContext);
@@ -382,41 +389,16 @@ public final class ObserveUtils {
             newObContext.setEntrypointFunctionName(functionName.getValue());
         }
 
-        if (isMainEntryPoint) {
-            newObContext.addTag(TAG_KEY_IS_SRC_MAIN_FUNCTION, TAG_TRUE_VALUE);
-        } else if (isRemote) {
-            newObContext.addTag(TAG_KEY_IS_SRC_CLIENT_REMOTE, TAG_TRUE_VALUE);
-        } else if (isWorker) {
-            newObContext.addTag(TAG_KEY_IS_SRC_WORKER, TAG_TRUE_VALUE);
-        }   // Else normal function
-
         if (typeDef != null) {
             ObjectType type = (ObjectType) TypeUtils.getImpliedType(typeDef.getType());
-            Module typeModule = type.getPackage();
-            String objectName = typeModule.getOrg() + "/" + typeModule.getName() + "/" + type.getName();
-
-            newObContext.setOperationName(objectName + ":" + functionName.getValue());
-            newObContext.addTag(TAG_KEY_SRC_OBJECT_NAME, objectName);
+            ObservationCallSite.ObjectTypeTags typeTags = callSite.getObjectTypeTags(type);
+            newObContext.setOperationName(typeTags.operationName());
+            newObContext.addTag(typeTags.objectNameTag());
         } else {
-            newObContext.setOperationName(functionName.getValue());
-        }
-
-        newObContext.addTag(TAG_KEY_SRC_FUNCTION_NAME, functionName.getValue());
-        newObContext.addTag(TAG_KEY_SRC_MODULE, module.getValue());
-        newObContext.addTag(TAG_KEY_SRC_POSITION, generatePositionId(srcFileName, startLine, startColumn));
-
-        if (newObContext.getEntrypointFunctionModule() != null) {
-            newObContext.addTag(TAG_KEY_ENTRYPOINT_FUNCTION_MODULE, newObContext.getEntrypointFunctionModule());
-        }
-        if (newObContext.getEntrypointServiceName() != null) {
-            newObContext.addTag(TAG_KEY_ENTRYPOINT_SERVICE_NAME, newObContext.getEntrypointServiceName());
-        }
-        if (newObContext.getEntrypointFunctionName() != null) {
-            newObContext.addTag(TAG_KEY_ENTRYPOINT_FUNCTION_NAME, newObContext.getEntrypointFunctionName());
-        }
-        if (newObContext.getEntrypointResourceAccessor() != null) {
-            newObContext.addTag(TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR, newObContext.getEntrypointResourceAccessor());
+            newObContext.setOperationName(callSite.operationName);
         }
+        callSite.addTags(newObContext);
+        addEntrypointTags(newObContext, prevObserverCtx, callSite);
 
         newObContext.setStarted();
         for (BallerinaObserver observer : observers) {
@@ -424,6 +406,43 @@ public final class ObserveUtils {
         }
     }
 
+    /**
+     * Add the entrypoint tags of an observer context. The tags of the call site or the parent context are reused
+     * when they hold the same values.
+     *
+     * @param observerContext       observer context to add the tags to
+     * @param parentObserverContext parent of the observer context, or null if there is none
+     * @param callSite              call site the observation was started at
+     */
+    private static void addEntrypointTags(ObserverContext observerContext, ObserverContext parentObserverContext,
+                                          ObservationCallSite callSite) {
+        addEntrypointTag(observerContext, parentObserverContext, TAG_KEY_ENTRYPOINT_FUNCTION_MODULE,
+                observerContext.getEntrypointFunctionModule(), callSite.entrypointModuleTag);
+        addEntrypointTag(observerContext, parentObserverContext, TAG_KEY_ENTRYPOINT_SERVICE_NAME,
+                observerContext.getEntrypointServiceName(), callSite.entrypointServiceNameTag);
+        addEntrypointTag(observerContext, parentObserverContext, TAG_KEY_ENTRYPOINT_FUNCTION_NAME,
+                observerContext.getEntrypointFunctionName(), callSite.entrypointFunctionNameTag);
+        addEntrypointTag(observerContext, parentObserverContext, TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR,
+                observerContext.getEntrypointResourceAccessor(), callSite.entrypointResourceAccessorTag);
+    }
+
+    private static void addEntrypointTag(ObserverContext observerContext, ObserverContext parentObserverContext,
+                                         String key, String value, Tag callSiteTag) {
+        if (value == null) {
+            return;
+        }
+        if (callSiteTag != null && value.equals(callSiteTag.getValue())) {
+            observerContext.addTag(callSiteTag);
+            return;
+        }
+        Tag parentTag = parentObserverContext != null ? parentObserverContext.getTag(key) : null;
+        if (parentTag != null && value.equals(parentTag.getValue())) {
+            observerContext.addTag(parentTag);
+            return;
+        }
+        observerContext.addTag(key, value);
+    }
+
     /**
      * Get context properties of the observer context.
      *
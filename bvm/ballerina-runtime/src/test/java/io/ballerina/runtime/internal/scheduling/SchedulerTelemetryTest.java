@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Test cases for {@link SchedulerTelemetry}.
+ *
+ * @since 2201.13.0
+ */
+public class SchedulerTelemetryTest {
+
+    @AfterMethod
+    public void disable() {
+        SchedulerTelemetry.disable();
+    }
+
+    @Test
+    public void testDisabledTelemetryIsNotRecorded() {
+        long created = SchedulerTelemetry.getCreatedStrandCount();
+        long live = SchedulerTelemetry.getLiveStrandCount();
+        long queued = SchedulerTelemetry.getQueuedStrandCount();
+        SchedulerTelemetry.strandCreated();
+        SchedulerTelemetry.strandStarted();
+        SchedulerTelemetry.strandQueued();
+
+        Assert.assertFalse(SchedulerTelemetry.isEnabled());
+        Assert.assertEquals(SchedulerTelemetry.getCreatedStrandCount(), created);
+        Assert.assertEquals(SchedulerTelemetry.getLiveStrandCount(), live);
+        Assert.assertEquals(SchedulerTelemetry.getQueuedStrandCount(), queued);
+        Assert.assertEquals(SchedulerTelemetry.getSummary(), "");
+    }
+
+    @Test
+    public void testEnabledTelemetryIsRecorded() {
+        SchedulerTelemetry.enable();
+        long created = SchedulerTelemetry.getCreatedStrandCount();
+        long live = SchedulerTelemetry.getLiveStrandCount();
+        long queued = SchedulerTelemetry.getQueuedStrandCount();
+        SchedulerTelemetry.strandCreated();
+        SchedulerTelemetry.strandQueued();
+        Assert.assertEquals(SchedulerTelemetry.getQueuedStrandCount(), queued + 1);
+        SchedulerTelemetry.strandDequeued();
+        SchedulerTelemetry.strandStarted();
+        Assert.assertEquals(SchedulerTelemetry.getLiveStrandCount(), live + 1);
+        SchedulerTelemetry.strandCompleted();
+        SchedulerTelemetry.recordLockWait(2000);
+        SchedulerTelemetry.recordChannelWait(4000);
+
+        Assert.assertEquals(SchedulerTelemetry.getCreatedStrandCount(), created + 1);
+        Assert.assertEquals(SchedulerTelemetry.getLiveStrandCount(), live);
+        Assert.assertEquals(SchedulerTelemetry.getQueuedStrandCount(), queued);
+        String summary = SchedulerTelemetry.getSummary();
+        Assert.assertTrue(summary.contains("Created Strand count"), summary);
+        Assert.assertTrue(summary.contains("Non Isolated Lock waits"), summary);
+        Assert.assertTrue(summary.contains("Worker Channel waits"), summary);
+    }
+
+    @Test
+    public void testMetricsAreRegisteredOncePerRegistry() {
+        MetricRegistry registry = new MetricRegistry(new NoOpMetricProvider());
+        SchedulerTelemetry.Metrics metrics = SchedulerTelemetry.getMetrics(registry);
+        Assert.assertSame(SchedulerTelemetry.getMetrics(registry), metrics);
+
+        Set<String> names = new HashSet<>();
+        for (Metric metric : registry.getAllMetrics()) {
+            names.add(metric.getId().getName());
+        }
+        Assert.assertEquals(names, Set.of("ballerina_scheduler_strands_created_total",
+                "ballerina_scheduler_live_strands", "ballerina_scheduler_queued_strands",
+                "ballerina_scheduler_non_isolated_lock_wait_time_seconds",
+                "ballerina_scheduler_worker_channel_wait_time_seconds"));
+
+        // The metrics are registered again once the registry is replaced
+        MetricRegistry newRegistry = new MetricRegistry(new NoOpMetricProvider());
+        Assert.assertNotSame(SchedulerTelemetry.getMetrics(newRegistry), metrics);
+        Assert.assertEquals(newRegistry.getAllMetrics().length, 5);
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.internal.configurable.ConfigMap;
+import io.ballerina.runtime.internal.configurable.ConfigValue;
+import io.ballerina.runtime.internal.configurable.VariableKey;
+import io.ballerina.runtime.internal.launch.LaunchUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for {@link StrandLimiter}.
+ *
+ * @since 2201.13.0
+ */
+public class StrandLimiterTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final Strand parent = newStrand("parent");
+
+    @AfterMethod
+    public void resetLimit() {
+        ConfigMap.setConfigurableMap(new HashMap<>());
+        StrandLimiter.configure();
+    }
+
+    @Test
+    public void testConfiguredLimit() {
+        Assert.assertEquals(StrandLimiter.getLimit(), 0);
+        configureLimit(4L);
+        Assert.assertEquals(StrandLimiter.getLimit(), 4);
+        configureLimit(-1L);
+        Assert.assertEquals(StrandLimiter.getLimit(), 0);
+    }
+
+    @Test
+    public void testLimitConfiguredWithoutImportingTheModule() {
+        Module rootModule = new Module("rootOrg", "test_module", "1");
+        Map<Module, VariableKey[]> configurationData = new HashMap<>();
+        configurationData.put(rootModule, new VariableKey[0]);
+        String configContent = """
+                [ballerina.lang.runtime]
+                maxConcurrentStrands = 3""";
+        LaunchUtils.initConfigurableVariables(rootModule, configurationData, new String[0], new Path[0],
+                configContent);
+        Assert.assertEquals(StrandLimiter.getLimit(), 3);
+    }
+
+    @Test
+    public void testAddConfigData() {
+        Module runtimeModule = StrandLimiter.MAX_CONCURRENT_STRANDS.module;
+        Map<Module, VariableKey[]> configurationData = new HashMap<>();
+        StrandLimiter.addConfigData(configurationData);
+        Assert.assertEquals(configurationData.get(runtimeModule),
+                new VariableKey[]{StrandLimiter.MAX_CONCURRENT_STRANDS});
+
+        // Not added again when the program imports the module
+        StrandLimiter.addConfigData(configurationData);
+        Assert.assertEquals(configurationData.get(runtimeModule).length, 1);
+
+        VariableKey otherKey = new VariableKey(runtimeModule, "other", null, false);
+        configurationData.put(runtimeModule, new VariableKey[]{otherKey});
+        StrandLimiter.addConfigData(configurationData);
+        Assert.assertEquals(configurationData.get(runtimeModule),
+                new VariableKey[]{otherKey, StrandLimiter.MAX_CONCURRENT_STRANDS});
+    }
+
+    @Test
+    public void testStrandsBeyondLimitAreQueued() throws InterruptedException {
+        configureLimit(2L);
+        StrandLimiter limiter = new StrandLimiter();
+        List<BlockingTask> tasks = startTasks(limiter, 3);
+        tasks.get(0).awaitStarted();
+        tasks.get(1).awaitStarted();
+        Assert.assertFalse(tasks.get(2).isStarted());
+
+        // The slot of a completed strand is handed over to the queued strand
+        tasks.get(0).complete();
+        tasks.get(2).awaitStarted();
+        tasks.get(1).complete();
+        tasks.get(2).complete();
+    }
+
+    @Test
+    public void testQueuedStrandIsStartedWhenWaitedOn() throws InterruptedException {
+        configureLimit(1L);
+        StrandLimiter limiter = new StrandLimiter();
+        List<BlockingTask> tasks = startTasks(limiter, 2);
+        tasks.get(0).awaitStarted();
+        Assert.assertFalse(tasks.get(1).isStarted());
+
+        limiter.startIfQueued(tasks.get(1).strand);
+        tasks.get(1).awaitStarted();
+        // Starting a strand that is not queued does nothing
+        limiter.startIfQueued(tasks.get(0).strand);
+        tasks.get(0).complete();
+        tasks.get(1).complete();
+    }
+
+    @Test
+    public void testStarterWaitsWhileQueueIsFull() throws InterruptedException {
+        configureLimit(1L);
+        StrandLimiter limiter = new StrandLimiter();
+        List<BlockingTask> tasks = startTasks(limiter, 2);
+        tasks.get(0).awaitStarted();
+
+        BlockingTask lastTask = new BlockingTask("last");
+        Thread starter = Thread.ofVirtual().start(() -> limiter.start(parent, lastTask.strand, lastTask));
+        awaitWaiting(starter);
+
+        tasks.get(0).complete();
+        tasks.get(1).awaitStarted();
+        starter.join();
+        Assert.assertFalse(lastTask.isStarted());
+        tasks.get(1).complete();
+        lastTask.awaitStarted();
+        lastTask.complete();
+    }
+
+    @Test
+    public void testWaitingStarterGivesUpItsSlot() throws InterruptedException {
+        configureLimit(1L);
+        StrandLimiter limiter = new StrandLimiter();
+        BlockingTask queuedTask = new BlockingTask("queued");
+        BlockingTask lastTask = new BlockingTask("last");
+        CountDownLatch started = new CountDownLatch(1);
+        Strand starterStrand = newStrand("starter");
+        // A limited strand starting more strands than the queue holds
+        limiter.start(parent, starterStrand, () -> {
+            limiter.start(starterStrand, queuedTask.strand, queuedTask);
+            limiter.start(starterStrand, lastTask.strand, lastTask);
+            started.countDown();
+        });
+
+        // The queued strand takes over the slot of the waiting starter, which lets the starter queue the last one
+        queuedTask.awaitStarted();
+        // The starter continues only once it takes a slot back
+        Assert.assertEquals(started.getCount(), 1);
+        Assert.assertFalse(lastTask.isStarted());
+        queuedTask.complete();
+        Assert.assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        lastTask.awaitStarted();
+        lastTask.complete();
+    }
+
+    @Test
+    public void testNestedStartsStayWithinLimit() throws InterruptedException {
+        int limit = 2;
+        int parentCount = limit + 1;
+        int childCount = 3 * limit;
+        configureLimit(limit);
+        StrandLimiter limiter = new StrandLimiter();
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch childrenCompleted = new CountDownLatch(parentCount * childCount);
+        for (int i = 0; i < parentCount; i++) {
+            Strand parentStrand = newStrand("parent" + i);
+            limiter.start(parent, parentStrand, () -> {
+                enter(active, peak);
+                for (int j = 0; j < childCount; j++) {
+                    // Not counted while starting, as the strand may give up its slot and wait
+                    active.decrementAndGet();
+                    limiter.start(parentStrand, newStrand("child"), () -> {
+                        enter(active, peak);
+                        try {
+                            Thread.sleep(5);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        active.decrementAndGet();
+                        childrenCompleted.countDown();
+                    });
+                    enter(active, peak);
+                }
+                active.decrementAndGet();
+            });
+        }
+        Assert.assertTrue(childrenCompleted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertTrue(peak.get() <= limit, "peak running strands: " + peak.get());
+    }
+
+    @Test
+    public void testStrandsStartedBeforeConfigureAreNotLimited() throws InterruptedException {
+        StrandLimiter limiter = new StrandLimiter();
+        BlockingTask unlimitedTask = startTasks(limiter, 1).get(0);
+        unlimitedTask.awaitStarted();
+
+        configureLimit(1L);
+        List<BlockingTask> tasks = startTasks(limiter, 2);
+        tasks.get(0).awaitStarted();
+        // Completing the strand started before does not release a slot
+        unlimitedTask.complete();
+        Assert.assertFalse(tasks.get(1).isStarted());
+        tasks.get(0).complete();
+        tasks.get(1).awaitStarted();
+        tasks.get(1).complete();
+    }
+
+    private static void enter(AtomicInteger active, AtomicInteger peak) {
+        peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+    }
+
+    private List<BlockingTask> startTasks(StrandLimiter limiter, int count) {
+        List<BlockingTask> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BlockingTask task = new BlockingTask("task" + i);
+            limiter.start(parent, task.strand, task);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static void configureLimit(long limit) {
+        Map<VariableKey, ConfigValue> configurableMap = new HashMap<>();
+        configurableMap.put(StrandLimiter.MAX_CONCURRENT_STRANDS, () -> limit);
+        ConfigMap.setConfigurableMap(configurableMap);
+        StrandLimiter.configure();
+    }
+
+    private static Strand newStrand(String name) {
+        return new Strand(null, name, null, true, null, null);
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.WAITING) {
+            Assert.assertTrue(thread.isAlive(), "thread completed without waiting");
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * Task of a strand, which runs until it is completed by the test.
+     */
+    private static final class BlockingTask implements Runnable {
+
+        private final Strand strand;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        BlockingTask(String name) {
+            this.strand = newStrand(name);
+        }
+
+        @Override
+        public void run() {
+            started.countDown();
+            try {
+                completed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        boolean isStarted() {
+            return started.getCount() == 0;
+        }
+
+        void awaitStarted() throws InterruptedException {
+            Assert.assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), strand.name + " is not started");
+        }
+
+        void complete() {
+            completed.countDown();
+        }
+    }
+}
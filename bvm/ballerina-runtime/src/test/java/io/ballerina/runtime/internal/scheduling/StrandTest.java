@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.transactions.TransactionLocalContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.CURRENT_TRANSACTION_CONTEXT_PROPERTY;
+
+/**
+ * Test cases for the strand properties and transaction contexts shared between a parent and its child strands.
+ *
+ * @since 2201.13.0
+ */
+public class StrandTest {
+
+    @Test
+    public void testChildWriteDoesNotLeak() {
+        Strand parent = strand(null);
+        parent.setProperty("key", "parent");
+        Strand child = strand(parent);
+        Strand sibling = strand(parent);
+        Assert.assertEquals(child.getProperty("key"), "parent");
+
+        child.setProperty("key", "child");
+        child.setProperty("childKey", "child");
+        Assert.assertEquals(child.getProperty("key"), "child");
+        Assert.assertEquals(parent.getProperty("key"), "parent");
+        Assert.assertEquals(sibling.getProperty("key"), "parent");
+        Assert.assertNull(parent.getProperty("childKey"));
+        Assert.assertNull(sibling.getProperty("childKey"));
+    }
+
+    @Test
+    public void testParentWriteAfterSharing() {
+        Strand parent = strand(null);
+        parent.setProperty("key", "before");
+        Strand child = strand(parent);
+
+        parent.setProperty("key", "after");
+        parent.setProperty("parentKey", "parent");
+        Assert.assertEquals(parent.getProperty("key"), "after");
+        Assert.assertEquals(child.getProperty("key"), "before");
+        Assert.assertNull(child.getProperty("parentKey"));
+    }
+
+    @Test
+    public void testGrandchildWriteDoesNotLeak() {
+        Strand parent = strand(null);
+        parent.setProperty("key", "parent");
+        Strand child = strand(parent);
+        Strand grandchild = strand(child);
+
+        grandchild.setProperty("key", "grandchild");
+        Assert.assertEquals(child.getProperty("key"), "parent");
+        Assert.assertEquals(parent.getProperty("key"), "parent");
+        Assert.assertEquals(grandchild.getProperty("key"), "grandchild");
+    }
+
+    @Test
+    public void testStrandWithoutParent() {
+        Strand strand = strand(null);
+        Assert.assertNull(strand.getProperty("key"));
+        strand.setProperty("key", "value");
+        Assert.assertEquals(strand.getProperty("key"), "value");
+    }
+
+    @Test
+    public void testGivenPropertiesAreNotCopied() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("key", "given");
+        Strand parent = strand(null);
+        parent.setProperty("key", "parent");
+        Strand strand = new Strand(null, "strand", parent, true, properties, null);
+        Assert.assertEquals(strand.getProperty("key"), "given");
+
+        strand.setProperty("key", "updated");
+        Assert.assertEquals(properties.get("key"), "updated");
+        Assert.assertEquals(parent.getProperty("key"), "parent");
+    }
+
+    @Test
+    public void testTrxContextsCreatedOnDemand() {
+        Strand strand = strand(null);
+        Strand child = new Strand(null, "child", strand, true, null, null, null);
+        Assert.assertNull(strand.trxContexts);
+        Assert.assertNull(child.trxContexts);
+
+        TransactionLocalContext outer = trxContext("outer");
+        TransactionLocalContext inner = trxContext("inner");
+        strand.setCurrentTransactionContext(outer);
+        Assert.assertNull(strand.trxContexts);
+        Assert.assertSame(strand.getProperty(CURRENT_TRANSACTION_CONTEXT_PROPERTY), outer);
+
+        strand.setCurrentTransactionContext(inner);
+        Assert.assertEquals(strand.trxContexts.size(), 1);
+        Assert.assertSame(strand.currentTrxContext, inner);
+
+        strand.removeCurrentTrxContext();
+        Assert.assertSame(strand.currentTrxContext, outer);
+        Assert.assertTrue(strand.trxContexts.isEmpty());
+        strand.removeCurrentTrxContext();
+        Assert.assertNull(strand.currentTrxContext);
+        Assert.assertNull(strand.getProperty(CURRENT_TRANSACTION_CONTEXT_PROPERTY));
+        Assert.assertNull(child.getProperty(CURRENT_TRANSACTION_CONTEXT_PROPERTY));
+    }
+
+    @Test
+    public void testChildSharesTrxContextsOfParent() {
+        Strand parent = strand(null);
+        TransactionLocalContext context = trxContext("child");
+        Strand child = new Strand(null, "child", parent, true, null, null, context);
+        Assert.assertNotNull(parent.trxContexts);
+        Assert.assertSame(child.trxContexts, parent.trxContexts);
+        Assert.assertSame(parent.trxContexts.peek(), context);
+        Assert.assertSame(child.currentTrxContext, context);
+    }
+
+    private static Strand strand(Strand parent) {
+        return new Strand(null, "strand", parent, true, null, null);
+    }
+
+    private static TransactionLocalContext trxContext(String id) {
+        return TransactionLocalContext.create(id, "http://localhost", "2pc");
+    }
+}
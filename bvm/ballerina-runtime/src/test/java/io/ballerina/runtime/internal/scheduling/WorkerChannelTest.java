@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.values.BError;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test cases for the handoff between the sending and the receiving workers of a {@link WorkerChannel}.
+ *
+ * @since 2201.13.0
+ */
+public class WorkerChannelTest {
+
+    @Test
+    public void testReadParksUntilWritten() throws InterruptedException {
+        WorkerChannel channel = new WorkerChannel("a->b");
+        AtomicReference<Object> received = new AtomicReference<>();
+        Thread receiver = Thread.ofVirtual().start(() -> received.set(channel.read()));
+        awaitParked(receiver);
+        Assert.assertFalse(channel.isReceived());
+
+        channel.write(10L);
+        receiver.join();
+        Assert.assertEquals(received.get(), 10L);
+        Assert.assertTrue(channel.isReceived());
+        Assert.assertNull(channel.getReceiveResult());
+    }
+
+    @Test
+    public void testSenderParksUntilReceived() throws InterruptedException {
+        WorkerChannel channel = new WorkerChannel("a->b");
+        Thread sender = Thread.ofVirtual().start(() -> {
+            channel.write("message");
+            WorkerChannel.awaitAllReceived(channel);
+        });
+        awaitParked(sender);
+        Assert.assertTrue(channel.isWritten());
+
+        Assert.assertEquals(channel.read(), "message");
+        sender.join();
+    }
+
+    @Test
+    public void testAwaitAnyWritten() throws InterruptedException {
+        WorkerChannel[] channels = {new WorkerChannel("a->c"), new WorkerChannel("b->c")};
+        Thread receiver = Thread.ofVirtual().start(() -> WorkerChannel.awaitAnyWritten(channels));
+        awaitParked(receiver);
+
+        channels[1].write(true);
+        receiver.join();
+        Assert.assertFalse(channels[0].isWritten());
+    }
+
+    @Test
+    public void testAwaitAllWritten() throws InterruptedException {
+        WorkerChannel[] channels = {new WorkerChannel("a->c"), new WorkerChannel("b->c")};
+        Thread receiver = Thread.ofVirtual().start(() -> WorkerChannel.awaitAllWritten(channels));
+        awaitParked(receiver);
+
+        channels[0].write(1L);
+        // Unparked by the first write, the receiver parks again until the second one
+        awaitParked(receiver);
+        channels[1].write(2L);
+        receiver.join();
+    }
+
+    @Test
+    public void testPanicOnSendIsThrownToReceiver() throws InterruptedException {
+        WorkerChannel channel = new WorkerChannel("a->b");
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread receiver = Thread.ofVirtual().start(() -> {
+            try {
+                channel.read();
+            } catch (BError e) {
+                thrown.set(e);
+            }
+        });
+        awaitParked(receiver);
+
+        BError error = ErrorCreator.createError(new IllegalStateException("sender panicked"));
+        channel.panicOnSend(error);
+        receiver.join();
+        Assert.assertSame(thrown.get(), error);
+    }
+
+    @Test
+    public void testCompletionsAfterChannelIsDone() {
+        WorkerChannelMap channelMap = new WorkerChannelMap();
+        channelMap.addChannelKeys(new String[]{"a->b"});
+        WorkerChannel channel = channelMap.get("a->b");
+        channel.write(1L);
+        Assert.assertEquals(channel.read(), 1L);
+
+        channelMap.completeSendWorkerChannels("a->b", null);
+        channelMap.completeReceiveWorkerChannels("a->b", null);
+        Assert.assertNull(channelMap.get("a->b"));
+
+        // Completions of either side after both are done are ignored
+        BError error = ErrorCreator.createError(new IllegalStateException("panicked after completing"));
+        channelMap.completeSendWorkerChannels("a->b", null);
+        channelMap.panicSendWorkerChannels("a->b", error);
+        channelMap.panicReceiveWorkerChannels("a->b", error);
+        Assert.assertNull(channelMap.get("a->b"));
+    }
+
+    private static void awaitParked(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.WAITING) {
+            Assert.assertTrue(thread.isAlive(), "thread completed without waiting");
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.utils;
+
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Test cases for the {@link CloneRefMap} used while cloning values.
+ *
+ * @since 2201.13.0
+ */
+public class CloneRefMapTest {
+
+    @Test
+    public void testSingleRefIsNotInflated() {
+        CloneRefMap refs = new CloneRefMap();
+        Object ref = new Object();
+        Object copy = new Object();
+        Assert.assertFalse(refs.containsKey(ref));
+        Assert.assertNull(refs.put(ref, copy));
+        Assert.assertTrue(refs.containsKey(ref));
+        Assert.assertSame(refs.get(ref), copy);
+        Assert.assertEquals(refs.size(), 1);
+
+        Object newCopy = new Object();
+        Assert.assertSame(refs.put(ref, newCopy), copy);
+        Assert.assertSame(refs.get(ref), newCopy);
+        Assert.assertFalse(refs.isInflated());
+    }
+
+    @Test
+    public void testRefsAreComparedByIdentity() {
+        CloneRefMap refs = new CloneRefMap();
+        List<Integer> ref = List.of(1);
+        refs.put(ref, "copy");
+        Assert.assertFalse(refs.containsKey(List.of(1)));
+        Assert.assertNull(refs.get(List.of(1)));
+
+        List<Integer> equalRef = List.of(1);
+        refs.put(equalRef, "equalCopy");
+        Assert.assertTrue(refs.isInflated());
+        Assert.assertEquals(refs.get(ref), "copy");
+        Assert.assertEquals(refs.get(equalRef), "equalCopy");
+        Assert.assertEquals(refs.size(), 2);
+    }
+
+    @Test
+    public void testCopyOfListOfSimpleValues() {
+        ArrayValue list = new ArrayValueImpl(new long[]{1, 2, 3}, false);
+        CloneRefMap refs = new CloneRefMap();
+        ArrayValue copy = (ArrayValue) list.copy(refs);
+        Assert.assertNotSame(copy, list);
+        Assert.assertEquals(copy.size(), 3);
+        Assert.assertEquals(copy.getInt(2), 3);
+        Assert.assertSame(refs.get(list), copy);
+        Assert.assertFalse(refs.isInflated());
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.observability;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.repository.Repository;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.configurable.ConfigMap;
+import io.ballerina.runtime.internal.configurable.ConfigValue;
+import io.ballerina.runtime.internal.configurable.VariableKey;
+import io.ballerina.runtime.observability.metrics.Tag;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_FUNCTION_MODULE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_FUNCTION_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_SERVICE_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_MAIN_FUNCTION;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_SERVICE_RESOURCE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_WORKER;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_FUNCTION_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_MODULE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_OBJECT_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_POSITION;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_RESOURCE_ACCESSOR;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_RESOURCE_PATH;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_TRUE_VALUE;
+
+/**
+ * Tests that observations started at a cached call site get the same tags as those resolved on every call.
+ *
+ * @since 2201.13.0
+ */
+public class ObserveUtilsTest {
+
+    private static final VariableKey METRICS_LOGS_ENABLED = new VariableKey(new Module("ballerina", "observe", "1"),
+            "metricsLogsEnabled", PredefinedTypes.TYPE_BOOLEAN, false);
+
+    @BeforeClass
+    public void enableObservability() {
+        Map<VariableKey, ConfigValue> configurableMap = new HashMap<>();
+        configurableMap.put(METRICS_LOGS_ENABLED, () -> true);
+        ConfigMap.setConfigurableMap(configurableMap);
+        if (!ObserveUtils.isObservabilityEnabled()) {
+            // Observability is read once, when ObserveUtils is loaded
+            throw new SkipException("ObserveUtils was initialized before observability could be enabled");
+        }
+    }
+
+    @AfterClass
+    public void resetConfig() {
+        ConfigMap.setConfigurableMap(new HashMap<>());
+    }
+
+    @Test
+    public void testCallableObservationTags() {
+        Map<String, String> expectedTags = Map.of(
+                TAG_KEY_IS_SRC_MAIN_FUNCTION, TAG_TRUE_VALUE,
+                TAG_KEY_SRC_FUNCTION_NAME, "main",
+                TAG_KEY_SRC_MODULE, "test/callable:0",
+                TAG_KEY_SRC_POSITION, "main.bal:4:5",
+                TAG_KEY_ENTRYPOINT_FUNCTION_MODULE, "test/callable:0",
+                TAG_KEY_ENTRYPOINT_FUNCTION_NAME, "main");
+
+        ObserverContext first = startCallable("test/callable:0", "main.bal:4:5", "main", true, false);
+        ObserverContext second = startCallable("test/callable:0", "main.bal:4:5", "main", true, false);
+        Assert.assertEquals(tags(first), expectedTags);
+        Assert.assertEquals(tags(second), expectedTags);
+        Assert.assertEquals(second.getOperationName(), "main");
+
+        // The second observation reuses the tags of the call site
+        Assert.assertSame(second.getTag(TAG_KEY_SRC_POSITION), first.getTag(TAG_KEY_SRC_POSITION));
+        Assert.assertSame(second.getTag(TAG_KEY_ENTRYPOINT_FUNCTION_NAME),
+                first.getTag(TAG_KEY_ENTRYPOINT_FUNCTION_NAME));
+    }
+
+    @Test
+    public void testCallableObservationTagsOfPositionOverload() {
+        Environment env = new TestEnvironment();
+        ObserveUtils.startCallableObservation(env, StringUtils.fromString("test/legacy:0"),
+                StringUtils.fromString("main.bal"), 7, 9, null, StringUtils.fromString("worker1"), false, false, true);
+        ObserverContext legacy = ObserveUtils.getObserverContextOfCurrentFrame(env);
+        ObserverContext positionId = startCallable("test/legacy:0", "main.bal:7:9", "worker1", false, true);
+
+        Assert.assertEquals(tags(legacy), Map.of(
+                TAG_KEY_IS_SRC_WORKER, TAG_TRUE_VALUE,
+                TAG_KEY_SRC_FUNCTION_NAME, "worker1",
+                TAG_KEY_SRC_MODULE, "test/legacy:0",
+                TAG_KEY_SRC_POSITION, "main.bal:7:9",
+                TAG_KEY_ENTRYPOINT_FUNCTION_MODULE, "test/legacy:0",
+                TAG_KEY_ENTRYPOINT_FUNCTION_NAME, "worker1"));
+        Assert.assertEquals(tags(positionId), tags(legacy));
+    }
+
+    @Test
+    public void testDifferentCallAtCachedPosition() {
+        ObserverContext cached = startCallable("test/position:0", "main.bal:1:1", "foo", false, false);
+        // A different observation at the same position is resolved on every call
+        ObserverContext uncached = startCallable("test/position:0", "main.bal:1:1", "bar", false, false);
+        ObserverContext cachedAgain = startCallable("test/position:0", "main.bal:1:1", "foo", false, false);
+
+        Assert.assertEquals(tags(uncached), Map.of(
+                TAG_KEY_SRC_FUNCTION_NAME, "bar",
+                TAG_KEY_SRC_MODULE, "test/position:0",
+                TAG_KEY_SRC_POSITION, "main.bal:1:1",
+                TAG_KEY_ENTRYPOINT_FUNCTION_MODULE, "test/position:0",
+                TAG_KEY_ENTRYPOINT_FUNCTION_NAME, "bar"));
+        Assert.assertEquals(uncached.getOperationName(), "bar");
+        Assert.assertEquals(tags(cachedAgain), tags(cached));
+        Assert.assertSame(cachedAgain.getTag(TAG_KEY_SRC_FUNCTION_NAME), cached.getTag(TAG_KEY_SRC_FUNCTION_NAME));
+    }
+
+    @Test
+    public void testResourceObservationTags() {
+        Map<String, String> expectedTags = Map.of(
+                TAG_KEY_IS_SRC_SERVICE_RESOURCE, TAG_TRUE_VALUE,
+                TAG_KEY_SRC_RESOURCE_ACCESSOR, "get",
+                TAG_KEY_SRC_RESOURCE_PATH, "/greeting",
+                TAG_KEY_SRC_OBJECT_NAME, "/hello",
+                TAG_KEY_SRC_MODULE, "test/resource:0",
+                TAG_KEY_SRC_POSITION, "service.bal:10:5",
+                TAG_KEY_ENTRYPOINT_FUNCTION_MODULE, "test/resource:0",
+                TAG_KEY_ENTRYPOINT_SERVICE_NAME, "/hello",
+                TAG_KEY_ENTRYPOINT_FUNCTION_NAME, "/greeting",
+                TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR, "get");
+
+        for (int i = 0; i < 2; i++) {
+            Environment env = new TestEnvironment();
+            startResource(env, "test/resource:0", "service.bal:10:5");
+            ObserverContext observerContext = ObserveUtils.getObserverContextOfCurrentFrame(env);
+            Assert.assertEquals(tags(observerContext), expectedTags);
+            Assert.assertEquals(observerContext.getOperationName(), "get /greeting");
+        }
+    }
+
+    @Test
+    public void testEntrypointTagsOfNestedCall() {
+        Environment env = new TestEnvironment();
+        startResource(env, "test/nested:0", "service.bal:3:5");
+        ObserverContext resource = ObserveUtils.getObserverContextOfCurrentFrame(env);
+        ObserveUtils.startCallableObservation(env, StringUtils.fromString("test/nested:0"),
+                StringUtils.fromString("service.bal:5:9"), null, StringUtils.fromString("helper"), false, false,
+                false);
+        ObserverContext callable = ObserveUtils.getObserverContextOfCurrentFrame(env);
+
+        Assert.assertSame(callable.getParent(), resource);
+        Assert.assertEquals(tags(callable), Map.of(
+                TAG_KEY_SRC_FUNCTION_NAME, "helper",
+                TAG_KEY_SRC_MODULE, "test/nested:0",
+                TAG_KEY_SRC_POSITION, "service.bal:5:9",
+                TAG_KEY_ENTRYPOINT_FUNCTION_MODULE, "test/nested:0",
+                TAG_KEY_ENTRYPOINT_SERVICE_NAME, "/hello",
+                TAG_KEY_ENTRYPOINT_FUNCTION_NAME, "/greeting",
+                TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR, "get"));
+        // Entrypoint tags with the values of the parent are shared with it
+        Assert.assertSame(callable.getTag(TAG_KEY_ENTRYPOINT_SERVICE_NAME),
+                resource.getTag(TAG_KEY_ENTRYPOINT_SERVICE_NAME));
+    }
+
+    private static ObserverContext startCallable(String module, String positionId, String functionName,
+                                                 boolean isMainEntryPoint, boolean isWorker) {
+        Environment env = new TestEnvironment();
+        // New string instances, as each module constant is a different instance
+        ObserveUtils.startCallableObservation(env, StringUtils.fromString(module), StringUtils.fromString(positionId),
+                null, StringUtils.fromString(functionName), isMainEntryPoint, false, isWorker);
+        return ObserveUtils.getObserverContextOfCurrentFrame(env);
+    }
+
+    private static void startResource(Environment env, String module, String positionId) {
+        ObserveUtils.startResourceObservation(env, StringUtils.fromString(module), StringUtils.fromString(positionId),
+                StringUtils.fromString("/hello"), StringUtils.fromString("/greeting"), StringUtils.fromString("get"),
+                true, false);
+    }
+
+    private static Map<String, String> tags(ObserverContext observerContext) {
+        Map<String, String> tags = new HashMap<>();
+        for (Tag tag : observerContext.getAllTags()) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+        return tags;
+    }
+
+    private static class TestEnvironment extends Environment {
+
+        private final Map<String, Object> strandLocals = new HashMap<>();
+
+        @Override
+        public String getFunctionName() {
+            return null;
+        }
+
+        @Override
+        public Parameter[] getFunctionPathParameters() {
+            return new Parameter[0];
+        }
+
+        @Override
+        public <T> T yieldAndRun(Supplier<T> supplier) {
+            return supplier.get();
+        }
+
+        @Override
+        public Runtime getRuntime() {
+            return null;
+        }
+
+        @Override
+        public Module getCurrentModule() {
+            return null;
+        }
+
+        @Override
+        public int getStrandId() {
+            return 0;
+        }
+
+        @Override
+        public String getStrandName() {
+            return null;
+        }
+
+        @Override
+        public void setStrandLocal(String key, Object value) {
+            strandLocals.put(key, value);
+        }
+
+        @Override
+        public Object getStrandLocal(String key) {
+            return strandLocals.get(key);
+        }
+
+        @Override
+        public Repository getRepository() {
+            return null;
+        }
+    }
+}
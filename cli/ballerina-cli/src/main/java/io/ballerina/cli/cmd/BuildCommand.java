@@ -209,6 +209,10 @@ public class BuildCommand implements BLauncherCmd {
             "generation")
     private String graalVMBuildOptions;
 
+    @CommandLine.Option(names = "--cds-archive", description = "generate a class data sharing archive to reduce the " +
+            "startup time of the executable JAR file")
+    private Boolean cdsArchive;
+
     @CommandLine.Option(names = "--optimize-dependency-compilation", hidden = true,
             description = "experimental memory optimization for large projects")
     private Boolean optimizeDependencyCompilation;
@@ -287,6 +291,10 @@ public class BuildCommand implements BLauncherCmd {
                     "flag is not set");
         }
 
+        if (project.buildOptions().nativeImage() && project.buildOptions().cdsArchive()) {
+            this.outStream.println("WARNING: Class data sharing archive is not generated for native images");
+        }
+
         // Check package files are modified after last build
         boolean isPackageModified = isProjectUpdated(project);
 
@@ -335,6 +343,7 @@ public class BuildCommand implements BLauncherCmd {
                 .setGraalVMBuildOptions(graalVMBuildOptions)
                 .setShowDependencyDiagnostics(showDependencyDiagnostics)
                 .setOptimizeDependencyCompilation(optimizeDependencyCompilation)
+                .setCdsArchive(cdsArchive)
                 .setLockingMode(lockingMode);
 
         if (targetDir != null) {
@@ -120,17 +120,22 @@ public class CreateExecutableTask implements Task {
 
         if (!project.buildOptions().nativeImage() && !isHideTaskOutput) {
             Path relativePathToExecutable = currentDir.relativize(executablePath);
+            Path displayedExecutablePath;
 
             if (project.buildOptions().getTargetPath() != null) {
-                this.out.println("\t" + relativePathToExecutable);
+                displayedExecutablePath = relativePathToExecutable;
             } else {
                 if (relativePathToExecutable.toString().contains("..") ||
                         relativePathToExecutable.toString().contains("." + File.separator)) {
-                    this.out.println("\t" + executablePath);
+                    displayedExecutablePath = executablePath;
                 } else {
-                    this.out.println("\t" + relativePathToExecutable);
+                    displayedExecutablePath = relativePathToExecutable;
                 }
             }
+            this.out.println("\t" + displayedExecutablePath);
+            if (project.buildOptions().cdsArchive()) {
+                this.out.println("\t" + JBallerinaBackend.getCdsArchivePath(displayedExecutablePath));
+            }
         }
 
         // notify plugin
@@ -137,8 +137,10 @@ public class ProfileCommandTest extends BaseCommandTest {
         ProfileCommand profileCommand = new ProfileCommand(projectPath, printStream, false);
         new CommandLine(profileCommand).parseArgs(args);
         profileCommand.execute();
-        Assert.assertTrue(readOutput().contains("ballerina-profile - Run Ballerina Profiler on the source and " +
+        String output = readOutput();
+        Assert.assertTrue(output.contains("ballerina-profile - Run Ballerina Profiler on the source and " +
                 "generate flame graph"));
+        Assert.assertTrue(output.contains("--sampling-interval <milliseconds>"));
     }
 
     @Test(description = "Profile an empty package")
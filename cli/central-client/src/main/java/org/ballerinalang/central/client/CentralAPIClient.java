@@ -25,6 +25,7 @@ import com.google.gson.JsonObject;
 import okhttp3.Authenticator;
 import okhttp3.Cache;
 import okhttp3.Call;
+import okhttp3.ConnectionPool;
 import okhttp3.Credentials;
 import okhttp3.HttpUrl;
 import okhttp3.Interceptor;
@@ -54,13 +55,22 @@ import org.ballerinalang.central.client.model.ToolSearchResult;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.net.Proxy;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.HttpsURLConnection;
@@ -73,6 +83,7 @@ import static java.net.HttpURLConnection.HTTP_MOVED_TEMP;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_PARTIAL;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
 import static org.ballerinalang.central.client.CentralClientConstants.ACCEPT;
@@ -94,6 +105,7 @@ import static org.ballerinalang.central.client.CentralClientConstants.LOCATION;
 import static org.ballerinalang.central.client.CentralClientConstants.ORGANIZATION;
 import static org.ballerinalang.central.client.CentralClientConstants.PKG_NAME;
 import static org.ballerinalang.central.client.CentralClientConstants.PLATFORM;
+import static org.ballerinalang.central.client.CentralClientConstants.RANGE;
 import static org.ballerinalang.central.client.CentralClientConstants.SHA256;
 import static org.ballerinalang.central.client.CentralClientConstants.SHA256_ALGORITHM;
 import static org.ballerinalang.central.client.CentralClientConstants.USER_AGENT;
@@ -104,8 +116,10 @@ import static org.ballerinalang.central.client.Utils.checkHash;
 import static org.ballerinalang.central.client.Utils.createBalaInHomeRepo;
 import static org.ballerinalang.central.client.Utils.getAsList;
 import static org.ballerinalang.central.client.Utils.getBearerToken;
+import static org.ballerinalang.central.client.Utils.getPartialBalaPath;
 import static org.ballerinalang.central.client.Utils.getRemoteRepo;
 import static org.ballerinalang.central.client.Utils.isApplicationJsonContentType;
+import static org.ballerinalang.central.client.Utils.lockPartialBalaFile;
 /**
  * {@code CentralAPIClient} is a client for the Central API.
  *
@@ -150,7 +164,12 @@ public class CentralAPIClient {
     private static final int DEFAULT_WRITE_TIMEOUT = 60;
     private static final int DEFAULT_CALL_TIMEOUT = 0;
     private static final int MAX_RETRY = 1;
+    private static final int MAX_CONCURRENT_PULLS = 4;
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
     public static final String CONNECTION_RESET = "Connection reset";
+    // Shared by all the clients, so that connections to central are reused across requests.
+    private static final ConnectionPool CONNECTION_POOL = new ConnectionPool();
+    private static final Gson GSON = new Gson();
 
     private final String baseUrl;
     private final Proxy proxy;
@@ -256,12 +275,12 @@ public class CentralAPIClient {
                 if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString())) {
                     // Package is found
                     if (getPackageResponse.code() == HTTP_OK) {
-                        return new Gson().fromJson(responseBodyContent, Package.class);
+                        return GSON.fromJson(responseBodyContent, Package.class);
                     }
 
                     // Package is not found
                     if (getPackageResponse.code() == HTTP_NOT_FOUND) {
-                        Error error = new Gson().fromJson(responseBodyContent, Error.class);
+                        Error error = GSON.fromJson(responseBodyContent, Error.class);
                         if (error.getMessage().contains("package not found for:")) {
                             throw new NoPackageException(error.getMessage());
                         } else {
@@ -279,7 +298,7 @@ public class CentralAPIClient {
                     if (getPackageResponse.code() == HTTP_BAD_REQUEST ||
                             getPackageResponse.code() == HTTP_INTERNAL_ERROR ||
                             getPackageResponse.code() == HTTP_UNAVAILABLE) {
-                        Error error = new Gson().fromJson(responseBodyContent, Error.class);
+                        Error error = GSON.fromJson(responseBodyContent, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new CentralClientException(error.getMessage());
                         }
@@ -349,7 +368,7 @@ public class CentralAPIClient {
 
                     // Package is not found
                     if (getVersionsResponse.code() == HTTP_NOT_FOUND) {
-                        Error error = new Gson().fromJson(responseBodyContent, Error.class);
+                        Error error = GSON.fromJson(responseBodyContent, Error.class);
                         if (error.getMessage().contains("package not found")) {
                             // if package not found return empty list
                             return new ArrayList<>();
@@ -363,7 +382,7 @@ public class CentralAPIClient {
                     if (getVersionsResponse.code() == HTTP_BAD_REQUEST ||
                             getVersionsResponse.code() == HTTP_INTERNAL_ERROR ||
                             getVersionsResponse.code() == HTTP_UNAVAILABLE) {
-                        Error error = new Gson().fromJson(responseBodyContent, Error.class);
+                        Error error = GSON.fromJson(responseBodyContent, Error.class);
                         throw new CentralClientException(ERR_CANNOT_FIND_VERSIONS + packageSignature +
                                 ". reason: " + error.getMessage());
                     }
@@ -457,7 +476,7 @@ public class CentralAPIClient {
                 if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString())) {
                     // When request sent is invalid
                     if (packagePushResponse.code() == HTTP_BAD_REQUEST) {
-                        Error error = new Gson().fromJson(responseBodyContent, Error.class);
+                        Error error = GSON.fromJson(responseBodyContent, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             // Currently this error is returned from central when token is unauthorized.
                             // This will later
@@ -474,7 +493,7 @@ public class CentralAPIClient {
                     // When error occurred at remote repository
                     if (packagePushResponse.code() == HTTP_INTERNAL_ERROR ||
                             packagePushResponse.code() == HTTP_UNAVAILABLE) {
-                        Error error = new Gson().fromJson(responseBodyContent, Error.class);
+                        Error error = GSON.fromJson(responseBodyContent, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new CentralClientException(ERR_CANNOT_PUSH + "'" + packageSignature +
                                     "' reason:" + error.getMessage());
@@ -513,11 +532,73 @@ public class CentralAPIClient {
     public void pullPackage(String org, String name, String version, Path packagePathInBalaCache,
                             String supportedPlatform, String ballerinaVersion, boolean isBuild)
             throws CentralClientException {
+        pullPackage(org, name, version, packagePathInBalaCache, supportedPlatform, ballerinaVersion, isBuild, true);
+    }
+
+    /**
+     * Pull the given packages from central, downloading up to {@value #MAX_CONCURRENT_PULLS} packages at a time.
+     * Download progress is not shown as the downloads run at the same time, but each pulled package is logged.
+     *
+     * @param packagePulls      The packages to pull.
+     * @param supportedPlatform The supported platform.
+     * @param ballerinaVersion  The ballerina version.
+     * @param isBuild           If build option is enabled or not.
+     * @return The packages that could not be pulled, along with the reasons.
+     */
+    public Map<PackagePull, CentralClientException> pullPackages(Collection<PackagePull> packagePulls,
+                                                                 String supportedPlatform, String ballerinaVersion,
+                                                                 boolean isBuild) {
+        Map<PackagePull, CentralClientException> failedPulls = new LinkedHashMap<>();
+        if (packagePulls.isEmpty()) {
+            return failedPulls;
+        }
+        boolean enableOutputStream = Boolean
+                .parseBoolean(System.getProperty(CentralClientConstants.ENABLE_OUTPUT_STREAM));
+        LogFormatter logFormatter = isBuild ? new BuildLogFormatter() : new LogFormatter();
+        Map<PackagePull, Future<?>> pulls = new LinkedHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(packagePulls.size(), MAX_CONCURRENT_PULLS));
+        try {
+            for (PackagePull packagePull : new LinkedHashSet<>(packagePulls)) {
+                pulls.put(packagePull, executor.submit(() -> {
+                    pullPackage(packagePull.org(), packagePull.name(), packagePull.version(),
+                            packagePull.packagePathInBalaCache(), supportedPlatform, ballerinaVersion, isBuild, false);
+                    if (enableOutputStream) {
+                        outStream.println(logFormatter.formatLog(packagePull.org() + SEPARATOR + packagePull.name()
+                                + ":" + packagePull.version() + " pulled from central successfully"));
+                    }
+                    return null;
+                }));
+            }
+            for (Map.Entry<PackagePull, Future<?>> pull : pulls.entrySet()) {
+                try {
+                    pull.getValue().get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof CentralClientException centralClientException) {
+                        if (!(centralClientException instanceof PackageAlreadyExistsException)) {
+                            failedPulls.put(pull.getKey(), centralClientException);
+                        }
+                    } else {
+                        failedPulls.put(pull.getKey(), new CentralClientException(e.getCause().getMessage()));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failedPulls.put(pull.getKey(), new CentralClientException(e.getMessage()));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return failedPulls;
+    }
+
+    private void pullPackage(String org, String name, String version, Path packagePathInBalaCache,
+                             String supportedPlatform, String ballerinaVersion, boolean isBuild,
+                             boolean showProgress) throws CentralClientException {
         int retryCount = 0;
         while (retryCount <= this.maxRetries) {
             try {
                 pullPackageInternal(org, name, version, packagePathInBalaCache, supportedPlatform, ballerinaVersion,
-                        isBuild);
+                        isBuild, showProgress);
                 break;
             } catch (CentralClientException centralClientException) {
                 if (centralClientException.getMessage().contains(CONNECTION_RESET) && retryCount < this.maxRetries) {
@@ -536,7 +617,8 @@ public class CentralAPIClient {
     }
 
     private void pullPackageInternal(String org, String name, String version, Path packagePathInBalaCache,
-                                     String supportedPlatform, String ballerinaVersion, boolean isBuild)
+                                     String supportedPlatform, String ballerinaVersion, boolean isBuild,
+                                     boolean showProgress)
             throws CentralClientException {
         String resourceUrl = PACKAGE_PATH_PREFIX + org + SEPARATOR + name;
         boolean enableOutputStream = Boolean
@@ -597,29 +679,42 @@ public class CentralAPIClient {
                 }
 
                 if (balaUrl.isPresent() && balaFileName.isPresent()) {
-                    Request downloadBalaRequest = getNewRequest(supportedPlatform, ballerinaVersion)
-                            .get()
-                            .url(balaUrl.get())
-                            .header(ACCEPT_ENCODING, IDENTITY)
-                            .addHeader(CONTENT_DISPOSITION, balaFileName.get())
-                            .build();
-                    logRequestInitVerbose(downloadBalaRequest);
-                    Call downloadBalaRequestCall = client.newCall(downloadBalaRequest);
-                    Response balaDownloadResponse = downloadBalaRequestCall.execute();
-                    logRequestConnectVerbose(downloadBalaRequest, balaUrl.get());
-                    logResponseVerbose(balaDownloadResponse, null);
+                    // Resume from the part of the bala file left by an earlier interrupted download, if any.
+                    Path partialBalaPath = getPartialBalaPath(packagePathInBalaCache, digestVal);
+                    try (FileChannel partialBalaLock = partialBalaPath != null ?
+                            lockPartialBalaFile(partialBalaPath) : null) {
+                        if (partialBalaLock == null) {
+                            // Another download is writing to the partial bala file. Therefore, download the whole
+                            // bala file without it.
+                            partialBalaPath = null;
+                        }
+                        long downloadedSize = partialBalaPath != null && Files.isRegularFile(partialBalaPath) ?
+                                Files.size(partialBalaPath) : 0;
+                        Response balaDownloadResponse = downloadBala(client, balaUrl.get(), balaFileName.get(),
+                                downloadedSize, supportedPlatform, ballerinaVersion);
+                        if (balaDownloadResponse.code() == HTTP_RANGE_NOT_SATISFIABLE && partialBalaPath != null) {
+                            // The partial bala file cannot be resumed. Therefore, download the bala file from the
+                            // start.
+                            balaDownloadResponse.close();
+                            Files.deleteIfExists(partialBalaPath);
+                            balaDownloadResponse = downloadBala(client, balaUrl.get(), balaFileName.get(), 0,
+                                    supportedPlatform, ballerinaVersion);
+                        }
 
-                    if (balaDownloadResponse.code() == HTTP_OK) {
-                        boolean isNightlyBuild = ballerinaVersion.contains("SNAPSHOT");
-                        createBalaInHomeRepo(balaDownloadResponse, packagePathInBalaCache, org, name, isNightlyBuild,
-                                isDeprecated ? deprecationMessage : null,
-                                balaUrl.get(), balaFileName.get(), enableOutputStream ? outStream : null, logFormatter,
-                                digestVal);
-                        return;
-                    } else {
-                        String errorMessage = logFormatter.formatLog(ERR_CANNOT_PULL_PACKAGE + "'" + packageSignature +
-                                "'. BALA content download from '" + balaUrl.get() + "' failed.");
-                        handleResponseErrors(balaDownloadResponse, errorMessage);
+                        if (balaDownloadResponse.code() == HTTP_OK || balaDownloadResponse.code() == HTTP_PARTIAL) {
+                            boolean isNightlyBuild = ballerinaVersion.contains("SNAPSHOT");
+                            createBalaInHomeRepo(balaDownloadResponse, packagePathInBalaCache, org, name,
+                                    isNightlyBuild, isDeprecated ? deprecationMessage : null,
+                                    balaUrl.get(), balaFileName.get(),
+                                    enableOutputStream && showProgress ? outStream : null, logFormatter,
+                                    digestVal, partialBalaPath, balaDownloadResponse.code() == HTTP_PARTIAL);
+                            return;
+                        } else {
+                            String errorMessage = logFormatter.formatLog(ERR_CANNOT_PULL_PACKAGE + "'" +
+                                    packageSignature + "'. BALA content download from '" + balaUrl.get() +
+                                    "' failed.");
+                            handleResponseErrors(balaDownloadResponse, errorMessage);
+                        }
                     }
                 } else {
                     String errorMsg = logFormatter.formatLog(ERR_CANNOT_PULL_PACKAGE + "'" + packageSignature +
@@ -639,7 +734,7 @@ public class CentralAPIClient {
                     // If request sent is invalid or when package is not found
                     if (packagePullResponse.code() == HTTP_BAD_REQUEST ||
                             packagePullResponse.code() == HTTP_NOT_FOUND) {
-                        Error error = new Gson().fromJson(pkgPullResBodyContent, Error.class);
+                        Error error = GSON.fromJson(pkgPullResBodyContent, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new CentralClientException("error: " + error.getMessage());
                         }
@@ -648,7 +743,7 @@ public class CentralAPIClient {
                     // When error occurred at remote repository
                     if (packagePullResponse.code() == HTTP_INTERNAL_ERROR ||
                             packagePullResponse.code() == HTTP_UNAVAILABLE) {
-                        Error error = new Gson().fromJson(pkgPullResBodyContent, Error.class);
+                        Error error = GSON.fromJson(pkgPullResBodyContent, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             String errorMsg = logFormatter.formatLog(ERR_CANNOT_PULL_PACKAGE + "'" + packageSignature +
                                     "' from" +
@@ -675,6 +770,25 @@ public class CentralAPIClient {
         }
     }
 
+    private Response downloadBala(OkHttpClient client, String balaUrl, String balaFileName, long downloadedSize,
+                                  String supportedPlatform, String ballerinaVersion) throws IOException {
+        Request.Builder downloadBalaRequestBuilder = getNewRequest(supportedPlatform, ballerinaVersion)
+                .get()
+                .url(balaUrl)
+                .header(ACCEPT_ENCODING, IDENTITY)
+                .addHeader(CONTENT_DISPOSITION, balaFileName);
+        if (downloadedSize > 0) {
+            downloadBalaRequestBuilder.addHeader(RANGE, "bytes=" + downloadedSize + "-");
+        }
+        Request downloadBalaRequest = downloadBalaRequestBuilder.build();
+        logRequestInitVerbose(downloadBalaRequest);
+        Call downloadBalaRequestCall = client.newCall(downloadBalaRequest);
+        Response balaDownloadResponse = downloadBalaRequestCall.execute();
+        logRequestConnectVerbose(downloadBalaRequest, balaUrl);
+        logResponseVerbose(balaDownloadResponse, null);
+        return balaDownloadResponse;
+    }
+
     /**
      * Pull a tool from central.
      *
@@ -762,7 +876,7 @@ public class CentralAPIClient {
                 if (body.isPresent()) {
                     Optional<MediaType> contentType = Optional.ofNullable(body.get().contentType());
                     if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString())) {
-                        JsonObject jsonContent = new Gson().fromJson(pkgPullResBodyContent, JsonObject.class);
+                        JsonObject jsonContent = GSON.fromJson(pkgPullResBodyContent, JsonObject.class);
                         org = Optional.ofNullable(jsonContent.get(ORGANIZATION).getAsString());
                         pkgName = Optional.ofNullable(jsonContent.get(PKG_NAME).getAsString());
                         latestVersion = Optional.ofNullable(jsonContent.get(VERSION).getAsString());
@@ -825,7 +939,7 @@ public class CentralAPIClient {
                     // If request sent is invalid or when tool is not found
                     if (packagePullResponse.code() == HTTP_BAD_REQUEST ||
                             packagePullResponse.code() == HTTP_NOT_FOUND) {
-                        Error error = new Gson().fromJson(pkgPullResBodyContent, Error.class);
+                        Error error = GSON.fromJson(pkgPullResBodyContent, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new CentralClientException("error: " + error.getMessage());
                         }
@@ -834,7 +948,7 @@ public class CentralAPIClient {
                     // When error occurred at remote repository
                     if (packagePullResponse.code() == HTTP_INTERNAL_ERROR ||
                             packagePullResponse.code() == HTTP_UNAVAILABLE) {
-                        Error error = new Gson().fromJson(pkgPullResBodyContent, Error.class);
+                        Error error = GSON.fromJson(pkgPullResBodyContent, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             String errorMsg = logFormatter.formatLog(ERR_CANNOT_PULL_PACKAGE + "'" + toolSignature +
                                     "' from" +
@@ -876,7 +990,7 @@ public class CentralAPIClient {
         Optional<ResponseBody> body = Optional.empty();
         OkHttpClient client = this.getClient();
         try {
-            RequestBody requestBody = RequestBody.create(JSON, new Gson().toJson(request));
+            RequestBody requestBody = RequestBody.create(JSON, GSON.toJson(request));
             Request resolutionReq = getNewRequest(supportedPlatform, ballerinaVersion)
                     .post(requestBody)
                     .url(url)
@@ -900,7 +1014,7 @@ public class CentralAPIClient {
                 if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString())) {
                     // If searching was successful
                     if (packageResolutionResponse.code() == HTTP_OK) {
-                        return new Gson().fromJson(resolvePackageNamesBody, PackageNameResolutionResponse.class);
+                        return GSON.fromJson(resolvePackageNamesBody, PackageNameResolutionResponse.class);
                     }
 
                     // Unauthorized access token
@@ -910,7 +1024,7 @@ public class CentralAPIClient {
 
                     // If search request was sent wrongly
                     if (packageResolutionResponse.code() == HTTP_BAD_REQUEST) {
-                        Error error = new Gson().fromJson(resolvePackageNamesBody, Error.class);
+                        Error error = GSON.fromJson(resolvePackageNamesBody, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new ConnectionErrorException(error.getMessage());
                         }
@@ -919,7 +1033,7 @@ public class CentralAPIClient {
                     // If error occurred at remote repository
                     if (packageResolutionResponse.code() == HTTP_INTERNAL_ERROR ||
                             packageResolutionResponse.code() == HTTP_UNAVAILABLE) {
-                        Error error = new Gson().fromJson(resolvePackageNamesBody, Error.class);
+                        Error error = GSON.fromJson(resolvePackageNamesBody, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new ConnectionErrorException(ERR_PACKAGE_RESOLUTION + " reason:" +
                                     error.getMessage());
@@ -954,7 +1068,7 @@ public class CentralAPIClient {
         Optional<ResponseBody> body = Optional.empty();
         OkHttpClient client = this.getClient();
         try {
-            RequestBody requestBody = RequestBody.create(JSON, new Gson().toJson(request));
+            RequestBody requestBody = RequestBody.create(JSON, GSON.toJson(request));
             Request packageResolutionReq = getNewRequest(supportedPlatform, ballerinaVersion)
                     .post(requestBody)
                     .url(url)
@@ -977,7 +1091,7 @@ public class CentralAPIClient {
                 if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString())) {
                     // If searching was successful
                     if (packageResolutionResponse.code() == HTTP_OK) {
-                        return new Gson().fromJson(packageResolutionResponseBody, PackageResolutionResponse.class);
+                        return GSON.fromJson(packageResolutionResponseBody, PackageResolutionResponse.class);
                     }
 
                     // Unauthorized access token
@@ -987,7 +1101,7 @@ public class CentralAPIClient {
 
                     // If search request was sent wrongly
                     if (packageResolutionResponse.code() == HTTP_BAD_REQUEST) {
-                        Error error = new Gson().fromJson(packageResolutionResponseBody, Error.class);
+                        Error error = GSON.fromJson(packageResolutionResponseBody, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new ConnectionErrorException(error.getMessage());
                         }
@@ -996,7 +1110,7 @@ public class CentralAPIClient {
                     // If error occurred at remote repository
                     if (packageResolutionResponse.code() == HTTP_INTERNAL_ERROR ||
                             packageResolutionResponse.code() == HTTP_UNAVAILABLE) {
-                        Error error = new Gson().fromJson(packageResolutionResponseBody, Error.class);
+                        Error error = GSON.fromJson(packageResolutionResponseBody, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new ConnectionErrorException(ERR_PACKAGE_RESOLUTION + " reason:" +
                                     error.getMessage());
@@ -1033,7 +1147,7 @@ public class CentralAPIClient {
         Optional<ResponseBody> body = Optional.empty();
         OkHttpClient client = this.getClient();
         try {
-            RequestBody requestBody = RequestBody.create(JSON, new Gson().toJson(request));
+            RequestBody requestBody = RequestBody.create(JSON, GSON.toJson(request));
             Request toolResolutionReq = getNewRequest(supportedPlatform, ballerinaVersion)
                     .post(requestBody)
                     .url(url)
@@ -1055,7 +1169,7 @@ public class CentralAPIClient {
                 if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString())) {
                     // If resolution was successful
                     if (toolResolutionResponse.code() == HTTP_OK) {
-                        return new Gson().fromJson(toolResolutionResponseBody, ToolResolutionCentralResponse.class);
+                        return GSON.fromJson(toolResolutionResponseBody, ToolResolutionCentralResponse.class);
                     }
                     // Unauthorized access token
                     if (toolResolutionResponse.code() == HTTP_UNAUTHORIZED) {
@@ -1063,7 +1177,7 @@ public class CentralAPIClient {
                     }
                     // If search request was sent wrongly
                     if (toolResolutionResponse.code() == HTTP_BAD_REQUEST) {
-                        Error error = new Gson().fromJson(toolResolutionResponseBody, Error.class);
+                        Error error = GSON.fromJson(toolResolutionResponseBody, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new ConnectionErrorException(error.getMessage());
                         }
@@ -1071,7 +1185,7 @@ public class CentralAPIClient {
                     // If error occurred at remote repository
                     if (toolResolutionResponse.code() == HTTP_INTERNAL_ERROR ||
                             toolResolutionResponse.code() == HTTP_UNAVAILABLE) {
-                        Error error = new Gson().fromJson(toolResolutionResponseBody, Error.class);
+                        Error error = GSON.fromJson(toolResolutionResponseBody, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new ConnectionErrorException(ERR_PACKAGE_RESOLUTION + " reason:" +
                                     error.getMessage());
@@ -1120,7 +1234,7 @@ public class CentralAPIClient {
                 if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString())) {
                     // If searching was successful
                     if (searchResponse.code() == HTTP_OK) {
-                        return new Gson().fromJson(searchResponseBody, PackageSearchResult.class);
+                        return GSON.fromJson(searchResponseBody, PackageSearchResult.class);
                     }
 
                     // Unauthorized access token
@@ -1130,7 +1244,7 @@ public class CentralAPIClient {
 
                     // If search request was sent wrongly
                     if (searchResponse.code() == HTTP_BAD_REQUEST) {
-                        Error error = new Gson().fromJson(searchResponseBody, Error.class);
+                        Error error = GSON.fromJson(searchResponseBody, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new CentralClientException(error.getMessage());
                         }
@@ -1139,7 +1253,7 @@ public class CentralAPIClient {
                     // If error occurred at remote repository
                     if (searchResponse.code() == HTTP_INTERNAL_ERROR ||
                             searchResponse.code() == HTTP_UNAVAILABLE) {
-                        Error error = new Gson().fromJson(searchResponseBody, Error.class);
+                        Error error = GSON.fromJson(searchResponseBody, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new CentralClientException(ERR_CANNOT_SEARCH + "'" + query + "' reason:" +
                                     error.getMessage());
@@ -1190,7 +1304,7 @@ public class CentralAPIClient {
                 if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString())) {
                     // If searching was successful
                     if (searchResponse.code() == HTTP_OK) {
-                        return new Gson().fromJson(searchResponseBody, ToolSearchResult.class);
+                        return GSON.fromJson(searchResponseBody, ToolSearchResult.class);
                     }
 
                     // Unauthorized access token
@@ -1200,7 +1314,7 @@ public class CentralAPIClient {
 
                     // If search request was sent wrongly
                     if (searchResponse.code() == HTTP_BAD_REQUEST) {
-                        Error error = new Gson().fromJson(searchResponseBody, Error.class);
+                        Error error = GSON.fromJson(searchResponseBody, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new CentralClientException(error.getMessage());
                         }
@@ -1209,7 +1323,7 @@ public class CentralAPIClient {
                     // If error occurred at remote repository
                     if (searchResponse.code() == HTTP_INTERNAL_ERROR ||
                             searchResponse.code() == HTTP_UNAVAILABLE) {
-                        Error error = new Gson().fromJson(searchResponseBody, Error.class);
+                        Error error = GSON.fromJson(searchResponseBody, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new CentralClientException(ERR_CANNOT_SEARCH + "'" + keyword + "' reason:" +
                                     error.getMessage());
@@ -1288,7 +1402,7 @@ public class CentralAPIClient {
                 if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString())) {
                     // If deprecation was successful
                     if (deprecationResponse.code() == HTTP_OK) {
-                        Package packageResponse = new Gson().fromJson(deprecationResponseBody, Package.class);
+                        Package packageResponse = GSON.fromJson(deprecationResponseBody, Package.class);
                         if (packageResponse.getDeprecated()) {
                             if (existingPackage.getDeprecated()) {
                                 this.outStream.println("deprecation message is successfully updated for the package "
@@ -1310,7 +1424,7 @@ public class CentralAPIClient {
 
                     // If deprecation request was sent wrongly
                     if (deprecationResponse.code() == HTTP_BAD_REQUEST) {
-                        Error error = new Gson().fromJson(deprecationResponseBody, Error.class);
+                        Error error = GSON.fromJson(deprecationResponseBody, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new CentralClientException(error.getMessage());
                         }
@@ -1318,7 +1432,7 @@ public class CentralAPIClient {
 
                     // If deprecation request was sent wrongly
                     if (deprecationResponse.code() == HTTP_NOT_FOUND) {
-                        Error error = new Gson().fromJson(deprecationResponseBody, Error.class);
+                        Error error = GSON.fromJson(deprecationResponseBody, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             throw new CentralClientException(error.getMessage());
                         }
@@ -1327,7 +1441,7 @@ public class CentralAPIClient {
                     // If error occurred at remote repository
                     if (deprecationResponse.code() == HTTP_INTERNAL_ERROR ||
                             deprecationResponse.code() == HTTP_UNAVAILABLE) {
-                        Error error = new Gson().fromJson(deprecationResponseBody, Error.class);
+                        Error error = GSON.fromJson(deprecationResponseBody, Error.class);
                         if (error.getMessage() != null && !"".equals(error.getMessage())) {
                             String errorMsg = isUndo ? ERR_PACKAGE_UN_DEPRECATE : ERR_PACKAGE_DEPRECATE;
                             throw new CentralClientException(errorMsg + "'" + packageValue +
@@ -1384,7 +1498,7 @@ public class CentralAPIClient {
                 MediaType contentType = body.get().contentType();
                 if (contentType != null && isApplicationJsonContentType(contentType.toString()) &&
                         response.code() == HttpsURLConnection.HTTP_OK) {
-                    return new Gson().toJsonTree(body.get().string());
+                    return GSON.toJsonTree(body.get().string());
                 }
             }
             handleResponseErrors(response, ERR_CANNOT_SEARCH);
@@ -1451,7 +1565,7 @@ public class CentralAPIClient {
                 Optional<MediaType> contentType = Optional.ofNullable(body.get().contentType());
                 if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString()) &&
                         searchResponse.code() == HttpsURLConnection.HTTP_OK) {
-                    return new Gson().toJsonTree(searchResponseBody);
+                    return GSON.toJsonTree(searchResponseBody);
                 }
             }
             handleResponseErrors(searchResponse, ERR_CANNOT_GET_CONNECTOR);
@@ -1502,7 +1616,7 @@ public class CentralAPIClient {
                 Optional<MediaType> contentType = Optional.ofNullable(body.get().contentType());
                 if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString()) &&
                         searchResponse.code() == HttpsURLConnection.HTTP_OK) {
-                    return new Gson().fromJson(searchResponseBody, JsonObject.class);
+                    return GSON.fromJson(searchResponseBody, JsonObject.class);
                 }
             }
             handleResponseErrors(searchResponse, ERR_CANNOT_GET_CONNECTOR + " id:" + id);
@@ -1557,7 +1671,7 @@ public class CentralAPIClient {
                 Optional<MediaType> contentType = Optional.ofNullable(body.get().contentType());
                 if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString()) &&
                         searchResponse.code() == HttpsURLConnection.HTTP_OK) {
-                    return new Gson().fromJson(searchResponseBody, JsonObject.class);
+                    return GSON.fromJson(searchResponseBody, JsonObject.class);
                 }
             }
             handleResponseErrors(searchResponse, ERR_CANNOT_GET_CONNECTOR + " " + connector.getPackageName());
@@ -1588,6 +1702,7 @@ public class CentralAPIClient {
                 .callTimeout(callTimeout, TimeUnit.SECONDS)
                 .followRedirects(false)
                 .retryOnConnectionFailure(true)
+                .connectionPool(CONNECTION_POOL)
                 .proxy(this.proxy)
                 .addInterceptor(new CustomRetryInterceptor(this.maxRetries))
                 .build();
@@ -1624,7 +1739,7 @@ public class CentralAPIClient {
             String responseBody = body.get().string();
             MediaType contentType = body.get().contentType();
             if (response.code() == HTTP_BAD_REQUEST || response.code() == HTTP_NOT_FOUND) {
-                Error error = new Gson().fromJson(responseBody, Error.class);
+                Error error = GSON.fromJson(responseBody, Error.class);
                 if (error.getMessage() != null && !"".equals(error.getMessage())) {
                     throw new CentralClientException(error.getMessage());
                 }
@@ -1639,7 +1754,7 @@ public class CentralAPIClient {
             // gateway server
             if (response.code() == HTTP_INTERNAL_ERROR || response.code() == HTTP_UNAVAILABLE ||
                     response.code() == HTTP_BAD_GATEWAY || response.code() == HTTP_GATEWAY_TIMEOUT) {
-                Error error = new Gson().fromJson(responseBody, Error.class);
+                Error error = GSON.fromJson(responseBody, Error.class);
                 if (error.getMessage() != null && !"".equals(error.getMessage())) {
                     throw new CentralClientException(msg + " reason:" + error.getMessage());
                 }
@@ -1656,8 +1771,8 @@ public class CentralAPIClient {
      * @throws IOException when cache of the client cannot be closed
      */
     protected void closeClient(OkHttpClient client) throws IOException {
+        // Idle connections are left in the shared connection pool to be reused by the next requests.
         client.dispatcher().executorService().shutdown();
-        client.connectionPool().evictAll();
         Optional<Cache> clientCache = Optional.ofNullable(client.cache());
         if (clientCache.isPresent()) {
             clientCache.get().close();
@@ -1740,7 +1855,7 @@ public class CentralAPIClient {
                 Optional<MediaType> contentType = Optional.ofNullable(body.get().contentType());
                 if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString()) &&
                         searchResponse.code() == HttpsURLConnection.HTTP_OK) {
-                    return new Gson().toJsonTree(searchResponseBody);
+                    return GSON.toJsonTree(searchResponseBody);
                 }
             }
             handleResponseErrors(searchResponse, ERR_CANNOT_GET_TRIGGERS);
@@ -1791,7 +1906,7 @@ public class CentralAPIClient {
                 Optional<MediaType> contentType = Optional.ofNullable(body.get().contentType());
                 if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString()) &&
                         searchResponse.code() == HttpsURLConnection.HTTP_OK) {
-                    return new Gson().fromJson(searchResponseBody, JsonObject.class);
+                    return GSON.fromJson(searchResponseBody, JsonObject.class);
                 }
             }
             handleResponseErrors(searchResponse, ERR_CANNOT_GET_TRIGGER + " id:" + id);
@@ -1821,7 +1936,7 @@ public class CentralAPIClient {
         if (body.isPresent()) {
             Optional<MediaType> contentType = Optional.ofNullable(body.get().contentType());
             if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString())) {
-                Error error = new Gson().fromJson(responseBody, Error.class);
+                Error error = GSON.fromJson(responseBody, Error.class);
                 throw new CentralClientException("unauthorized access token for organization: '" + org +
                         "'. check access token set in 'Settings.toml' file. reason: " + error.getMessage());
             } else {
@@ -1843,7 +1958,7 @@ public class CentralAPIClient {
         if (body.isPresent()) {
             Optional<MediaType> contentType = Optional.ofNullable(body.get().contentType());
             if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString())) {
-                Error error = new Gson().fromJson(responseBody, Error.class);
+                Error error = GSON.fromJson(responseBody, Error.class);
                 throw new CentralClientException("unauthorized access token. " +
                         "check access token set in 'Settings.toml' file. reason: " + error.getMessage());
             } else {
@@ -1866,7 +1981,7 @@ public class CentralAPIClient {
         StringBuilder message = new StringBuilder("unauthorized access token. " +
                 "check access token set in 'Settings.toml' file.");
         if (contentType.isPresent() && isApplicationJsonContentType(contentType.get().toString())) {
-            Error error = new Gson().fromJson(responseBody, Error.class);
+            Error error = GSON.fromJson(responseBody, Error.class);
             message.append("reason: ").append(error.getMessage());
         }
         throw new CentralClientException(message.toString());
@@ -1960,4 +2075,15 @@ public class CentralAPIClient {
             }
         }
     }
+
+    /**
+     * A package to be pulled from central.
+     *
+     * @param org                    The organization of the package.
+     * @param name                   The name of the package.
+     * @param version                The version of the package.
+     * @param packagePathInBalaCache The package path in Bala cache.
+     */
+    public record PackagePull(String org, String name, String version, Path packagePathInBalaCache) {
+    }
 }
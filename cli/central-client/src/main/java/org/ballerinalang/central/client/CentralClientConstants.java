@@ -38,6 +38,7 @@ public final class CentralClientConstants {
     static final String LOCATION = "Location";
     static final String ACCEPT = "Accept";
     static final String CONTENT_DISPOSITION = "Content-Disposition";
+    static final String RANGE = "Range";
     static final String APPLICATION_OCTET_STREAM = "application/octet-stream";
     static final String APPLICATION_JSON = "application/json";
     static final String ORGANIZATION = "organization";
@@ -60,6 +61,9 @@ public final class CentralClientConstants {
     public static final int UPDATE_INTERVAL_MILLIS = 1000;
     public static final String SHA256 = "sha-256=";
     public static final String SHA256_ALGORITHM = "SHA-256";
+    static final String PARTIAL_DOWNLOADS_DIR = ".partial";
+    static final String PARTIAL_BALA_FILE_EXTENSION = ".bala.part";
+    static final String PARTIAL_BALA_LOCK_FILE_EXTENSION = ".lock";
     public static final String TEST_MODE_ACTIVE = "TEST_MODE_ACTIVE";
     public static final String BALLERINA_CENTRAL_TELEMETRY_DISABLED = "Ballerina-Central-Telemetry-Disabled";
 }
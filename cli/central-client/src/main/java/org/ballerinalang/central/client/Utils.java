@@ -41,18 +41,22 @@ import org.ballerinalang.central.client.exceptions.PackageAlreadyExistsException
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
 import java.nio.charset.Charset;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -66,6 +70,9 @@ import static org.ballerinalang.central.client.CentralClientConstants.BALLERINA_
 import static org.ballerinalang.central.client.CentralClientConstants.BALLERINA_STAGE_CENTRAL;
 import static org.ballerinalang.central.client.CentralClientConstants.BYTES_FOR_KB;
 import static org.ballerinalang.central.client.CentralClientConstants.DEV_REPO;
+import static org.ballerinalang.central.client.CentralClientConstants.PARTIAL_BALA_FILE_EXTENSION;
+import static org.ballerinalang.central.client.CentralClientConstants.PARTIAL_BALA_LOCK_FILE_EXTENSION;
+import static org.ballerinalang.central.client.CentralClientConstants.PARTIAL_DOWNLOADS_DIR;
 import static org.ballerinalang.central.client.CentralClientConstants.PRODUCTION_REPO;
 import static org.ballerinalang.central.client.CentralClientConstants.PROGRESS_BAR_BYTE_THRESHOLD;
 import static org.ballerinalang.central.client.CentralClientConstants.RESOLVED_REQUESTED_URI;
@@ -118,6 +125,34 @@ public final class Utils {
             String newUrl, String contentDisposition, PrintStream outStream,
             LogFormatter logFormatter, String trueDigest)
             throws CentralClientException {
+        createBalaInHomeRepo(balaDownloadResponse, pkgPathInBalaCache, pkgOrg, pkgName, isNightlyBuild,
+                deprecationMsg, newUrl, contentDisposition, outStream, logFormatter, trueDigest, null, false);
+    }
+
+    /**
+     * Create the bala in home repo, downloading the bala file through the given partial file. The partial file is
+     * kept if the download fails, so that a later download can resume from where it stopped.
+     *
+     * @param balaDownloadResponse http response for downloading the bala file
+     * @param pkgPathInBalaCache   package path in bala cache,
+     *                             {@literal <user.home>.ballerina/bala_cache/<org-name>/<pkg-name>}
+     * @param pkgOrg               package org
+     * @param pkgName              package name
+     * @param isNightlyBuild       is nightly build
+     * @param deprecationMsg       deprecation message for deprecated packages
+     * @param newUrl               new redirect url
+     * @param contentDisposition   content disposition header
+     * @param outStream            Output print stream
+     * @param logFormatter         log formatter
+     * @param trueDigest           digest of the bala file sent by central
+     * @param partialBalaPath      path of the partial bala file, or null to download without one
+     * @param resumed              whether the response contains the rest of the partial bala file
+     */
+    public static void createBalaInHomeRepo(Response balaDownloadResponse, Path pkgPathInBalaCache, String pkgOrg,
+            String pkgName, boolean isNightlyBuild, String deprecationMsg,
+            String newUrl, String contentDisposition, PrintStream outStream,
+            LogFormatter logFormatter, String trueDigest, Path partialBalaPath, boolean resumed)
+            throws CentralClientException {
 
         long responseContentLength = 0;
         Optional<ResponseBody> downloadBody = Optional.ofNullable(balaDownloadResponse.body());
@@ -184,9 +219,16 @@ public final class Utils {
         createBalaFileDirectory(tempPath, logFormatter);
 
         // Write balaFiles to tempPath
-        writeBalaFile(balaDownloadResponse, tempPath.resolve(balaFile),
-                pkgOrg + "/" + pkgName + ":" + validPkgVersion, responseContentLength,
-                outStream, logFormatter, pkgPathInBalaCache.resolve(validPkgVersion), trueDigest);
+        if (partialBalaPath == null) {
+            writeBalaFile(balaDownloadResponse, tempPath.resolve(balaFile),
+                    pkgOrg + "/" + pkgName + ":" + validPkgVersion, responseContentLength,
+                    outStream, logFormatter, pkgPathInBalaCache.resolve(validPkgVersion), trueDigest);
+        } else {
+            writeBalaFile(balaDownloadResponse, tempPath.resolve(balaFile),
+                    pkgOrg + "/" + pkgName + ":" + validPkgVersion, responseContentLength,
+                    outStream, logFormatter, pkgPathInBalaCache.resolve(validPkgVersion), trueDigest,
+                    partialBalaPath, resumed);
+        }
 
         // Once files are written to temp path, rename temp path with platform name
         try {
@@ -258,6 +300,55 @@ public final class Utils {
         }
     }
 
+    /**
+     * Get the path of the partial bala file used to download the bala file with the given digest.
+     *
+     * @param pkgPathInBalaCache package path in bala cache
+     * @param trueDigest         digest of the bala file sent by central
+     * @return path of the partial bala file, or null if the digest is not known
+     */
+    static Path getPartialBalaPath(Path pkgPathInBalaCache, String trueDigest) {
+        if (trueDigest == null || !trueDigest.startsWith(SHA256) || trueDigest.length() == SHA256.length()) {
+            return null;
+        }
+        String digestValue = trueDigest.substring(SHA256.length());
+        if (!digestValue.chars().allMatch(Character::isLetterOrDigit)) {
+            return null;
+        }
+        return pkgPathInBalaCache.resolve(PARTIAL_DOWNLOADS_DIR).resolve(digestValue + PARTIAL_BALA_FILE_EXTENSION);
+    }
+
+    /**
+     * Lock the given partial bala file, so that concurrent downloads of the same bala file, from this process or
+     * other processes, do not write to it at the same time. The lock is held on a separate lock file, which is kept
+     * after the download. The lock is released by closing the returned channel.
+     *
+     * @param partialBalaPath path of the partial bala file
+     * @return channel of the lock file holding the lock, or null if another download holds the lock
+     * @throws IOException if the lock file cannot be opened
+     */
+    static FileChannel lockPartialBalaFile(Path partialBalaPath) throws IOException {
+        Files.createDirectories(partialBalaPath.getParent());
+        Path lockPath = partialBalaPath.resolveSibling(partialBalaPath.getFileName()
+                + PARTIAL_BALA_LOCK_FILE_EXTENSION);
+        FileChannel lockChannel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Another download in this process holds the lock
+            lock = null;
+        } catch (IOException e) {
+            lockChannel.close();
+            throw e;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            return null;
+        }
+        return lockChannel;
+    }
+
     /**
      * Write bala file to the home repo.
      *
@@ -269,27 +360,84 @@ public final class Utils {
      * @param outStream            Output print stream
      * @param logFormatter         log formatter
      * @param homeRepo             path of the repo bala file is saved to
+     * @param trueDigest           digest of the bala file sent by central
      */
     static void writeBalaFile(Response balaDownloadResponse, Path balaPath, String fullPkgName, long resContentLength,
             PrintStream outStream, LogFormatter logFormatter, Path homeRepo, String trueDigest)
             throws CentralClientException {
+        writeBalaFile(balaDownloadResponse, balaPath, fullPkgName, resContentLength, outStream, logFormatter,
+                homeRepo, trueDigest, null, false);
+    }
+
+    /**
+     * Write bala file to the home repo through the given partial bala file.
+     *
+     * @param balaDownloadResponse http bala file download response
+     * @param balaPath             path of the bala file
+     * @param fullPkgName          full package name,
+     *                             <org-name>/<pkg-name>:<pkg-version>
+     * @param resContentLength     response content length
+     * @param outStream            Output print stream
+     * @param logFormatter         log formatter
+     * @param homeRepo             path of the repo bala file is saved to
+     * @param trueDigest           digest of the bala file sent by central
+     * @param partialBalaPath      path of the partial bala file, or null to write the bala file directly
+     * @param resumed              whether the response contains the rest of the partial bala file
+     */
+    static void writeBalaFile(Response balaDownloadResponse, Path balaPath, String fullPkgName, long resContentLength,
+            PrintStream outStream, LogFormatter logFormatter, Path homeRepo, String trueDigest,
+            Path partialBalaPath, boolean resumed)
+            throws CentralClientException {
         Optional<ResponseBody> body = Optional.ofNullable(balaDownloadResponse.body());
         if (body.isPresent()) {
             try {
-                try (InputStream inputStream = body.get().byteStream();
-                        FileOutputStream outputStream = new FileOutputStream(balaPath.toString())) {
-                    if (outStream == null) {
-                        writeAndHandleProgressQuietly(inputStream, outputStream);
-                    } else {
-                        writeAndHandleProgress(inputStream, outputStream, resContentLength / 1024, fullPkgName,
-                                outStream, logFormatter, homeRepo);
+                MessageDigest messageDigest = getMessageDigest(balaPath);
+                Path downloadPath = partialBalaPath != null ? partialBalaPath : balaPath;
+                try {
+                    if (partialBalaPath != null) {
+                        Files.createDirectories(partialBalaPath.getParent());
+                    }
+                    if (resumed) {
+                        // The digest is computed over the whole file, including the previously downloaded part.
+                        try (InputStream partialStream = new DigestInputStream(
+                                Files.newInputStream(partialBalaPath), messageDigest)) {
+                            partialStream.transferTo(OutputStream.nullOutputStream());
+                        }
+                    }
+                    StandardOpenOption writeOption = resumed ? StandardOpenOption.APPEND :
+                            StandardOpenOption.TRUNCATE_EXISTING;
+                    try (InputStream inputStream = new DigestInputStream(body.get().byteStream(), messageDigest);
+                            OutputStream outputStream = Files.newOutputStream(downloadPath,
+                                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, writeOption)) {
+                        if (outStream == null) {
+                            writeAndHandleProgressQuietly(inputStream, outputStream);
+                        } else {
+                            writeAndHandleProgress(inputStream, outputStream, resContentLength / 1024, fullPkgName,
+                                    outStream, logFormatter, homeRepo);
+                        }
+                    }
+                    if (partialBalaPath != null) {
+                        Files.move(partialBalaPath, balaPath, StandardCopyOption.REPLACE_EXISTING);
                     }
                 } catch (IOException e) {
                     throw new CentralClientException(
                             logFormatter.formatLog("error occurred copying the bala file: " + e.getMessage()));
                 }
+                String balaHash = bytesToHex(messageDigest.digest());
+                if (resumed && !trueDigest.equals(SHA256 + balaHash)) {
+                    // The previously downloaded part does not belong to this bala file. Therefore, drop it so that
+                    // the next attempt downloads the whole file.
+                    try {
+                        Files.deleteIfExists(balaPath);
+                    } catch (IOException e) {
+                        // ignore, the bala file is overwritten by the next attempt
+                    }
+                    throw new CentralClientException(logFormatter.formatLog(
+                            "error occurred resuming the download of the bala file: hash value mismatch"));
+                }
                 try {
-                    extractBala(balaPath, Optional.of(balaPath.getParent()).get(), trueDigest, fullPkgName, outStream);
+                    extractBala(balaPath, Optional.of(balaPath.getParent()).get(), trueDigest, balaHash,
+                            fullPkgName, outStream);
                     Files.delete(balaPath);
                 } catch (IOException | CentralClientException e) {
                     throw new CentralClientException(
@@ -304,6 +452,15 @@ public final class Utils {
         }
     }
 
+    private static MessageDigest getMessageDigest(Path balaPath) throws CentralClientException {
+        try {
+            return MessageDigest.getInstance(SHA256_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CentralClientException("Unable to calculate the hash value of the file " + balaPath + ": "
+                    + e.getMessage());
+        }
+    }
+
     /**
      * Handle nightly build.
      *
@@ -353,7 +510,7 @@ public final class Utils {
      * @param logFormatter  log formatter
      * @param homeRepo      path of the repo bala file is saved to
      */
-    private static void writeAndHandleProgress(InputStream inputStream, FileOutputStream outputStream,
+    private static void writeAndHandleProgress(InputStream inputStream, OutputStream outputStream,
             long totalSizeInKB, String fullPkgName, PrintStream outStream, LogFormatter logFormatter,
             Path homeRepo) throws IOException {
         int count;
@@ -371,7 +528,7 @@ public final class Utils {
         }
     }
 
-    private static void writeAndHandleProgressQuietly(InputStream inputStream, FileOutputStream outputStream)
+    private static void writeAndHandleProgressQuietly(InputStream inputStream, OutputStream outputStream)
             throws IOException {
         int count;
         byte[] buffer = new byte[BUFFER_SIZE];
@@ -442,14 +599,14 @@ public final class Utils {
         return balaName.split(packageName + "-")[1].split("-" + version)[0];
     }
 
-    private static void extractBala(Path balaFilePath, Path balaFileDestPath, String trueDigest, String packageName,
-            PrintStream outStream)
+    private static void extractBala(Path balaFilePath, Path balaFileDestPath, String trueDigest, String balaHash,
+            String packageName, PrintStream outStream)
             throws IOException, CentralClientException {
         Files.createDirectories(balaFileDestPath);
         URI zipURI = URI.create("jar:" + balaFilePath.toUri().toString());
 
         // If the hash value is not matching , throw an exception.
-        if (!trueDigest.equals(SHA256 + checkHash(balaFilePath.toString(), SHA256_ALGORITHM))) {
+        if (!trueDigest.equals(SHA256 + balaHash)) {
             StringBuilder warning = new StringBuilder(
                     String.format("*************************************************************%n" +
         "* WARNING: Certain packages may have originated from sources other than the official distributors. *%n" +
@@ -0,0 +1,229 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.central.client;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.ballerinalang.central.client.exceptions.CentralClientException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.ballerinalang.central.client.CentralClientConstants.CONTENT_DISPOSITION;
+import static org.ballerinalang.central.client.CentralClientConstants.DIGEST;
+import static org.ballerinalang.central.client.CentralClientConstants.LOCATION;
+import static org.ballerinalang.central.client.CentralClientConstants.RANGE;
+import static org.ballerinalang.central.client.TestUtils.cleanDirectory;
+
+/**
+ * Test cases to test pulling bala files from a mock central server, including resuming interrupted downloads.
+ *
+ * @since 2201.13.0
+ */
+public class TestBalaDownload {
+
+    private static final Path BALA_PATH = Path.of("src/test/resources/test-resources/utils/sf-any.bala");
+    private static final String BALA_DIGEST_VALUE = "47e043c80d516234b1e6bd93140f126c9d9e79b5c7c0600cc6316d12504c2cf4";
+    private static final String BALA_FILE_NAME = "attachment; filename=sf-2020r2-any-1.3.5.bala";
+    private static final String BALA_RESOURCE = "/bala/sf-2020r2-any-1.3.5.bala";
+    private static final String PACKAGES_RESOURCE = "/registry/packages/";
+    private static final String ANY_PLATFORM = "any";
+    private static final String TEST_BAL_VERSION = "slp5";
+    private static final String NO_RANGE = "";
+
+    private final List<String> balaRequestRanges = Collections.synchronizedList(new ArrayList<>());
+    private MockWebServer server;
+    private CentralAPIClient client;
+    private Path balaCache;
+    private byte[] bala;
+    private volatile boolean rangeNotSatisfiable;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        bala = Files.readAllBytes(BALA_PATH);
+        balaCache = Files.createTempDirectory("test-bala-download");
+        balaRequestRanges.clear();
+        rangeNotSatisfiable = false;
+        server = new MockWebServer();
+        server.setDispatcher(new CentralDispatcher());
+        server.start();
+        client = new CentralAPIClient(server.url("/registry").toString(), null, "", false, 0, System.out);
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        server.shutdown();
+        cleanDirectory(balaCache);
+        Files.deleteIfExists(balaCache);
+    }
+
+    @Test(description = "Test pull package without a partial bala file")
+    public void testPullPackage() throws CentralClientException {
+        Path pkgPathInBalaCache = balaCache.resolve("sf");
+        client.pullPackage("foo", "sf", "1.3.5", pkgPathInBalaCache, ANY_PLATFORM, TEST_BAL_VERSION, true);
+
+        Assert.assertEquals(balaRequestRanges, List.of(NO_RANGE));
+        assertPulled(pkgPathInBalaCache);
+        Assert.assertFalse(Files.exists(getPartialBalaPath(pkgPathInBalaCache)));
+    }
+
+    @Test(description = "Test resuming the download of a partial bala file")
+    public void testResumeDownload() throws IOException, CentralClientException {
+        Path pkgPathInBalaCache = balaCache.resolve("sf");
+        int downloadedSize = bala.length / 2;
+        writePartialBala(pkgPathInBalaCache, Arrays.copyOf(bala, downloadedSize));
+        client.pullPackage("foo", "sf", "1.3.5", pkgPathInBalaCache, ANY_PLATFORM, TEST_BAL_VERSION, true);
+
+        Assert.assertEquals(balaRequestRanges, List.of("bytes=" + downloadedSize + "-"));
+        assertPulled(pkgPathInBalaCache);
+        Assert.assertFalse(Files.exists(getPartialBalaPath(pkgPathInBalaCache)));
+    }
+
+    @Test(description = "Test downloading the whole bala file when the partial bala file cannot be resumed")
+    public void testRangeNotSatisfiable() throws IOException, CentralClientException {
+        Path pkgPathInBalaCache = balaCache.resolve("sf");
+        int downloadedSize = bala.length / 2;
+        writePartialBala(pkgPathInBalaCache, Arrays.copyOf(bala, downloadedSize));
+        rangeNotSatisfiable = true;
+        client.pullPackage("foo", "sf", "1.3.5", pkgPathInBalaCache, ANY_PLATFORM, TEST_BAL_VERSION, true);
+
+        Assert.assertEquals(balaRequestRanges, List.of("bytes=" + downloadedSize + "-", NO_RANGE));
+        assertPulled(pkgPathInBalaCache);
+        Assert.assertFalse(Files.exists(getPartialBalaPath(pkgPathInBalaCache)));
+    }
+
+    @Test(description = "Test resuming the download of a partial bala file that does not match the digest")
+    public void testResumeDownloadWithDigestMismatch() throws IOException, CentralClientException {
+        Path pkgPathInBalaCache = balaCache.resolve("sf");
+        int downloadedSize = bala.length / 2;
+        writePartialBala(pkgPathInBalaCache, new byte[downloadedSize]);
+        CentralClientException exception = Assert.expectThrows(CentralClientException.class,
+                () -> client.pullPackage("foo", "sf", "1.3.5", pkgPathInBalaCache, ANY_PLATFORM, TEST_BAL_VERSION,
+                        true));
+        Assert.assertTrue(exception.getMessage().contains("hash value mismatch"), exception.getMessage());
+        Assert.assertFalse(Files.exists(getPartialBalaPath(pkgPathInBalaCache)));
+        Assert.assertFalse(Files.exists(pkgPathInBalaCache.resolve("1.3.5")));
+
+        // The next pull downloads the whole bala file
+        client.pullPackage("foo", "sf", "1.3.5", pkgPathInBalaCache, ANY_PLATFORM, TEST_BAL_VERSION, true);
+        Assert.assertEquals(balaRequestRanges, List.of("bytes=" + downloadedSize + "-", NO_RANGE));
+        assertPulled(pkgPathInBalaCache);
+    }
+
+    @Test(description = "Test pull package while another download holds the lock of the partial bala file")
+    public void testPullPackageWithLockedPartialBala() throws IOException, CentralClientException {
+        Path pkgPathInBalaCache = balaCache.resolve("sf");
+        byte[] partialBala = Arrays.copyOf(bala, bala.length / 2);
+        Path partialBalaPath = writePartialBala(pkgPathInBalaCache, partialBala);
+        try (FileChannel partialBalaLock = Utils.lockPartialBalaFile(partialBalaPath)) {
+            Assert.assertNotNull(partialBalaLock);
+            client.pullPackage("foo", "sf", "1.3.5", pkgPathInBalaCache, ANY_PLATFORM, TEST_BAL_VERSION, true);
+        }
+
+        // The whole bala file is downloaded, and the partial bala file of the other download is left as it is
+        Assert.assertEquals(balaRequestRanges, List.of(NO_RANGE));
+        assertPulled(pkgPathInBalaCache);
+        Assert.assertEquals(Files.readAllBytes(partialBalaPath), partialBala);
+    }
+
+    @Test(description = "Test pulling packages concurrently")
+    public void testPullPackages() {
+        List<CentralAPIClient.PackagePull> packagePulls = new ArrayList<>();
+        for (String name : List.of("sf1", "sf2", "sf3", "sf4", "sf5")) {
+            packagePulls.add(new CentralAPIClient.PackagePull("foo", name, "1.3.5", balaCache.resolve(name)));
+        }
+        Map<CentralAPIClient.PackagePull, CentralClientException> failedPulls =
+                client.pullPackages(packagePulls, ANY_PLATFORM, TEST_BAL_VERSION, true);
+
+        Assert.assertTrue(failedPulls.isEmpty(), failedPulls.toString());
+        Assert.assertEquals(balaRequestRanges.size(), packagePulls.size());
+        for (CentralAPIClient.PackagePull packagePull : packagePulls) {
+            assertPulled(packagePull.packagePathInBalaCache());
+        }
+    }
+
+    private Path writePartialBala(Path pkgPathInBalaCache, byte[] content) throws IOException {
+        Path partialBalaPath = getPartialBalaPath(pkgPathInBalaCache);
+        Files.createDirectories(partialBalaPath.getParent());
+        Files.write(partialBalaPath, content);
+        return partialBalaPath;
+    }
+
+    private static Path getPartialBalaPath(Path pkgPathInBalaCache) {
+        return Utils.getPartialBalaPath(pkgPathInBalaCache, CentralClientConstants.SHA256 + BALA_DIGEST_VALUE);
+    }
+
+    private static void assertPulled(Path pkgPathInBalaCache) {
+        Path balaDir = pkgPathInBalaCache.resolve("1.3.5").resolve("2020r2-any");
+        Assert.assertTrue(Files.exists(balaDir.resolve("bala.json")));
+        Assert.assertTrue(Files.exists(balaDir.resolve("package.json")));
+        Assert.assertTrue(Files.exists(balaDir.resolve("dependency-graph.json")));
+        Assert.assertTrue(Files.exists(balaDir.resolve("modules")));
+    }
+
+    /**
+     * Mock central server, which redirects package pulls to the bala file and serves ranges of the bala file.
+     */
+    private class CentralDispatcher extends Dispatcher {
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            String path = request.getPath();
+            if (path.startsWith(PACKAGES_RESOURCE)) {
+                return new MockResponse()
+                        .setResponseCode(HttpURLConnection.HTTP_MOVED_TEMP)
+                        .addHeader(LOCATION, server.url(BALA_RESOURCE).toString())
+                        .addHeader(CONTENT_DISPOSITION, BALA_FILE_NAME)
+                        .addHeader(DIGEST, CentralClientConstants.SHA256 + BALA_DIGEST_VALUE);
+            }
+            if (!path.equals(BALA_RESOURCE)) {
+                return new MockResponse().setResponseCode(HttpURLConnection.HTTP_NOT_FOUND);
+            }
+
+            String range = request.getHeader(RANGE);
+            balaRequestRanges.add(range == null ? NO_RANGE : range);
+            if (range == null) {
+                return new MockResponse().setBody(new Buffer().write(bala));
+            }
+            if (rangeNotSatisfiable) {
+                return new MockResponse().setResponseCode(416);
+            }
+            int start = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+            return new MockResponse()
+                    .setResponseCode(HttpURLConnection.HTTP_PARTIAL)
+                    .addHeader("Content-Range", "bytes " + start + "-" + (bala.length - 1) + "/" + bala.length)
+                    .setBody(new Buffer().write(bala, start, bala.length - start));
+        }
+    }
+}
@@ -274,6 +274,10 @@ public class BallerinaSemanticModel implements SemanticModel {
         if (compilationUnit.isEmpty()) {
             return Collections.emptyList();
         }
+        // A symbol defined in another document can be referred from anywhere in the target document
+        if (symbolAtCursor != null && !isDefinedIn(compilationUnit.get(), symbolAtCursor, symbolLocation.get())) {
+            return getReferences(symbolAtCursor, compilationUnit.get(), withDefinition);
+        }
         BLangNode node = new NodeFinder(false)
                 .lookupEnclosingContainer(compilationUnit.get(), symbolLocation.get().lineRange());
 
@@ -528,6 +532,11 @@ public class BallerinaSemanticModel implements SemanticModel {
         return units.filter(unit -> unit.name.equals(srcFile)).findFirst();
     }
 
+    private boolean isDefinedIn(BLangCompilationUnit compilationUnit, BSymbol symbol, Location symbolLocation) {
+        return compilationUnit.getPackageID().equals(symbol.pkgID)
+                && compilationUnit.getName().equals(symbolLocation.lineRange().fileName());
+    }
+
     private boolean isCursorNotAtDefinition(BLangCompilationUnit compilationUnit, BSymbol symbolAtCursor,
                                             LinePosition cursorPos) {
         return !(compilationUnit.getPackageID().equals(symbolAtCursor.pkgID)
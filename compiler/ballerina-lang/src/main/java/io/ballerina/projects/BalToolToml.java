@@ -87,7 +87,7 @@ public class BalToolToml {
          * @return Document.Modifier that holds the content to be changed
          */
         public BalToolToml.Modifier withContent(String content) {
-            this.tomlDocument = TomlDocument.from(ProjectConstants.BAL_TOOL_TOML, content);
+            this.tomlDocument = this.tomlDocument.modify(content);
             return this;
         }
 
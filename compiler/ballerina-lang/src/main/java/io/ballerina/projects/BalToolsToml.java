@@ -95,7 +95,7 @@ public class BalToolsToml {
 
     public void modify(BalToolsManifest balToolsManifest) {
         String updatedContent = generateContent(balToolsManifest);
-        this.balToolsTomlContext = TomlDocumentContext.from(TomlDocument.from(BAL_TOOLS_TOML, updatedContent));
+        this.balToolsTomlContext = TomlDocumentContext.from(tomlDocument().modify(updatedContent));
         write(updatedContent);
     }
 
@@ -88,7 +88,7 @@ public class BallerinaToml {
          * @return Document.Modifier that holds the content to be changed
          */
         public Modifier withContent(String content) {
-            this.tomlDocument = TomlDocument.from(ProjectConstants.BALLERINA_TOML, content);
+            this.tomlDocument = this.tomlDocument.modify(content);
             return this;
         }
 
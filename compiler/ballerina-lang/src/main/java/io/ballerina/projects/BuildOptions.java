@@ -35,11 +35,12 @@ public class BuildOptions {
     private final Boolean nativeImage;
     private final Boolean exportComponentModel;
     private final String graalVMBuildOptions;
+    private final Boolean cdsArchive;
 
     BuildOptions(Boolean testReport, Boolean codeCoverage, Boolean dumpBuildTime, Boolean skipTests,
                  CompilationOptions compilationOptions, String targetPath, Boolean enableCache,
                  Boolean nativeImage, Boolean exportComponentModel, String graalVMBuildOptions,
-                 Boolean showDependencyDiagnostics) {
+                 Boolean showDependencyDiagnostics, Boolean cdsArchive) {
         this.testReport = testReport;
         this.codeCoverage = codeCoverage;
         this.dumpBuildTime = dumpBuildTime;
@@ -51,6 +52,7 @@ public class BuildOptions {
         this.exportComponentModel = exportComponentModel;
         this.graalVMBuildOptions = graalVMBuildOptions;
         this.showDependencyDiagnostics = showDependencyDiagnostics;
+        this.cdsArchive = cdsArchive;
     }
 
     public boolean testReport() {
@@ -139,6 +141,15 @@ public class BuildOptions {
         return toBooleanDefaultIfNull(this.showDependencyDiagnostics);
     }
 
+    /**
+     * Checks whether a class data sharing archive should be generated for the executable.
+     *
+     * @return Is class data sharing archive generation enabled
+     */
+    public boolean cdsArchive() {
+        return toBooleanDefaultIfNull(this.cdsArchive);
+    }
+
     /**
      * Merge the given build options by favoring theirs if there are conflicts.
      *
@@ -197,6 +208,11 @@ public class BuildOptions {
         } else {
             buildOptionsBuilder.setShowDependencyDiagnostics(this.showDependencyDiagnostics);
         }
+        if (theirOptions.cdsArchive != null) {
+            buildOptionsBuilder.setCdsArchive(theirOptions.cdsArchive);
+        } else {
+            buildOptionsBuilder.setCdsArchive(this.cdsArchive);
+        }
 
         CompilationOptions compilationOptions = this.compilationOptions.acceptTheirs(theirOptions.compilationOptions());
         buildOptionsBuilder.setOffline(compilationOptions.offlineBuild);
@@ -255,6 +271,7 @@ public class BuildOptions {
         EXPORT_COMPONENT_MODEL("exportComponentModel"),
         GRAAL_VM_BUILD_OPTIONS("graalvmBuildOptions"),
         SHOW_DEPENDENCY_DIAGNOSTICS("showDependencyDiagnostics"),
+        CDS_ARCHIVE("cdsArchive"),
         OPTIMIZE_DEPENDENCY_COMPILATION("optimizeDependencyCompilation");
 
         private final String name;
@@ -287,6 +304,7 @@ public class BuildOptions {
         private Boolean exportComponentModel;
         private String graalVMBuildOptions;
         private Boolean showDependencyDiagnostics;
+        private Boolean cdsArchive;
 
         private BuildOptionsBuilder() {
             compilationOptionsBuilder = CompilationOptions.builder();
@@ -419,6 +437,17 @@ public class BuildOptions {
             return this;
         }
 
+        /**
+         * Set whether a class data sharing archive should be generated for the executable.
+         *
+         * @param value true or false (default)
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setCdsArchive(Boolean value) {
+            cdsArchive = value;
+            return this;
+        }
+
         /**
          * (Experimental) option to specify that the memory usage must be optimized.
          *
@@ -439,7 +468,7 @@ public class BuildOptions {
             CompilationOptions compilationOptions = compilationOptionsBuilder.build();
             return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, compilationOptions,
                     targetPath, enableCache, nativeImage, exportComponentModel, graalVMBuildOptions,
-                    showDependencyDiagnostics);
+                    showDependencyDiagnostics, cdsArchive);
         }
     }
 }
@@ -69,7 +69,7 @@ public class CompilerPluginToml {
          * @return Document.Modifier that holds the content to be changed
          */
         public Modifier withContent(String content) {
-            this.tomlDocument = TomlDocument.from(ProjectConstants.COMPILER_PLUGIN_TOML, content);
+            this.tomlDocument = this.tomlDocument.modify(content);
             return this;
         }
 
@@ -86,7 +86,7 @@ public class DependenciesToml {
          * @return Document.Modifier that holds the content to be changed
          */
         public DependenciesToml.Modifier withContent(String content) {
-            this.tomlDocument = TomlDocument.from(ProjectConstants.DEPENDENCIES_TOML, content);
+            this.tomlDocument = this.tomlDocument.modify(content);
             return this;
         }
 
@@ -40,6 +40,7 @@ import org.ballerinalang.maven.exceptions.MavenResolverException;
 import org.wso2.ballerinalang.compiler.bir.codegen.CodeGenerator;
 import org.wso2.ballerinalang.compiler.bir.codegen.CompiledJarFile;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropValidator;
+import org.wso2.ballerinalang.compiler.bir.codegen.interop.NativeImageReflectConfig;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.util.Lists;
@@ -68,6 +69,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
@@ -92,6 +94,11 @@ public class JBallerinaBackend extends CompilerBackend {
     private static final String JAR_FILE_EXTENSION = ".jar";
     private static final String TEST_JAR_FILE_NAME_SUFFIX = "-testable";
     private static final String JAR_FILE_NAME_SUFFIX = "";
+    private static final String NATIVE_IMAGE_REFLECT_CONFIG_FILE = "reflect-config.json";
+    private static final String CDS_ARCHIVE_FILE_EXTENSION = ".jsa";
+    private static final String CDS_CLASS_LIST_FILE_EXTENSION = ".classlist";
+    private static final String CDS_DUMP_LOG_FILE_EXTENSION = ".cds.log";
+    private static final int CDS_DUMP_LOG_REPORTED_LINES = 20;
     private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
     private static final String OS = System.getProperty("os.name").toLowerCase(Locale.getDefault());
     public static final String JAR_NAME_SEPARATOR = "-";
@@ -103,6 +110,7 @@ public class JBallerinaBackend extends CompilerBackend {
     private final CompilerContext compilerContext;
     private final CodeGenerator jvmCodeGenerator;
     private final InteropValidator interopValidator;
+    private final NativeImageReflectConfig nativeImageReflectConfig = new NativeImageReflectConfig();
     private final JarResolver jarResolver;
     private final PackageCompilation packageCompilation;
     private DiagnosticResult diagnosticResult;
@@ -224,7 +232,13 @@ public class JBallerinaBackend extends CompilerBackend {
         List<Diagnostic> emitResultDiagnostics = new ArrayList<>();
         generatedArtifact = switch (outputType) {
             case GRAAL_EXEC -> emitGraalExecutable(filePath, emitResultDiagnostics);
-            case EXEC -> emitExecutable(filePath, emitResultDiagnostics);
+            case EXEC -> {
+                Path executableFilePath = emitExecutable(filePath, emitResultDiagnostics);
+                if (packageContext.project().buildOptions().cdsArchive()) {
+                    emitCdsArchive(executableFilePath);
+                }
+                yield executableFilePath;
+            }
             case BALA -> emitBala(filePath);
             default -> throw new RuntimeException("Unexpected output type: " + outputType);
         };
@@ -372,6 +386,7 @@ public class JBallerinaBackend extends CompilerBackend {
         if (bLangPackage.getErrorCount() > 0) {
             return;
         }
+        nativeImageReflectConfig.addPackage(bLangPackage.symbol.bir);
         boolean isRemoteMgtEnabled = moduleContext.project().buildOptions().compilationOptions().remoteManagement();
         CompiledJarFile compiledJarFile = jvmCodeGenerator.generate(bLangPackage, isRemoteMgtEnabled);
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
@@ -664,6 +679,92 @@ public class JBallerinaBackend extends CompilerBackend {
         return executableFilePath;
     }
 
+    /**
+     * Returns the path of the class data sharing archive generated for the given executable jar.
+     *
+     * @param executableFilePath path of the executable jar
+     * @return path of the class data sharing archive
+     */
+    public static Path getCdsArchivePath(Path executableFilePath) {
+        return executableFilePath.resolveSibling(
+                getFileNameWithoutExtension(executableFilePath.toString()) + CDS_ARCHIVE_FILE_EXTENSION);
+    }
+
+    /**
+     * Generate a static class data sharing archive for the executable jar. The archive is dumped from the list of
+     * classes in the jar instead of a training run, so that module initialization does not run at build time.
+     */
+    private void emitCdsArchive(Path executableFilePath) {
+        Path classListPath = packageContext.project().targetDir().resolve(ProjectConstants.CACHES_DIR_NAME)
+                .resolve(getFileNameWithoutExtension(executableFilePath.toString()) + CDS_CLASS_LIST_FILE_EXTENSION);
+        try {
+            Files.createDirectories(classListPath.getParent());
+            writeCdsClassList(executableFilePath, classListPath);
+        } catch (IOException e) {
+            throw new ProjectException("error while generating the class list for the class data sharing archive: " +
+                    e.getMessage(), e);
+        }
+
+        Path javaCommand = Path.of(System.getProperty("java.home"), BIN_DIR_NAME,
+                OS.contains("win") ? "java.exe" : "java");
+        Path cdsArchivePath = getCdsArchivePath(executableFilePath);
+        ProcessBuilder builder = new ProcessBuilder(javaCommand.toString(), "-Xshare:dump",
+                "-XX:SharedClassListFile=" + classListPath,
+                "-XX:SharedArchiveFile=" + cdsArchivePath,
+                "-cp", executableFilePath.toString());
+        // Classes that cannot be archived are reported and skipped, which is expected for some of the classes. The
+        // output is kept to report the cause if the dump fails.
+        Path dumpLogPath = classListPath.resolveSibling(
+                getFileNameWithoutExtension(executableFilePath.toString()) + CDS_DUMP_LOG_FILE_EXTENSION);
+        builder.redirectErrorStream(true);
+        builder.redirectOutput(dumpLogPath.toFile());
+        int exitCode;
+        try {
+            Files.deleteIfExists(cdsArchivePath);
+            exitCode = builder.start().waitFor();
+        } catch (IOException e) {
+            throw new ProjectException("unable to create class data sharing archive: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProjectException("class data sharing archive creation was interrupted", e);
+        }
+        if (exitCode != 0 || !Files.exists(cdsArchivePath)) {
+            throw new ProjectException("unable to create class data sharing archive, exit code: " + exitCode +
+                    System.lineSeparator() + readCdsDumpLog(dumpLogPath));
+        }
+    }
+
+    private static String readCdsDumpLog(Path dumpLogPath) {
+        // Only the end of the output is reported, as the dump logs every class it skips before failing
+        try {
+            List<String> lines = Files.readAllLines(dumpLogPath, StandardCharsets.UTF_8);
+            List<String> lastLines = lines.subList(Math.max(0, lines.size() - CDS_DUMP_LOG_REPORTED_LINES),
+                    lines.size());
+            return String.join(System.lineSeparator(), lastLines) + System.lineSeparator() + "see " + dumpLogPath +
+                    " for the complete output";
+        } catch (IOException e) {
+            return "see " + dumpLogPath;
+        }
+    }
+
+    private static void writeCdsClassList(Path executableFilePath, Path classListPath) throws IOException {
+        List<String> classList = new ArrayList<>();
+        // The default class list of the JDK is included, as the default archive is not used with a custom archive
+        Path jdkClassListPath = Path.of(System.getProperty("java.home"), "lib", "classlist");
+        if (Files.exists(jdkClassListPath)) {
+            classList.addAll(Files.readAllLines(jdkClassListPath, StandardCharsets.UTF_8));
+        }
+        try (JarFile jarFile = new JarFile(executableFilePath.toFile())) {
+            jarFile.stream()
+                    .map(JarEntry::getName)
+                    .filter(name -> name.endsWith(CLASS_FILE_SUFFIX) && !name.startsWith("META-INF/") &&
+                            !name.endsWith("module-info" + CLASS_FILE_SUFFIX))
+                    .map(name -> name.substring(0, name.length() - CLASS_FILE_SUFFIX.length()))
+                    .forEach(classList::add);
+        }
+        Files.write(classListPath, classList, StandardCharsets.UTF_8);
+    }
+
     private Path emitTestExecutable(Path executableFilePath, HashSet<JarLibrary> jarDependencies,
                           Path testSuiteJsonPath, String jsonCopyPath, List<String> excludedClasses,
                           String classPathTextCopyPath) {
@@ -728,6 +829,20 @@ public class JBallerinaBackend extends CompilerBackend {
             }
         }
 
+        // Java members bound to external functions are registered for reflection, as libraries may look them up
+        // reflectively through handles
+        if (!nativeImageReflectConfig.isEmpty()) {
+            Path reflectConfigPath = nativeConfigPath.resolve(NATIVE_IMAGE_REFLECT_CONFIG_FILE);
+            try {
+                nativeImageReflectConfig.write(reflectConfigPath);
+            } catch (IOException e) {
+                throw new ProjectException("error while generating the graalvm reflection configuration", e);
+            }
+            nativeArgs.addAll(Arrays.asList("-H:+UnlockExperimentalVMOptions",
+                    "-H:ReflectionConfigurationFiles=" + reflectConfigPath,
+                    "-H:-UnlockExperimentalVMOptions"));
+        }
+
         // There is a command line length limitations in Windows. Therefore, we need to write the arguments to a
         // file and use it as an argument.
         try (FileWriter nativeArgumentWriter = new FileWriter(nativeConfigPath.resolve("native-image-args.txt")
@@ -27,6 +27,7 @@ import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.compiler.CompilerPhase;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.Flag;
 import org.ballerinalang.model.elements.PackageID;
@@ -34,7 +35,6 @@ import org.wso2.ballerinalang.compiler.BIRPackageSymbolEnter;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.bir.writer.BIRBinaryWriter;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLocation;
-import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolEnter;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
@@ -215,6 +215,13 @@ class ModuleContext {
         return getBLangPackageOrThrow();
     }
 
+    Map<CompilerPhase, Long> phaseDurations() {
+        if (bLangPackage == null) {
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(bLangPackage.phaseDurations);
+    }
+
     protected void cleanBLangPackage() {
         this.bLangPackage = null;
     }
@@ -375,7 +382,6 @@ class ModuleContext {
         }
 
         PackageCache packageCache = PackageCache.getInstance(compilerContext);
-        SymbolEnter symbolEnter = SymbolEnter.getInstance(compilerContext);
         CompilerPhaseRunner compilerPhaseRunner = CompilerPhaseRunner.getInstance(compilerContext);
 
         Types types = Types.getInstance(compilerContext);
@@ -401,7 +407,7 @@ class ModuleContext {
 
         pkgNode.pos = new BLangDiagnosticLocation(moduleContext.moduleName().toString(), 0, 0, 0, 0);
         try {
-            symbolEnter.definePackage(pkgNode);
+            compilerPhaseRunner.define(pkgNode);
             packageCache.putSymbol(pkgNode.packageID, pkgNode.symbol);
             compilerPhaseRunner.performTypeCheckPhases(pkgNode);
         } catch (Throwable t) {
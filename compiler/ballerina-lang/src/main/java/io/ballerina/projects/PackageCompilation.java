@@ -25,13 +25,16 @@ import io.ballerina.projects.internal.DefaultDiagnosticResult;
 import io.ballerina.projects.internal.PackageDiagnostic;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.ballerinalang.compiler.CompilerPhase;
 import org.ballerinalang.compiler.plugins.CompilerPlugin;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -158,6 +161,27 @@ public class PackageCompilation {
         return new BallerinaSemanticModel(moduleContext.bLangPackage(), this.compilerContext);
     }
 
+    /**
+     * Returns the time spent in each compiler phase by the latest compilation of the given module.
+     * <p>
+     * Modules that are reused from a previous compilation report the durations recorded when they were compiled.
+     * An empty map is returned if the module was loaded from a cache instead of being compiled from sources, or if
+     * the module is not a module of the root package.
+     *
+     * @param moduleId module id
+     * @return elapsed time per compiler phase
+     */
+    public Map<CompilerPhase, Duration> phaseDurations(ModuleId moduleId) {
+        Map<CompilerPhase, Duration> phaseDurations = new EnumMap<>(CompilerPhase.class);
+        ModuleContext moduleContext = this.rootPackageContext.moduleContext(moduleId);
+        if (moduleContext == null) {
+            return phaseDurations;
+        }
+        moduleContext.phaseDurations()
+                .forEach((phase, nanos) -> phaseDurations.put(phase, Duration.ofNanos(nanos)));
+        return phaseDurations;
+    }
+
     public CodeActionManager getCodeActionManager() {
         return compilerPluginManager.getCodeActionManager();
     }
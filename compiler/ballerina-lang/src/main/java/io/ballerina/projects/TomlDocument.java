@@ -17,13 +17,23 @@
  */
 package io.ballerina.projects;
 
+import io.ballerina.projects.util.FileUtils;
 import io.ballerina.toml.api.Toml;
 import io.ballerina.toml.semantic.ast.TomlTableNode;
 import io.ballerina.toml.semantic.ast.TomlTransformer;
 import io.ballerina.toml.syntax.tree.DocumentNode;
 import io.ballerina.toml.syntax.tree.SyntaxTree;
+import io.ballerina.toml.validator.TomlValidator;
+import io.ballerina.toml.validator.schema.Schema;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a generic TOML document in a Ballerina package.
@@ -33,19 +43,61 @@ import io.ballerina.tools.text.TextDocuments;
 public class TomlDocument {
     private final String fileName;
     private final String content;
+    // Validators shared by the versions of this document
+    private final Map<String, TomlValidator> validators;
+    // Syntax tree of the previous version of this document, which is reparsed incrementally
+    private SyntaxTree oldSyntaxTree;
     private TextDocument textDocument;
     private SyntaxTree syntaxTree;
     private Toml toml;
 
     protected TomlDocument(String fileName, String content) {
+        this(fileName, content, null, new ConcurrentHashMap<>());
+    }
+
+    private TomlDocument(String fileName, String content, SyntaxTree oldSyntaxTree,
+                         Map<String, TomlValidator> validators) {
         this.fileName = fileName;
         this.content = content;
+        this.oldSyntaxTree = oldSyntaxTree;
+        this.validators = validators;
     }
 
     public static TomlDocument from(String fileName, String content) {
         return new TomlDocument(fileName, content);
     }
 
+    /**
+     * Creates a new version of this document with the given content.
+     * <p>
+     * The new version is parsed by reparsing only the top-level members changed from this version. It shares the
+     * validators of this version, which do not validate the unchanged top-level entries again.
+     *
+     * @param content content of the new version
+     * @return new version of this document
+     */
+    TomlDocument modify(String content) {
+        SyntaxTree previousSyntaxTree = this.syntaxTree != null ? this.syntaxTree : this.oldSyntaxTree;
+        return new TomlDocument(fileName, content, previousSyntaxTree, validators);
+    }
+
+    /**
+     * Returns the validator of this document for the given schema.
+     *
+     * @param schemaName name of the schema resource
+     * @return validator of this document for the given schema
+     * @throws IOException if the schema resource cannot be read
+     */
+    public TomlValidator validator(String schemaName) throws IOException {
+        TomlValidator validator = validators.get(schemaName);
+        if (validator != null) {
+            return validator;
+        }
+        validator = new TomlValidator(Schema.from(FileUtils.readFileAsString(schemaName)), true);
+        TomlValidator existingValidator = validators.putIfAbsent(schemaName, validator);
+        return existingValidator != null ? existingValidator : validator;
+    }
+
     public Toml toml() {
         if (toml != null) {
             return toml;
@@ -74,8 +126,15 @@ public class TomlDocument {
 
     private void parseToml() {
         try {
-            this.textDocument = TextDocuments.from(content);
-            this.syntaxTree = SyntaxTree.from(this.textDocument, this.fileName);
+            if (oldSyntaxTree != null) {
+                this.syntaxTree = SyntaxTree.from(oldSyntaxTree,
+                        getTextDocumentChange(oldSyntaxTree.textDocument(), content));
+                this.textDocument = this.syntaxTree.textDocument();
+                this.oldSyntaxTree = null;
+            } else {
+                this.textDocument = TextDocuments.from(content);
+                this.syntaxTree = SyntaxTree.from(this.textDocument, this.fileName);
+            }
             TomlTransformer nodeTransformer = new TomlTransformer();
             TomlTableNode transformedTable = (TomlTableNode) nodeTransformer
                     .transform((DocumentNode) syntaxTree.rootNode());
@@ -85,4 +144,22 @@ public class TomlDocument {
             throw new ProjectException("Failed to parse file: " + fileName, e);
         }
     }
+
+    private static TextDocumentChange getTextDocumentChange(TextDocument oldTextDocument, String newContent) {
+        // A single edit replacing the text between the common prefix and the common suffix
+        char[] oldContent = oldTextDocument.toCharArray();
+        int maxLength = Math.min(oldContent.length, newContent.length());
+        int prefixLength = 0;
+        while (prefixLength < maxLength && oldContent[prefixLength] == newContent.charAt(prefixLength)) {
+            prefixLength++;
+        }
+        int suffixLength = 0;
+        while (suffixLength < maxLength - prefixLength && oldContent[oldContent.length - suffixLength - 1]
+                == newContent.charAt(newContent.length() - suffixLength - 1)) {
+            suffixLength++;
+        }
+        TextRange range = TextRange.from(prefixLength, oldContent.length - prefixLength - suffixLength);
+        String text = newContent.substring(prefixLength, newContent.length() - suffixLength);
+        return TextDocumentChange.from(new TextEdit[]{TextEdit.from(range, text)});
+    }
 }
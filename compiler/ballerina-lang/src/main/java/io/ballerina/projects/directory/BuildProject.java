@@ -24,6 +24,7 @@ import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.BuildTool;
 import io.ballerina.projects.BuildToolResolution;
 import io.ballerina.projects.DependencyGraph;
+import io.ballerina.projects.DependencyManifest;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleDescriptor;
@@ -37,7 +38,10 @@ import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.ResolvedPackageDependency;
+import io.ballerina.projects.TomlDocument;
 import io.ballerina.projects.internal.BalaFiles;
+import io.ballerina.projects.internal.DependencyManifestBuilder;
+import io.ballerina.projects.internal.DependencyManifestSnapshot;
 import io.ballerina.projects.internal.PackageConfigCreator;
 import io.ballerina.projects.internal.ProjectFiles;
 import io.ballerina.projects.internal.model.BuildJson;
@@ -62,6 +66,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import static io.ballerina.projects.util.ProjectConstants.BUILD_FILE;
+import static io.ballerina.projects.util.ProjectConstants.DEPENDENCIES_SNAPSHOT_FILE;
 import static io.ballerina.projects.util.ProjectConstants.DEPENDENCIES_TOML;
 import static io.ballerina.projects.util.ProjectUtils.getDependenciesTomlContent;
 import static io.ballerina.projects.util.ProjectUtils.readBuildJson;
@@ -115,8 +120,10 @@ public class BuildProject extends Project {
      */
     public static BuildProject load(ProjectEnvironmentBuilder environmentBuilder, Path projectPath,
                                     BuildOptions buildOptions) {
+        Path targetDir = buildOptions.getTargetPath() == null ?
+                projectPath.resolve(ProjectConstants.TARGET_DIR_NAME) : Path.of(buildOptions.getTargetPath());
         PackageConfig packageConfig = PackageConfigCreator.createBuildProjectConfig(projectPath,
-                buildOptions.disableSyntaxTree());
+                buildOptions.disableSyntaxTree(), targetDir.resolve(DEPENDENCIES_SNAPSHOT_FILE));
         BuildOptions mergedBuildOptions = ProjectFiles.createBuildOptions(packageConfig, buildOptions, projectPath);
 
         BuildProject buildProject = new BuildProject(environmentBuilder, projectPath, mergedBuildOptions);
@@ -336,9 +343,26 @@ public class BuildProject extends Project {
                     writeContent(dependenciesTomlFile, dependenciesContent);
                 }
             }
+            if (dependenciesTomlFile.toFile().exists()) {
+                writeDependenciesSnapshot(dependenciesContent);
+            }
         }
     }
 
+    private void writeDependenciesSnapshot(String dependenciesContent) {
+        // Reuse the dependency manifest of the package if the Dependencies.toml content did not change
+        Package currentPackage = this.currentPackage();
+        DependencyManifest dependencyManifest = currentPackage.dependenciesToml()
+                .filter(dependenciesToml -> dependenciesContent.equals(
+                        new String(dependenciesToml.tomlDocument().textDocument().toCharArray())))
+                .map(dependenciesToml -> currentPackage.dependencyManifest())
+                .orElseGet(() -> DependencyManifestBuilder.from(
+                        TomlDocument.from(DEPENDENCIES_TOML, dependenciesContent),
+                        currentPackage.descriptor()).dependencyManifest());
+        DependencyManifestSnapshot.write(this.targetDir().resolve(DEPENDENCIES_SNAPSHOT_FILE), dependenciesContent,
+                currentPackage.descriptor(), dependencyManifest);
+    }
+
     private List<Dependency> getPackageDependencies() {
         PackageResolution packageResolution = this.currentPackage().getResolution();
         ResolvedPackageDependency rootPkgNode = new ResolvedPackageDependency(this.currentPackage(),
@@ -23,7 +23,6 @@ import io.ballerina.projects.BalToolsToml;
 import io.ballerina.projects.PackageVersion;
 import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.TomlDocument;
-import io.ballerina.projects.util.FileUtils;
 import io.ballerina.toml.semantic.TomlType;
 import io.ballerina.toml.semantic.ast.TomlBooleanValueNode;
 import io.ballerina.toml.semantic.ast.TomlKeyValueNode;
@@ -32,7 +31,6 @@ import io.ballerina.toml.semantic.ast.TomlTableNode;
 import io.ballerina.toml.semantic.ast.TomlValueNode;
 import io.ballerina.toml.semantic.ast.TopLevelNode;
 import io.ballerina.toml.validator.TomlValidator;
-import io.ballerina.toml.validator.schema.Schema;
 
 import java.io.IOException;
 import java.util.HashMap;
@@ -94,8 +92,7 @@ public class BalToolsManifestBuilder {
         }
         TomlValidator balToolsTomlValidator;
         try {
-            balToolsTomlValidator = new TomlValidator(
-                    Schema.from(FileUtils.readFileAsString("bal-tools-toml-schema.json")));
+            balToolsTomlValidator = balToolsToml.get().validator("bal-tools-toml-schema.json");
         } catch (IOException e) {
             throw new ProjectException("Failed to read the bal-tools.toml validator schema file.");
         }
@@ -36,6 +36,8 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 
+import java.util.function.UnaryOperator;
+
 import static org.ballerinalang.compiler.CompilerOptionName.TOOLING_COMPILATION;
 
 /**
@@ -171,47 +173,56 @@ public class CompilerPhaseRunner {
     }
 
     public BLangPackage define(BLangPackage pkgNode) {
-        return this.symbolEnter.definePackage(pkgNode);
+        return timed(pkgNode, CompilerPhase.DEFINE, this.symbolEnter::definePackage);
     }
 
     private BLangPackage typeCheck(BLangPackage pkgNode) {
-        return this.semAnalyzer.analyze(pkgNode);
+        return timed(pkgNode, CompilerPhase.TYPE_CHECK, this.semAnalyzer::analyze);
     }
 
     private BLangPackage documentationAnalyze(BLangPackage pkgNode) {
-        return this.documentationAnalyzer.analyze(pkgNode);
+        return timed(pkgNode, CompilerPhase.DOCUMENTATION_ANALYZE, this.documentationAnalyzer::analyze);
     }
 
     private BLangPackage codeAnalyze(BLangPackage pkgNode) {
-        return this.codeAnalyzer.analyze(pkgNode);
+        return timed(pkgNode, CompilerPhase.CODE_ANALYZE, this.codeAnalyzer::analyze);
     }
 
     private BLangPackage dataflowAnalyze(BLangPackage pkgNode) {
-        return this.dataflowAnalyzer.analyze(pkgNode);
+        return timed(pkgNode, CompilerPhase.DATAFLOW_ANALYZE, this.dataflowAnalyzer::analyze);
     }
 
     private BLangPackage isolationAnalyze(BLangPackage pkgNode) {
-        return this.isolationAnalyzer.analyze(pkgNode);
+        return timed(pkgNode, CompilerPhase.ISOLATION_ANALYZE, this.isolationAnalyzer::analyze);
     }
 
     private BLangPackage propagateConstants(BLangPackage pkgNode) {
-        return this.constantPropagation.perform(pkgNode);
+        return timed(pkgNode, CompilerPhase.CONSTANT_PROPAGATION, this.constantPropagation::perform);
     }
 
     private BLangPackage annotationProcess(BLangPackage pkgNode) {
-        return this.compilerPluginRunner.runPlugins(pkgNode);
+        return timed(pkgNode, CompilerPhase.COMPILER_PLUGIN, this.compilerPluginRunner::runPlugins);
     }
 
     public BLangPackage desugar(BLangPackage pkgNode) {
-        return this.desugar.perform(pkgNode);
+        return timed(pkgNode, CompilerPhase.DESUGAR, this.desugar::perform);
     }
 
     public BLangPackage birGen(BLangPackage pkgNode) {
-        return this.birGenerator.genBIR(pkgNode);
+        return timed(pkgNode, CompilerPhase.BIR_GEN, this.birGenerator::genBIR);
     }
 
     private BLangPackage birEmit(BLangPackage pkgNode) {
-        return this.birEmitter.emit(pkgNode);
+        return timed(pkgNode, CompilerPhase.BIR_EMIT, this.birEmitter::emit);
+    }
+
+    private static BLangPackage timed(BLangPackage pkgNode, CompilerPhase phase, UnaryOperator<BLangPackage> pass) {
+        long startTime = System.nanoTime();
+        try {
+            return pass.apply(pkgNode);
+        } finally {
+            pkgNode.phaseDurations.merge(phase, System.nanoTime() - startTime, Long::sum);
+        }
     }
 
     private boolean stopCompilation(BLangPackage pkgNode, CompilerPhase nextPhase) {
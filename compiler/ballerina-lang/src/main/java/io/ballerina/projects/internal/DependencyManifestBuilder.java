@@ -29,7 +29,6 @@ import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.SemanticVersion;
 import io.ballerina.projects.TomlDocument;
 import io.ballerina.projects.exceptions.CorruptedDependenciesTomlException;
-import io.ballerina.projects.util.FileUtils;
 import io.ballerina.toml.semantic.TomlType;
 import io.ballerina.toml.semantic.ast.TomlArrayValueNode;
 import io.ballerina.toml.semantic.ast.TomlInlineTableValueNode;
@@ -39,7 +38,6 @@ import io.ballerina.toml.semantic.ast.TomlTableNode;
 import io.ballerina.toml.semantic.ast.TomlValueNode;
 import io.ballerina.toml.semantic.ast.TopLevelNode;
 import io.ballerina.toml.validator.TomlValidator;
-import io.ballerina.toml.validator.schema.Schema;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticFactory;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
@@ -172,7 +170,7 @@ public class DependencyManifestBuilder {
         if (dependenciesToml.isPresent()) {
             TomlValidator dependenciesTomlValidator;
             try {
-                dependenciesTomlValidator = new TomlValidator(Schema.from(FileUtils.readFileAsString(schemaName)));
+                dependenciesTomlValidator = dependenciesToml.get().validator(schemaName);
             } catch (IOException e) {
                 throw new ProjectException("Failed to read the Dependencies.toml validator schema file:" + schemaName);
             }
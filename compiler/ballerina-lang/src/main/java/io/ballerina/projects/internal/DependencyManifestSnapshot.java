@@ -0,0 +1,262 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.projects.internal;
+
+import io.ballerina.projects.BuildToolId;
+import io.ballerina.projects.DependencyManifest;
+import io.ballerina.projects.PackageDescriptor;
+import io.ballerina.projects.PackageName;
+import io.ballerina.projects.PackageOrg;
+import io.ballerina.projects.PackageVersion;
+import io.ballerina.projects.SemanticVersion;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextRange;
+import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLocation;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Binary snapshot of the {@code DependencyManifest} parsed from the {@code Dependencies.toml} file of a build
+ * project, which is kept in the target directory.
+ * <p>
+ * Loading an unchanged project reads the dependency manifest from the snapshot instead of parsing and validating
+ * the {@code Dependencies.toml} file. The snapshot is only used if it was written by the same distribution for the
+ * same root package and the same {@code Dependencies.toml} content. Manifests with diagnostics are not written, so
+ * that the diagnostics are reported on every load. The resolved dependency graph and the metadata of the dependency
+ * balas are not part of the snapshot, and they are still resolved when the package is compiled.
+ *
+ * @since 2201.13.0
+ */
+public final class DependencyManifestSnapshot {
+
+    private static final int MAGIC = 0x42444d53;
+    private static final int FORMAT_VERSION = 1;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private DependencyManifestSnapshot() {
+    }
+
+    /**
+     * Read the dependency manifest of the given {@code Dependencies.toml} content from the snapshot file.
+     *
+     * @param snapshotFile            path of the snapshot file
+     * @param dependenciesTomlContent content of the {@code Dependencies.toml} file
+     * @param packageDescriptor       descriptor of the root package
+     * @return the dependency manifest, or empty if the snapshot does not exist or is stale
+     */
+    public static Optional<DependencyManifest> read(Path snapshotFile, String dependenciesTomlContent,
+                                                    PackageDescriptor packageDescriptor) {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION
+                    || !RepoUtils.getBallerinaVersion().equals(in.readUTF())
+                    || !packageDescriptor.toString().equals(in.readUTF())) {
+                return Optional.empty();
+            }
+            byte[] digest = new byte[in.readInt()];
+            in.readFully(digest);
+            if (!Arrays.equals(digest, digest(dependenciesTomlContent))) {
+                return Optional.empty();
+            }
+            return Optional.of(readDependencyManifest(in));
+        } catch (IOException | RuntimeException e) {
+            // A snapshot that cannot be read is the same as a stale snapshot
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Write the dependency manifest parsed from the given {@code Dependencies.toml} content to the snapshot file.
+     * Nothing is written if the dependency manifest has diagnostics.
+     *
+     * @param snapshotFile            path of the snapshot file
+     * @param dependenciesTomlContent content of the {@code Dependencies.toml} file
+     * @param packageDescriptor       descriptor of the root package
+     * @param dependencyManifest      dependency manifest parsed from the content
+     */
+    public static void write(Path snapshotFile, String dependenciesTomlContent, PackageDescriptor packageDescriptor,
+                             DependencyManifest dependencyManifest) {
+        if (!dependencyManifest.diagnostics().diagnostics().isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(snapshotFile.toAbsolutePath().getParent());
+            // Write to a temporary file first, so that concurrent loads never see a partially written snapshot
+            Path tempFile = Files.createTempFile(snapshotFile.toAbsolutePath().getParent(),
+                    snapshotFile.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeUTF(RepoUtils.getBallerinaVersion());
+                    out.writeUTF(packageDescriptor.toString());
+                    byte[] digest = digest(dependenciesTomlContent);
+                    out.writeInt(digest.length);
+                    out.write(digest);
+                    writeDependencyManifest(out, dependencyManifest);
+                }
+                Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            // ignore, the Dependencies.toml file is parsed again in the next load
+        }
+    }
+
+    private static void writeDependencyManifest(DataOutputStream out, DependencyManifest dependencyManifest)
+            throws IOException {
+        writeNullableString(out, dependencyManifest.dependenciesTomlVersion());
+        SemanticVersion distributionVersion = dependencyManifest.distributionVersion();
+        writeNullableString(out, distributionVersion != null ? distributionVersion.toString() : null);
+
+        out.writeInt(dependencyManifest.packages().size());
+        for (DependencyManifest.Package pkg : dependencyManifest.packages()) {
+            out.writeUTF(pkg.org().value());
+            out.writeUTF(pkg.name().value());
+            out.writeUTF(pkg.version().toString());
+            writeNullableString(out, pkg.scope());
+            out.writeBoolean(pkg.isTransitive());
+            out.writeInt(pkg.dependencies().size());
+            for (DependencyManifest.Dependency dependency : pkg.dependencies()) {
+                out.writeUTF(dependency.org().value());
+                out.writeUTF(dependency.name().value());
+            }
+            out.writeInt(pkg.modules().size());
+            for (DependencyManifest.Module module : pkg.modules()) {
+                out.writeUTF(module.org());
+                out.writeUTF(module.packageName());
+                out.writeUTF(module.moduleName());
+            }
+            writeLocation(out, pkg.location().orElse(null));
+        }
+
+        out.writeInt(dependencyManifest.tools().size());
+        for (DependencyManifest.Tool tool : dependencyManifest.tools()) {
+            out.writeUTF(tool.id().value());
+            out.writeUTF(tool.org().value());
+            out.writeUTF(tool.name().value());
+            out.writeUTF(tool.version().toString());
+            writeLocation(out, tool.location().orElse(null));
+        }
+    }
+
+    private static DependencyManifest readDependencyManifest(DataInputStream in) throws IOException {
+        String dependenciesTomlVersion = readNullableString(in);
+        String distributionVersion = readNullableString(in);
+
+        int packageCount = in.readInt();
+        List<DependencyManifest.Package> packages = new ArrayList<>(packageCount);
+        for (int i = 0; i < packageCount; i++) {
+            PackageOrg org = PackageOrg.from(in.readUTF());
+            PackageName name = PackageName.from(in.readUTF());
+            PackageVersion version = PackageVersion.from(in.readUTF());
+            String scope = readNullableString(in);
+            boolean transitive = in.readBoolean();
+            int dependencyCount = in.readInt();
+            List<DependencyManifest.Dependency> dependencies = new ArrayList<>(dependencyCount);
+            for (int j = 0; j < dependencyCount; j++) {
+                PackageOrg dependencyOrg = PackageOrg.from(in.readUTF());
+                dependencies.add(new DependencyManifest.Dependency(PackageName.from(in.readUTF()), dependencyOrg));
+            }
+            int moduleCount = in.readInt();
+            List<DependencyManifest.Module> modules = new ArrayList<>(moduleCount);
+            for (int j = 0; j < moduleCount; j++) {
+                modules.add(new DependencyManifest.Module(in.readUTF(), in.readUTF(), in.readUTF()));
+            }
+            packages.add(new DependencyManifest.Package(name, org, version, scope, transitive, dependencies, modules,
+                    readLocation(in)));
+        }
+
+        int toolCount = in.readInt();
+        List<DependencyManifest.Tool> tools = new ArrayList<>(toolCount);
+        for (int i = 0; i < toolCount; i++) {
+            BuildToolId id = BuildToolId.from(in.readUTF());
+            PackageOrg org = PackageOrg.from(in.readUTF());
+            PackageName name = PackageName.from(in.readUTF());
+            PackageVersion version = PackageVersion.from(in.readUTF());
+            tools.add(new DependencyManifest.Tool(id, org, name, version, readLocation(in)));
+        }
+
+        return DependencyManifest.from(dependenciesTomlVersion,
+                distributionVersion != null ? SemanticVersion.from(distributionVersion) : null, packages, tools);
+    }
+
+    private static void writeLocation(DataOutputStream out, Location location) throws IOException {
+        out.writeBoolean(location != null);
+        if (location == null) {
+            return;
+        }
+        LineRange lineRange = location.lineRange();
+        TextRange textRange = location.textRange();
+        out.writeUTF(lineRange.fileName());
+        out.writeInt(lineRange.startLine().line());
+        out.writeInt(lineRange.endLine().line());
+        out.writeInt(lineRange.startLine().offset());
+        out.writeInt(lineRange.endLine().offset());
+        out.writeInt(textRange.startOffset());
+        out.writeInt(textRange.length());
+    }
+
+    private static Location readLocation(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return new BLangDiagnosticLocation(in.readUTF(), in.readInt(), in.readInt(), in.readInt(), in.readInt(),
+                in.readInt(), in.readInt());
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static byte[] digest(String content) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not supported", e);
+        }
+    }
+}
@@ -48,7 +48,6 @@ import io.ballerina.toml.semantic.ast.TopLevelNode;
 import io.ballerina.toml.semantic.diagnostics.TomlDiagnostic;
 import io.ballerina.toml.semantic.diagnostics.TomlNodeLocation;
 import io.ballerina.toml.validator.TomlValidator;
-import io.ballerina.toml.validator.schema.Schema;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
@@ -185,8 +184,7 @@ public class ManifestBuilder {
     private PackageManifest parseAsPackageManifest() {
         TomlValidator ballerinaTomlValidator;
         try {
-            ballerinaTomlValidator = new TomlValidator(
-                    Schema.from(FileUtils.readFileAsString("ballerina-toml-schema.json")));
+            ballerinaTomlValidator = ballerinaToml.validator("ballerina-toml-schema.json");
         } catch (IOException e) {
             throw new ProjectException("Failed to read the Ballerina.toml validator schema file.");
         }
@@ -920,6 +918,8 @@ public class ManifestBuilder {
                 BuildOptions.OptionName.SHOW_DEPENDENCY_DIAGNOSTICS.toString());
         Boolean optimizeDependencyCompilation = getBooleanFromBuildOptionsTableNode(tableNode,
                 BuildOptions.OptionName.OPTIMIZE_DEPENDENCY_COMPILATION.toString());
+        Boolean cdsArchive = getBooleanFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.CDS_ARCHIVE.toString());
         String lockingMode = getStringFromBuildOptionsTableNode(tableNode,
                 CompilerOptionName.LOCKING_MODE.toString());
 
@@ -940,6 +940,7 @@ public class ManifestBuilder {
                 .setRemoteManagement(remoteManagement)
                 .setShowDependencyDiagnostics(showDependencyDiagnostics)
                 .setOptimizeDependencyCompilation(optimizeDependencyCompilation)
+                .setCdsArchive(cdsArchive)
                 .setLockingMode(lockingMode);
 
         if (targetDir != null) {
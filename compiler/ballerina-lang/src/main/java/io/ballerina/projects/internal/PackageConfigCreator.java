@@ -46,6 +46,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -60,6 +61,21 @@ public final class PackageConfigCreator {
     }
 
     public static PackageConfig createBuildProjectConfig(Path projectDirPath, boolean disableSyntaxTree) {
+        return createBuildProjectConfig(projectDirPath, disableSyntaxTree, null);
+    }
+
+    /**
+     * Create the package config of a build project, reading the dependency manifest from the given snapshot file
+     * if it is up-to-date with the {@code Dependencies.toml} file.
+     *
+     * @param projectDirPath               project directory path
+     * @param disableSyntaxTree            whether to disable the syntax tree
+     * @param dependenciesSnapshotFilePath path of the dependency manifest snapshot file, or null to parse the
+     *                                     {@code Dependencies.toml} file
+     * @return package config
+     */
+    public static PackageConfig createBuildProjectConfig(Path projectDirPath, boolean disableSyntaxTree,
+                                                         Path dependenciesSnapshotFilePath) {
         ProjectFiles.validateBuildProjectDirPath(projectDirPath);
 
         // TODO Create the PackageManifest from the BallerinaToml file
@@ -81,9 +97,13 @@ public final class PackageConfigCreator {
         ManifestBuilder manifestBuilder = ManifestBuilder
                 .from(ballerinaToml, pluginToml, balToolToml, projectDirPath);
         PackageManifest packageManifest = manifestBuilder.packageManifest();
-        DependencyManifestBuilder dependencyManifestBuilder =
-                DependencyManifestBuilder.from(dependenciesToml, packageManifest.descriptor());
-        DependencyManifest dependencyManifest = dependencyManifestBuilder.dependencyManifest();
+        Optional<DependencyManifest> snapshot = Optional.empty();
+        if (dependenciesSnapshotFilePath != null && packageData.dependenciesToml().isPresent()) {
+            snapshot = DependencyManifestSnapshot.read(dependenciesSnapshotFilePath,
+                    packageData.dependenciesToml().get().content(), packageManifest.descriptor());
+        }
+        DependencyManifest dependencyManifest = snapshot.orElseGet(() -> DependencyManifestBuilder
+                .from(dependenciesToml, packageManifest.descriptor()).dependencyManifest());
 
         return createPackageConfig(packageData, packageManifest, dependencyManifest, DependencyGraph.emptyGraph(),
                 Collections.emptyMap(), disableSyntaxTree);
@@ -343,12 +343,8 @@ public final class ProjectFiles {
         // Todo figure out how to pass the build options without a performance hit
         TomlDocument ballerinaToml = TomlDocument.from(ProjectConstants.BALLERINA_TOML,
                 packageConfig.ballerinaToml().map(DocumentConfig::content).orElse(""));
-        TomlDocument pluginToml = TomlDocument.from(ProjectConstants.COMPILER_PLUGIN_TOML,
-                packageConfig.dependenciesToml().map(DocumentConfig::content).orElse(""));
-        TomlDocument balToolToml = TomlDocument.from(ProjectConstants.BAL_TOOL_TOML,
-                packageConfig.balToolToml().map(DocumentConfig::content).orElse(""));
-        ManifestBuilder manifestBuilder = ManifestBuilder
-                .from(ballerinaToml, pluginToml, balToolToml, projectDirPath);
+        // The build options are only read from the Ballerina.toml, so the plugin and tool descriptors are not parsed
+        ManifestBuilder manifestBuilder = ManifestBuilder.from(ballerinaToml, null, null, projectDirPath);
         BuildOptions defaultBuildOptions = manifestBuilder.buildOptions();
         if (defaultBuildOptions == null) {
             defaultBuildOptions = BuildOptions.builder().build();
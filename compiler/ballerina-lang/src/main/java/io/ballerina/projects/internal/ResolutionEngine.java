@@ -40,8 +40,10 @@ import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -59,6 +61,7 @@ public class ResolutionEngine {
     private final ResolutionOptions resolutionOptions;
     private final PackageDependencyGraphBuilder graphBuilder;
     private final List<Diagnostic> diagnostics;
+    private final Map<PackageDescriptor, DependencyGraph<PackageDescriptor>> builtInPkgDepGraphs;
     private String dependencyGraphDump;
     private DiagnosticResult diagnosticResult;
     private Set<DependencyNode> unresolvedDeps = null;
@@ -76,6 +79,7 @@ public class ResolutionEngine {
 
         this.graphBuilder = new PackageDependencyGraphBuilder(rootPkgDesc, resolutionOptions);
         this.diagnostics = new ArrayList<>();
+        this.builtInPkgDepGraphs = new HashMap<>();
         this.dependencyGraphDump = "";
     }
 
@@ -276,6 +280,18 @@ public class ResolutionEngine {
 
     private DependencyGraph<PackageDescriptor> getBuiltInPkgDescDepGraph(
             PackageDependencyScope scope, PackageDescriptor directDep) {
+        // The same built-in package is reached through many packages in the graph, and its dependency graph
+        // in the distribution does not depend on the scope. Therefore, we look it up only once.
+        DependencyGraph<PackageDescriptor> builtInPkgDepGraph = builtInPkgDepGraphs.get(directDep);
+        if (builtInPkgDepGraph == null) {
+            builtInPkgDepGraph = resolveBuiltInPkgDescDepGraph(scope, directDep);
+            builtInPkgDepGraphs.put(directDep, builtInPkgDepGraph);
+        }
+        return builtInPkgDepGraph;
+    }
+
+    private DependencyGraph<PackageDescriptor> resolveBuiltInPkgDescDepGraph(
+            PackageDependencyScope scope, PackageDescriptor directDep) {
         Collection<PackageMetadataResponse> packageMetadataResponses = packageResolver.resolvePackageMetadata(
                 Collections.singletonList(ResolutionRequest.from(directDep, scope)), resolutionOptions);
         if (packageMetadataResponses.isEmpty()) {
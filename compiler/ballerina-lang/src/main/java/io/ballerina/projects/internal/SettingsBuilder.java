@@ -24,7 +24,6 @@ import io.ballerina.projects.TomlDocument;
 import io.ballerina.projects.internal.model.Central;
 import io.ballerina.projects.internal.model.Proxy;
 import io.ballerina.projects.internal.model.Repository;
-import io.ballerina.projects.util.FileUtils;
 import io.ballerina.toml.semantic.TomlType;
 import io.ballerina.toml.semantic.ast.TomlKeyValueNode;
 import io.ballerina.toml.semantic.ast.TomlLongValueNode;
@@ -34,7 +33,6 @@ import io.ballerina.toml.semantic.ast.TomlTableNode;
 import io.ballerina.toml.semantic.ast.TomlValueNode;
 import io.ballerina.toml.semantic.ast.TopLevelNode;
 import io.ballerina.toml.validator.TomlValidator;
-import io.ballerina.toml.validator.schema.Schema;
 import io.ballerina.tools.diagnostics.Diagnostic;
 
 import java.io.IOException;
@@ -105,8 +103,7 @@ public class SettingsBuilder {
     private Settings parseAsSettings() {
         TomlValidator settingsTomlValidator;
         try {
-            settingsTomlValidator = new TomlValidator(
-                    Schema.from(FileUtils.readFileAsString("settings-toml-schema.json")));
+            settingsTomlValidator = settingsToml.validator("settings-toml-schema.json");
         } catch (IOException e) {
             throw new ProjectException("Failed to read the Settings.toml validator schema file.");
         }
@@ -33,6 +33,7 @@ import io.ballerina.projects.environment.ResolutionResponse;
 import io.ballerina.projects.environment.ResolutionResponse.ResolutionStatus;
 import io.ballerina.projects.internal.ImportModuleRequest;
 import io.ballerina.projects.internal.ImportModuleResponse;
+import io.ballerina.projects.internal.repositories.RemotePackageRepository;
 import io.ballerina.projects.util.ProjectConstants;
 
 import java.util.ArrayList;
@@ -42,6 +43,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -54,6 +61,16 @@ import static io.ballerina.projects.util.ProjectUtils.getLatest;
  * @since 2.0.0
  */
 public class DefaultPackageResolver implements PackageResolver {
+    private static final int MAX_CENTRAL_LOOKUP_THREADS = 4;
+    private static final long CENTRAL_LOOKUP_THREAD_KEEP_ALIVE_SECONDS = 30;
+    private static final String CENTRAL_LOOKUP_THREAD_NAME = "central-package-metadata-lookup";
+    // Central lookups block on network I/O. Therefore, they run on their own daemon threads instead of the
+    // common fork-join pool. When all the threads are busy, a lookup runs on the thread that requested it.
+    private static final ExecutorService CENTRAL_LOOKUP_EXECUTOR = new ThreadPoolExecutor(0,
+            MAX_CENTRAL_LOOKUP_THREADS, CENTRAL_LOOKUP_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), DefaultPackageResolver::newCentralLookupThread,
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
     private final PackageRepository distributionRepo;
     private final PackageRepository centralRepo;
     private final PackageRepository localRepo;
@@ -125,6 +142,18 @@ public class DefaultPackageResolver implements PackageResolver {
     @Override
     public Collection<PackageMetadataResponse> resolvePackageMetadata(Collection<ResolutionRequest> requests,
                                                                       ResolutionOptions options) {
+        // Send non built in packages to central
+        Collection<ResolutionRequest> centralLoadRequests = requests.stream()
+                .filter(r -> !r.packageDescriptor().isBuiltInPackage())
+                .toList();
+        // Central lookups may go over the network when online. Therefore, they are sent before looking up
+        // the other repositories, which only read the file system.
+        CompletableFuture<Collection<PackageMetadataResponse>> centralLookup = options.offline() ||
+                centralLoadRequests.isEmpty() ?
+                CompletableFuture.completedFuture(centralRepo.getPackageMetadata(centralLoadRequests, options)) :
+                CompletableFuture.supplyAsync(() -> centralRepo.getPackageMetadata(centralLoadRequests, options),
+                        CENTRAL_LOOKUP_EXECUTOR);
+
         Collection<ResolutionRequest> localRepoRequests = new ArrayList<>();
         Map<PackageRepository, ArrayList<ResolutionRequest>> customRepoRequestMap = new HashMap<>();
         for (ResolutionRequest request : requests) {
@@ -162,12 +191,7 @@ public class DefaultPackageResolver implements PackageResolver {
         Collection<PackageMetadataResponse> latestVersionsInDist =
                 distributionRepo.getPackageMetadata(requests, options);
 
-        // Send non built in packages to central
-        Collection<ResolutionRequest> centralLoadRequests = requests.stream()
-                .filter(r -> !r.packageDescriptor().isBuiltInPackage())
-                .toList();
-        Collection<PackageMetadataResponse> latestVersionsInCentral =
-                centralRepo.getPackageMetadata(centralLoadRequests, options);
+        Collection<PackageMetadataResponse> latestVersionsInCentral = awaitCentralLookup(centralLookup);
 
         // TODO Unit test following merge
         List<PackageMetadataResponse> responseDescriptors = new ArrayList<>(
@@ -198,6 +222,24 @@ public class DefaultPackageResolver implements PackageResolver {
         return responseDescriptors;
     }
 
+    private static Thread newCentralLookupThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, CENTRAL_LOOKUP_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static Collection<PackageMetadataResponse> awaitCentralLookup(
+            CompletableFuture<Collection<PackageMetadataResponse>> centralLookup) {
+        try {
+            return centralLookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
     @Override
     public Collection<ResolutionResponse> resolvePackages(Collection<ResolutionRequest> requests,
                                                           ResolutionOptions options) {
@@ -205,20 +247,46 @@ public class DefaultPackageResolver implements PackageResolver {
             return Collections.emptyList();
         }
 
-        return requests.stream()
-                .map(request -> resolvePackage(request, options))
-                .toList();
-    }
+        // 1) Load the packages from the cache, or else from the local, custom and distribution repositories
+        List<ResolutionRequest> resolutionReqs = new ArrayList<>(requests);
+        List<Optional<Package>> resolvedPackages = new ArrayList<>(resolutionReqs.size());
+        List<ResolutionRequest> centralLoadRequests = new ArrayList<>();
+        for (ResolutionRequest resolutionReq : resolutionReqs) {
+            Optional<Package> resolvedPackage = loadFromCache(resolutionReq);
+            if (resolvedPackage.isEmpty()) {
+                resolvedPackage = resolveFromRepository(resolutionReq, options);
+                resolvedPackage.ifPresent(packageCache::cache);
+                if (resolvedPackage.isEmpty() && isResolvedFromCentral(resolutionReq)) {
+                    centralLoadRequests.add(resolutionReq);
+                }
+            }
+            resolvedPackages.add(resolvedPackage);
+        }
 
-    private ResolutionResponse resolvePackage(ResolutionRequest resolutionReq, ResolutionOptions options) {
-        // 1) Load the package from the cache
-        Optional<Package> resolvedPackage = loadFromCache(resolutionReq);
-        if (resolvedPackage.isEmpty()) {
-            // 2) If not try to resolve from local, dist and central repositories
-            resolvedPackage = resolveFromRepository(resolutionReq, options);
-            resolvedPackage.ifPresent(packageCache::cache);
+        // 2) Load the rest of the packages from the central repo, after pulling them together
+        if (centralRepo instanceof RemotePackageRepository remotePackageRepository) {
+            remotePackageRepository.pullPackages(centralLoadRequests, options);
+        }
+        List<ResolutionResponse> resolutionResponses = new ArrayList<>(resolutionReqs.size());
+        for (int i = 0; i < resolutionReqs.size(); i++) {
+            ResolutionRequest resolutionReq = resolutionReqs.get(i);
+            Optional<Package> resolvedPackage = resolvedPackages.get(i);
+            if (resolvedPackage.isEmpty() && isResolvedFromCentral(resolutionReq)) {
+                resolvedPackage = centralRepo.getPackage(resolutionReq, options);
+                resolvedPackage.ifPresent(packageCache::cache);
+            }
+            resolutionResponses.add(createResolutionResponse(resolutionReq, resolvedPackage));
         }
+        return resolutionResponses;
+    }
+
+    private static boolean isResolvedFromCentral(ResolutionRequest resolutionReq) {
+        PackageDescriptor pkgDesc = resolutionReq.packageDescriptor();
+        return !pkgDesc.isBuiltInPackage() && pkgDesc.repository().isEmpty();
+    }
 
+    private static ResolutionResponse createResolutionResponse(ResolutionRequest resolutionReq,
+                                                               Optional<Package> resolvedPackage) {
         ResolutionStatus resolutionStatus = resolvedPackage.isPresent() ?
                 ResolutionStatus.RESOLVED :
                 ResolutionStatus.UNRESOLVED;
@@ -253,13 +321,7 @@ public class DefaultPackageResolver implements PackageResolver {
 
         // 3) Try to load from the dist repo
         // TODO update this route only ballerina/* and Ballerinax/* stuff to dist repo
-        Optional<Package> resolvedPackage = distributionRepo.getPackage(resolutionReq, options);
-
-        // 4) Load from the central repo as the last attempt
-        if (resolvedPackage.isEmpty()) {
-            resolvedPackage = centralRepo.getPackage(resolutionReq, options);
-        }
-
-        return resolvedPackage;
+        // The central repo is the last attempt, which is done by the caller
+        return distributionRepo.getPackage(resolutionReq, options);
     }
 }
@@ -128,6 +128,40 @@ public class RemotePackageRepository implements PackageRepository {
         return this.fileSystemRepo.getPackage(request, options);
     }
 
+    /**
+     * Pull the given packages that are not in the cache from central at the same time, so that loading them later
+     * with {@link #getPackage(ResolutionRequest, ResolutionOptions)} does not wait for one download after another.
+     *
+     * @param requests packages to be pulled
+     * @param options  resolution options
+     */
+    public void pullPackages(Collection<ResolutionRequest> requests, ResolutionOptions options) {
+        if (options.offline()) {
+            return;
+        }
+        List<CentralAPIClient.PackagePull> packagePulls = new ArrayList<>();
+        for (ResolutionRequest request : requests) {
+            if (request.version().isEmpty() || this.fileSystemRepo.isPackageExists(request.orgName(),
+                    request.packageName(), request.version().get())) {
+                continue;
+            }
+            String orgName = request.orgName().value();
+            String packageName = request.packageName().value();
+            Path packagePathInBalaCache = this.fileSystemRepo.bala.resolve(orgName).resolve(packageName);
+            packagePulls.add(new CentralAPIClient.PackagePull(orgName, packageName,
+                    request.version().get().toString(), packagePathInBalaCache));
+        }
+        // A single package is pulled as usual, with the download progress.
+        if (packagePulls.size() < 2) {
+            return;
+        }
+        String supportedPlatform = Arrays.stream(JvmTarget.values())
+                .map(target -> target.code())
+                .collect(Collectors.joining(","));
+        // Packages that could not be pulled are pulled again when they are loaded, which reports the errors.
+        this.client.pullPackages(packagePulls, supportedPlatform, RepoUtils.getBallerinaVersion(), true);
+    }
+
     @Override
     public Collection<PackageVersion> getPackageVersions(ResolutionRequest request, ResolutionOptions options) {
         String langRepoBuild = System.getProperty("LANG_REPO_BUILD");
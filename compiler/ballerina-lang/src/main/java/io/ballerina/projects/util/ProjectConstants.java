@@ -54,6 +54,7 @@ public final class ProjectConstants {
     public static final String DEPENDENCY_GRAPH_JSON = "dependency-graph.json";
     public static final String DEPRECATED_META_FILE_NAME = "deprecated.txt";
     public static final String BUILD_FILE = "build";
+    public static final String DEPENDENCIES_SNAPSHOT_FILE = "dependencies.snapshot";
     public static final String JAVA_CLASS_EXT = ".class";
 
     public static final String SOURCE_DIR_NAME = "src";
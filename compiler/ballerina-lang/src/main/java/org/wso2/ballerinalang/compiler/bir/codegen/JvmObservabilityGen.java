@@ -110,7 +110,6 @@ class JvmObservabilityGen {
     private static final String NEW_BB_PREFIX = "observabilityDesugaredBB";
     private static final String INVOCATION_INSTRUMENTATION_TYPE = "invocation";
     private static final String FUNC_BODY_INSTRUMENTATION_TYPE = "funcBody";
-    private static final String FILE_NAME_STRING = "fileName";
     private static final String START_LINE_STRING = "startLine";
     private static final String START_COLUMN_STRING = "startCol";
     private static final Location COMPILE_TIME_CONST_POS =
@@ -251,10 +250,10 @@ class JvmObservabilityGen {
                 List<BIRBasicBlock> predecessors = entry.getValue();
                 int callInsOffset = 0;
                 if (!desugaredPosAlreadyLoaded(desugaredPos, predecessors)) {
-                    updatePositionArgsConstLoadIns(desugaredPos, currentBB);
+                    updatePositionArgsConstLoadIns(func, desugaredPos, currentBB);
                     callInsOffset = 2;
                 }
-                injectCheckpointCall(currentBB, pkg, callInsOffset);
+                injectCheckpointCall(currentBB, pkg, desugaredPos, callInsOffset);
             }
         }
     }
@@ -274,12 +273,14 @@ class JvmObservabilityGen {
      *
      * @param currentBB The basic block to which the checkpoint call should be injected
      * @param pkg The package the invocation belongs to
+     * @param pos The position of the basic block
      * @param offset The recordCheckPointCall instruction offset
      */
-    private void injectCheckpointCall(BIRBasicBlock currentBB, BIRPackage pkg, int offset) {
+    private void injectCheckpointCall(BIRBasicBlock currentBB, BIRPackage pkg, Location pos, int offset) {
         BIROperand pkgOperand = generateGlobalConstantOperand(pkg, symbolTable.stringType,
                 generatePackageId(pkg.packageID));
-        BIROperand fileNameOperand = tempLocalVarsMap.get(FILE_NAME_STRING);
+        BIROperand fileNameOperand = generateGlobalConstantOperand(pkg, symbolTable.stringType,
+                pos.lineRange().fileName());
         BIROperand startLineOperand = tempLocalVarsMap.get(START_LINE_STRING);
         BIROperand startColOperand = tempLocalVarsMap.get(START_COLUMN_STRING);
         JMethodCallInstruction recordCheckPointCallIns = new JMethodCallInstruction(null);
@@ -479,11 +480,11 @@ class JvmObservabilityGen {
                         }
                     }
                 }
-                injectStartResourceObservationCall(func, startBB, serviceName, resourcePathOrFunction, resourceAccessor,
+                injectStartResourceObservationCall(startBB, serviceName, resourcePathOrFunction, resourceAccessor,
                         isResource, isRemote, pkg, func.pos);
             } else {
                 BIROperand objectTypeOperand = generateGlobalConstantOperand(pkg, symbolTable.nilType, null);
-                injectStartCallableObservationCall(func, startBB, null, false, isMainEntryPoint, isWorker,
+                injectStartCallableObservationCall(startBB, null, false, isMainEntryPoint, isWorker,
                         objectTypeOperand, functionName, pkg, func.pos);
             }
 
@@ -603,7 +604,7 @@ class JvmObservabilityGen {
                         BIRBasicBlock errorReportBB = insertBasicBlock(func, i + 4);
                         observeEndBB = insertBasicBlock(func, i + 5);
 
-                        injectStartCallableObservationCall(func, observeStartBB, desugaredInsPosition,
+                        injectStartCallableObservationCall(observeStartBB, desugaredInsPosition,
                                 isRemote, false, false, objectTypeOperand, action, pkg,
                                 originalInsPos);
                         injectCheckErrorCalls(func, errorCheckBB, errorReportBB, observeEndBB,
@@ -621,7 +622,7 @@ class JvmObservabilityGen {
                     } else {
                         observeEndBB = insertBasicBlock(func, i + 3);
 
-                        injectStartCallableObservationCall(func, observeStartBB, desugaredInsPosition,
+                        injectStartCallableObservationCall(observeStartBB, desugaredInsPosition,
                                 isRemote, false, false, objectTypeOperand, action, pkg,
                                 originalInsPos);
                         injectStopObservationCall(observeEndBB, desugaredInsPosition);
@@ -700,7 +701,6 @@ class JvmObservabilityGen {
 
     /**
      * Inject start observation call to a basic block.
-     * @param func Bir Function
      * @param observeStartBB The basic block to which the start observation call should be injected
      * @param serviceName The service to which the instruction was attached to
      * @param resourcePathOrFunction The resource path or function name
@@ -710,7 +710,7 @@ class JvmObservabilityGen {
      * @param pkg The package the invocation belongs to
      * @param originalInsPosition The source code position of the invocation
      */
-    private void injectStartResourceObservationCall(BIRFunction func, BIRBasicBlock observeStartBB, String serviceName,
+    private void injectStartResourceObservationCall(BIRBasicBlock observeStartBB, String serviceName,
                                                     String resourcePathOrFunction, String resourceAccessor,
                                                     boolean isResource, boolean isRemote, BIRPackage pkg,
                                                     Location originalInsPosition) {
@@ -727,7 +727,7 @@ class JvmObservabilityGen {
         observeStartCallTerminator.jClassName = OBSERVE_UTILS;
         observeStartCallTerminator.jMethodVMSig = START_RESOURCE_OBSERVATION;
         observeStartCallTerminator.name = START_RESOURCE_OBSERVATION_METHOD;
-        List<BIROperand> positionOperands = generatePositionArgs(pkg, func, observeStartBB, originalInsPosition);
+        List<BIROperand> positionOperands = generatePositionArgs(pkg, originalInsPosition);
         List<BIROperand> otherOperands = Arrays.asList(serviceNameOperand, resourcePathOrFunctionOperand,
                 resourceAccessorOperand, isResourceOperand, isRemoteOperand);
         positionOperands.addAll(otherOperands);
@@ -738,7 +738,6 @@ class JvmObservabilityGen {
     /**
      * Inject start observation call to a basic block.
      *
-     * @param func Bir Function
      * @param observeStartBB The basic block to which the start observation call should be injected
      * @param desugaredInsLocation The position of all instructions, variables declarations, terminators to be generated
      * @param isRemote True if a remote function will be observed by the observation
@@ -749,7 +748,7 @@ class JvmObservabilityGen {
      * @param pkg The package the invocation belongs to
      * @param originalInsPosition The source code position of the invocation
      */
-    private void injectStartCallableObservationCall(BIRFunction func, BIRBasicBlock observeStartBB,
+    private void injectStartCallableObservationCall(BIRBasicBlock observeStartBB,
                                                     Location desugaredInsLocation, boolean isRemote,
                                                     boolean isMainEntryPoint, boolean isWorker,
                                                     BIROperand objectOperand, String action,
@@ -765,7 +764,7 @@ class JvmObservabilityGen {
         observeStartCallTerminator.jClassName = OBSERVE_UTILS;
         observeStartCallTerminator.jMethodVMSig = START_CALLABLE_OBSERVATION;
         observeStartCallTerminator.name = START_CALLABLE_OBSERVATION_METHOD;
-        List<BIROperand> positionOperands = generatePositionArgs(pkg, func, observeStartBB, originalInsPosition);
+        List<BIROperand> positionOperands = generatePositionArgs(pkg, originalInsPosition);
         List<BIROperand> otherOperands = Arrays.asList(objectOperand, actionOperand, isMainEntryPointOperand,
                 isRemoteOperand, isWorkerOperand);
         positionOperands.addAll(otherOperands);
@@ -1038,48 +1037,31 @@ class JvmObservabilityGen {
     }
 
     /**
-     * Generate operands for location.
+     * Generate operands for location. The position is passed as a single constant, so that the observed call site
+     * can be identified without formatting the position on every call.
      *
      * @param pkg Bir package
-     * @param func Bir Function
-     * @param observeStartBB Observe start basic block
      * @param pos Location
-     * @return List of operands for source file name, position start line and start column
+     * @return List of operands for the module and the source position id
      */
-    private List<BIROperand> generatePositionArgs(BIRPackage pkg, BIRFunction func, BIRBasicBlock observeStartBB,
-                                                  Location pos) {
+    private List<BIROperand> generatePositionArgs(BIRPackage pkg, Location pos) {
         BIROperand pkgOperand = generateGlobalConstantOperand(pkg, symbolTable.stringType,
                 generatePackageId(pkg.packageID));
-        BIROperand fileNameOperand = getTempLocalVariable(FILE_NAME_STRING, pos, pos.lineRange().fileName(),
-                symbolTable.stringType, observeStartBB);
-        addLocalVarIfAbsent(func, fileNameOperand.variableDcl);
-        BIROperand startLineOperand = getTempLocalVariable(START_LINE_STRING, pos,
-                pos.lineRange().startLine().line() + 1, symbolTable.intType, observeStartBB);
-        addLocalVarIfAbsent(func, startLineOperand.variableDcl);
-        BIROperand startColOperand = getTempLocalVariable(START_COLUMN_STRING, pos,
-                pos.lineRange().startLine().offset() + 1, symbolTable.intType, observeStartBB);
-        addLocalVarIfAbsent(func, startColOperand.variableDcl);
-        return new ArrayList<>(Arrays.asList(pkgOperand, fileNameOperand, startLineOperand, startColOperand));
-    }
-
-    private BIROperand getTempLocalVariable(String name, Location pos, Object value, BType variableType,
-                                            BIRBasicBlock currentBB) {
-        BIROperand birOperand = tempLocalVarsMap.get(name);
-        addConstantLoadIns(pos, value, variableType, birOperand, currentBB);
-        return birOperand;
-    }
-
-    private void updatePositionArgsConstLoadIns(Location pos, BIRBasicBlock currentBB) {
-        addConstantLoadIns(pos, pos.lineRange().startLine().line() + 1, symbolTable.intType,
-                tempLocalVarsMap.get(START_LINE_STRING), currentBB, 0);
-        addConstantLoadIns(pos, pos.lineRange().startLine().offset() + 1, symbolTable.intType,
-                tempLocalVarsMap.get(START_COLUMN_STRING), currentBB, 1);
+        String positionId = pos.lineRange().fileName() + ":" + (pos.lineRange().startLine().line() + 1) + ":" +
+                (pos.lineRange().startLine().offset() + 1);
+        BIROperand positionIdOperand = generateGlobalConstantOperand(pkg, symbolTable.stringType, positionId);
+        return new ArrayList<>(Arrays.asList(pkgOperand, positionIdOperand));
     }
 
-    private void addConstantLoadIns(Location pos, Object value, BType variableType, BIROperand birOperand,
-                                    BIRBasicBlock currentBB) {
-        ConstantLoad constantLoad = new ConstantLoad(pos, value, variableType, birOperand);
-        currentBB.instructions.add(constantLoad);
+    private void updatePositionArgsConstLoadIns(BIRFunction func, Location pos, BIRBasicBlock currentBB) {
+        BIROperand startLineOperand = tempLocalVarsMap.get(START_LINE_STRING);
+        addLocalVarIfAbsent(func, startLineOperand.variableDcl);
+        addConstantLoadIns(pos, pos.lineRange().startLine().line() + 1, symbolTable.intType, startLineOperand,
+                currentBB, 0);
+        BIROperand startColOperand = tempLocalVarsMap.get(START_COLUMN_STRING);
+        addLocalVarIfAbsent(func, startColOperand.variableDcl);
+        addConstantLoadIns(pos, pos.lineRange().startLine().offset() + 1, symbolTable.intType, startColOperand,
+                currentBB, 1);
     }
 
     private void addConstantLoadIns(Location pos, Object value, BType variableType, BIROperand birOperand,
@@ -1100,7 +1082,6 @@ class JvmObservabilityGen {
      */
     private void initializeTempLocalVariables() {
         // Initialize temporary variables for position arguments
-        generateTempLocalVariable(FILE_NAME_STRING, symbolTable.stringType);
         generateTempLocalVariable(START_LINE_STRING, symbolTable.intType);
         generateTempLocalVariable(START_COLUMN_STRING, symbolTable.intType);
         // Initialize temporary variables for error casting
@@ -464,9 +464,9 @@ public final class JvmSignatures {
     public static final String SET_TYPE_ID_SET = "(L" + TYPE_ID_SET + ";)V";
     public static final String SET_VALUE = "(L" + B_STRING_VALUE + ";L" + OBJECT + ";)V";
     public static final String START_CALLABLE_OBSERVATION = "(L" + BAL_ENV + ";L" + B_STRING_VALUE + ";L" +
-            B_STRING_VALUE + ";JJL" + B_OBJECT + ";L" + B_STRING_VALUE + ";ZZZ)V";
+            B_STRING_VALUE + ";L" + B_OBJECT + ";L" + B_STRING_VALUE + ";ZZZ)V";
     public static final String START_RESOURCE_OBSERVATION = "(L" + BAL_ENV + ";L" + B_STRING_VALUE + ";L" +
-            B_STRING_VALUE + ";JJL" + B_STRING_VALUE + ";L" + B_STRING_VALUE + ";L" + B_STRING_VALUE + ";ZZ)V";
+            B_STRING_VALUE + ";L" + B_STRING_VALUE + ";L" + B_STRING_VALUE + ";L" + B_STRING_VALUE + ";ZZ)V";
     public static final String STOP_OBSERVATION = "(L" + BAL_ENV + ";)V";
     public static final String STRING_BUILDER_APPEND = "(L" + STRING_VALUE + ";)L" + STRING_BUILDER + ";";
     public static final String TO_ARRAY = "([L" + OBJECT + ";)[L" + OBJECT + ";";
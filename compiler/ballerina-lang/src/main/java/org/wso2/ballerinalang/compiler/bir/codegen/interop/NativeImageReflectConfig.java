@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen.interop;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.wso2.ballerinalang.compiler.bir.codegen.model.JFieldBIRFunction;
+import org.wso2.ballerinalang.compiler.bir.codegen.model.JMethod;
+import org.wso2.ballerinalang.compiler.bir.codegen.model.JMethodBIRFunction;
+import org.wso2.ballerinalang.compiler.bir.codegen.model.JavaField;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Executable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * GraalVM native-image reflection configuration of the Java members bound to Ballerina external functions.
+ * <p>
+ * Members are recorded from the modules compiled for a package, after the interop validator has linked their external
+ * functions to them. A configuration belongs to a single package compilation, so that it does not carry the members
+ * of earlier compilations. Entries are kept sorted to generate the same file for the same sources.
+ *
+ * @since 2201.13.0
+ */
+public final class NativeImageReflectConfig {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    private final Map<String, ClassEntry> classes = new TreeMap<>();
+
+    /**
+     * Record the Java members linked to the external functions of a validated module.
+     *
+     * @param birPackage BIR of the module
+     */
+    public void addPackage(BIRNode.BIRPackage birPackage) {
+        addFunctions(birPackage.functions);
+        for (BIRNode.BIRTypeDefinition typeDef : birPackage.typeDefs) {
+            addFunctions(typeDef.attachedFuncs);
+        }
+    }
+
+    private void addFunctions(List<BIRNode.BIRFunction> functions) {
+        for (BIRNode.BIRFunction function : functions) {
+            if (function instanceof JMethodBIRFunction jMethodFunction) {
+                addMethod(jMethodFunction.jMethod);
+            } else if (function instanceof JFieldBIRFunction jFieldFunction) {
+                addField(jFieldFunction.javaField);
+            }
+        }
+    }
+
+    synchronized void addMethod(JMethod jMethod) {
+        Executable method = jMethod.getMethod();
+        List<String> parameterTypes = new ArrayList<>();
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            parameterTypes.add(parameterType.getTypeName());
+        }
+        getClassEntry(method.getDeclaringClass()).methods.add(new MethodEntry(jMethod.getName(), parameterTypes));
+    }
+
+    synchronized void addField(JavaField javaField) {
+        getClassEntry(javaField.getDeclaringClassName().replace('/', '.')).fields.add(javaField.getName());
+    }
+
+    public synchronized boolean isEmpty() {
+        return classes.isEmpty();
+    }
+
+    /**
+     * Write the configuration in the native-image {@code reflect-config.json} format.
+     *
+     * @param configFile path of the configuration file
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void write(Path configFile) throws IOException {
+        List<Map<String, Object>> entries = new ArrayList<>(classes.size());
+        for (Map.Entry<String, ClassEntry> classEntry : classes.entrySet()) {
+            Map<String, Object> entry = new TreeMap<>();
+            entry.put("name", classEntry.getKey());
+            ClassEntry members = classEntry.getValue();
+            if (!members.methods.isEmpty()) {
+                List<Map<String, Object>> methods = new ArrayList<>(members.methods.size());
+                for (MethodEntry method : members.methods) {
+                    methods.add(Map.of("name", method.name(), "parameterTypes", method.parameterTypes()));
+                }
+                entry.put("methods", methods);
+            }
+            if (!members.fields.isEmpty()) {
+                List<Map<String, Object>> fields = new ArrayList<>(members.fields.size());
+                for (String field : members.fields) {
+                    fields.add(Map.of("name", field));
+                }
+                entry.put("fields", fields);
+            }
+            entries.add(entry);
+        }
+        try (Writer writer = Files.newBufferedWriter(configFile, StandardCharsets.UTF_8)) {
+            GSON.toJson(entries, writer);
+        }
+    }
+
+    private ClassEntry getClassEntry(Class<?> clazz) {
+        return getClassEntry(clazz.getName());
+    }
+
+    private ClassEntry getClassEntry(String className) {
+        return classes.computeIfAbsent(className, name -> new ClassEntry());
+    }
+
+    private static final class ClassEntry {
+
+        private final TreeSet<MethodEntry> methods = new TreeSet<>();
+        private final TreeSet<String> fields = new TreeSet<>();
+    }
+
+    private record MethodEntry(String name, List<String> parameterTypes) implements Comparable<MethodEntry> {
+
+        @Override
+        public int compareTo(MethodEntry other) {
+            int nameComparison = name.compareTo(other.name);
+            if (nameComparison != 0) {
+                return nameComparison;
+            }
+            return Arrays.compare(parameterTypes.toArray(new String[0]), other.parameterTypes.toArray(new String[0]));
+        }
+    }
+}
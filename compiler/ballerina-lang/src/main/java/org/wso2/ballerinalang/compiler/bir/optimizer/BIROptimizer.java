@@ -36,6 +36,7 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
 import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
@@ -63,6 +64,9 @@ public class BIROptimizer {
     private final LHSTempVarOptimizer lhsTempVarOptimizer;
     private final BIRLockOptimizer lockOptimizer;
     private final BIRBasicBlockOptimizer bbOptimizer;
+    private final BIRTypeTestOptimizer typeTestOptimizer;
+    private final BIRTupleReturnInliner tupleReturnInliner;
+    private final BIRScalarReplacementOptimizer scalarReplacementOptimizer;
     private final LargeMethodOptimizer largeMethodOptimizer;
 
     public static BIROptimizer getInstance(CompilerContext context) {
@@ -80,6 +84,10 @@ public class BIROptimizer {
         this.lhsTempVarOptimizer = new LHSTempVarOptimizer();
         this.lockOptimizer = new BIRLockOptimizer();
         this.bbOptimizer = new BIRBasicBlockOptimizer();
+        this.typeTestOptimizer = new BIRTypeTestOptimizer(Types.getInstance(context));
+        this.tupleReturnInliner = new BIRTupleReturnInliner();
+        this.scalarReplacementOptimizer = new BIRScalarReplacementOptimizer(SymbolTable.getInstance(context),
+                Types.getInstance(context));
         this.largeMethodOptimizer = new LargeMethodOptimizer(SymbolTable.getInstance(context));
     }
 
@@ -94,6 +102,15 @@ public class BIROptimizer {
         // Optimize lock statements
         this.lockOptimizer.optimizeNode(pkg);
 
+        // Inline private functions whose returned tuple is only destructured by the caller
+        this.tupleReturnInliner.optimizeNode(pkg);
+
+        // Replace non-escaping tuple and record values with their members
+        this.scalarReplacementOptimizer.optimizeNode(pkg);
+
+        // Remove type tests and casts made redundant by type narrowing
+        this.typeTestOptimizer.optimizeNode(pkg);
+
         // Optimize BB - unnecessary goto removal
         bbOptimizer.optimizeNode(pkg, null);
 
@@ -0,0 +1,346 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replace short-lived tuple and record values with their members.
+ * <p>
+ * A tuple or record created by a list or mapping constructor into a temporary variable, which is only ever read
+ * with constant member indices or field names, does not escape the function. Such a value is not allocated;
+ * instead, its members are copied to temporary variables at the point of construction and the member accesses
+ * read from those variables. This removes the allocation for patterns such as {@code [a, b] = [b, a]}. Tuples
+ * returned by small private functions, as in {@code [a, b] = swap(a, b)}, are replaced once the
+ * {@link BIRTupleReturnInliner} has inlined the call.
+ *
+ * @since 2201.13.0
+ */
+public class BIRScalarReplacementOptimizer extends BIRVisitor {
+
+    private final SymbolTable symbolTable;
+    private final Types types;
+    private final Set<String> localVarNames = new HashSet<>();
+
+    public BIRScalarReplacementOptimizer(SymbolTable symbolTable, Types types) {
+        this.symbolTable = symbolTable;
+        this.types = types;
+    }
+
+    public void optimizeNode(BIRNode node) {
+        node.accept(this);
+    }
+
+    @Override
+    public void visit(BIRNode.BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRNode.BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        Map<BIRVariableDcl, Aggregate> candidates = findCandidates(birFunction);
+        if (candidates.isEmpty()) {
+            return;
+        }
+        removeEscapingCandidates(birFunction, candidates);
+        if (candidates.isEmpty()) {
+            return;
+        }
+        localVarNames.clear();
+        for (BIRVariableDcl localVar : birFunction.localVars) {
+            localVarNames.add(localVar.name.value);
+        }
+        for (Aggregate aggregate : candidates.values()) {
+            replace(birFunction, aggregate);
+        }
+    }
+
+    private Map<BIRVariableDcl, Aggregate> findCandidates(BIRFunction birFunction) {
+        Map<BIRVariableDcl, Aggregate> candidates = new LinkedHashMap<>();
+        Map<BIRVariableDcl, Integer> definitionCounts = new HashMap<>();
+        for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            List<BIRNonTerminator> instructions = basicBlock.instructions;
+            for (int i = 0; i < instructions.size(); i++) {
+                BIRNonTerminator ins = instructions.get(i);
+                if (ins.lhsOp == null) {
+                    continue;
+                }
+                BIRVariableDcl lhsVar = ins.lhsOp.variableDcl;
+                definitionCounts.merge(lhsVar, 1, Integer::sum);
+                if (!isReplaceableVar(lhsVar)) {
+                    continue;
+                }
+                Map<Object, BIROperand> members = switch (ins.kind) {
+                    case NEW_ARRAY -> getTupleMembers((BIRNonTerminator.NewArray) ins);
+                    case NEW_STRUCTURE -> getRecordFields(basicBlock, i, (BIRNonTerminator.NewStructure) ins);
+                    default -> null;
+                };
+                if (members != null) {
+                    candidates.put(lhsVar, new Aggregate(ins, basicBlock, members));
+                }
+            }
+        }
+        // The aggregate has to be created at a single place, otherwise a member access could observe a different
+        // value than the one its snapshot was taken from.
+        candidates.keySet().removeIf(var -> definitionCounts.get(var) != 1);
+        return candidates;
+    }
+
+    private Map<Object, BIROperand> getTupleMembers(BIRNonTerminator.NewArray newArray) {
+        BType type = JvmCodeGenUtil.getImpliedType(newArray.type);
+        if (type.tag != TypeTags.TUPLE || Symbols.isFlagOn(newArray.type.getFlags(), Flags.READONLY)) {
+            return null;
+        }
+        Map<Object, BIROperand> members = new LinkedHashMap<>();
+        for (int i = 0; i < newArray.values.size(); i++) {
+            BIRNode.BIRListConstructorEntry entry = newArray.values.get(i);
+            if (!(entry instanceof BIRNode.BIRListConstructorExprEntry)) {
+                return null;
+            }
+            members.put((long) i, entry.exprOp);
+        }
+        return members;
+    }
+
+    private Map<Object, BIROperand> getRecordFields(BIRBasicBlock basicBlock, int index,
+                                                    BIRNonTerminator.NewStructure newStructure) {
+        BType type = newStructure.lhsOp.variableDcl.type;
+        BType impliedType = JvmCodeGenUtil.getImpliedType(type);
+        if (impliedType.tag != TypeTags.RECORD || Symbols.isFlagOn(type.getFlags(), Flags.READONLY)) {
+            return null;
+        }
+        Map<Object, BIROperand> fields = new LinkedHashMap<>();
+        for (BIRNode.BIRMappingConstructorEntry entry : newStructure.initialValues) {
+            if (!(entry instanceof BIRNode.BIRMappingConstructorKeyValueEntry keyValueEntry)) {
+                return null;
+            }
+            Object key = getConstantValue(basicBlock, index, keyValueEntry.keyOp.variableDcl);
+            if (!(key instanceof String)) {
+                return null;
+            }
+            fields.put(key, keyValueEntry.valueOp);
+        }
+        // Fields without a value in the constructor get their default values when the record is instantiated.
+        if (!fields.keySet().containsAll(((BRecordType) impliedType).fields.keySet())) {
+            return null;
+        }
+        return fields;
+    }
+
+    private void removeEscapingCandidates(BIRFunction birFunction, Map<BIRVariableDcl, Aggregate> candidates) {
+        for (BIRNode.BIRErrorEntry errorEntry : birFunction.errorTable) {
+            candidates.remove(errorEntry.errorOp.variableDcl);
+        }
+        for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            List<BIRNonTerminator> instructions = basicBlock.instructions;
+            for (int i = 0; i < instructions.size(); i++) {
+                BIRNonTerminator ins = instructions.get(i);
+                if (isMemberAccess(basicBlock, i, ins, candidates)) {
+                    Aggregate aggregate = candidates.get(((BIRNonTerminator.FieldAccess) ins).rhsOp.variableDcl);
+                    aggregate.accesses.add(new MemberAccess(basicBlock, (BIRNonTerminator.FieldAccess) ins));
+                    continue;
+                }
+                for (BIROperand rhsOperand : ins.getRhsOperands()) {
+                    candidates.remove(rhsOperand.variableDcl);
+                }
+            }
+            if (basicBlock.terminator == null) {
+                continue;
+            }
+            for (BIROperand rhsOperand : basicBlock.terminator.getRhsOperands()) {
+                candidates.remove(rhsOperand.variableDcl);
+            }
+            if (basicBlock.terminator.lhsOp != null) {
+                candidates.remove(basicBlock.terminator.lhsOp.variableDcl);
+            }
+        }
+    }
+
+    private boolean isMemberAccess(BIRBasicBlock basicBlock, int index, BIRNonTerminator ins,
+                                   Map<BIRVariableDcl, Aggregate> candidates) {
+        if (ins.kind != InstructionKind.ARRAY_LOAD && ins.kind != InstructionKind.MAP_LOAD) {
+            return false;
+        }
+        BIRNonTerminator.FieldAccess fieldAccess = (BIRNonTerminator.FieldAccess) ins;
+        Aggregate aggregate = candidates.get(fieldAccess.rhsOp.variableDcl);
+        if (aggregate == null || fieldAccess.fillingRead || fieldAccess.keyOp.variableDcl.equals(
+                fieldAccess.rhsOp.variableDcl)) {
+            return false;
+        }
+        InstructionKind expectedKind = aggregate.creation.kind == InstructionKind.NEW_ARRAY ?
+                InstructionKind.ARRAY_LOAD : InstructionKind.MAP_LOAD;
+        if (ins.kind != expectedKind) {
+            return false;
+        }
+        Object key = getConstantValue(basicBlock, index, fieldAccess.keyOp.variableDcl);
+        return key != null && aggregate.members.containsKey(key);
+    }
+
+    /**
+     * Get the value of the constant loaded to the given variable by the last instruction assigning to it before the
+     * given instruction index in the same basic block.
+     */
+    private Object getConstantValue(BIRBasicBlock basicBlock, int index, BIRVariableDcl variableDcl) {
+        for (int i = index - 1; i >= 0; i--) {
+            BIRNonTerminator ins = basicBlock.instructions.get(i);
+            if (ins.lhsOp == null || !ins.lhsOp.variableDcl.equals(variableDcl)) {
+                continue;
+            }
+            if (ins.kind != InstructionKind.CONST_LOAD) {
+                return null;
+            }
+            return ((BIRNonTerminator.ConstantLoad) ins).value;
+        }
+        return null;
+    }
+
+    private void replace(BIRFunction birFunction, Aggregate aggregate) {
+        // Take a snapshot of the members where the aggregate was created.
+        String prefix = aggregate.creation.lhsOp.variableDcl.name.value + "_";
+        Map<Object, BIROperand> snapshots = new HashMap<>();
+        List<BIRNonTerminator> snapshotMoves = new ArrayList<>();
+        int memberIndex = 0;
+        for (Map.Entry<Object, BIROperand> member : aggregate.members.entrySet()) {
+            BIRVariableDcl memberVar = member.getValue().variableDcl;
+            BIROperand snapshot = new BIROperand(createTempVar(birFunction, memberVar.type,
+                    prefix + memberIndex++));
+            snapshots.put(member.getKey(), snapshot);
+            snapshotMoves.add(withScope(new BIRNonTerminator.Move(aggregate.creation.pos, member.getValue(),
+                    snapshot), aggregate.creation));
+        }
+        List<BIRNonTerminator> creationBBInstructions = aggregate.creationBB.instructions;
+        int creationIndex = creationBBInstructions.indexOf(aggregate.creation);
+        creationBBInstructions.remove(creationIndex);
+        creationBBInstructions.addAll(creationIndex, snapshotMoves);
+
+        // Read the members from the snapshots instead of the aggregate.
+        for (MemberAccess access : aggregate.accesses) {
+            List<BIRNonTerminator> instructions = access.basicBlock.instructions;
+            int accessIndex = instructions.indexOf(access.fieldAccess);
+            Object key = getConstantValue(access.basicBlock, accessIndex, access.fieldAccess.keyOp.variableDcl);
+            BIROperand snapshot = snapshots.get(key);
+            instructions.remove(accessIndex);
+            instructions.addAll(accessIndex, createMemberRead(birFunction, access.fieldAccess, snapshot));
+        }
+    }
+
+    private List<BIRNonTerminator> createMemberRead(BIRFunction birFunction, BIRNonTerminator.FieldAccess access,
+                                                    BIROperand snapshot) {
+        BIROperand lhsOp = access.lhsOp;
+        BType sourceType = snapshot.variableDcl.type;
+        BType targetType = lhsOp.variableDcl.type;
+        if (JvmCodeGenUtil.getImpliedType(sourceType).tag == JvmCodeGenUtil.getImpliedType(targetType).tag
+                && types.isSameType(sourceType, targetType)) {
+            return List.of(withScope(new BIRNonTerminator.Move(access.pos, snapshot, lhsOp), access));
+        }
+        if (isBoxedType(targetType)) {
+            return List.of(withScope(new BIRNonTerminator.TypeCast(access.pos, lhsOp, snapshot, targetType, false),
+                    access));
+        }
+        // The member would have been boxed when stored in the aggregate and unboxed when read, so do the same
+        // through an unchecked cast to and from `any`.
+        BIROperand boxed = new BIROperand(createTempVar(birFunction, symbolTable.anyType,
+                snapshot.variableDcl.name.value + "_boxed"));
+        return List.of(
+                withScope(new BIRNonTerminator.TypeCast(access.pos, boxed, snapshot, symbolTable.anyType, false),
+                        access),
+                withScope(new BIRNonTerminator.TypeCast(access.pos, lhsOp, boxed, targetType, false), access));
+    }
+
+    private boolean isBoxedType(BType type) {
+        return switch (JvmCodeGenUtil.getImpliedType(type).tag) {
+            case TypeTags.ANY, TypeTags.ANYDATA, TypeTags.JSON, TypeTags.UNION, TypeTags.READONLY, TypeTags.FINITE ->
+                    true;
+            default -> false;
+        };
+    }
+
+    private BIRVariableDcl createTempVar(BIRFunction birFunction, BType type, String name) {
+        // Always create a new variable, a local with the same name may hold an unrelated value.
+        String uniqueName = name;
+        for (int i = 1; !localVarNames.add(uniqueName); i++) {
+            uniqueName = name + "_" + i;
+        }
+        BIRVariableDcl tempVar = new BIRVariableDcl(null, type, new Name(uniqueName), VarScope.FUNCTION,
+                VarKind.TEMP, null);
+        birFunction.localVars.add(tempVar);
+        return tempVar;
+    }
+
+    private BIRNonTerminator withScope(BIRNonTerminator ins, BIRAbstractInstruction original) {
+        ins.scope = original.scope;
+        return ins;
+    }
+
+    private boolean isReplaceableVar(BIRVariableDcl variableDcl) {
+        return variableDcl.kind == VarKind.TEMP || variableDcl.kind == VarKind.SYNTHETIC;
+    }
+
+    /**
+     * A tuple or record value which is a candidate for scalar replacement.
+     */
+    private static class Aggregate {
+        final BIRNonTerminator creation;
+        final BIRBasicBlock creationBB;
+        final Map<Object, BIROperand> members;
+        final List<MemberAccess> accesses = new ArrayList<>();
+
+        Aggregate(BIRNonTerminator creation, BIRBasicBlock creationBB, Map<Object, BIROperand> members) {
+            this.creation = creation;
+            this.creationBB = creationBB;
+            this.members = members;
+        }
+    }
+
+    private record MemberAccess(BIRBasicBlock basicBlock, BIRNonTerminator.FieldAccess fieldAccess) {
+    }
+}
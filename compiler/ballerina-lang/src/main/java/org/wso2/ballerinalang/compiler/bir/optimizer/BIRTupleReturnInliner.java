@@ -0,0 +1,375 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import io.ballerina.tools.diagnostics.Location;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inline calls to small private functions which return a tuple that the caller only destructures.
+ * <p>
+ * The tuple returned by such a function is created in the callee, so the caller cannot scalar-replace it. Once the
+ * callee is inlined, the tuple is created in the caller and the scalar replacement removes it, as in
+ * {@code [a, b] = swap(a, b)}.
+ * <p>
+ * Only calls that behave the same when inlined are replaced. The callee has to be a private function of the same
+ * source file, without annotations, which does not call other functions and cannot panic, so that stack traces,
+ * breakpoints and coverage do not change. Packages compiled with tests are not optimized, since a test may mock the
+ * callee by replacing its body.
+ *
+ * @since 2201.13.0
+ */
+public class BIRTupleReturnInliner {
+
+    private static final int MAX_INLINED_INSTRUCTIONS = 32;
+
+    private final Set<String> localVarNames = new HashSet<>();
+    private final Set<String> basicBlockIds = new HashSet<>();
+    private int nextBasicBlockNumber;
+    private int inlinedCallCount;
+
+    public void optimizeNode(BIRNode.BIRPackage birPackage) {
+        if (!birPackage.packageID.skipTests) {
+            return;
+        }
+        Map<String, BIRFunction> callees = new HashMap<>();
+        for (BIRFunction function : birPackage.functions) {
+            if (isInlinableCallee(function)) {
+                callees.put(function.name.value, function);
+            }
+        }
+        if (callees.isEmpty()) {
+            return;
+        }
+        for (BIRFunction function : birPackage.functions) {
+            inlineCalls(birPackage, function, callees);
+        }
+        for (BIRNode.BIRTypeDefinition typeDef : birPackage.typeDefs) {
+            for (BIRFunction function : typeDef.attachedFuncs) {
+                inlineCalls(birPackage, function, callees);
+            }
+        }
+    }
+
+    private void inlineCalls(BIRNode.BIRPackage birPackage, BIRFunction caller, Map<String, BIRFunction> callees) {
+        localVarNames.clear();
+        basicBlockIds.clear();
+        nextBasicBlockNumber = 0;
+        inlinedCallCount = 0;
+        for (BIRVariableDcl localVar : caller.localVars) {
+            localVarNames.add(localVar.name.value);
+        }
+        for (BIRBasicBlock basicBlock : caller.basicBlocks) {
+            basicBlockIds.add(basicBlock.id.value);
+            nextBasicBlockNumber = Math.max(nextBasicBlockNumber, basicBlock.number + 1);
+        }
+
+        // Inlined basic blocks are added right after the caller's block, and they do not contain calls.
+        for (int i = 0; i < caller.basicBlocks.size(); i++) {
+            BIRBasicBlock basicBlock = caller.basicBlocks.get(i);
+            if (!(basicBlock.terminator instanceof BIRTerminator.Call call) || call.kind != InstructionKind.CALL
+                    || call.isVirtual || !birPackage.packageID.equals(call.calleePkg)) {
+                continue;
+            }
+            BIRFunction callee = callees.get(call.name.value);
+            if (callee == null || callee == caller || !isInlinableCall(caller, call, callee)) {
+                continue;
+            }
+            List<BIRBasicBlock> inlinedBasicBlocks = inline(caller, basicBlock, call, callee);
+            caller.basicBlocks.addAll(i + 1, inlinedBasicBlocks);
+            i += inlinedBasicBlocks.size();
+        }
+    }
+
+    private boolean isInlinableCallee(BIRFunction function) {
+        if (Symbols.isFlagOn(function.flags, Flags.PUBLIC) || Symbols.isFlagOn(function.flags, Flags.NATIVE)
+                || function.receiver != null || function.hasWorkers || function.pos == null
+                || function.basicBlocks.isEmpty() || !function.errorTable.isEmpty()
+                || !function.annotAttachments.isEmpty() || function.returnVariable == null
+                || JvmCodeGenUtil.getImpliedType(function.returnVariable.type).tag != TypeTags.TUPLE) {
+            return false;
+        }
+
+        int instructionCount = 0;
+        int returnCount = 0;
+        int returnedTupleCount = 0;
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            for (BIRNonTerminator ins : basicBlock.instructions) {
+                if (!canInline(ins)) {
+                    return false;
+                }
+                if (ins.lhsOp != null && ins.lhsOp.variableDcl == function.returnVariable) {
+                    if (ins.kind != InstructionKind.NEW_ARRAY) {
+                        return false;
+                    }
+                    returnedTupleCount++;
+                }
+            }
+            BIRTerminator terminator = basicBlock.terminator;
+            switch (terminator.kind) {
+                case RETURN -> returnCount++;
+                case GOTO, BRANCH -> {
+                }
+                default -> {
+                    return false;
+                }
+            }
+            instructionCount += basicBlock.instructions.size() + 1;
+        }
+        return instructionCount <= MAX_INLINED_INSTRUCTIONS && returnCount == 1 && returnedTupleCount == 1;
+    }
+
+    /**
+     * Check whether the given instruction can be copied to the caller. These instructions do not panic, so the
+     * missing stack frame of the callee cannot be observed.
+     */
+    private boolean canInline(BIRNonTerminator ins) {
+        return switch (ins.kind) {
+            case MOVE, CONST_LOAD, TYPE_TEST, NOT, EQUAL, NOT_EQUAL, REF_EQUAL, REF_NOT_EQUAL, GREATER_THAN,
+                 GREATER_EQUAL, LESS_THAN, LESS_EQUAL -> true;
+            case TYPE_CAST -> !((BIRNonTerminator.TypeCast) ins).checkTypes;
+            case NEW_ARRAY -> {
+                BIRNonTerminator.NewArray newArray = (BIRNonTerminator.NewArray) ins;
+                if (newArray.elementTypedescOp != null
+                        || JvmCodeGenUtil.getImpliedType(newArray.type).tag != TypeTags.TUPLE) {
+                    yield false;
+                }
+                for (BIRNode.BIRListConstructorEntry entry : newArray.values) {
+                    if (!(entry instanceof BIRNode.BIRListConstructorExprEntry)) {
+                        yield false;
+                    }
+                }
+                yield true;
+            }
+            default -> false;
+        };
+    }
+
+    private boolean isInlinableCall(BIRFunction caller, BIRTerminator.Call call, BIRFunction callee) {
+        if (call.lhsOp == null || call.args.size() != callee.parameters.size() || call.args.contains(null)
+                || !isInSameFile(call.pos, callee.pos)) {
+            return false;
+        }
+        BIRVariableDcl resultVar = call.lhsOp.variableDcl;
+        if (resultVar.kind != VarKind.TEMP && resultVar.kind != VarKind.SYNTHETIC) {
+            return false;
+        }
+        return isOnlyDestructured(caller, call, resultVar);
+    }
+
+    /**
+     * Check whether the given variable is only assigned by the given call and only read by member accesses, which
+     * the scalar replacement can replace once the tuple is created in the caller.
+     */
+    private boolean isOnlyDestructured(BIRFunction caller, BIRTerminator.Call call, BIRVariableDcl resultVar) {
+        for (BIRNode.BIRErrorEntry errorEntry : caller.errorTable) {
+            if (errorEntry.errorOp.variableDcl.equals(resultVar)) {
+                return false;
+            }
+        }
+        for (BIRBasicBlock basicBlock : caller.basicBlocks) {
+            for (BIRNonTerminator ins : basicBlock.instructions) {
+                if (ins.lhsOp != null && ins.lhsOp.variableDcl.equals(resultVar)) {
+                    return false;
+                }
+                if (ins.kind == InstructionKind.ARRAY_LOAD) {
+                    BIRNonTerminator.FieldAccess access = (BIRNonTerminator.FieldAccess) ins;
+                    if (!access.fillingRead && access.rhsOp.variableDcl.equals(resultVar)
+                            && !access.keyOp.variableDcl.equals(resultVar)) {
+                        continue;
+                    }
+                }
+                if (uses(ins.getRhsOperands(), resultVar)) {
+                    return false;
+                }
+            }
+            BIRTerminator terminator = basicBlock.terminator;
+            if (terminator == null || terminator == call) {
+                continue;
+            }
+            if (terminator.lhsOp != null && terminator.lhsOp.variableDcl.equals(resultVar)
+                    || uses(terminator.getRhsOperands(), resultVar)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<BIRBasicBlock> inline(BIRFunction caller, BIRBasicBlock callBB, BIRTerminator.Call call,
+                                       BIRFunction callee) {
+        String prefix = "%" + callee.name.value + "_" + inlinedCallCount++ + "_";
+        Map<BIRVariableDcl, BIROperand> vars = new HashMap<>();
+        vars.put(callee.returnVariable, call.lhsOp);
+        for (BIRVariableDcl localVar : callee.localVars) {
+            if (!vars.containsKey(localVar)) {
+                vars.put(localVar, new BIROperand(createTempVar(caller, localVar, prefix)));
+            }
+        }
+
+        // Pass the arguments through the parameter variables.
+        for (int i = 0; i < callee.parameters.size(); i++) {
+            BIRVariableDcl parameter = callee.parameters.get(i);
+            BIROperand parameterOp = vars.computeIfAbsent(parameter,
+                    param -> new BIROperand(createTempVar(caller, param, prefix)));
+            callBB.instructions.add(withScope(new BIRNonTerminator.Move(call.pos, call.args.get(i), parameterOp),
+                    call));
+        }
+
+        Map<BIRBasicBlock, BIRBasicBlock> basicBlocks = new HashMap<>();
+        List<BIRBasicBlock> inlinedBasicBlocks = new ArrayList<>(callee.basicBlocks.size());
+        for (BIRBasicBlock basicBlock : callee.basicBlocks) {
+            BIRBasicBlock inlinedBasicBlock = createBasicBlock();
+            basicBlocks.put(basicBlock, inlinedBasicBlock);
+            inlinedBasicBlocks.add(inlinedBasicBlock);
+        }
+        for (BIRBasicBlock basicBlock : callee.basicBlocks) {
+            BIRBasicBlock inlinedBasicBlock = basicBlocks.get(basicBlock);
+            for (BIRNonTerminator ins : basicBlock.instructions) {
+                inlinedBasicBlock.instructions.add(withScope(copy(ins, vars), call));
+            }
+            inlinedBasicBlock.terminator = copy(basicBlock.terminator, vars, basicBlocks, call);
+        }
+
+        if (caller.dependentGlobalVars != null && callee.dependentGlobalVars != null) {
+            caller.dependentGlobalVars.addAll(callee.dependentGlobalVars);
+        }
+        callBB.terminator = new BIRTerminator.GOTO(call.pos, inlinedBasicBlocks.get(0), call.scope);
+        return inlinedBasicBlocks;
+    }
+
+    private BIRNonTerminator copy(BIRNonTerminator ins, Map<BIRVariableDcl, BIROperand> vars) {
+        Location pos = ins.pos;
+        BIROperand lhsOp = map(ins.lhsOp, vars);
+        return switch (ins.kind) {
+            case MOVE -> new BIRNonTerminator.Move(pos, map(((BIRNonTerminator.Move) ins).rhsOp, vars), lhsOp);
+            case CONST_LOAD -> {
+                BIRNonTerminator.ConstantLoad constantLoad = (BIRNonTerminator.ConstantLoad) ins;
+                yield new BIRNonTerminator.ConstantLoad(pos, constantLoad.value, constantLoad.type, lhsOp);
+            }
+            case TYPE_TEST -> {
+                BIRNonTerminator.TypeTest typeTest = (BIRNonTerminator.TypeTest) ins;
+                yield new BIRNonTerminator.TypeTest(pos, typeTest.type, lhsOp, map(typeTest.rhsOp, vars));
+            }
+            case TYPE_CAST -> {
+                BIRNonTerminator.TypeCast typeCast = (BIRNonTerminator.TypeCast) ins;
+                yield new BIRNonTerminator.TypeCast(pos, lhsOp, map(typeCast.rhsOp, vars), typeCast.type, false);
+            }
+            case NOT -> new BIRNonTerminator.UnaryOP(pos, ins.kind, lhsOp,
+                    map(((BIRNonTerminator.UnaryOP) ins).rhsOp, vars));
+            case NEW_ARRAY -> {
+                BIRNonTerminator.NewArray newArray = (BIRNonTerminator.NewArray) ins;
+                List<BIRNode.BIRListConstructorEntry> values = new ArrayList<>(newArray.values.size());
+                for (BIRNode.BIRListConstructorEntry entry : newArray.values) {
+                    values.add(new BIRNode.BIRListConstructorExprEntry(map(entry.exprOp, vars)));
+                }
+                yield new BIRNonTerminator.NewArray(pos, newArray.type, lhsOp, map(newArray.typedescOp, vars),
+                        map(newArray.sizeOp, vars), values);
+            }
+            default -> {
+                BIRNonTerminator.BinaryOp binaryOp = (BIRNonTerminator.BinaryOp) ins;
+                yield new BIRNonTerminator.BinaryOp(pos, ins.kind, lhsOp, map(binaryOp.rhsOp1, vars),
+                        map(binaryOp.rhsOp2, vars));
+            }
+        };
+    }
+
+    private BIRTerminator copy(BIRTerminator terminator, Map<BIRVariableDcl, BIROperand> vars,
+                               Map<BIRBasicBlock, BIRBasicBlock> basicBlocks, BIRTerminator.Call call) {
+        return switch (terminator.kind) {
+            // Continue in the caller after the callee returns.
+            case RETURN -> new BIRTerminator.GOTO(terminator.pos, call.thenBB, call.scope);
+            case GOTO -> new BIRTerminator.GOTO(terminator.pos,
+                    basicBlocks.get(((BIRTerminator.GOTO) terminator).targetBB), call.scope);
+            default -> {
+                BIRTerminator.Branch branch = (BIRTerminator.Branch) terminator;
+                yield new BIRTerminator.Branch(terminator.pos, map(branch.op, vars), basicBlocks.get(branch.trueBB),
+                        basicBlocks.get(branch.falseBB), call.scope);
+            }
+        };
+    }
+
+    private BIROperand map(BIROperand operand, Map<BIRVariableDcl, BIROperand> vars) {
+        if (operand == null) {
+            return null;
+        }
+        // Global variables are shared with the caller.
+        BIROperand mappedOperand = vars.get(operand.variableDcl);
+        return mappedOperand != null ? mappedOperand : operand;
+    }
+
+    private BIRVariableDcl createTempVar(BIRFunction caller, BIRVariableDcl calleeVar, String prefix) {
+        String name = prefix + calleeVar.name.value.replace("%", "");
+        String uniqueName = name;
+        for (int i = 1; !localVarNames.add(uniqueName); i++) {
+            uniqueName = name + "_" + i;
+        }
+        BIRVariableDcl tempVar = new BIRVariableDcl(null, calleeVar.type, new Name(uniqueName), VarScope.FUNCTION,
+                VarKind.TEMP, null);
+        caller.localVars.add(tempVar);
+        return tempVar;
+    }
+
+    private BIRBasicBlock createBasicBlock() {
+        BIRBasicBlock basicBlock = new BIRBasicBlock(nextBasicBlockNumber++);
+        while (!basicBlockIds.add(basicBlock.id.value)) {
+            basicBlock = new BIRBasicBlock(nextBasicBlockNumber++);
+        }
+        return basicBlock;
+    }
+
+    private BIRNonTerminator withScope(BIRNonTerminator ins, BIRTerminator call) {
+        ins.scope = call.scope;
+        return ins;
+    }
+
+    private static boolean uses(BIROperand[] operands, BIRVariableDcl variableDcl) {
+        for (BIROperand operand : operands) {
+            if (operand != null && operand.variableDcl.equals(variableDcl)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isInSameFile(Location callPos, Location calleePos) {
+        return callPos != null && calleePos != null
+                && callPos.lineRange().fileName().equals(calleePos.lineRange().fileName());
+    }
+}
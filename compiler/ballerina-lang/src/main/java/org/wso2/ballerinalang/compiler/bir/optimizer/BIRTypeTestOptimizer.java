@@ -0,0 +1,355 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import io.ballerina.types.Context;
+import io.ballerina.types.Core;
+import io.ballerina.types.SemType;
+import io.ballerina.types.SemTypes;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAIN_ARG_VAR_PREFIX;
+
+/**
+ * Remove type tests and type casts whose outcome is statically known.
+ * <p>
+ * A forward dataflow analysis tracks the type each local variable is narrowed to by the type tests guarding the
+ * branches that lead to a basic block. Using the narrowed types, type tests that always (or never) succeed are
+ * replaced with constant loads, and checked casts that always succeed are downgraded to unchecked casts, which
+ * avoids the calls to the runtime type checker in the generated code.
+ *
+ * @since 2201.13.0
+ */
+public class BIRTypeTestOptimizer extends BIRVisitor {
+
+    // Upper bound for the fixed point iteration of a single function. If the analysis does not settle within this
+    // many rounds the function is left as it is.
+    private static final int MAX_ITERATIONS = 16;
+
+    private final Types types;
+
+    public BIRTypeTestOptimizer(Types types) {
+        this.types = types;
+    }
+
+    public void optimizeNode(BIRNode node) {
+        node.accept(this);
+    }
+
+    @Override
+    public void visit(BIRNode.BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRNode.BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        if (birFunction.basicBlocks.isEmpty()) {
+            return;
+        }
+        Map<BIRBasicBlock, Map<BIRVariableDcl, SemType>> entryFacts = analyze(birFunction);
+        if (entryFacts == null) {
+            return;
+        }
+        for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            Map<BIRVariableDcl, SemType> facts = entryFacts.get(basicBlock);
+            if (facts == null) {
+                // Unreachable basic block
+                continue;
+            }
+            transfer(basicBlock, new HashMap<>(facts), true);
+        }
+    }
+
+    private Map<BIRBasicBlock, Map<BIRVariableDcl, SemType>> analyze(BIRFunction birFunction) {
+        Map<BIRBasicBlock, Map<BIRVariableDcl, SemType>> entryFacts = new HashMap<>();
+        entryFacts.put(birFunction.basicBlocks.get(0), new HashMap<>());
+        // A trap target can be reached from the middle of any basic block in the trapped range, hence nothing is
+        // known about the narrowed types at its entry. Since the merge only keeps facts known on every incoming edge,
+        // starting with an empty fact set keeps it empty.
+        for (BIRNode.BIRErrorEntry errorEntry : birFunction.errorTable) {
+            entryFacts.put(errorEntry.targetBB, new HashMap<>());
+        }
+
+        for (int i = 0; i < MAX_ITERATIONS; i++) {
+            boolean changed = false;
+            for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+                Map<BIRVariableDcl, SemType> facts = entryFacts.get(basicBlock);
+                if (facts == null) {
+                    continue;
+                }
+                Map<BIRBasicBlock, Map<BIRVariableDcl, SemType>> exitFacts =
+                        transfer(basicBlock, new HashMap<>(facts), false);
+                for (Map.Entry<BIRBasicBlock, Map<BIRVariableDcl, SemType>> edge : exitFacts.entrySet()) {
+                    BIRBasicBlock successor = edge.getKey();
+                    Map<BIRVariableDcl, SemType> current = entryFacts.get(successor);
+                    if (current == null) {
+                        entryFacts.put(successor, edge.getValue());
+                        changed = true;
+                        continue;
+                    }
+                    Map<BIRVariableDcl, SemType> merged = merge(current, edge.getValue());
+                    if (!isSameFacts(current, merged)) {
+                        entryFacts.put(successor, merged);
+                        changed = true;
+                    }
+                }
+            }
+            if (!changed) {
+                return entryFacts;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Apply the instructions of the basic block to the given facts and return the facts that hold at the entry of
+     * each successor. When {@code rewrite} is set, redundant type tests and casts of the block are optimized.
+     */
+    private Map<BIRBasicBlock, Map<BIRVariableDcl, SemType>> transfer(BIRBasicBlock basicBlock,
+                                                                      Map<BIRVariableDcl, SemType> facts,
+                                                                      boolean rewrite) {
+        Map<BIRVariableDcl, TypeTestResult> testResults = new HashMap<>();
+        List<BIRNonTerminator> instructions = basicBlock.instructions;
+        for (int i = 0; i < instructions.size(); i++) {
+            BIRNonTerminator ins = instructions.get(i);
+            switch (ins.kind) {
+                case TYPE_TEST -> {
+                    BIRNonTerminator.TypeTest typeTest = (BIRNonTerminator.TypeTest) ins;
+                    BIRVariableDcl testedVar = typeTest.rhsOp.variableDcl;
+                    SemType testedType = typeTest.type.semType();
+                    if (rewrite) {
+                        Boolean result = evaluateTypeTest(getKnownType(testedVar, facts), testedType);
+                        if (result != null) {
+                            BIRNonTerminator.ConstantLoad constantLoad = new BIRNonTerminator.ConstantLoad(
+                                    typeTest.pos, result, typeTest.lhsOp.variableDcl.type, typeTest.lhsOp);
+                            constantLoad.scope = typeTest.scope;
+                            instructions.set(i, constantLoad);
+                        }
+                    }
+                    kill(typeTest.lhsOp.variableDcl, facts, testResults);
+                    if (testedType != null && isTrackable(testedVar)) {
+                        testResults.put(typeTest.lhsOp.variableDcl, new TypeTestResult(testedVar, testedType, false));
+                    }
+                }
+                case NOT -> {
+                    BIRNonTerminator.UnaryOP unaryOP = (BIRNonTerminator.UnaryOP) ins;
+                    TypeTestResult result = testResults.get(unaryOP.rhsOp.variableDcl);
+                    kill(unaryOP.lhsOp.variableDcl, facts, testResults);
+                    if (result != null) {
+                        testResults.put(unaryOP.lhsOp.variableDcl, result.negate());
+                    }
+                }
+                case MOVE -> {
+                    BIRNonTerminator.Move move = (BIRNonTerminator.Move) ins;
+                    BIRVariableDcl lhsVar = move.lhsOp.variableDcl;
+                    SemType rhsFact = facts.get(move.rhsOp.variableDcl);
+                    TypeTestResult result = testResults.get(move.rhsOp.variableDcl);
+                    kill(lhsVar, facts, testResults);
+                    if (rhsFact != null && isTrackable(lhsVar)) {
+                        facts.put(lhsVar, SemTypes.intersect(rhsFact, lhsVar.type.semType()));
+                    }
+                    if (result != null) {
+                        testResults.put(lhsVar, result);
+                    }
+                }
+                case TYPE_CAST -> {
+                    BIRNonTerminator.TypeCast typeCast = (BIRNonTerminator.TypeCast) ins;
+                    BIRVariableDcl lhsVar = typeCast.lhsOp.variableDcl;
+                    SemType knownType = getKnownType(typeCast.rhsOp.variableDcl, facts);
+                    if (rewrite && typeCast.checkTypes && canSkipTypeCheck(knownType, typeCast.type)) {
+                        typeCast.checkTypes = false;
+                    }
+                    kill(lhsVar, facts, testResults);
+                    // A cast to a supertype does not change the value, so the narrowed type carries over.
+                    SemType castType = typeCast.type.semType();
+                    if (knownType != null && castType != null && isTrackable(lhsVar)
+                            && SemTypes.isSubtype(types.typeCtx(), knownType, castType)) {
+                        facts.put(lhsVar, SemTypes.intersect(knownType, lhsVar.type.semType()));
+                    }
+                }
+                default -> {
+                    if (ins.lhsOp != null) {
+                        kill(ins.lhsOp.variableDcl, facts, testResults);
+                    }
+                }
+            }
+        }
+
+        Map<BIRBasicBlock, Map<BIRVariableDcl, SemType>> exitFacts = new HashMap<>();
+        BIRTerminator terminator = basicBlock.terminator;
+        if (terminator == null) {
+            return exitFacts;
+        }
+        if (terminator.kind == InstructionKind.BRANCH) {
+            BIRTerminator.Branch branch = (BIRTerminator.Branch) terminator;
+            Map<BIRVariableDcl, SemType> trueFacts = new HashMap<>(facts);
+            Map<BIRVariableDcl, SemType> falseFacts = new HashMap<>(facts);
+            TypeTestResult result = testResults.get(branch.op.variableDcl);
+            if (result != null) {
+                SemType knownType = getKnownType(result.testedVar, facts);
+                SemType matched = SemTypes.intersect(knownType, result.testedType);
+                SemType unmatched = Core.diff(knownType, result.testedType);
+                trueFacts.put(result.testedVar, result.negated ? unmatched : matched);
+                falseFacts.put(result.testedVar, result.negated ? matched : unmatched);
+            }
+            addEdge(exitFacts, branch.trueBB, trueFacts);
+            addEdge(exitFacts, branch.falseBB, falseFacts);
+            return exitFacts;
+        }
+
+        if (terminator.lhsOp != null) {
+            kill(terminator.lhsOp.variableDcl, facts, testResults);
+        }
+        for (BIRBasicBlock successor : terminator.getNextBasicBlocks()) {
+            addEdge(exitFacts, successor, facts);
+        }
+        return exitFacts;
+    }
+
+    private void addEdge(Map<BIRBasicBlock, Map<BIRVariableDcl, SemType>> exitFacts, BIRBasicBlock successor,
+                         Map<BIRVariableDcl, SemType> facts) {
+        if (successor == null) {
+            return;
+        }
+        Map<BIRVariableDcl, SemType> existing = exitFacts.get(successor);
+        exitFacts.put(successor, existing == null ? new HashMap<>(facts) : merge(existing, facts));
+    }
+
+    private Map<BIRVariableDcl, SemType> merge(Map<BIRVariableDcl, SemType> first,
+                                               Map<BIRVariableDcl, SemType> second) {
+        Map<BIRVariableDcl, SemType> merged = new HashMap<>();
+        for (Map.Entry<BIRVariableDcl, SemType> entry : first.entrySet()) {
+            SemType other = second.get(entry.getKey());
+            if (other != null) {
+                merged.put(entry.getKey(), SemTypes.union(entry.getValue(), other));
+            }
+        }
+        return merged;
+    }
+
+    private boolean isSameFacts(Map<BIRVariableDcl, SemType> current, Map<BIRVariableDcl, SemType> merged) {
+        // The merged facts are never narrower than the current facts, so it is enough to check the other direction.
+        if (current.size() != merged.size()) {
+            return false;
+        }
+        Context cx = types.typeCtx();
+        for (Map.Entry<BIRVariableDcl, SemType> entry : merged.entrySet()) {
+            SemType currentType = current.get(entry.getKey());
+            if (currentType != entry.getValue() && !SemTypes.isSubtype(cx, entry.getValue(), currentType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void kill(BIRVariableDcl variableDcl, Map<BIRVariableDcl, SemType> facts,
+                      Map<BIRVariableDcl, TypeTestResult> testResults) {
+        facts.remove(variableDcl);
+        testResults.remove(variableDcl);
+        testResults.values().removeIf(result -> result.testedVar.equals(variableDcl));
+    }
+
+    private SemType getKnownType(BIRVariableDcl variableDcl, Map<BIRVariableDcl, SemType> facts) {
+        if (variableDcl.name.value.startsWith(MAIN_ARG_VAR_PREFIX)) {
+            return null;
+        }
+        SemType narrowedType = facts.get(variableDcl);
+        return narrowedType != null ? narrowedType : variableDcl.type.semType();
+    }
+
+    private Boolean evaluateTypeTest(SemType knownType, SemType testedType) {
+        if (knownType == null || testedType == null) {
+            return null;
+        }
+        Context cx = types.typeCtx();
+        if (SemTypes.isSubtype(cx, knownType, testedType)) {
+            return Boolean.TRUE;
+        }
+        if (Core.isEmpty(cx, SemTypes.intersect(knownType, testedType))) {
+            return Boolean.FALSE;
+        }
+        return null;
+    }
+
+    private boolean canSkipTypeCheck(SemType knownType, BType targetType) {
+        SemType targetSemType = targetType.semType();
+        if (knownType == null || targetSemType == null) {
+            return false;
+        }
+        // Casts to the simple basic types convert between value representations (e.g. numeric conversions), which
+        // is already done without the type checker. Only the casts to the other types are downgraded.
+        BType impliedTargetType = JvmCodeGenUtil.getImpliedType(targetType);
+        if (TypeTags.isIntegerTypeTag(impliedTargetType.tag) || TypeTags.isStringTypeTag(impliedTargetType.tag)) {
+            return false;
+        }
+        switch (impliedTargetType.tag) {
+            case TypeTags.FLOAT, TypeTags.DECIMAL, TypeTags.BOOLEAN, TypeTags.BYTE -> {
+                return false;
+            }
+            default -> {
+                return SemTypes.isSubtype(types.typeCtx(), knownType, targetSemType);
+            }
+        }
+    }
+
+    private boolean isTrackable(BIRVariableDcl variableDcl) {
+        if (variableDcl.type.semType() == null || variableDcl.name.value.startsWith(MAIN_ARG_VAR_PREFIX)) {
+            return false;
+        }
+        return switch (variableDcl.kind) {
+            case LOCAL, ARG, TEMP, SYNTHETIC -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Holds the variable and the type checked by a type test, along with whether the result has been negated.
+     *
+     * @param testedVar  variable checked by the type test
+     * @param testedType type the variable is checked against
+     * @param negated    whether the result of the type test has been negated
+     */
+    private record TypeTestResult(BIRVariableDcl testedVar, SemType testedType, boolean negated) {
+
+        TypeTestResult negate() {
+            return new TypeTestResult(testedVar, testedType, !negated);
+        }
+    }
+}
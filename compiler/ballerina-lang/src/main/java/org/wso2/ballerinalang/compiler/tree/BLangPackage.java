@@ -45,6 +45,7 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangLambdaFunction;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
@@ -78,6 +79,8 @@ public class BLangPackage extends BLangNode implements PackageNode {
 
     // Semantic Data
     public Set<CompilerPhase> completedPhases;
+    // Time spent in each compiler phase for this package, in nanoseconds
+    public final Map<CompilerPhase, Long> phaseDurations;
     // Queue to maintain lambda functions so that we can visit all lambdas at the end of the semantic phase
     public Queue<BLangLambdaFunction> lambdaFunctions = new ArrayDeque<>();
     // Hold global variable dependencies identified in DataflowAnalyzer.
@@ -110,6 +113,7 @@ public class BLangPackage extends BLangNode implements PackageNode {
         this.objAttachedFunctions = new ArrayList<>();
         this.topLevelNodes = new ArrayList<>();
         this.completedPhases = EnumSet.noneOf(CompilerPhase.class);
+        this.phaseDurations = new EnumMap<>(CompilerPhase.class);
         this.testablePkgs = new ArrayList<>();
         this.flagSet = EnumSet.noneOf(Flag.class);
         this.diagnostics = new TreeSet<>(new DiagnosticComparator());
@@ -21,6 +21,9 @@ package io.ballerina.projects;
 import io.ballerina.projects.internal.ManifestBuilder;
 import io.ballerina.projects.providers.SemverDataProvider;
 import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.toml.syntax.tree.DocumentMemberDeclarationNode;
+import io.ballerina.toml.syntax.tree.DocumentNode;
+import io.ballerina.toml.syntax.tree.NodeList;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -233,6 +236,21 @@ public class BallerinaTomlTests {
         Assert.assertEquals(buildOptions.graalVMBuildOptions(), "--static");
     }
 
+    @Test(description = "Test cdsArchive parsed properly")
+    public void testBallerinaTomlWithCdsArchive() throws IOException {
+        BuildOptions buildOptions = getBuildOptions(BAL_TOML_REPO.resolve("build-options-as-table.toml"));
+        Assert.assertTrue(buildOptions.cdsArchive());
+
+        // The command line option takes precedence over Ballerina.toml
+        BuildOptions mergedOptions = buildOptions.acceptTheirs(BuildOptions.builder().setCdsArchive(false).build());
+        Assert.assertFalse(mergedOptions.cdsArchive());
+        mergedOptions = buildOptions.acceptTheirs(BuildOptions.builder().build());
+        Assert.assertTrue(mergedOptions.cdsArchive());
+
+        BuildOptions defaultOptions = getBuildOptions(BAL_TOML_REPO.resolve("valid-ballerina.toml"));
+        Assert.assertFalse(defaultOptions.cdsArchive());
+    }
+
     @Test(description = "Test Ballerina.toml file with invalid or missing tool properties")
     public void testBallerinaTomlWithMissingToolEntries() throws IOException {
         PackageManifest packageManifest = getPackageManifest(BAL_TOML_REPO.resolve("missing-tool-entries.toml"));
@@ -640,6 +658,54 @@ public class BallerinaTomlTests {
         };
     }
 
+    @Test(description = "Test modifying Ballerina.toml, which reparses only the changed members")
+    public void testModifiedBallerinaToml() throws IOException {
+        Path tomlPath = BAL_TOML_REPO.resolve("valid-ballerina.toml");
+        String tomlContent = Files.readString(tomlPath);
+        TomlDocument ballerinaToml = TomlDocument.from(ProjectConstants.BALLERINA_TOML, tomlContent);
+        PackageManifest packageManifest = getPackageManifest(ballerinaToml, tomlPath);
+        Assert.assertFalse(packageManifest.diagnostics().hasErrors());
+
+        String repository = "repository= \"https://github.com/ballerina-platform/ballerina-lang\"";
+        String invalidContent = tomlContent.replace(repository, "repository= true");
+        TomlDocument invalidBallerinaToml = ballerinaToml.modify(invalidContent);
+        packageManifest = getPackageManifest(invalidBallerinaToml, tomlPath);
+        Assert.assertEquals(invalidBallerinaToml.syntaxTree().toSourceCode(), invalidContent);
+        assertReusedMembers(ballerinaToml, invalidBallerinaToml);
+        Assert.assertSame(invalidBallerinaToml.validator("ballerina-toml-schema.json"),
+                ballerinaToml.validator("ballerina-toml-schema.json"));
+        Assert.assertEquals(packageManifest.diagnostics().errors().size(), 1);
+        Assert.assertEquals(packageManifest.diagnostics().errors().iterator().next().message(),
+                "incompatible type for key 'repository': expected 'STRING', found 'BOOLEAN'");
+
+        String validContent = invalidContent.replace("version = \"0.1.0\"", "version = \"0.2.0\"")
+                .replace("repository= true", repository);
+        TomlDocument validBallerinaToml = invalidBallerinaToml.modify(validContent);
+        packageManifest = getPackageManifest(validBallerinaToml, tomlPath);
+        Assert.assertEquals(validBallerinaToml.syntaxTree().toSourceCode(), validContent);
+        assertReusedMembers(invalidBallerinaToml, validBallerinaToml);
+        Assert.assertFalse(packageManifest.diagnostics().hasErrors());
+        Assert.assertEquals(packageManifest.descriptor().version().value().toString(), "0.2.0");
+        Assert.assertEquals(packageManifest.platform(JvmTarget.JAVA_21.code()).dependencies().size(), 2);
+    }
+
+    private static void assertReusedMembers(TomlDocument oldToml, TomlDocument newToml) {
+        // Only the [package] table is changed
+        NodeList<DocumentMemberDeclarationNode> oldMembers = ((DocumentNode) oldToml.syntaxTree().rootNode())
+                .members();
+        NodeList<DocumentMemberDeclarationNode> newMembers = ((DocumentNode) newToml.syntaxTree().rootNode())
+                .members();
+        Assert.assertEquals(newMembers.size(), oldMembers.size());
+        Assert.assertNotSame(newMembers.get(0).internalNode(), oldMembers.get(0).internalNode());
+        for (int i = 1; i < newMembers.size(); i++) {
+            Assert.assertSame(newMembers.get(i).internalNode(), oldMembers.get(i).internalNode());
+        }
+    }
+
+    private static PackageManifest getPackageManifest(TomlDocument ballerinaToml, Path tomlPath) {
+        return ManifestBuilder.from(ballerinaToml, null, null, tomlPath.getParent()).packageManifest();
+    }
+
     static PackageManifest getPackageManifest(Path tomlPath) throws IOException {
         String tomlContent = Files.readString(tomlPath);
         TomlDocument ballerinaToml = TomlDocument.from(ProjectConstants.BALLERINA_TOML, tomlContent);
@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.projects;
+
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.PackageMetadataResponse;
+import io.ballerina.projects.environment.ResolutionOptions;
+import io.ballerina.projects.environment.ResolutionRequest;
+import io.ballerina.projects.environment.ResolutionResponse.ResolutionStatus;
+import io.ballerina.projects.internal.environment.DefaultPackageResolver;
+import io.ballerina.projects.internal.environment.EnvironmentPackageCache;
+import io.ballerina.projects.internal.repositories.FileSystemRepository;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Test the package metadata lookups of the default package resolver, using file system repositories that
+ * stand in for the central repository.
+ *
+ * @since 2201.13.0
+ */
+public class DefaultPackageResolverTests {
+
+    private static final Path RESOURCE_DIRECTORY = Path.of("src/test/resources");
+    private static final Path CENTRAL_REPO = RESOURCE_DIRECTORY.resolve("custom-repo-resources/local-custom-repo");
+    private static final PackageDescriptor PACKAGE_A = PackageDescriptor.from(PackageOrg.from("luheerathan"),
+            PackageName.from("packA"), null);
+    private static final Environment ENVIRONMENT = new Environment() {
+        @Override
+        public <T> T getService(Class<T> clazz) {
+            return null;
+        }
+    };
+
+    private Path emptyRepo;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        emptyRepo = Files.createTempDirectory("empty-repo");
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        Files.delete(emptyRepo);
+    }
+
+    @Test
+    public void testOnlineCentralLookup() {
+        ThreadRecordingRepository centralRepo = new ThreadRecordingRepository(CENTRAL_REPO);
+        Collection<PackageMetadataResponse> responses = resolvePackageMetadata(centralRepo, false);
+
+        assertResolvedFromCentral(responses);
+        // Online lookups run on the central lookup threads, not on the caller or the common fork-join pool
+        Assert.assertEquals(centralRepo.lookupThreads.size(), 1);
+        Assert.assertNotSame(centralRepo.lookupThreads.get(0), Thread.currentThread());
+        Assert.assertEquals(centralRepo.lookupThreads.get(0).getName(), "central-package-metadata-lookup");
+        Assert.assertTrue(centralRepo.lookupThreads.get(0).isDaemon());
+    }
+
+    @Test
+    public void testOfflineCentralLookup() {
+        ThreadRecordingRepository centralRepo = new ThreadRecordingRepository(CENTRAL_REPO);
+        Collection<PackageMetadataResponse> responses = resolvePackageMetadata(centralRepo, true);
+
+        assertResolvedFromCentral(responses);
+        Assert.assertEquals(centralRepo.lookupThreads, List.of(Thread.currentThread()));
+    }
+
+    @Test
+    public void testConcurrentOnlineCentralLookups() throws InterruptedException {
+        ThreadRecordingRepository centralRepo = new ThreadRecordingRepository(CENTRAL_REPO);
+        List<Thread> resolutions = new ArrayList<>();
+        List<Collection<PackageMetadataResponse>> allResponses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread resolution = new Thread(() -> {
+                Collection<PackageMetadataResponse> responses = resolvePackageMetadata(centralRepo, false);
+                synchronized (allResponses) {
+                    allResponses.add(responses);
+                }
+            });
+            resolutions.add(resolution);
+            resolution.start();
+        }
+        for (Thread resolution : resolutions) {
+            resolution.join();
+        }
+
+        // Lookups that do not get a central lookup thread run on the thread that requested them
+        Assert.assertEquals(allResponses.size(), 8);
+        allResponses.forEach(this::assertResolvedFromCentral);
+        Assert.assertEquals(centralRepo.lookupThreads.size(), 8);
+    }
+
+    @Test
+    public void testCentralLookupErrorIsRethrown() {
+        FileSystemRepository centralRepo = new FileSystemRepository(ENVIRONMENT, CENTRAL_REPO) {
+            @Override
+            public Collection<PackageMetadataResponse> getPackageMetadata(Collection<ResolutionRequest> requests,
+                                                                          ResolutionOptions options) {
+                throw new ProjectException("central is not reachable");
+            }
+        };
+        ProjectException exception = Assert.expectThrows(ProjectException.class,
+                () -> resolvePackageMetadata(centralRepo, false));
+        Assert.assertEquals(exception.getMessage(), "central is not reachable");
+    }
+
+    private Collection<PackageMetadataResponse> resolvePackageMetadata(FileSystemRepository centralRepo,
+                                                                      boolean offline) {
+        DefaultPackageResolver packageResolver = new DefaultPackageResolver(
+                new FileSystemRepository(ENVIRONMENT, emptyRepo), centralRepo,
+                new FileSystemRepository(ENVIRONMENT, emptyRepo), new EnvironmentPackageCache());
+        return packageResolver.resolvePackageMetadata(
+                List.of(ResolutionRequest.from(PACKAGE_A, PackageDependencyScope.DEFAULT)),
+                ResolutionOptions.builder().setOffline(offline).build());
+    }
+
+    private void assertResolvedFromCentral(Collection<PackageMetadataResponse> responses) {
+        Assert.assertEquals(responses.size(), 1);
+        PackageMetadataResponse response = responses.iterator().next();
+        Assert.assertEquals(response.resolutionStatus(), ResolutionStatus.RESOLVED);
+        Assert.assertEquals(response.resolvedDescriptor().version(), PackageVersion.from("0.1.0"));
+    }
+
+    /**
+     * File system repository that records the threads on which the package metadata is looked up.
+     */
+    private static class ThreadRecordingRepository extends FileSystemRepository {
+        private final List<Thread> lookupThreads = new ArrayList<>();
+
+        ThreadRecordingRepository(Path cacheDirectory) {
+            super(ENVIRONMENT, cacheDirectory);
+        }
+
+        @Override
+        public Collection<PackageMetadataResponse> getPackageMetadata(Collection<ResolutionRequest> requests,
+                                                                      ResolutionOptions options) {
+            synchronized (lookupThreads) {
+                lookupThreads.add(Thread.currentThread());
+            }
+            return super.getPackageMetadata(requests, options);
+        }
+
+        @Override
+        protected List<Path> getIncompatibleVer(List<Path> versions, PackageOrg org, PackageName name) {
+            return new ArrayList<>();
+        }
+    }
+}
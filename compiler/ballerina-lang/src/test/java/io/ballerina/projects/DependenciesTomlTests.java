@@ -18,6 +18,7 @@
 package io.ballerina.projects;
 
 import io.ballerina.projects.internal.DependencyManifestBuilder;
+import io.ballerina.projects.internal.DependencyManifestSnapshot;
 import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import org.testng.Assert;
@@ -379,6 +380,48 @@ public class DependenciesTomlTests {
         Assert.assertEquals(firstDiagnostic.location().lineRange().toString(), "(5:0,29:17)");
     }
 
+    @Test(description = "Test reading the dependency manifest from the snapshot of the Dependencies.toml")
+    public void testDependencyManifestSnapshot() throws IOException {
+        Path dependenciesTomlPath = DEPENDENCIES_TOML_REPO.resolve("dependencies-valid.toml");
+        String dependenciesTomlContent = Files.readString(dependenciesTomlPath);
+        PackageDescriptor packageDescriptor =
+                getPackageManifest(DEPENDENCIES_TOML_REPO.resolve("ballerina.toml")).descriptor();
+        DependencyManifest depsManifest = getDependencyManifest(dependenciesTomlPath);
+
+        Path snapshotFile = Files.createTempDirectory("dependencies-snapshot")
+                .resolve(ProjectConstants.DEPENDENCIES_SNAPSHOT_FILE);
+        DependencyManifestSnapshot.write(snapshotFile, dependenciesTomlContent, packageDescriptor, depsManifest);
+        DependencyManifest snapshotManifest = DependencyManifestSnapshot
+                .read(snapshotFile, dependenciesTomlContent, packageDescriptor).orElseThrow();
+
+        Assert.assertEquals(snapshotManifest.dependenciesTomlVersion(), depsManifest.dependenciesTomlVersion());
+        Assert.assertEquals(snapshotManifest.distributionVersion(), depsManifest.distributionVersion());
+        List<DependencyManifest.Package> packages = new ArrayList<>(depsManifest.packages());
+        List<DependencyManifest.Package> snapshotPackages = new ArrayList<>(snapshotManifest.packages());
+        Assert.assertEquals(snapshotPackages.size(), packages.size());
+        for (int i = 0; i < packages.size(); i++) {
+            DependencyManifest.Package pkg = packages.get(i);
+            DependencyManifest.Package snapshotPkg = snapshotPackages.get(i);
+            Assert.assertEquals(snapshotPkg.org(), pkg.org());
+            Assert.assertEquals(snapshotPkg.name(), pkg.name());
+            Assert.assertEquals(snapshotPkg.version(), pkg.version());
+            Assert.assertEquals(snapshotPkg.scope(), pkg.scope());
+            Assert.assertEquals(snapshotPkg.isTransitive(), pkg.isTransitive());
+            Assert.assertEquals(snapshotPkg.dependencies().size(), pkg.dependencies().size());
+            Assert.assertEquals(snapshotPkg.modules().size(), pkg.modules().size());
+            Assert.assertEquals(snapshotPkg.location().orElseThrow().lineRange(),
+                    pkg.location().orElseThrow().lineRange());
+        }
+        List<DependencyManifest.Tool> snapshotTools = new ArrayList<>(snapshotManifest.tools());
+        Assert.assertEquals(snapshotTools.size(), 2);
+        Assert.assertEquals(snapshotTools.get(1).id().value(), "persist");
+        Assert.assertEquals(snapshotTools.get(1).version().toString(), "1.2.0");
+
+        // A snapshot of different content is not used
+        Assert.assertTrue(DependencyManifestSnapshot
+                .read(snapshotFile, dependenciesTomlContent + "\n", packageDescriptor).isEmpty());
+    }
+
     private DependencyManifest getDependencyManifest(Path dependenciesTomlPath) throws IOException {
         String dependenciesTomlContent = Files.readString(dependenciesTomlPath);
         TomlDocument dependenciesToml = TomlDocument.from(ProjectConstants.DEPENDENCIES_TOML, dependenciesTomlContent);
@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen.interop;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.codegen.model.JFieldBIRFunction;
+import org.wso2.ballerinalang.compiler.bir.codegen.model.JMethod;
+import org.wso2.ballerinalang.compiler.bir.codegen.model.JMethodBIRFunction;
+import org.wso2.ballerinalang.compiler.bir.codegen.model.JMethodKind;
+import org.wso2.ballerinalang.compiler.bir.codegen.model.JavaField;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * Tests for the {@link NativeImageReflectConfig} class.
+ *
+ * @since 2201.13.0
+ */
+public class NativeImageReflectConfigTest {
+
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("reflect-config-test");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(tempDir.resolve("first.json"));
+        Files.deleteIfExists(tempDir.resolve("second.json"));
+        Files.deleteIfExists(tempDir);
+    }
+
+    @Test
+    public void testWrite() throws Exception {
+        NativeImageReflectConfig config = new NativeImageReflectConfig();
+        Assert.assertTrue(config.isEmpty());
+        config.addMethod(method(String.class.getMethod("valueOf", int.class)));
+        config.addMethod(constructor(StringBuilder.class.getConstructor(String.class)));
+        config.addField(new JavaField(JFieldMethod.ACCESS, Integer.class.getField("MAX_VALUE")));
+        Assert.assertFalse(config.isEmpty());
+
+        JsonArray entries = write(config, "first.json");
+        Assert.assertEquals(entries.size(), 3);
+
+        JsonObject integerEntry = entries.get(0).getAsJsonObject();
+        Assert.assertEquals(integerEntry.get("name").getAsString(), "java.lang.Integer");
+        Assert.assertFalse(integerEntry.has("methods"));
+        JsonArray fields = integerEntry.getAsJsonArray("fields");
+        Assert.assertEquals(fields.size(), 1);
+        Assert.assertEquals(fields.get(0).getAsJsonObject().get("name").getAsString(), "MAX_VALUE");
+
+        JsonObject stringEntry = entries.get(1).getAsJsonObject();
+        Assert.assertEquals(stringEntry.get("name").getAsString(), "java.lang.String");
+        Assert.assertFalse(stringEntry.has("fields"));
+        JsonObject valueOf = stringEntry.getAsJsonArray("methods").get(0).getAsJsonObject();
+        Assert.assertEquals(valueOf.get("name").getAsString(), "valueOf");
+        Assert.assertEquals(valueOf.getAsJsonArray("parameterTypes").get(0).getAsString(), "int");
+
+        JsonObject builderEntry = entries.get(2).getAsJsonObject();
+        Assert.assertEquals(builderEntry.get("name").getAsString(), "java.lang.StringBuilder");
+        JsonObject constructor = builderEntry.getAsJsonArray("methods").get(0).getAsJsonObject();
+        Assert.assertEquals(constructor.get("name").getAsString(), "<init>");
+        Assert.assertEquals(constructor.getAsJsonArray("parameterTypes").get(0).getAsString(), "java.lang.String");
+    }
+
+    @Test
+    public void testWriteIsIndependentOfInsertionOrder() throws Exception {
+        NativeImageReflectConfig first = new NativeImageReflectConfig();
+        first.addMethod(method(String.class.getMethod("valueOf", int.class)));
+        first.addMethod(method(String.class.getMethod("valueOf", long.class)));
+        first.addMethod(method(Math.class.getMethod("abs", int.class)));
+
+        NativeImageReflectConfig second = new NativeImageReflectConfig();
+        second.addMethod(method(Math.class.getMethod("abs", int.class)));
+        second.addMethod(method(String.class.getMethod("valueOf", long.class)));
+        second.addMethod(method(String.class.getMethod("valueOf", int.class)));
+        second.addMethod(method(String.class.getMethod("valueOf", int.class)));
+
+        write(first, "first.json");
+        write(second, "second.json");
+        Assert.assertEquals(Files.readString(tempDir.resolve("second.json")),
+                Files.readString(tempDir.resolve("first.json")));
+        JsonArray entries = JsonParser.parseString(Files.readString(tempDir.resolve("first.json"))).getAsJsonArray();
+        JsonArray methods = entries.get(1).getAsJsonObject().getAsJsonArray("methods");
+        Assert.assertEquals(methods.size(), 2);
+        Assert.assertEquals(methods.get(0).getAsJsonObject().getAsJsonArray("parameterTypes").get(0).getAsString(),
+                "int");
+        Assert.assertEquals(methods.get(1).getAsJsonObject().getAsJsonArray("parameterTypes").get(0).getAsString(),
+                "long");
+    }
+
+    @Test
+    public void testAddPackage() throws Exception {
+        BIRNode.BIRPackage birPackage = new BIRNode.BIRPackage(null, new Name("foo"), new Name("bar"),
+                new Name("bar"), new Name("1.0.0"), new Name("main.bal"), "", false);
+        BIRNode.BIRFunction valueOf = function("valueOf");
+        birPackage.functions.add(valueOf);
+        birPackage.functions.add(new JMethodBIRFunction(valueOf,
+                method(String.class.getMethod("valueOf", int.class))));
+        BIRNode.BIRTypeDefinition typeDef = new BIRNode.BIRTypeDefinition(null, new Name("Counter"), 0, false,
+                null, new ArrayList<>(), null, null, null);
+        typeDef.attachedFuncs.add(new JFieldBIRFunction(function("maxValue"),
+                new JavaField(JFieldMethod.ACCESS, Integer.class.getField("MAX_VALUE"))));
+        birPackage.typeDefs.add(typeDef);
+
+        NativeImageReflectConfig config = new NativeImageReflectConfig();
+        config.addPackage(birPackage);
+        JsonArray entries = write(config, "first.json");
+        Assert.assertEquals(entries.size(), 2);
+        Assert.assertEquals(entries.get(0).getAsJsonObject().get("name").getAsString(), "java.lang.Integer");
+        Assert.assertEquals(entries.get(1).getAsJsonObject().get("name").getAsString(), "java.lang.String");
+    }
+
+    private JsonArray write(NativeImageReflectConfig config, String fileName) throws IOException {
+        Path configFile = tempDir.resolve(fileName);
+        config.write(configFile);
+        return JsonParser.parseString(Files.readString(configFile, StandardCharsets.UTF_8)).getAsJsonArray();
+    }
+
+    private static JMethod method(java.lang.reflect.Method method) {
+        return JMethod.build(JMethodKind.METHOD, method, null);
+    }
+
+    private static JMethod constructor(java.lang.reflect.Constructor<?> constructor) {
+        return JMethod.build(JMethodKind.CONSTRUCTOR, constructor, null);
+    }
+
+    private static BIRNode.BIRFunction function(String name) {
+        return new BIRNode.BIRFunction(null, new Name(name), 0, null, null, 0, null);
+    }
+}
@@ -26,9 +26,13 @@ import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
 import org.ballerinalang.langlib.array.utils.ArrayUtils;
 
+import java.util.Arrays;
+
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.createOpNotSupportedError;
+import static org.ballerinalang.langlib.array.utils.ArrayUtils.getBulkAccessibleArray;
 
 /**
  * Native implementation of lang.array:filter(Type[], function).
@@ -47,6 +51,18 @@ public final class Filter {
         };
         int size = arr.size();
         int index = 0;
+        ArrayValueImpl newArrayValue = getBulkAccessibleArray(newArr);
+        if (newArrayValue != null) {
+            Object[] values = new Object[size];
+            for (int i = 0; i < size; i++) {
+                Object value = arr.get(i);
+                if ((boolean) func.call(env.getRuntime(), value)) {
+                    values[index++] = value;
+                }
+            }
+            newArrayValue.appendAll(index == size ? values : Arrays.copyOf(values, index));
+            return newArr;
+        }
         for (int i = 0; i < size; i++) {
             Object value = arr.get(i);
             boolean isFiltered = (boolean) func.call(env.getRuntime(), value);
@@ -21,8 +21,10 @@ package org.ballerinalang.langlib.array;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
 import org.ballerinalang.langlib.array.utils.GetFunction;
 
+import static org.ballerinalang.langlib.array.utils.ArrayUtils.getBulkAccessibleArray;
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.getElementAccessFunction;
 
 /**
@@ -40,6 +42,15 @@ public final class LastIndexOf {
         int size = arr.size();
         GetFunction getFn = getElementAccessFunction(arrType, "lastIndexOf()");
 
+        ArrayValueImpl arrayValue = getBulkAccessibleArray(arr);
+        if (arrayValue != null && startIndex < size) {
+            if (startIndex < 0) {
+                return null;
+            }
+            int index = arrayValue.lastIndexOf(val, (int) startIndex);
+            return index < 0 ? null : (long) index;
+        }
+
         for (long i = startIndex; i >= 0; i--) {
             if (TypeChecker.isEqual(val, getFn.get(arr, i))) {
                 return i;
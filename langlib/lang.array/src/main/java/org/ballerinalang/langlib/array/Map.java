@@ -28,9 +28,11 @@ import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
 import org.ballerinalang.langlib.array.utils.GetFunction;
 
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.createOpNotSupportedError;
+import static org.ballerinalang.langlib.array.utils.ArrayUtils.getBulkAccessibleArray;
 
 /**
  * Native implementation of lang.array:map(Type[]).
@@ -53,6 +55,15 @@ public final class Map {
             case TypeTags.TUPLE_TAG -> BArray::getRefValue;
             default -> throw createOpNotSupportedError(arrType, "map()");
         };
+        ArrayValueImpl retArrayValue = getBulkAccessibleArray(retArr);
+        if (retArrayValue != null) {
+            Object[] values = new Object[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = func.call(env.getRuntime(), getFn.get(arr, i));
+            }
+            retArrayValue.appendAll(values);
+            return retArr;
+        }
         for (int i = 0; i < size; i++) {
             retArr.add(i, func.call(env.getRuntime(), getFn.get(arr, i)));
         }
@@ -22,8 +22,10 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
 
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.createOpNotSupportedError;
+import static org.ballerinalang.langlib.array.utils.ArrayUtils.getBulkAccessibleArray;
 
 /**
  * Native implementation of lang.array:push((any|error)[], (any|error)...).
@@ -42,6 +44,12 @@ public class Push {
         int nVals = vals.length;
         switch (arrType.getTag()) {
             case TypeTags.ARRAY_TAG:
+                ArrayValueImpl arrayValue = getBulkAccessibleArray(arr);
+                if (arrayValue != null) {
+                    arrayValue.appendAll(vals);
+                    break;
+                }
+                // fall through
             case TypeTags.TUPLE_TAG:
                 for (int i = arr.size(), j = 0; j < nVals; i++, j++) {
                     arr.add(i, vals[j]);
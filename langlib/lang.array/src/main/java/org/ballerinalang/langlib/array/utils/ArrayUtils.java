@@ -32,6 +32,7 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -80,6 +81,17 @@ public final class ArrayUtils {
         };
     }
 
+    /**
+     * Returns the given list as an {@link ArrayValueImpl} if its members can be operated on in bulk. Streaming JSON
+     * arrays read their members from the stream as they are accessed, so they are operated on member by member.
+     *
+     * @param arr list value
+     * @return the array value, or null if the members of the list cannot be operated on in bulk
+     */
+    public static ArrayValueImpl getBulkAccessibleArray(BArray arr) {
+        return arr.getClass() == ArrayValueImpl.class ? (ArrayValueImpl) arr : null;
+    }
+
     public static void checkIsArrayOnlyOperation(Type arrType, String op) {
         if (TypeUtils.getImpliedType(arrType).getTag() != TypeTags.ARRAY_TAG) {
             throw createOpNotSupportedError(arrType, op);
@@ -16,6 +16,10 @@
 
 import ballerina/jballerina.java;
 
+# Config to specify the maximum number of strands started with `start` that run at the same time.
+# A value less than one does not limit the strands.
+configurable int maxConcurrentStrands = 0;
+
 # A listener that is dynamically registered with a module.
 public type DynamicListener object {
     public function 'start() returns error?;
@@ -570,6 +570,8 @@ public class LangLibArrayTest {
                 "testPushAfterSlice",
                 "testPushAfterSliceFixed",
                 "testLastIndexOf",
+                "testIndexOfOnBasicTypeArrays",
+                "testPushMapAndFilterOnBasicTypeArrays",
                 "testReverseInt",
                 "testReverseFloat",
                 "testReverseStr",
@@ -386,7 +386,9 @@ public class LangLibValueTest {
                 "testCloneWithTypeTableToAnydata", "testUnionNestedTypeConversionErrors",
                 "testCloneWithTypeToUnionOfTypeReference", "testCloneWithTypeToTableNegative",
                 "testCloneWithTypeRecordDefaultValues", "testCloneWithTypeToRecordWithIntersectingUnionMembers",
-                "testCloneWithTypeToRecordWithSpecialChars"
+                "testCloneWithTypeToRecordWithSpecialChars", "testCloneWithTypeNestedUnions",
+                "testCloneWithTypeNestedReadOnly", "testCloneWithTypeTableWithNestedMembers",
+                "testCloneWithTypeTableToReadOnlyTable"
         };
     }
 
@@ -459,7 +461,10 @@ public class LangLibValueTest {
                 { "testFromJsonWithTypeOnRegExpNegative" },
                 {"testFromJsonWithTypeToUnionOfTypeReference"},
                 {"testFromJsonStringWithUnexpectedChars"},
-                {"testFromJsonWithTypeWithRecordOptionalReadOnlyField"}
+                {"testFromJsonWithTypeWithRecordOptionalReadOnlyField"},
+                {"testFromJsonWithTypeNestedUnions"},
+                {"testFromJsonWithTypeNestedReadOnly"},
+                {"testFromJsonWithTypeTableWithNestedMembers"}
         };
     }
 
@@ -554,4 +559,11 @@ public class LangLibValueTest {
     public void testLast() {
         BRunUtil.invoke(compileResult, "testLast");
     }
+
+    @Test
+    public void testCloneAliasing() {
+        BRunUtil.invoke(compileResult, "testCloneWithEqualDistinctMembers");
+        BRunUtil.invoke(compileResult, "testCloneWithSharedMember");
+        BRunUtil.invoke(compileResult, "testCloneOfImmutableValue");
+    }
 }
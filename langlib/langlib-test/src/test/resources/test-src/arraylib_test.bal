@@ -309,6 +309,68 @@ function testLastIndexOf() {
     }
 }
 
+function testIndexOfOnBasicTypeArrays() {
+    int[] ints = [10, 20, 30, 20, 10];
+    assertValueEquality(1, ints.indexOf(20));
+    assertValueEquality(3, ints.indexOf(20, 2));
+    assertValueEquality(3, ints.lastIndexOf(20));
+    assertValueEquality(1, ints.lastIndexOf(20, 2));
+    assertValueEquality((), ints.indexOf(40));
+    assertValueEquality((), ints.indexOf(10, 5));
+
+    byte[] bytes = [1, 200, 3];
+    assertValueEquality(1, bytes.indexOf(200));
+    assertValueEquality((), bytes.indexOf(4));
+
+    float[] floats = [1.5, -0.0, float:NaN, 2.5];
+    assertValueEquality(1, floats.indexOf(0.0));
+    assertValueEquality(2, floats.indexOf(float:NaN));
+    assertValueEquality(2, floats.lastIndexOf(float:NaN));
+    assertValueEquality((), floats.indexOf(3.5));
+
+    boolean[] booleans = [false, false, true];
+    assertValueEquality(2, booleans.indexOf(true));
+    assertValueEquality(1, booleans.lastIndexOf(false));
+
+    string[] strings = ["a", "b", "c", "b"];
+    assertValueEquality(1, strings.indexOf("b"));
+    assertValueEquality(3, strings.lastIndexOf("b"));
+    assertValueEquality((), strings.indexOf("d"));
+}
+
+function testPushMapAndFilterOnBasicTypeArrays() {
+    int[] ints = [1, 2, 3];
+    ints.push(4, 5, 6);
+    assertValueEquality([1, 2, 3, 4, 5, 6], ints);
+    assertValueEquality([2, 4, 6, 8, 10, 12], ints.map(i => i * 2));
+    assertValueEquality([2, 4, 6], ints.filter(i => i % 2 == 0));
+
+    float[] floats = [1.5];
+    floats.push(2.5, 3.5);
+    assertValueEquality([1.5, 2.5, 3.5], floats);
+    assertValueEquality([3.0, 5.0, 7.0], floats.map(f => f * 2));
+
+    string[] strings = ["a"];
+    strings.push("b", "c");
+    assertValueEquality(["a", "b", "c"], strings);
+    assertValueEquality(["A", "B", "C"], strings.map(s => s.toUpperAscii()));
+    assertValueEquality(["b"], strings.filter(s => s == "b"));
+
+    boolean[] booleans = [true];
+    booleans.push(false, true);
+    assertValueEquality([true, false, true], booleans);
+    assertValueEquality([false, true, false], booleans.map(b => !b));
+
+    int:Signed8[] signed8s = [1];
+    signed8s.push(2, 3);
+    assertValueEquality([1, 2, 3], signed8s);
+
+    int[] readonlyInts = [1, 2].cloneReadOnly();
+    readonlyInts.push();
+    error? pushResult = trap readonlyInts.push(3);
+    assertTrue(pushResult is error);
+}
+
 function testReverseInt() {
     int[] arr = [10, 20, 30, 40, 50];
     assertValueEquality(arr.reverse(), [50, 40, 30, 20, 10]);
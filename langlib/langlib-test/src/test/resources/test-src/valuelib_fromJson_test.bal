@@ -1045,6 +1045,134 @@ function testFromJsonWithTypeArray() {
     }
 }
 
+type ConvertedItem record {|
+    int id;
+    int|string code;
+|};
+
+type ConvertedOtherItem record {|
+    string id;
+|};
+
+type ConvertedNestedUnions record {|
+    (ConvertedItem|ConvertedOtherItem)[] items;
+    map<ConvertedItem|int> byName;
+    ConvertedItem? optionalItem;
+    [ConvertedItem, ConvertedOtherItem|int] pair;
+|};
+
+type ConvertedTaggedItem record {|
+    int id;
+    string[] tags;
+|};
+
+type ConvertedReadOnlyHolder record {|
+    readonly & ConvertedTaggedItem fixed;
+    ConvertedTaggedItem[] items;
+    map<readonly & string[]> groups;
+|};
+
+type ConvertedRow record {|
+    readonly int id;
+    int|string code;
+    ConvertedTaggedItem? details;
+|};
+
+type ConvertedRowTable table<ConvertedRow>;
+
+function testFromJsonWithTypeNestedUnions() {
+    json value = {
+        items: [{id: 1, code: 10}, {id: "x"}, {id: 2, code: "y"}],
+        byName: {a: {id: 3, code: 30}, b: 4},
+        optionalItem: (),
+        pair: [{id: 5, code: "z"}, 6]
+    };
+    ConvertedNestedUnions nested = checkpanic value.fromJsonWithType();
+
+    anydata first = nested.items[0];
+    assertTrue(first is ConvertedItem);
+    assertEquality(<ConvertedItem>{id: 1, code: 10}, first);
+    anydata firstCode = (<ConvertedItem>first).code;
+    assertTrue(firstCode is int);
+    anydata second = nested.items[1];
+    assertTrue(second is ConvertedOtherItem);
+    anydata third = nested.items[2];
+    assertTrue(third is ConvertedItem);
+    anydata thirdCode = (<ConvertedItem>third).code;
+    assertTrue(thirdCode is string);
+
+    anydata byNameA = nested.byName["a"];
+    assertTrue(byNameA is ConvertedItem);
+    assertEquality(4, nested.byName["b"]);
+    assertEquality((), nested.optionalItem);
+    assertEquality(<ConvertedItem>{id: 5, code: "z"}, nested.pair[0]);
+    assertEquality(6, nested.pair[1]);
+
+    json invalidValue = {
+        items: [{id: 1, code: 10}, {id: 2, code: true}],
+        byName: {},
+        optionalItem: (),
+        pair: [{id: 5, code: "z"}, 6]
+    };
+    ConvertedNestedUnions|error result = invalidValue.fromJsonWithType();
+    assertTrue(result is error);
+}
+
+function testFromJsonWithTypeNestedReadOnly() {
+    json value = {fixed: {id: 1, tags: ["a"]}, items: [{id: 2, tags: ["b", "c"]}], groups: {g: ["d"]}};
+    ConvertedReadOnlyHolder holder = checkpanic value.fromJsonWithType();
+
+    anydata fixed = holder.fixed;
+    assertTrue(fixed is readonly);
+    anydata fixedTags = holder.fixed.tags;
+    assertTrue(fixedTags is readonly);
+    anydata items = holder.items;
+    assertFalse(items is readonly);
+    anydata itemTags = holder.items[0].tags;
+    assertFalse(itemTags is readonly);
+    holder.items[0].tags.push("e");
+    assertEquality(<string[]>["b", "c", "e"], holder.items[0].tags);
+    anydata group = holder.groups["g"];
+    assertTrue(group is readonly);
+    assertEquality(<string[]>["d"], group);
+
+    ConvertedReadOnlyHolder & readonly immutableHolder = checkpanic value.fromJsonWithType();
+    anydata immutableItems = immutableHolder.items;
+    assertTrue(immutableItems is readonly);
+    anydata immutableItemTags = immutableHolder.items[0].tags;
+    assertTrue(immutableItemTags is readonly);
+    assertEquality(<string[]>["b", "c"], immutableItemTags);
+    assertEquality(1, immutableHolder.fixed.id);
+}
+
+function testFromJsonWithTypeTableWithNestedMembers() {
+    json value = [
+        {id: 1, code: 10, details: {id: 1, tags: ["a"]}},
+        {id: 2, code: "x", details: ()}
+    ];
+    ConvertedRowTable|error result = value.fromJsonWithType(ConvertedRowTable);
+    assertTrue(result is ConvertedRowTable);
+    ConvertedRow[] rows = (checkpanic result).toArray();
+    assertEquality(2, rows.length());
+    anydata firstCode = rows[0].code;
+    assertTrue(firstCode is int);
+    assertEquality(10, firstCode);
+    anydata secondCode = rows[1].code;
+    assertTrue(secondCode is string);
+    assertEquality("x", secondCode);
+    anydata details = rows[0].details;
+    assertTrue(details is ConvertedTaggedItem);
+    assertEquality(<ConvertedTaggedItem>{id: 1, tags: ["a"]}, details);
+    assertEquality((), rows[1].details);
+
+    json invalidValue = [
+        {id: 1, code: 10, details: {id: 1, tags: ["a"]}},
+        {id: 2, code: "x", details: {id: 2, tags: [1]}}
+    ];
+    ConvertedRowTable|error invalidResult = invalidValue.fromJsonWithType(ConvertedRowTable);
+    assertTrue(invalidResult is error);
+}
+
 type AssertionError distinct error;
 
 const ASSERTION_ERROR_REASON = "AssertionError";
@@ -4997,6 +4997,209 @@ function testCloneWithTypeToRecordWithSpecialChars() {
     assertEquality(cb.DFH\-COMMAREA?.BROKER\-MESSAGE\-AREA.toString(), string `{"MI-HDR-VERSION":"2","MI-HDR-MSGID":"3238763233323598798798712321187612","MI-HDR-LOGGINGID":"Z5118761-Z"}`);
 }
 
+type ConvertedItem record {|
+    int id;
+    int|string code;
+|};
+
+type ConvertedOtherItem record {|
+    string id;
+|};
+
+type ConvertedNestedUnions record {|
+    (ConvertedItem|ConvertedOtherItem)[] items;
+    map<ConvertedItem|int> byName;
+    ConvertedItem? optionalItem;
+    [ConvertedItem, ConvertedOtherItem|int] pair;
+|};
+
+type ConvertedTaggedItem record {|
+    int id;
+    string[] tags;
+|};
+
+type ConvertedReadOnlyHolder record {|
+    readonly & ConvertedTaggedItem fixed;
+    ConvertedTaggedItem[] items;
+    map<readonly & string[]> groups;
+|};
+
+type ConvertedRow record {|
+    readonly int id;
+    int|string code;
+    ConvertedTaggedItem? details;
+|};
+
+type ConvertedRowTable table<ConvertedRow>;
+
+function testCloneWithTypeNestedUnions() {
+    json value = {
+        items: [{id: 1, code: 10}, {id: "x"}, {id: 2, code: "y"}],
+        byName: {a: {id: 3, code: 30}, b: 4},
+        optionalItem: (),
+        pair: [{id: 5, code: "z"}, 6]
+    };
+    ConvertedNestedUnions nested = checkpanic value.cloneWithType();
+
+    anydata first = nested.items[0];
+    assertTrue(first is ConvertedItem);
+    assertEquality(<ConvertedItem>{id: 1, code: 10}, first);
+    anydata firstCode = (<ConvertedItem>first).code;
+    assertTrue(firstCode is int);
+    anydata second = nested.items[1];
+    assertTrue(second is ConvertedOtherItem);
+    anydata third = nested.items[2];
+    assertTrue(third is ConvertedItem);
+    anydata thirdCode = (<ConvertedItem>third).code;
+    assertTrue(thirdCode is string);
+
+    anydata byNameA = nested.byName["a"];
+    assertTrue(byNameA is ConvertedItem);
+    assertEquality(4, nested.byName["b"]);
+    assertEquality((), nested.optionalItem);
+    assertEquality(<ConvertedItem>{id: 5, code: "z"}, nested.pair[0]);
+    assertEquality(6, nested.pair[1]);
+
+    json invalidValue = {
+        items: [{id: 1, code: 10}, {id: 2, code: true}],
+        byName: {},
+        optionalItem: (),
+        pair: [{id: 5, code: "z"}, 6]
+    };
+    ConvertedNestedUnions|error result = invalidValue.cloneWithType();
+    assertTrue(result is error);
+}
+
+function testCloneWithTypeNestedReadOnly() {
+    json value = {fixed: {id: 1, tags: ["a"]}, items: [{id: 2, tags: ["b", "c"]}], groups: {g: ["d"]}};
+    ConvertedReadOnlyHolder holder = checkpanic value.cloneWithType();
+
+    anydata fixed = holder.fixed;
+    assertTrue(fixed is readonly);
+    anydata fixedTags = holder.fixed.tags;
+    assertTrue(fixedTags is readonly);
+    anydata items = holder.items;
+    assertFalse(items is readonly);
+    anydata itemTags = holder.items[0].tags;
+    assertFalse(itemTags is readonly);
+    holder.items[0].tags.push("e");
+    assertEquality(<string[]>["b", "c", "e"], holder.items[0].tags);
+    anydata group = holder.groups["g"];
+    assertTrue(group is readonly);
+    assertEquality(<string[]>["d"], group);
+
+    ConvertedReadOnlyHolder & readonly immutableHolder = checkpanic value.cloneWithType();
+    anydata immutableItems = immutableHolder.items;
+    assertTrue(immutableItems is readonly);
+    anydata immutableItemTags = immutableHolder.items[0].tags;
+    assertTrue(immutableItemTags is readonly);
+    assertEquality(<string[]>["b", "c"], immutableItemTags);
+    assertEquality(1, immutableHolder.fixed.id);
+}
+
+function testCloneWithTypeTableWithNestedMembers() {
+    json value = [
+        {id: 1, code: 10, details: {id: 1, tags: ["a"]}},
+        {id: 2, code: "x", details: ()}
+    ];
+    ConvertedRowTable|error result = value.cloneWithType(ConvertedRowTable);
+    assertTrue(result is ConvertedRowTable);
+    ConvertedRow[] rows = (checkpanic result).toArray();
+    assertEquality(2, rows.length());
+    anydata firstCode = rows[0].code;
+    assertTrue(firstCode is int);
+    assertEquality(10, firstCode);
+    anydata secondCode = rows[1].code;
+    assertTrue(secondCode is string);
+    assertEquality("x", secondCode);
+    anydata details = rows[0].details;
+    assertTrue(details is ConvertedTaggedItem);
+    assertEquality(<ConvertedTaggedItem>{id: 1, tags: ["a"]}, details);
+    assertEquality((), rows[1].details);
+
+    json invalidValue = [
+        {id: 1, code: 10, details: {id: 1, tags: ["a"]}},
+        {id: 2, code: "x", details: {id: 2, tags: [1]}}
+    ];
+    ConvertedRowTable|error invalidResult = invalidValue.cloneWithType(ConvertedRowTable);
+    assertTrue(invalidResult is error);
+}
+
+function testCloneWithTypeTableToReadOnlyTable() {
+    table<record {|readonly int id; anydata code; anydata details;|}> source = table [
+        {id: 1, code: 10, details: {id: 1, tags: ["a"]}},
+        {id: 2, code: "x", details: ()}
+    ];
+    table<ConvertedRow> & readonly result = checkpanic source.cloneWithType();
+    anydata tab = result;
+    assertTrue(tab is readonly);
+    foreach ConvertedRow row in result {
+        anydata rowValue = row;
+        assertTrue(rowValue is readonly);
+        anydata details = row.details;
+        if row.id == 1 {
+            assertTrue(details is ConvertedTaggedItem);
+            assertTrue(details is readonly);
+            assertEquality(10, row.code);
+        } else {
+            assertEquality((), details);
+            assertEquality("x", row.code);
+        }
+    }
+}
+
+function testCloneWithEqualDistinctMembers() {
+    int[] first = [1, 2];
+    int[] second = [1, 2];
+    [int[], int[]] value = [first, second];
+
+    [int[], int[]] clone = value.clone();
+    assertTrue(clone[0] == clone[1]);
+    assertFalse(clone[0] === clone[1]);
+    clone[0].push(3);
+    assertEquality(<int[]>[1, 2, 3], clone[0]);
+    assertEquality(<int[]>[1, 2], clone[1]);
+
+    map<int[]> mapValue = {a: [1], b: [1]};
+    map<int[]> mapClone = mapValue.clone();
+    assertFalse(mapClone["a"] === mapClone["b"]);
+
+    readonly & [int[], int[]] readOnlyClone = value.cloneReadOnly();
+    assertTrue(readOnlyClone[0] == readOnlyClone[1]);
+    assertFalse(readOnlyClone[0] === readOnlyClone[1]);
+}
+
+function testCloneWithSharedMember() {
+    int[] member = [1, 2];
+    [int[], int[]] value = [member, member];
+
+    [int[], int[]] clone = value.clone();
+    assertFalse(clone[0] === member);
+    assertTrue(clone[0] === clone[1]);
+    clone[0].push(3);
+    assertEquality(<int[]>[1, 2, 3], clone[1]);
+    assertEquality(<int[]>[1, 2], member);
+
+    map<int[]> mapValue = {a: member, b: member};
+    map<int[]> mapClone = mapValue.clone();
+    assertTrue(mapClone["a"] === mapClone["b"]);
+
+    readonly & [int[], int[]] readOnlyClone = value.cloneReadOnly();
+    assertTrue(readOnlyClone[0] === readOnlyClone[1]);
+}
+
+function testCloneOfImmutableValue() {
+    readonly & int[] member = [1, 2];
+    readonly & [int[], int[]] value = [member, [1, 2]];
+    assertTrue(value.clone() === value);
+    assertTrue(value.cloneReadOnly() === value);
+
+    [int[], int[]] mutableValue = [member, [3]];
+    [int[], int[]] clone = mutableValue.clone();
+    assertFalse(clone === mutableValue);
+    assertTrue(clone[0] === member);
+}
+
 type AssertionError distinct error;
 
 const ASSERTION_ERROR_REASON = "AssertionError";
@@ -24,7 +24,10 @@ import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.eventsync.EventKind;
 import org.ballerinalang.langserver.eventsync.AbstractEventPublisher;
 
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
@@ -36,9 +39,9 @@ import java.util.concurrent.TimeUnit;
 @JavaSPIService("org.ballerinalang.langserver.eventsync.EventPublisher")
 public class ProjectUpdateEventPublisher extends AbstractEventPublisher {
     public static final String NAME = "Project update event publisher";
-    private CompletableFuture<Boolean> latestScheduled = null;
+    private final Map<Path, CompletableFuture<Boolean>> latestScheduled = new ConcurrentHashMap<>();
     private static final long DIAGNOSTIC_DELAY = 1;
-    
+
     @Override
     public EventKind getKind() {
         return EventKind.PROJECT_UPDATE;
@@ -52,14 +55,25 @@ public class ProjectUpdateEventPublisher extends AbstractEventPublisher {
     @Override
     public void publish(ExtendedLanguageClient client, LanguageServerContext serverContext,
                         DocumentServiceContext context) {
-        if (latestScheduled != null && !latestScheduled.isDone()) {
-            latestScheduled.completeExceptionally(new Throwable("Cancelled project update event publisher"));
-        }
-
+        // Events are coalesced per project, so that an edit in one project does not drop the pending event of another
+        Path projectRoot = context.workspace().projectRoot(context.filePath());
         Executor delayedExecutor = CompletableFuture.delayedExecutor(DIAGNOSTIC_DELAY, TimeUnit.SECONDS);
         CompletableFuture<Boolean> scheduledFuture = CompletableFuture.supplyAsync(() -> true, delayedExecutor);
-        latestScheduled = scheduledFuture;
-        scheduledFuture.thenAcceptAsync(aBoolean -> subscribers.parallelStream()
-                .forEach(subscriber -> subscriber.onEvent(client, context, serverContext)));
+        CompletableFuture<Boolean> previousScheduled = latestScheduled.put(projectRoot, scheduledFuture);
+        if (previousScheduled != null && !previousScheduled.isDone()) {
+            previousScheduled.completeExceptionally(new Throwable("Cancelled project update event publisher"));
+        }
+
+        scheduledFuture.thenAcceptAsync(aBoolean -> {
+            try {
+                // Skip the event if it has been superseded by a newer edit while waiting for the executor
+                if (latestScheduled.get(projectRoot) == scheduledFuture) {
+                    subscribers.parallelStream()
+                            .forEach(subscriber -> subscriber.onEvent(client, context, serverContext));
+                }
+            } finally {
+                latestScheduled.remove(projectRoot, scheduledFuture);
+            }
+        });
     }
 }
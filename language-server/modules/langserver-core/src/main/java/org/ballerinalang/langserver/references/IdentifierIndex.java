@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.references;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Index of the identifier names used in each document, used to skip documents that cannot contain a reference to a
+ * symbol before running the reference finder on them.
+ * <p>
+ * Entries are keyed by the syntax tree of the document. Unchanged documents keep their syntax tree across edits, so
+ * only the edited documents are re-indexed and the entries of replaced trees are dropped with them.
+ *
+ * @since 2201.13.0
+ */
+public final class IdentifierIndex {
+
+    private static final Set<SymbolKind> INDEXED_SYMBOL_KINDS = EnumSet.of(SymbolKind.FUNCTION, SymbolKind.METHOD,
+            SymbolKind.CONSTANT, SymbolKind.TYPE_DEFINITION, SymbolKind.VARIABLE, SymbolKind.CLASS,
+            SymbolKind.ANNOTATION, SymbolKind.RECORD_FIELD, SymbolKind.OBJECT_FIELD, SymbolKind.CLASS_FIELD,
+            SymbolKind.ENUM, SymbolKind.ENUM_MEMBER, SymbolKind.PARAMETER);
+    // Object constructors refer to the init method without naming it
+    private static final String INIT_METHOD_NAME = "init";
+
+    // Documents whose identifiers cannot be compared textually, such as those with escaped characters, are mapped
+    // to an empty optional
+    private static final Cache<SyntaxTree, Optional<Set<String>>> DOCUMENT_IDENTIFIERS = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    private IdentifierIndex() {
+    }
+
+    /**
+     * Returns the documents of the given module, including the test documents, which may contain a reference to the
+     * given symbol. A document that is not returned definitely does not refer to the symbol, while the returned
+     * documents still need to be searched with the semantic model.
+     *
+     * @param module module to search
+     * @param symbol symbol to find references of
+     * @return documents which may contain a reference to the symbol
+     */
+    public static List<Document> documentsReferencing(Module module, Symbol symbol) {
+        Optional<String> name = indexedName(symbol);
+        List<Document> documents = new ArrayList<>();
+        for (DocumentId documentId : module.documentIds()) {
+            addIfReferencing(module.document(documentId), name, documents);
+        }
+        for (DocumentId documentId : module.testDocumentIds()) {
+            addIfReferencing(module.document(documentId), name, documents);
+        }
+        return documents;
+    }
+
+    /**
+     * Check whether the given document may contain a reference to the given symbol. A negative answer is definite,
+     * while a positive answer still needs to be confirmed with the semantic model.
+     *
+     * @param document document to search
+     * @param symbol   symbol to find references of
+     * @return whether the document may contain a reference to the symbol
+     */
+    public static boolean mayReference(Document document, Symbol symbol) {
+        return mayReference(document, indexedName(symbol));
+    }
+
+    /**
+     * Returns the number of documents currently held in the index.
+     *
+     * @return number of indexed documents
+     */
+    public static long size() {
+        return DOCUMENT_IDENTIFIERS.size();
+    }
+
+    private static void addIfReferencing(Document document, Optional<String> name, List<Document> documents) {
+        if (mayReference(document, name)) {
+            documents.add(document);
+        }
+    }
+
+    private static boolean mayReference(Document document, Optional<String> name) {
+        if (name.isEmpty()) {
+            return true;
+        }
+        SyntaxTree syntaxTree = document.syntaxTree();
+        Optional<Set<String>> identifiers = DOCUMENT_IDENTIFIERS.getIfPresent(syntaxTree);
+        if (identifiers == null) {
+            identifiers = collectIdentifiers(syntaxTree);
+            DOCUMENT_IDENTIFIERS.put(syntaxTree, identifiers);
+        }
+        return identifiers.map(names -> names.contains(name.get())).orElse(true);
+    }
+
+    /**
+     * Returns the name to look up in the index for the given symbol, or an empty optional if references to the symbol
+     * may not spell its name.
+     */
+    private static Optional<String> indexedName(Symbol symbol) {
+        if (!INDEXED_SYMBOL_KINDS.contains(symbol.kind())) {
+            return Optional.empty();
+        }
+        return symbol.getName().map(IdentifierIndex::normalize).filter(name -> !INIT_METHOD_NAME.equals(name));
+    }
+
+    private static Optional<Set<String>> collectIdentifiers(SyntaxTree syntaxTree) {
+        Set<String> identifiers = new HashSet<>();
+        return collectIdentifiers(syntaxTree.rootNode(), identifiers) ? Optional.of(identifiers) : Optional.empty();
+    }
+
+    private static boolean collectIdentifiers(Node node, Set<String> identifiers) {
+        if (node instanceof Token token) {
+            SyntaxKind kind = token.kind();
+            if (kind != SyntaxKind.IDENTIFIER_TOKEN && kind != SyntaxKind.STRING_LITERAL_TOKEN) {
+                return true;
+            }
+            String text = token.text();
+            if (kind == SyntaxKind.IDENTIFIER_TOKEN) {
+                // Escaped characters in identifiers make them differ from the symbol names
+                if (text.indexOf('\\') >= 0) {
+                    return false;
+                }
+                identifiers.add(normalize(text));
+                return true;
+            }
+
+            // String literals can name record fields in member access and mapping constructor keys. Other than
+            // unicode escapes, string escapes cannot produce characters that are valid in an unquoted identifier.
+            if (text.contains("\\u{")) {
+                return false;
+            }
+            if (text.length() >= 2) {
+                identifiers.add(text.substring(1, text.length() - 1));
+            }
+            return true;
+        }
+
+        for (Node child : ((NonTerminalNode) node).children()) {
+            if (!collectIdentifiers(child, identifiers)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String name) {
+        return name.startsWith("'") ? name.substring(1) : name;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.ballerinalang.langserver.references;
 
+import io.ballerina.compiler.api.ModuleID;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
@@ -27,6 +28,7 @@ import io.ballerina.projects.Project;
 import io.ballerina.tools.diagnostics.Location;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.TextRange;
+import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.common.utils.PositionUtil;
@@ -35,12 +37,14 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utility class for go to definition functionality of language server.
@@ -57,7 +61,13 @@ public final class ReferencesUtil {
         if (project.isEmpty() || symbol.isEmpty()) {
             return references;
         }
+        long startTime = System.nanoTime();
         references.putAll(getReferences(project.get(), symbol.get()));
+        LSClientLogger.getInstance(context.languageServercontext()).logTrace(String.format(
+                "Operation '%s' {symbol: '%s'} found references in %d module(s) in %d ms, identifier index: %d "
+                        + "document(s)", context.operation().getName(), symbol.get().getName().orElse(""),
+                references.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime),
+                IdentifierIndex.size()));
         references.forEach((module, locations) -> {
             List<Location> docReferences = new LinkedList<>();
             // Find references in documentation
@@ -82,17 +92,41 @@ public final class ReferencesUtil {
     public static Map<Module, List<Location>> getReferences(Project project, Symbol symbol) {
         Map<Module, List<Location>> moduleLocationMap = new HashMap<>();
         project.currentPackage().moduleIds().forEach(moduleId -> {
-            List<Location> references = project.currentPackage()
-                    .getCompilation().getSemanticModel(moduleId).references(symbol);
+            Module module = project.currentPackage().module(moduleId);
+            SemanticModel semanticModel = project.currentPackage().getCompilation().getSemanticModel(moduleId);
+            List<Location> references = getReferences(module, semanticModel, symbol);
             if (references.isEmpty()) {
                 return;
             }
-            Module module = project.currentPackage().module(moduleId);
             moduleLocationMap.put(module, references);
         });
         
         return moduleLocationMap;
     }
+
+    private static List<Location> getReferences(Module module, SemanticModel semanticModel, Symbol symbol) {
+        // Symbols of the module itself may be local to a function, in which case the semantic model only searches
+        // the enclosing construct
+        if (isDefinedIn(module, symbol)) {
+            return semanticModel.references(symbol);
+        }
+
+        // Symbols of other modules are only searched in the documents which use the name of the symbol
+        List<Location> references = new ArrayList<>();
+        for (Document document : IdentifierIndex.documentsReferencing(module, symbol)) {
+            references.addAll(semanticModel.references(symbol, document, true));
+        }
+        return references;
+    }
+
+    private static boolean isDefinedIn(Module module, Symbol symbol) {
+        if (symbol.getModule().isEmpty()) {
+            return true;
+        }
+        ModuleID moduleId = symbol.getModule().get().id();
+        return moduleId.orgName().equals(module.packageInstance().packageOrg().value())
+                && moduleId.moduleName().equals(module.moduleName().toString());
+    }
     
     private static List<NodeLocation> findReferencesInDocumentation(Location location,
                                                                     Module module,
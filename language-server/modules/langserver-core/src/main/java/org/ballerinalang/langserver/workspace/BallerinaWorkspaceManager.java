@@ -373,16 +373,52 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
      * @return {@link ModuleCompilation}
      */
     public Optional<PackageCompilation> waitAndGetPackageCompilation(Path filePath, boolean isSourceChange) {
+        return waitAndGetPackageCompilation(filePath, isSourceChange, null);
+    }
+
+    /**
+     * Returns module compilation from the file path provided.
+     *
+     * @param filePath file path of the document
+     * @return {@link ModuleCompilation}
+     */
+    @Override
+    public Optional<PackageCompilation> waitAndGetPackageCompilation(Path filePath) {
+        return waitAndGetPackageCompilation(filePath, false);
+    }
+
+    @Override
+    public Optional<PackageCompilation> waitAndGetPackageCompilation(Path filePath,
+                                                                     @Nonnull CancelChecker cancelChecker) {
+        cancelChecker.checkCanceled();
+        return waitAndGetPackageCompilation(filePath, false, cancelChecker);
+    }
+
+    private Optional<PackageCompilation> waitAndGetPackageCompilation(Path filePath, boolean isSourceChange,
+                                                                      @Nullable CancelChecker cancelChecker) {
         // Get Project and Lock
         Optional<ProjectContext> projectPair = projectContext(projectRoot(filePath));
         if (projectPair.isEmpty() || (projectPair.get().compilationCrashed() && !isSourceChange)) {
             return Optional.empty();
         }
 
+        // Serve the request without waiting on the project lock if the current package is already compiled
+        Optional<PackageCompilation> latestCompilation = projectPair.get().latestCompilation();
+        if (latestCompilation.isPresent()) {
+            return latestCompilation;
+        }
+
         // Lock Project Instance
         Lock lock = projectPair.get().lockAndGet();
         try {
-            PackageCompilation compilation = projectPair.get().project().currentPackage().getCompilation();
+            // The request may have been cancelled by a newer one while waiting for the lock. Once started, the
+            // compilation runs to completion since the compiler has no cancellation points.
+            if (cancelChecker != null) {
+                cancelChecker.checkCanceled();
+            }
+            long startTime = System.nanoTime();
+            Package currentPackage = projectPair.get().project().currentPackage();
+            PackageCompilation compilation = currentPackage.getCompilation();
             if (projectPair.get().compilationCrashed()) {
                 projectPair.get().setCompilationCrashed(false);
             }
@@ -393,6 +429,9 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                                     .contains(diagnostic.diagnosticInfo().code()))) {
                 projectPair.get().setCompilationCrashed(true);
                 projectPair.get().project().clearCaches();
+            } else if (projectPair.get().latestCompilation().isEmpty()) {
+                projectPair.get().setLatestCompilation(currentPackage, compilation);
+                logCompilationTime(projectPair.get().project(), compilation, System.nanoTime() - startTime);
             }
             return Optional.of(compilation);
         } finally {
@@ -401,24 +440,6 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
     }
 
-    /**
-     * Returns module compilation from the file path provided.
-     *
-     * @param filePath file path of the document
-     * @return {@link ModuleCompilation}
-     */
-    @Override
-    public Optional<PackageCompilation> waitAndGetPackageCompilation(Path filePath) {
-        return waitAndGetPackageCompilation(filePath, false);
-    }
-
-    @Override
-    public Optional<PackageCompilation> waitAndGetPackageCompilation(Path filePath,
-                                                                     @Nonnull CancelChecker cancelChecker) {
-        cancelChecker.checkCanceled();
-        return waitAndGetPackageCompilation(filePath);
-    }
-
     /**
      * The document open notification is sent from the client to the server to signal newly opened text documents.
      *
@@ -738,6 +759,16 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
     }
 
+    private void logCompilationTime(Project project, PackageCompilation compilation, long elapsedNanos) {
+        StringJoiner phases = new StringJoiner(", ", "[", "]");
+        for (Module module : project.currentPackage().modules()) {
+            compilation.phaseDurations(module.moduleId()).forEach((phase, duration) ->
+                    phases.add(module.moduleName() + ":" + phase + "=" + duration.toMillis() + "ms"));
+        }
+        this.clientLogger.logTrace(String.format("Package {projectRoot: '%s'} compiled in %d ms %s",
+                project.sourceRoot(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), phases));
+    }
+
     private void logError(String message) {
         UserErrorException e = new UserErrorException(message);
         clientLogger.logError(LSContextOperation.WS_EXEC_CMD, message, e, null, (Position) null);
@@ -1576,7 +1607,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     public static class ProjectContext {
 
         private final Lock lock;
-        private Project project;
+        private volatile Project project;
 
         private boolean compilationCrashed;
 
@@ -1584,6 +1615,8 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
 
         private boolean projectCrashed;
 
+        private volatile CompilationSnapshot latestCompilation;
+
         private ProjectContext(Project project, Lock lock) {
             this.project = project;
             this.lock = lock;
@@ -1653,6 +1686,31 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
             this.compilationCrashed = compilationCrashed;
         }
 
+        /**
+         * Returns the completed compilation of the current package of the project, if there is one. This does not
+         * require the project lock since both the package and its compilation are immutable once created.
+         *
+         * @return latest completed compilation
+         */
+        public Optional<PackageCompilation> latestCompilation() {
+            CompilationSnapshot snapshot = this.latestCompilation;
+            if (snapshot == null || snapshot.packageRef().get() != this.project.currentPackage()) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(snapshot.compilationRef().get());
+        }
+
+        /**
+         * Set the completed compilation of the given package. Project lock should be acquired before calling.
+         *
+         * @param currentPackage compiled package
+         * @param compilation    package compilation
+         */
+        public void setLatestCompilation(Package currentPackage, PackageCompilation compilation) {
+            this.latestCompilation = new CompilationSnapshot(new WeakReference<>(currentPackage),
+                    new WeakReference<>(compilation));
+        }
+
         /**
          * Set the project crashed status.
          *
@@ -1692,6 +1750,17 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
     }
 
+    /**
+     * Holds a compiled package and its compilation without preventing either from being garbage collected once the
+     * project moves on to a newer package.
+     *
+     * @param packageRef     compiled package
+     * @param compilationRef package compilation
+     */
+    private record CompilationSnapshot(WeakReference<Package> packageRef,
+                                       WeakReference<PackageCompilation> compilationRef) {
+    }
+
     /**
      * Represents a map of Path to ProjectContext.
      *
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.references;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.util.FileUtils;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests the identifier index used to narrow down the documents searched for references.
+ *
+ * @since 2201.13.0
+ */
+public class IdentifierIndexTest {
+
+    private static final Path PROJECT_ROOT = FileUtils.RES_DIR.resolve("references").resolve("sources")
+            .resolve("projectls");
+    private Project project;
+    private SemanticModel semanticModel;
+
+    @BeforeClass
+    public void init() throws Exception {
+        Path filePath = PROJECT_ROOT.resolve("modules").resolve("lsmod2").resolve("lsmod2.bal");
+        BallerinaWorkspaceManager workspaceManager = new BallerinaWorkspaceManager(new LanguageServerContextImpl());
+        this.project = workspaceManager.loadProject(filePath);
+        this.semanticModel = workspaceManager.semanticModel(filePath).orElseThrow();
+    }
+
+    @Test
+    public void testDocumentsWithoutTheNameAreSkipped() {
+        Symbol mod2Rec = moduleSymbol("Mod2Rec");
+        Module defaultModule = this.project.currentPackage().getDefaultModule();
+        Assert.assertEquals(documentNames(IdentifierIndex.documentsReferencing(defaultModule, mod2Rec)),
+                List.of("union_types.bal"));
+        Assert.assertTrue(IdentifierIndex.documentsReferencing(module("lsmod3"), mod2Rec).isEmpty());
+        Assert.assertEquals(documentNames(IdentifierIndex.documentsReferencing(module("lsmod2"), mod2Rec)),
+                List.of("lsmod2.bal"));
+
+        Symbol mod2Function1 = moduleSymbol("mod2Function1");
+        Assert.assertEquals(documentNames(IdentifierIndex.documentsReferencing(module("lsmod3"), mod2Function1)),
+                List.of("lsmod3.bal"));
+        Assert.assertTrue(IdentifierIndex.mayReference(document(defaultModule, "defmodsource2.bal"), mod2Function1));
+        Assert.assertFalse(IdentifierIndex.mayReference(document(defaultModule, "class_def.bal"), mod2Function1));
+    }
+
+    @Test
+    public void testReferencesAcrossModules() {
+        Symbol mod2Rec = moduleSymbol("Mod2Rec");
+        Map<Module, List<Location>> references = ReferencesUtil.getReferences(this.project, mod2Rec);
+        Assert.assertFalse(references.containsKey(module("lsmod3")));
+        Assert.assertTrue(ReferencesUtil.getReferences(this.project, moduleSymbol("mod2Function1"))
+                .containsKey(module("lsmod3")));
+
+        // Searching only the documents which use the name finds the same references as searching the whole module
+        Module defaultModule = this.project.currentPackage().getDefaultModule();
+        List<Location> moduleReferences = this.project.currentPackage().getCompilation()
+                .getSemanticModel(defaultModule.moduleId()).references(mod2Rec);
+        Assert.assertFalse(moduleReferences.isEmpty());
+        Assert.assertEqualsNoOrder(references.get(defaultModule).stream().map(Location::lineRange).toArray(),
+                moduleReferences.stream().map(Location::lineRange).toArray());
+    }
+
+    private static List<String> documentNames(List<Document> documents) {
+        return documents.stream().map(Document::name).toList();
+    }
+
+    private static Document document(Module module, String name) {
+        for (DocumentId documentId : module.documentIds()) {
+            if (module.document(documentId).name().equals(name)) {
+                return module.document(documentId);
+            }
+        }
+        throw new IllegalArgumentException("document not found: " + name);
+    }
+
+    private Symbol moduleSymbol(String name) {
+        return this.semanticModel.moduleSymbols().stream()
+                .filter(symbol -> symbol.getName().filter(name::equals).isPresent())
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Module module(String name) {
+        for (Module module : this.project.currentPackage().modules()) {
+            if (name.equals(module.moduleName().moduleNamePart())) {
+                return module;
+            }
+        }
+        throw new IllegalArgumentException("module not found: " + name);
+    }
+}
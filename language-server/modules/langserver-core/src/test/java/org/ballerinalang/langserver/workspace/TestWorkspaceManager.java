@@ -26,6 +26,7 @@ import com.google.gson.JsonPrimitive;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.ProjectKind;
@@ -70,9 +71,12 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static io.ballerina.projects.util.ProjectConstants.BALLERINA_HOME;
 import static org.awaitility.Awaitility.await;
@@ -168,6 +172,45 @@ public class TestWorkspaceManager {
         Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), dummyDidChangeContent);
     }
 
+    @Test(dataProvider = "fileOpenUpdateTestDataProvider")
+    public void testCompilationSnapshot(Path filePath) throws WorkspaceDocumentException {
+        openFile(filePath);
+        Optional<PackageCompilation> compilation = workspaceManager.waitAndGetPackageCompilation(filePath);
+        Assert.assertTrue(compilation.isPresent());
+
+        // The completed compilation of the current package is served without recompiling
+        BallerinaWorkspaceManager.ProjectContext projectContext =
+                workspaceManager.sourceRootToProject.get(workspaceManager.projectRoot(filePath));
+        Assert.assertSame(projectContext.latestCompilation().orElseThrow(), compilation.get());
+        Assert.assertSame(workspaceManager.waitAndGetPackageCompilation(filePath).orElseThrow(), compilation.get());
+
+        // A document change invalidates the snapshot
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        params.setTextDocument(new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 1));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(dummyDidChangeContent));
+        workspaceManager.didChange(filePath, params);
+        Assert.assertTrue(projectContext.latestCompilation().isEmpty());
+
+        // A request cancelled while waiting for the project lock does not compile the package
+        ReentrantLock projectLock = (ReentrantLock) projectContext.locker();
+        AtomicBoolean cancelledUnderLock = new AtomicBoolean();
+        Assert.assertThrows(CancellationException.class, () -> workspaceManager.waitAndGetPackageCompilation(
+                filePath, () -> {
+                    if (projectLock.isHeldByCurrentThread()) {
+                        cancelledUnderLock.set(true);
+                        throw new CancellationException();
+                    }
+                }));
+        Assert.assertTrue(cancelledUnderLock.get());
+        Assert.assertFalse(projectLock.isHeldByCurrentThread());
+        Assert.assertTrue(projectContext.latestCompilation().isEmpty());
+
+        Optional<PackageCompilation> newCompilation = workspaceManager.waitAndGetPackageCompilation(filePath);
+        Assert.assertTrue(newCompilation.isPresent());
+        Assert.assertNotSame(newCompilation.get(), compilation.get());
+        Assert.assertSame(projectContext.latestCompilation().orElseThrow(), newCompilation.get());
+    }
+
     @Test
     public void testWSEventsCreateBalSource() throws WorkspaceDocumentException, IOException {
         Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
@@ -22,9 +22,16 @@ import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.projects.directory.SingleFileProject;
+import org.ballerinalang.debugadapter.evaluation.utils.FileUtils;
 
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.debugadapter.utils.PackageUtils.computeProjectKindAndRoot;
@@ -32,15 +39,28 @@ import static org.ballerinalang.debugadapter.utils.PackageUtils.computeProjectKi
 /**
  * A cache of Ballerina project instances (against their source roots), which are loaded during the user
  * breakpoints resolving.
+ * <p>
+ * Also caches the executables created to evaluate debug expressions as programs, against the generated program
+ * source. The generated source captures the expression along with the names and types of the frame variables it
+ * uses, so that evaluating the same expression again in a similar frame can skip compiling the program.
  *
  * @since 2.0.0
  */
 public class DebugProjectCache {
 
+    private static final int MAX_EVALUATION_EXECUTABLES = 32;
+
     private final Map<Path, Project> loadedProjects;
+    // Guarded by evaluationExecutables, along with the users and the removed executables
+    private final Map<EvaluationKey, EvaluationExecutable> evaluationExecutables;
+    private final Map<EvaluationExecutable, Integer> executableUsers;
+    private final Set<EvaluationExecutable> removedExecutables;
 
     public DebugProjectCache() {
         this.loadedProjects = new ConcurrentHashMap<>();
+        this.evaluationExecutables = new LinkedHashMap<>(16, 0.75f, true);
+        this.executableUsers = new HashMap<>();
+        this.removedExecutables = new HashSet<>();
     }
 
     /**
@@ -57,10 +77,100 @@ public class DebugProjectCache {
     }
 
     /**
-     * Clears the project cache.
+     * Returns the evaluation executable created for the given evaluation program source, from the project cache. The
+     * returned executable is kept on the disk until it is released with {@link #releaseEvaluationExecutable}, even if
+     * it is removed from the cache in the meantime.
+     *
+     * @param projectRoot source root of the project in which the expression is evaluated
+     * @param source      source of the generated evaluation program
+     * @return evaluation executable, if available
+     */
+    public Optional<EvaluationExecutable> acquireEvaluationExecutable(Path projectRoot, String source) {
+        synchronized (evaluationExecutables) {
+            EvaluationExecutable executable = evaluationExecutables.get(new EvaluationKey(projectRoot, source));
+            if (executable != null) {
+                executableUsers.merge(executable, 1, Integer::sum);
+            }
+            return Optional.ofNullable(executable);
+        }
+    }
+
+    /**
+     * Adds the given evaluation executable to the project cache, which takes over its project directory. The least
+     * recently used executables are removed once the cache is full. Their project directories are deleted as soon as
+     * they are no longer in use.
+     * <p>
+     * The executable to be used for the given source is returned, which must be released with
+     * {@link #releaseEvaluationExecutable} once the evaluation is done. If an executable is already cached for the
+     * given source, that executable is returned and the project directory of the given executable stays with the
+     * caller.
+     *
+     * @param projectRoot source root of the project in which the expression is evaluated
+     * @param source      source of the generated evaluation program
+     * @param executable  evaluation executable created for the given source
+     * @return evaluation executable to be used for the given source
+     */
+    public EvaluationExecutable addEvaluationExecutable(Path projectRoot, String source,
+                                                        EvaluationExecutable executable) {
+        synchronized (evaluationExecutables) {
+            EvaluationExecutable cachedExecutable =
+                    evaluationExecutables.putIfAbsent(new EvaluationKey(projectRoot, source), executable);
+            if (cachedExecutable != null) {
+                executableUsers.merge(cachedExecutable, 1, Integer::sum);
+                return cachedExecutable;
+            }
+            executableUsers.merge(executable, 1, Integer::sum);
+            Iterator<EvaluationExecutable> iterator = evaluationExecutables.values().iterator();
+            while (evaluationExecutables.size() > MAX_EVALUATION_EXECUTABLES) {
+                EvaluationExecutable evictedExecutable = iterator.next();
+                iterator.remove();
+                deleteIfUnused(evictedExecutable);
+            }
+            return executable;
+        }
+    }
+
+    /**
+     * Releases an evaluation executable acquired from the project cache. The project directory of the executable is
+     * deleted if it has been removed from the cache and is not used by any other evaluation.
+     *
+     * @param executable evaluation executable to be released
+     */
+    public void releaseEvaluationExecutable(EvaluationExecutable executable) {
+        synchronized (evaluationExecutables) {
+            Integer users = executableUsers.get(executable);
+            if (users == null) {
+                return;
+            }
+            if (users > 1) {
+                executableUsers.put(executable, users - 1);
+                return;
+            }
+            executableUsers.remove(executable);
+            if (removedExecutables.remove(executable)) {
+                FileUtils.deleteDirectory(executable.projectDir());
+            }
+        }
+    }
+
+    /**
+     * Clears the project cache. The project directories of the evaluation executables in use are deleted once they
+     * are released.
      */
     public void clear() {
         loadedProjects.clear();
+        synchronized (evaluationExecutables) {
+            evaluationExecutables.values().forEach(this::deleteIfUnused);
+            evaluationExecutables.clear();
+        }
+    }
+
+    private void deleteIfUnused(EvaluationExecutable executable) {
+        if (executableUsers.containsKey(executable)) {
+            removedExecutables.add(executable);
+        } else {
+            FileUtils.deleteDirectory(executable.projectDir());
+        }
     }
 
     /**
@@ -79,4 +189,17 @@ public class DebugProjectCache {
             return ProjectLoader.loadProject(projectRoot, options);
         }
     }
+
+    /**
+     * An executable created to evaluate a debug expression as a program.
+     *
+     * @param projectDir     directory of the generated evaluation project
+     * @param executablePath path of the executable JAR
+     * @param mainClassName  name of the main class of the evaluation program
+     */
+    public record EvaluationExecutable(Path projectDir, Path executablePath, String mainClassName) {
+    }
+
+    private record EvaluationKey(Path projectRoot, String source) {
+    }
 }
@@ -43,6 +43,8 @@ import io.ballerina.projects.internal.model.Target;
 import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.ballerinalang.debugadapter.DebugProjectCache;
+import org.ballerinalang.debugadapter.DebugProjectCache.EvaluationExecutable;
 import org.ballerinalang.debugadapter.EvaluationContext;
 import org.ballerinalang.debugadapter.evaluation.BExpressionValue;
 import org.ballerinalang.debugadapter.evaluation.BImport;
@@ -109,6 +111,8 @@ import static org.ballerinalang.debugadapter.variable.VariableUtils.getPackageOr
  * <li> Invokes 'classloadAndInvokeFunction' in the remote VM to classload the created executable jar and
  * invoke its '__getEvaluationResult' method. It will return the result of the expression as its return value.
  * </ol>
+ * The created executables are kept in the {@link DebugProjectCache} against the generated program snippet, so that
+ * re-evaluating the same expression with the same captured variable types only repeats the last step.
  *
  * @since 2.0.0
  */
@@ -145,10 +149,29 @@ public class ExpressionAsProgramEvaluator extends Evaluator {
     public BExpressionValue evaluate() throws EvaluationException {
         try {
             String evaluationSnippet = generateEvaluationSnippet();
-            BuildProject project = createProject(evaluationSnippet);
-            Path executablePath = createExecutables(project);
-            String mainClassName = constructMainClassName(project);
-            return classAndInvokeExecutable(executablePath, mainClassName);
+            DebugProjectCache projectCache = context.getExecutionContext().getProjectCache();
+            Path projectRoot = context.getProject().sourceRoot();
+            Optional<EvaluationExecutable> cachedExecutable =
+                    projectCache.acquireEvaluationExecutable(projectRoot, evaluationSnippet);
+            EvaluationExecutable executable;
+            if (cachedExecutable.isPresent()) {
+                executable = cachedExecutable.get();
+            } else {
+                BuildProject project = createProject(evaluationSnippet);
+                Path executablePath = createExecutables(project);
+                String mainClassName = constructMainClassName(project);
+                executable = projectCache.addEvaluationExecutable(projectRoot, evaluationSnippet,
+                        new EvaluationExecutable(tempProjectDir, executablePath, mainClassName));
+                if (executable.projectDir().equals(tempProjectDir)) {
+                    // The project directory is owned by the cache from here onwards.
+                    this.tempProjectDir = null;
+                }
+            }
+            try {
+                return classAndInvokeExecutable(executable.executablePath(), executable.mainClassName());
+            } finally {
+                projectCache.releaseEvaluationExecutable(executable);
+            }
         } catch (EvaluationException e) {
             throw e;
         } catch (Exception e) {
@@ -608,6 +631,8 @@ public class ExpressionAsProgramEvaluator extends Evaluator {
 
     private void dispose() {
         // Todo - anything else to be disposed?
-        FileUtils.deleteDirectory(this.tempProjectDir);
+        if (this.tempProjectDir != null) {
+            FileUtils.deleteDirectory(this.tempProjectDir);
+        }
     }
 }
@@ -0,0 +1,186 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.debugadapter;
+
+import org.ballerinalang.debugadapter.DebugProjectCache.EvaluationExecutable;
+import org.ballerinalang.debugadapter.evaluation.utils.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Tests the caching of the executables created to evaluate debug expressions as programs.
+ *
+ * @since 2201.13.0
+ */
+public class DebugProjectCacheTest {
+
+    private static final int MAX_EVALUATION_EXECUTABLES = 32;
+
+    private Path tempDir;
+    private Path projectRoot;
+    private DebugProjectCache projectCache;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("debug-project-cache-test");
+        projectRoot = tempDir.resolve("project");
+        projectCache = new DebugProjectCache();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        FileUtils.deleteDirectory(tempDir);
+    }
+
+    @Test
+    public void testAcquireCachedExecutable() throws IOException {
+        Assert.assertTrue(projectCache.acquireEvaluationExecutable(projectRoot, "source").isEmpty());
+
+        EvaluationExecutable executable = createExecutable("first");
+        Assert.assertSame(projectCache.addEvaluationExecutable(projectRoot, "source", executable), executable);
+        projectCache.releaseEvaluationExecutable(executable);
+
+        Optional<EvaluationExecutable> cachedExecutable = projectCache.acquireEvaluationExecutable(projectRoot,
+                "source");
+        Assert.assertTrue(cachedExecutable.isPresent());
+        Assert.assertSame(cachedExecutable.get(), executable);
+        projectCache.releaseEvaluationExecutable(executable);
+
+        Assert.assertTrue(projectCache.acquireEvaluationExecutable(projectRoot, "other source").isEmpty());
+        Assert.assertTrue(projectCache.acquireEvaluationExecutable(tempDir.resolve("other"), "source").isEmpty());
+        Assert.assertTrue(Files.exists(executable.executablePath()));
+    }
+
+    @Test
+    public void testAddExecutableForCachedSource() throws IOException {
+        EvaluationExecutable executable = createExecutable("first");
+        projectCache.releaseEvaluationExecutable(projectCache.addEvaluationExecutable(projectRoot, "source",
+                executable));
+
+        EvaluationExecutable duplicateExecutable = createExecutable("second");
+        EvaluationExecutable addedExecutable = projectCache.addEvaluationExecutable(projectRoot, "source",
+                duplicateExecutable);
+        Assert.assertSame(addedExecutable, executable);
+        projectCache.releaseEvaluationExecutable(addedExecutable);
+
+        // The project directory of an executable that is not added stays with the caller
+        Assert.assertTrue(Files.exists(duplicateExecutable.executablePath()));
+        Assert.assertTrue(Files.exists(executable.executablePath()));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedExecutableIsEvicted() throws IOException {
+        List<EvaluationExecutable> executables = addExecutables(MAX_EVALUATION_EXECUTABLES);
+        // Using the first executable makes the second one the least recently used
+        projectCache.releaseEvaluationExecutable(projectCache.acquireEvaluationExecutable(projectRoot, source(0))
+                .orElseThrow());
+
+        EvaluationExecutable newExecutable = createExecutable("new");
+        projectCache.releaseEvaluationExecutable(projectCache.addEvaluationExecutable(projectRoot, "new source",
+                newExecutable));
+
+        Assert.assertTrue(projectCache.acquireEvaluationExecutable(projectRoot, source(1)).isEmpty());
+        Assert.assertFalse(Files.exists(executables.get(1).projectDir()));
+        for (int i = 0; i < MAX_EVALUATION_EXECUTABLES; i++) {
+            if (i == 1) {
+                continue;
+            }
+            EvaluationExecutable executable = projectCache.acquireEvaluationExecutable(projectRoot, source(i))
+                    .orElseThrow();
+            projectCache.releaseEvaluationExecutable(executable);
+            Assert.assertTrue(Files.exists(executable.executablePath()));
+        }
+    }
+
+    @Test
+    public void testEvictedExecutableInUseIsKept() throws IOException {
+        List<EvaluationExecutable> executables = addExecutables(MAX_EVALUATION_EXECUTABLES);
+        EvaluationExecutable executableInUse = executables.get(0);
+        // Two evaluations use the least recently used executable while it is evicted
+        EvaluationExecutable firstUse = projectCache.acquireEvaluationExecutable(projectRoot, source(0))
+                .orElseThrow();
+        EvaluationExecutable secondUse = projectCache.acquireEvaluationExecutable(projectRoot, source(0))
+                .orElseThrow();
+        for (int i = 1; i < MAX_EVALUATION_EXECUTABLES; i++) {
+            projectCache.releaseEvaluationExecutable(projectCache.acquireEvaluationExecutable(projectRoot,
+                    source(i)).orElseThrow());
+        }
+        projectCache.releaseEvaluationExecutable(projectCache.addEvaluationExecutable(projectRoot, "new source",
+                createExecutable("new")));
+
+        Assert.assertTrue(projectCache.acquireEvaluationExecutable(projectRoot, source(0)).isEmpty());
+        Assert.assertTrue(Files.exists(executableInUse.executablePath()));
+        projectCache.releaseEvaluationExecutable(firstUse);
+        Assert.assertTrue(Files.exists(executableInUse.executablePath()));
+        projectCache.releaseEvaluationExecutable(secondUse);
+        Assert.assertFalse(Files.exists(executableInUse.projectDir()));
+
+        // Releasing an executable more times than it is acquired has no effect
+        projectCache.releaseEvaluationExecutable(secondUse);
+        Assert.assertFalse(Files.exists(executableInUse.projectDir()));
+    }
+
+    @Test
+    public void testClear() throws IOException {
+        List<EvaluationExecutable> executables = addExecutables(2);
+        EvaluationExecutable executableInUse = projectCache.acquireEvaluationExecutable(projectRoot, source(1))
+                .orElseThrow();
+
+        projectCache.clear();
+        Assert.assertFalse(Files.exists(executables.get(0).projectDir()));
+        Assert.assertTrue(Files.exists(executableInUse.executablePath()));
+        Assert.assertTrue(projectCache.acquireEvaluationExecutable(projectRoot, source(0)).isEmpty());
+        Assert.assertTrue(projectCache.acquireEvaluationExecutable(projectRoot, source(1)).isEmpty());
+
+        projectCache.releaseEvaluationExecutable(executableInUse);
+        Assert.assertFalse(Files.exists(executableInUse.projectDir()));
+    }
+
+    private List<EvaluationExecutable> addExecutables(int count) throws IOException {
+        List<EvaluationExecutable> executables = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            EvaluationExecutable executable = createExecutable("executable-" + i);
+            projectCache.releaseEvaluationExecutable(projectCache.addEvaluationExecutable(projectRoot, source(i),
+                    executable));
+            executables.add(executable);
+        }
+        return executables;
+    }
+
+    private EvaluationExecutable createExecutable(String name) throws IOException {
+        Path projectDir = Files.createDirectories(tempDir.resolve(name));
+        Path executablePath = Files.createDirectories(projectDir.resolve("target").resolve("bin"))
+                .resolve("evaluation.jar");
+        Files.writeString(executablePath, name);
+        return new EvaluationExecutable(projectDir, executablePath, "main");
+    }
+
+    private static String source(int index) {
+        return "function __getEvaluationResult() returns any|error => " + index + ";";
+    }
+}
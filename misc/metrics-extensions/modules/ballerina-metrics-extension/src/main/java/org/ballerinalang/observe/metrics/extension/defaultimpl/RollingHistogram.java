@@ -42,14 +42,19 @@ public class RollingHistogram {
     private final StatisticConfig statisticConfig;
 
     /**
-     * Recorder in a ring buffer.
+     * Recorders in a ring buffer. Values are only recorded in the recorder of the current bucket.
      */
     private final DoubleRecorder[] ringBuffer;
 
+    /**
+     * Values drained from the recorder of each bucket at snapshot time.
+     */
+    private final DoubleHistogram[] bucketHistograms;
+
     /**
      * Current bucket index.
      */
-    private int currentBucket;
+    private volatile int currentBucket;
 
     /**
      * Last time the {@link RollingHistogram} was rotated.
@@ -66,11 +71,6 @@ public class RollingHistogram {
      */
     private final DoubleHistogram intervalHistogram;
 
-    /**
-     * A histogram to keep accumulated stats.
-     */
-    private DoubleHistogram accumulatedHistogram;
-
     /**
      * Global atomic field updater to update volatile {@code rotating} integer.
      */
@@ -82,35 +82,31 @@ public class RollingHistogram {
      */
     private volatile int rotating; // 0 - not rotating, 1 - rotating
 
-    /**
-     * A flag to check whether accumulatedHistogram is stale or not.
-     */
-    private volatile boolean accumulatedHistogramStale;
-
     public RollingHistogram(Clock clock, StatisticConfig statisticConfig) {
         this.clock = clock;
         this.statisticConfig = statisticConfig;
         int ageBuckets = (int) statisticConfig.getBuckets();
         ringBuffer = new DoubleRecorder[ageBuckets];
+        bucketHistograms = new DoubleHistogram[ageBuckets];
         for (int i = 0; i < ageBuckets; i++) {
             ringBuffer[i] = new DoubleRecorder(statisticConfig.getPercentilePrecision());
+            bucketHistograms[i] = new DoubleHistogram(statisticConfig.getPercentilePrecision());
         }
         this.currentBucket = 0;
         this.lastRotateTimestampMillis = clock.getCurrentTime();
         this.durationBetweenRotatesMillis = statisticConfig.getTimeWindow().toMillis() / ageBuckets;
         intervalHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
-        accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
     }
 
+    /**
+     * Records a value. Recording does not block, as {@link DoubleRecorder} is wait-free for writers and the recorded
+     * values are only moved to the histograms of the buckets when a snapshot is taken.
+     *
+     * @param value value to record
+     */
     public void record(double value) {
         rotate();
-        try {
-            for (DoubleRecorder recorder : ringBuffer) {
-                recorder.recordValue(value);
-            }
-        } finally {
-            accumulatedHistogramStale = true;
-        }
+        ringBuffer[currentBucket].recordValue(value);
     }
 
     private void rotate() {
@@ -128,10 +124,13 @@ public class RollingHistogram {
             int iterations = 0;
             synchronized (this) {
                 do {
-                    currentHistogram().reset();
-                    if (++currentBucket >= ringBuffer.length) {
-                        currentBucket = 0;
-                    }
+                    // The next bucket holds the oldest values, which are now out of the time window.
+                    int nextBucket = currentBucket + 1 >= ringBuffer.length ? 0 : currentBucket + 1;
+                    ringBuffer[nextBucket].reset();
+                    //TODO: Use DoubleHistogram.reset(); and make the bucket histograms final
+                    //Refer: https://github.com/HdrHistogram/HdrHistogram/issues/143
+                    bucketHistograms[nextBucket] = new DoubleHistogram(statisticConfig.getPercentilePrecision());
+                    currentBucket = nextBucket;
                     timeSinceLastRotateMillis -= durationBetweenRotatesMillis;
                     lastRotateTimestampMillis += durationBetweenRotatesMillis;
                 } while (timeSinceLastRotateMillis >= durationBetweenRotatesMillis && ++iterations < ringBuffer.length);
@@ -142,11 +141,6 @@ public class RollingHistogram {
                     lastRotateTimestampMillis += durationBetweenRotatesMillis *
                             (timeSinceLastRotateMillis / durationBetweenRotatesMillis);
                 }
-
-                accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
-                //TODO: Use accumulatedHistogram.reset(); and make accumulatedHistogram as final
-                //Refer: https://github.com/HdrHistogram/HdrHistogram/issues/143
-                accumulatedHistogramStale = true;
             }
         } finally {
             rotating = 0;
@@ -160,7 +154,7 @@ public class RollingHistogram {
     public Snapshot getSnapshot() {
         rotate();
         synchronized (this) {
-            accumulateIfStale();
+            DoubleHistogram accumulatedHistogram = accumulate();
             PercentileValue[] percentileValues = null;
             final double[] monitoredPercentiles = statisticConfig.getPercentiles();
             if (monitoredPercentiles != null) {
@@ -179,19 +173,14 @@ public class RollingHistogram {
         }
     }
 
-    private void accumulateIfStale() {
-        if (accumulatedHistogramStale) {
-            accumulate();
-            accumulatedHistogramStale = false;
+    // Swaps the interval of each recorder into the histogram of its bucket, and adds up the buckets in the window.
+    private DoubleHistogram accumulate() {
+        DoubleHistogram accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
+        for (int i = 0; i < ringBuffer.length; i++) {
+            ringBuffer[i].getIntervalHistogramInto(intervalHistogram);
+            bucketHistograms[i].add(intervalHistogram);
+            accumulatedHistogram.add(bucketHistograms[i]);
         }
-    }
-
-    private void accumulate() {
-        currentHistogram().getIntervalHistogramInto(intervalHistogram);
-        accumulatedHistogram.add(intervalHistogram);
-    }
-
-    private DoubleRecorder currentHistogram() {
-        return ringBuffer[currentBucket];
+        return accumulatedHistogram;
     }
 }
@@ -20,12 +20,18 @@ package org.ballerinalang.observe.metrics.extension.defaultimpl;
 import io.ballerina.runtime.observability.metrics.Gauge;
 import io.ballerina.runtime.observability.metrics.MetricRegistry;
 import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 
 /**
@@ -72,4 +78,34 @@ public class GaugeTest {
         Assert.assertEquals(4.0, gauge.getSum());
     }
 
+    @Test
+    public void testConcurrentGaugeUpdates() throws Exception {
+        Gauge gauge = Gauge.builder("test_concurrent_gauge").description("Test Gauge")
+                .summarize(StatisticConfig.DEFAULT).register(metricRegistry);
+        int threadCount = 16;
+        int iterations = 10_000;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threadCount)) {
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    for (int j = 0; j < iterations; j++) {
+                        gauge.increment(2D);
+                        gauge.decrement(1D);
+                    }
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        Assert.assertEquals(gauge.getValue(), (double) threadCount * iterations);
+        Assert.assertEquals(gauge.getCount(), 2L * threadCount * iterations);
+        Snapshot snapshot = gauge.getSnapshots()[0];
+        Assert.assertEquals(snapshot.getMax(), (double) threadCount * iterations, threadCount * iterations * 0.02);
+        Assert.assertTrue(snapshot.getMin() >= 1D);
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.toml.internal.parser;
+
+import io.ballerina.toml.internal.parser.tree.STDocumentNode;
+import io.ballerina.toml.internal.parser.tree.STNode;
+import io.ballerina.toml.internal.parser.tree.STNodeFactory;
+import io.ballerina.toml.syntax.tree.SyntaxKind;
+import io.ballerina.toml.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextEdit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reparses a TOML document after a change, reusing the top-level members of the old syntax tree that the change
+ * does not touch.
+ * <p>
+ * The top-level members of a document (key-value pairs, tables and table arrays) cover the source one after the
+ * other, and each of them starts in the default lexer and parser state. Therefore, only the source of the members
+ * overlapping the change is parsed again, and the internal nodes of the other members are reused as they are. The
+ * whole document is parsed again if the reparsed members may not parse the same way within the whole document,
+ * i.e., if they have syntax errors, or if their first or last member would take the neighbouring key-value pairs as
+ * fields of a table.
+ *
+ * @since 2201.13.0
+ */
+public final class IncrementalDocumentParser {
+
+    private final SyntaxTree oldTree;
+    private final TextDocument newTextDocument;
+    private final TextDocumentChange textDocumentChange;
+
+    public IncrementalDocumentParser(SyntaxTree oldTree, TextDocument newTextDocument,
+                                     TextDocumentChange textDocumentChange) {
+        this.oldTree = oldTree;
+        this.newTextDocument = newTextDocument;
+        this.textDocumentChange = textDocumentChange;
+    }
+
+    public STNode parse() {
+        STNode oldRootNode = oldTree.rootNode().internalNode();
+        int textEditCount = textDocumentChange.getTextEditCount();
+        if (!(oldRootNode instanceof STDocumentNode oldDocumentNode) || textEditCount == 0) {
+            return parseFully();
+        }
+
+        STNode oldMembers = oldDocumentNode.members;
+        int memberCount = oldMembers.bucketCount();
+        if (memberCount == 0) {
+            return parseFully();
+        }
+
+        // Range of the change in the old document, and the change in the length of the document
+        int changeStart = Integer.MAX_VALUE;
+        int changeEnd = 0;
+        int lengthDelta = 0;
+        for (int i = 0; i < textEditCount; i++) {
+            TextEdit textEdit = textDocumentChange.getTextEdit(i);
+            changeStart = Math.min(changeStart, textEdit.range().startOffset());
+            changeEnd = Math.max(changeEnd, textEdit.range().endOffset());
+            lengthDelta += textEdit.text().length() - textEdit.range().length();
+        }
+
+        // Find the members overlapping the change, including the members which end or start right at the change
+        int firstMember = -1;
+        int lastMember = -1;
+        int regionStart = 0;
+        int regionEnd = 0;
+        int memberStart = 0;
+        for (int i = 0; i < memberCount; i++) {
+            int memberEnd = memberStart + oldMembers.childInBucket(i).widthWithMinutiae();
+            if (memberEnd >= changeStart && memberStart <= changeEnd) {
+                if (firstMember == -1) {
+                    firstMember = i;
+                    regionStart = memberStart;
+                }
+                lastMember = i;
+                regionEnd = memberEnd;
+            }
+            memberStart = memberEnd;
+        }
+        if (firstMember == -1) {
+            // The change is in the minutiae before the end of the document
+            firstMember = memberCount;
+            regionStart = memberStart;
+        }
+
+        // The rest of the document is parsed, if the change reaches the end of the last member
+        boolean reparseTail = lastMember == memberCount - 1 || firstMember == memberCount || changeEnd >= memberStart;
+        String newText = new String(newTextDocument.toCharArray());
+        String regionText = reparseTail ?
+                newText.substring(regionStart) : newText.substring(regionStart, regionEnd + lengthDelta);
+        STDocumentNode regionDocumentNode = (STDocumentNode) ParserFactory.getParser(regionText).parse();
+        STNode regionMembers = regionDocumentNode.members;
+        int regionMemberCount = regionMembers.bucketCount();
+
+        if (!reparseTail && (regionDocumentNode.hasDiagnostics()
+                || regionDocumentNode.eofToken.widthWithMinutiae() != 0
+                || regionMemberCount > 0 && isTable(regionMembers.childInBucket(regionMemberCount - 1))
+                && oldMembers.childInBucket(lastMember + 1).kind == SyntaxKind.KEY_VALUE)) {
+            return parseFully();
+        }
+        if (firstMember > 0 && isTable(oldMembers.childInBucket(firstMember - 1)) && regionMemberCount > 0
+                && regionMembers.childInBucket(0).kind == SyntaxKind.KEY_VALUE) {
+            return parseFully();
+        }
+
+        List<STNode> members = new ArrayList<>(memberCount - (lastMember - firstMember) + regionMemberCount);
+        for (int i = 0; i < firstMember; i++) {
+            members.add(oldMembers.childInBucket(i));
+        }
+        for (int i = 0; i < regionMemberCount; i++) {
+            members.add(regionMembers.childInBucket(i));
+        }
+        if (reparseTail) {
+            return STNodeFactory.createDocumentNode(STNodeFactory.createNodeList(members),
+                    regionDocumentNode.eofToken);
+        }
+        for (int i = lastMember + 1; i < memberCount; i++) {
+            members.add(oldMembers.childInBucket(i));
+        }
+        return STNodeFactory.createDocumentNode(STNodeFactory.createNodeList(members), oldDocumentNode.eofToken);
+    }
+
+    private STNode parseFully() {
+        return ParserFactory.getParser(newTextDocument).parse();
+    }
+
+    private static boolean isTable(STNode member) {
+        return member.kind == SyntaxKind.TABLE || member.kind == SyntaxKind.TABLE_ARRAY;
+    }
+}
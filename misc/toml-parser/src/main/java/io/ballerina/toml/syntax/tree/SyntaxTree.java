@@ -17,11 +17,13 @@
  */
 package io.ballerina.toml.syntax.tree;
 
+import io.ballerina.toml.internal.parser.IncrementalDocumentParser;
 import io.ballerina.toml.internal.parser.ParserFactory;
 import io.ballerina.toml.internal.parser.TomlParser;
 import io.ballerina.toml.internal.syntax.SyntaxUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextDocuments;
 
 /**
@@ -55,6 +57,20 @@ public class SyntaxTree {
                 textDocument, filePath, false);
     }
 
+    /**
+     * Creates the syntax tree of the document after the given change, reusing the parts of the old syntax tree that
+     * are not affected by the change.
+     *
+     * @param oldTree            syntax tree of the document before the change
+     * @param textDocumentChange change to the document
+     * @return syntax tree of the changed document
+     */
+    public static SyntaxTree from(SyntaxTree oldTree, TextDocumentChange textDocumentChange) {
+        TextDocument newTextDocument = oldTree.textDocument().apply(textDocumentChange);
+        IncrementalDocumentParser parser = new IncrementalDocumentParser(oldTree, newTextDocument, textDocumentChange);
+        return new SyntaxTree(parser.parse().createUnlinkedFacade(), newTextDocument, oldTree.filePath(), false);
+    }
+
     public TextDocument textDocument() {
         if (textDocument != null) {
             return textDocument;
@@ -58,9 +58,15 @@ public class SchemaValidator extends TomlNodeVisitor {
 
     private AbstractSchema schema;
     private String key;
+    private final ValidatedEntries validatedEntries;
 
     public SchemaValidator(Schema schema) {
+        this(schema, null);
+    }
+
+    SchemaValidator(Schema schema, ValidatedEntries validatedEntries) {
         this.schema = schema;
+        this.validatedEntries = validatedEntries;
     }
 
     @Override
@@ -82,11 +88,26 @@ public class SchemaValidator extends TomlNodeVisitor {
             TopLevelNode value = tableEntry.getValue();
             AbstractSchema schema = properties.get(key);
             if (schema != null) {
-                visitNode(value, schema, key);
+                visitEntry(tomlTableNode, value, schema, key);
             }
         }
     }
 
+    private void visitEntry(TomlTableNode tomlTableNode, TopLevelNode value, AbstractSchema schema, String key) {
+        if (validatedEntries == null || !validatedEntries.isRootNode(tomlTableNode)) {
+            visitNode(value, schema, key);
+            return;
+        }
+        if (validatedEntries.isValid(key)) {
+            return;
+        }
+        int diagnosticCount = value.diagnostics().size();
+        visitNode(value, schema, key);
+        if (value.diagnostics().size() == diagnosticCount) {
+            validatedEntries.addValid(key);
+        }
+    }
+
     @Override
     public void visit(TomlTableArrayNode tomlTableArrayNode) {
         if (schema.type() != Type.ARRAY) {
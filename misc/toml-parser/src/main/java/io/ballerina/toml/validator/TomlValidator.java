@@ -30,14 +30,48 @@ import io.ballerina.toml.validator.schema.Schema;
 public class TomlValidator {
 
     private final Schema rootSchema;
+    private final ValidatedEntries validatedEntries;
 
     public TomlValidator(Schema rootSchema) {
+        this(rootSchema, false);
+    }
+
+    /**
+     * Creates a validator for the given root schema.
+     * <p>
+     * An incremental validator keeps the top-level entries which passed its latest validation, and does not validate
+     * them again if they are made up of the same syntax nodes, i.e. if the document is reparsed incrementally and the
+     * entries are not changed. It keeps the syntax nodes of the latest validated document, therefore it should be
+     * used for the versions of a single document only.
+     *
+     * @param rootSchema  root schema to validate against
+     * @param incremental whether the valid entries of the latest validation are reused
+     */
+    public TomlValidator(Schema rootSchema, boolean incremental) {
         this.rootSchema = rootSchema;
+        this.validatedEntries = incremental ? new ValidatedEntries() : null;
     }
 
+    /**
+     * Validate the given TOML document against the root schema.
+     *
+     * @param toml TOML document to be validated
+     */
     public void validate(Toml toml) {
-        SchemaValidator schemaValidator = new SchemaValidator(rootSchema);
         TomlTableNode rootNode = toml.rootNode();
-        rootNode.accept(schemaValidator);
+        if (validatedEntries == null) {
+            rootNode.accept(new SchemaValidator(rootSchema));
+            return;
+        }
+
+        synchronized (validatedEntries) {
+            validatedEntries.start(rootNode);
+            try {
+                SchemaValidator schemaValidator = new SchemaValidator(rootSchema, validatedEntries);
+                rootNode.accept(schemaValidator);
+            } finally {
+                validatedEntries.end();
+            }
+        }
     }
 }
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.toml.validator;
+
+import io.ballerina.toml.internal.parser.tree.STNode;
+import io.ballerina.toml.semantic.ast.TomlBasicValueNode;
+import io.ballerina.toml.semantic.ast.TomlTableNode;
+import io.ballerina.toml.semantic.ast.TomlTransformer;
+import io.ballerina.toml.syntax.tree.DocumentMemberDeclarationNode;
+import io.ballerina.toml.syntax.tree.DocumentNode;
+import io.ballerina.toml.syntax.tree.KeyNode;
+import io.ballerina.toml.syntax.tree.KeyValueNode;
+import io.ballerina.toml.syntax.tree.TableArrayNode;
+import io.ballerina.toml.syntax.tree.TableNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Top-level entries of the root table which passed the schema validation without diagnostics.
+ * <p>
+ * A top-level entry is made up of the top-level syntax members (key-value pairs, tables and table arrays) whose first
+ * key is the name of the entry. Incremental reparsing reuses the internal nodes of the members that are not changed,
+ * therefore an entry made up of the same internal nodes as a valid entry of the previous validation is valid too.
+ * Only the entries of the latest validation are kept.
+ *
+ * @since 2201.13.0
+ */
+final class ValidatedEntries {
+
+    private Set<Entry> validEntries = new HashSet<>();
+    private Set<Entry> newValidEntries;
+    private Map<String, List<STNode>> membersByName;
+    private TomlTableNode rootNode;
+
+    /**
+     * Start the validation of the given root table.
+     *
+     * @param rootNode root table to be validated
+     */
+    void start(TomlTableNode rootNode) {
+        this.rootNode = rootNode;
+        this.newValidEntries = new HashSet<>();
+        this.membersByName = rootNode.externalTreeNode() instanceof DocumentNode documentNode ?
+                getMembersByName(documentNode) : null;
+    }
+
+    /**
+     * End the validation, keeping only the valid entries of this validation.
+     */
+    void end() {
+        if (membersByName != null) {
+            validEntries = newValidEntries;
+        }
+        this.rootNode = null;
+        this.newValidEntries = null;
+        this.membersByName = null;
+    }
+
+    boolean isRootNode(TomlTableNode tableNode) {
+        return tableNode == rootNode;
+    }
+
+    boolean isValid(String key) {
+        Entry entry = getEntry(key);
+        return entry != null && validEntries.contains(entry);
+    }
+
+    void addValid(String key) {
+        Entry entry = getEntry(key);
+        if (entry != null) {
+            newValidEntries.add(entry);
+        }
+    }
+
+    private Entry getEntry(String key) {
+        if (membersByName == null) {
+            return null;
+        }
+        List<STNode> members = membersByName.get(unquote(key));
+        if (members == null) {
+            return null;
+        }
+        return new Entry(key, members);
+    }
+
+    private static Map<String, List<STNode>> getMembersByName(DocumentNode documentNode) {
+        TomlTransformer transformer = new TomlTransformer();
+        Map<String, List<STNode>> membersByName = new HashMap<>();
+        for (DocumentMemberDeclarationNode member : documentNode.members()) {
+            KeyNode keyNode;
+            if (member instanceof KeyValueNode keyValueNode) {
+                keyNode = keyValueNode.identifier();
+            } else if (member instanceof TableNode tableNode) {
+                keyNode = tableNode.identifier();
+            } else if (member instanceof TableArrayNode tableArrayNode) {
+                keyNode = tableArrayNode.identifier();
+            } else {
+                return null;
+            }
+            if (keyNode.value().isEmpty()
+                    || !(keyNode.value().get(0).apply(transformer) instanceof TomlBasicValueNode<?> firstKey)) {
+                return null;
+            }
+            membersByName.computeIfAbsent(String.valueOf(firstKey.getValue()), name -> new ArrayList<>())
+                    .add(member.internalNode());
+        }
+        return membersByName;
+    }
+
+    private static String unquote(String key) {
+        if (key.length() >= 2 && key.startsWith("\"") && key.endsWith("\"")) {
+            return key.substring(1, key.length() - 1);
+        }
+        return key;
+    }
+
+    /**
+     * A top-level entry, identified by its key and the internal nodes of the members that make it up.
+     *
+     * @param key     key of the entry in the root table
+     * @param members internal nodes of the members of the entry, compared by identity
+     */
+    private record Entry(String key, List<STNode> members) {
+    }
+}
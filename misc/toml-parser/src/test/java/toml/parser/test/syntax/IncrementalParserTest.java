@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package toml.parser.test.syntax;
+
+import io.ballerina.toml.syntax.tree.DocumentMemberDeclarationNode;
+import io.ballerina.toml.syntax.tree.DocumentNode;
+import io.ballerina.toml.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test the incremental reparsing of TOML documents.
+ *
+ * @since 2201.13.0
+ */
+public class IncrementalParserTest {
+
+    private static final String SOURCE = """
+            title = "sample"
+
+            [package]
+            org = "foo"
+            name = "bar"
+
+            [build-options]
+            observabilityIncluded = true
+
+            [[dependency]]
+            org = "ballerina"
+            name = "io"
+            """;
+
+    @Test(dataProvider = "changes")
+    public void testIncrementalParse(String oldText, String newText) {
+        SyntaxTree oldTree = SyntaxTree.from(TextDocuments.from(SOURCE));
+        int start = SOURCE.indexOf(oldText);
+        TextEdit textEdit = TextEdit.from(TextRange.from(start, oldText.length()), newText);
+        SyntaxTree newTree = SyntaxTree.from(oldTree, TextDocumentChange.from(new TextEdit[]{textEdit}));
+
+        String newSource = SOURCE.substring(0, start) + newText + SOURCE.substring(start + oldText.length());
+        SyntaxTree expectedTree = SyntaxTree.from(TextDocuments.from(newSource));
+        Assert.assertEquals(newTree.toSourceCode(), newSource);
+        Assert.assertEquals(newTree.rootNode().toString(), expectedTree.rootNode().toString());
+        Assert.assertEquals(newTree.hasDiagnostics(), expectedTree.hasDiagnostics());
+        DocumentNode members = (DocumentNode) newTree.rootNode();
+        DocumentNode expectedMembers = (DocumentNode) expectedTree.rootNode();
+        Assert.assertEquals(members.members().size(), expectedMembers.members().size());
+        for (int i = 0; i < members.members().size(); i++) {
+            DocumentMemberDeclarationNode member = members.members().get(i);
+            DocumentMemberDeclarationNode expectedMember = expectedMembers.members().get(i);
+            Assert.assertEquals(member.kind(), expectedMember.kind());
+            Assert.assertEquals(member.textRangeWithMinutiae(), expectedMember.textRangeWithMinutiae());
+        }
+    }
+
+    @DataProvider(name = "changes")
+    public Object[][] changes() {
+        return new Object[][]{
+                {"\"foo\"", "\"baz\""},
+                {"name = \"bar\"\n", "name = \"bar\"\nversion = \"1.0.0\"\n"},
+                {"\"io\"", "\"http\""},
+                {"[build-options]\n", ""},
+                {"[package]\n", ""},
+                {"org = \"foo\"\n", "org = \"foo\"\n[registry]\n"},
+                {"observabilityIncluded = true", "observabilityIncluded = "},
+                {"title = \"sample\"\n", ""},
+                {"\n[[dependency]]", "\n# dependencies\n[[dependency]]"},
+        };
+    }
+
+    @Test
+    public void testUnchangedMembersAreReused() {
+        SyntaxTree oldTree = SyntaxTree.from(TextDocuments.from(SOURCE));
+        int start = SOURCE.indexOf("\"foo\"");
+        TextEdit textEdit = TextEdit.from(TextRange.from(start, 5), "\"baz\"");
+        SyntaxTree newTree = SyntaxTree.from(oldTree, TextDocumentChange.from(new TextEdit[]{textEdit}));
+
+        DocumentNode oldDocument = (DocumentNode) oldTree.rootNode();
+        DocumentNode newDocument = (DocumentNode) newTree.rootNode();
+        Assert.assertSame(newDocument.members().get(0).internalNode(), oldDocument.members().get(0).internalNode());
+        Assert.assertNotSame(newDocument.members().get(1).internalNode(),
+                oldDocument.members().get(1).internalNode());
+        Assert.assertSame(newDocument.members().get(2).internalNode(), oldDocument.members().get(2).internalNode());
+        Assert.assertSame(newDocument.members().get(3).internalNode(), oldDocument.members().get(3).internalNode());
+    }
+}
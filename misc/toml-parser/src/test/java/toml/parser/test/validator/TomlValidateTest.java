@@ -19,12 +19,23 @@
 package toml.parser.test.validator;
 
 import io.ballerina.toml.api.Toml;
+import io.ballerina.toml.semantic.ast.TomlTableNode;
+import io.ballerina.toml.semantic.ast.TomlTransformer;
+import io.ballerina.toml.syntax.tree.DocumentNode;
+import io.ballerina.toml.syntax.tree.SyntaxTree;
+import io.ballerina.toml.validator.TomlValidator;
 import io.ballerina.toml.validator.schema.Schema;
 import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.List;
@@ -248,4 +259,36 @@ public class TomlValidateTest {
         Assert.assertEquals(minLenDiag.message(),
                 "length of the value for key 'org' is lower than defined min length 3");
     }
+
+    @Test(dataProvider = "incremental")
+    public void testValidateIncrementallyParsed(boolean incremental) throws IOException {
+        TomlValidator tomlValidator = new TomlValidator(Schema.from(basePath.resolve("c2c-schema.json")), incremental);
+        String content = Files.readString(basePath.resolve("c2c-clean.toml"));
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(content));
+        Assert.assertEquals(validate(tomlValidator, syntaxTree).diagnostics().size(), 0);
+
+        int nameOffset = content.indexOf("\"hello\"");
+        SyntaxTree invalidSyntaxTree = SyntaxTree.from(syntaxTree, TextDocumentChange.from(
+                new TextEdit[]{TextEdit.from(TextRange.from(nameOffset, "\"hello\"".length()), "22")}));
+        List<Diagnostic> diagnostics = validate(tomlValidator, invalidSyntaxTree).diagnostics();
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.get(0).message(),
+                "incompatible type for key 'name': expected 'STRING', found 'INTEGER'");
+
+        SyntaxTree validSyntaxTree = SyntaxTree.from(invalidSyntaxTree, TextDocumentChange.from(
+                new TextEdit[]{TextEdit.from(TextRange.from(nameOffset, "22".length()), "\"hello\"")}));
+        Assert.assertEquals(validate(tomlValidator, validSyntaxTree).diagnostics().size(), 0);
+    }
+
+    @DataProvider(name = "incremental")
+    public Object[] incremental() {
+        return new Object[]{true, false};
+    }
+
+    private static Toml validate(TomlValidator tomlValidator, SyntaxTree syntaxTree) {
+        TomlTransformer nodeTransformer = new TomlTransformer();
+        Toml toml = new Toml((TomlTableNode) nodeTransformer.transform((DocumentNode) syntaxTree.rootNode()));
+        tomlValidator.validate(toml);
+        return toml;
+    }
 }
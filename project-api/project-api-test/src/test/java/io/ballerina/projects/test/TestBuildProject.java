@@ -27,6 +27,7 @@ import io.ballerina.projects.CloudToml;
 import io.ballerina.projects.CompilerPluginToml;
 import io.ballerina.projects.DependenciesToml;
 import io.ballerina.projects.DependencyGraph;
+import io.ballerina.projects.DependencyManifest;
 import io.ballerina.projects.DiagnosticResult;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentConfig;
@@ -42,6 +43,7 @@ import io.ballerina.projects.ModuleId;
 import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.PackageDescriptor;
 import io.ballerina.projects.PackageManifest;
 import io.ballerina.projects.PackageName;
 import io.ballerina.projects.PackageResolution;
@@ -55,6 +57,7 @@ import io.ballerina.projects.ResourceConfig;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.environment.Environment;
 import io.ballerina.projects.environment.EnvironmentBuilder;
+import io.ballerina.projects.internal.DependencyManifestSnapshot;
 import io.ballerina.projects.internal.model.BuildJson;
 import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectUtils;
@@ -99,6 +102,7 @@ import static io.ballerina.projects.test.TestUtils.writeContent;
 import static io.ballerina.projects.util.ProjectConstants.BALLERINA_TOML;
 import static io.ballerina.projects.util.ProjectConstants.BUILD_FILE;
 import static io.ballerina.projects.util.ProjectConstants.CACHES_DIR_NAME;
+import static io.ballerina.projects.util.ProjectConstants.DEPENDENCIES_SNAPSHOT_FILE;
 import static io.ballerina.projects.util.ProjectConstants.DEPENDENCIES_TOML;
 import static io.ballerina.projects.util.ProjectConstants.MODULES_ROOT;
 import static io.ballerina.projects.util.ProjectConstants.REPO_BIR_CACHE_NAME;
@@ -2455,6 +2459,40 @@ public class TestBuildProject extends BaseTest {
                 " dependency of 'platformlib/pkg1'. Picking 'lib3-2.0.1.jar' over 'lib3-2.0.0.jar'.");
     }
 
+    @Test(description = "tests reading the dependency manifest from the snapshot in the target directory")
+    public void testDependenciesSnapshot() throws IOException {
+        Path projectPath = Files.createTempDirectory("snapshot-project").resolve("myproject");
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("myproject").toFile(), projectPath.toFile());
+        Path dependenciesTomlPath = projectPath.resolve(DEPENDENCIES_TOML);
+        Path snapshotPath = projectPath.resolve(TARGET_DIR_NAME).resolve(DEPENDENCIES_SNAPSHOT_FILE);
+
+        // 1) Saving the project writes the snapshot of the Dependencies.toml
+        BuildProject project = loadBuildProject(projectPath);
+        Assert.assertFalse(Files.exists(snapshotPath));
+        project.save();
+        Assert.assertTrue(Files.exists(snapshotPath));
+        String dependenciesContent = Files.readString(dependenciesTomlPath);
+        PackageDescriptor descriptor = project.currentPackage().descriptor();
+        DependencyManifest savedManifest = DependencyManifestSnapshot
+                .read(snapshotPath, dependenciesContent, descriptor).orElseThrow();
+        Assert.assertFalse(savedManifest.packages().isEmpty());
+
+        // 2) Replace the snapshot with an empty manifest to find out where the next load reads the manifest from
+        DependencyManifest emptyManifest = DependencyManifest.from(savedManifest.dependenciesTomlVersion(),
+                savedManifest.distributionVersion(), Collections.emptyList(), Collections.emptyList());
+        DependencyManifestSnapshot.write(snapshotPath, dependenciesContent, descriptor, emptyManifest);
+        BuildProject secondProject = loadBuildProject(projectPath);
+        Assert.assertTrue(secondProject.currentPackage().dependencyManifest().packages().isEmpty());
+
+        // 3) Editing the Dependencies.toml makes the snapshot stale
+        Files.writeString(dependenciesTomlPath, dependenciesContent + System.lineSeparator());
+        BuildProject thirdProject = loadBuildProject(projectPath);
+        Assert.assertEquals(thirdProject.currentPackage().dependencyManifest().packages().size(),
+                savedManifest.packages().size());
+        Assert.assertTrue(DependencyManifestSnapshot.read(snapshotPath, Files.readString(dependenciesTomlPath),
+                descriptor).isEmpty());
+    }
+
     private static BuildProject loadBuildProject(Path projectPath) {
         return loadBuildProject(projectPath, null);
     }
@@ -30,6 +30,7 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.directory.SingleFileProject;
+import org.ballerinalang.compiler.CompilerPhase;
 import org.ballerinalang.test.BCompileUtil;
 import org.testng.Assert;
 import org.testng.SkipException;
@@ -39,7 +40,9 @@ import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Map;
 
 import static io.ballerina.projects.test.TestUtils.isWindows;
 import static io.ballerina.projects.test.TestUtils.resetPermissions;
@@ -210,6 +213,31 @@ public class TestSingleFileProject {
         Assert.assertEquals(updatedPackage, updatedDoc.module().packageInstance());
     }
 
+    @Test
+    public void testCompilerPhaseDurations() {
+        Path filePath = RESOURCE_DIRECTORY.resolve("single_file").resolve("main.bal");
+        SingleFileProject singleFileProject = TestUtils.loadSingleFileProject(filePath);
+        PackageCompilation compilation = singleFileProject.currentPackage().getCompilation();
+
+        Map<CompilerPhase, Duration> phaseDurations =
+                compilation.phaseDurations(singleFileProject.currentPackage().getDefaultModule().moduleId());
+        Assert.assertTrue(phaseDurations.containsKey(CompilerPhase.DEFINE));
+        Assert.assertTrue(phaseDurations.containsKey(CompilerPhase.TYPE_CHECK));
+        Assert.assertTrue(phaseDurations.containsKey(CompilerPhase.DATAFLOW_ANALYZE));
+        Assert.assertFalse(phaseDurations.containsKey(CompilerPhase.BIR_GEN));
+    }
+
+    @Test
+    public void testCompilerPhaseDurationsOfUnknownModule() {
+        Path filePath = RESOURCE_DIRECTORY.resolve("single_file").resolve("main.bal");
+        SingleFileProject singleFileProject = TestUtils.loadSingleFileProject(filePath);
+        Package currentPackage = singleFileProject.currentPackage();
+        PackageCompilation compilation = currentPackage.getCompilation();
+
+        ModuleId unknownModuleId = ModuleId.create("unknown", currentPackage.packageId());
+        Assert.assertTrue(compilation.phaseDurations(unknownModuleId).isEmpty());
+    }
+
     @Test (description = "tests loading a single file with no read permission")
     public void testSingleFileWithNoReadPermission() {
         // Skip test in windows due to file permission setting issue
@@ -0,0 +1,103 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+isolated function increment(int value) returns int {
+    return value + 1;
+}
+
+function nonIsolatedIncrement(int value) returns int {
+    return value + 1;
+}
+
+public function benchmarkStartAndWait(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        future<int> f = start increment(i);
+        i = checkpanic wait f;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        future<int> f = start increment(i);
+        i = checkpanic wait f;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkNonIsolatedStartAndWait(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        future<int> f = start nonIsolatedIncrement(i);
+        i = checkpanic wait f;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        future<int> f = start nonIsolatedIncrement(i);
+        i = checkpanic wait f;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStartBatchAndWait(int warmupCount, int benchmarkCount) returns int {
+    startBatchAndWait(warmupCount);
+    int startTime = nanoTime();
+    startBatchAndWait(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+function startBatchAndWait(int count) {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < count) {
+        futures.push(start increment(i));
+        i += 1;
+    }
+    foreach future<int> f in futures {
+        _ = checkpanic wait f;
+    }
+}
+
+public function benchmarkWorkerPingPong(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        i = workerPingPong(i);
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        i = workerPingPong(i);
+    }
+    return (nanoTime() - startTime);
+}
+
+isolated function workerPingPong(int value) returns int {
+    worker pinger returns int {
+        value -> ponger;
+        int pong = <- ponger;
+        return pong;
+    }
+
+    worker ponger {
+        int ping = <- pinger;
+        ping + 1 -> pinger;
+    }
+
+    return wait pinger;
+}
@@ -0,0 +1,80 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Address record {|
+    string street;
+    string city;
+    string country;
+    string postalCode?;
+|};
+
+type Customer record {|
+    int id;
+    string name;
+    string email;
+    Address billingAddress;
+    Address? shippingAddress;
+|};
+
+type LineItem record {|
+    string sku;
+    int quantity;
+    decimal unitPrice;
+    string[] tags;
+|};
+
+type Order record {|
+    string orderId;
+    Customer customer;
+    LineItem[] items;
+    decimal total;
+    "PENDING"|"PAID"|"SHIPPED" status;
+    map<string> metadata;
+|};
+
+final readonly & json lineItemsJson = [
+    {sku: "A-100", quantity: 2, unitPrice: 12.50, tags: ["book", "paperback"]},
+    {sku: "B-200", quantity: 1, unitPrice: 99.99, tags: ["electronics"]},
+    {sku: "C-300", quantity: 5, unitPrice: 3.25, tags: []},
+    {sku: "D-400", quantity: 3, unitPrice: 7.75, tags: ["grocery", "organic", "fresh"]}
+];
+
+final readonly & json orderJson = {
+    orderId: "ORD-1001",
+    customer: {
+        id: 42,
+        name: "Jane Doe",
+        email: "jane@example.com",
+        billingAddress: {street: "12 Main St", city: "Colombo", country: "LK", postalCode: "00300"},
+        shippingAddress: {street: "34 Lake Rd", city: "Kandy", country: "LK"}
+    },
+    items: lineItemsJson,
+    total: 176.49,
+    status: "PAID",
+    metadata: {channel: "web", campaign: "spring"}
+};
+
+public function benchmarkCloneWithTypeNestedRecord() {
+    Order|error 'order = orderJson.cloneWithType();
+}
+
+public function benchmarkFromJsonWithTypeNestedRecord() {
+    Order|error 'order = orderJson.fromJsonWithType();
+}
+
+public function benchmarkCloneWithTypeRecordArray() {
+    LineItem[]|error items = lineItemsJson.cloneWithType();
+}
@@ -0,0 +1,72 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public function benchmarkDecimalAddition() {
+    decimal a = 10.15;
+    decimal b = 9.9;
+    decimal c = a + b;
+}
+
+public function benchmarkDecimalMultiplication() {
+    decimal a = 2.5;
+    decimal b = 5.55;
+    decimal c = a * b;
+}
+
+public function benchmarkDecimalSubtraction() {
+    decimal a = 25.5;
+    decimal b = 15.75;
+    decimal c = a - b;
+}
+
+public function benchmarkDecimalDivision() {
+    decimal a = 25.5;
+    decimal b = 5.1;
+    decimal c = a / b;
+}
+
+public function benchmarkDecimalLargeAddition() {
+    decimal a = 12345678901234567890.123456789;
+    decimal b = 98765432109876543210.987654321;
+    decimal c = a + b;
+}
+
+public function benchmarkDecimalSum() {
+    decimal total = decimal:sum(10.15, 9.9, 25.5, 15.75, 2.5, 5.55);
+}
+
+public function benchmarkDecimalAvg() {
+    decimal average = decimal:avg(10.15, 9.9, 25.5, 15.75, 2.5, 5.55);
+}
+
+public function benchmarkDecimalMax() {
+    decimal max = decimal:max(10.15, 9.9, 25.5, 15.75, 2.5, 5.55);
+}
+
+public function benchmarkDecimalAbs() {
+    decimal a = -15.75;
+    decimal b = a.abs();
+}
+
+public function benchmarkDecimalRound() {
+    decimal a = 15.755;
+    decimal b = a.round(2);
+}
+
+public function benchmarkDecimalFromInt() {
+    int a = 1575;
+    decimal b = <decimal>a;
+}
@@ -31,19 +31,23 @@ public function main(string... args) {
     } else if (func is function()) {
         executeMultiExecFunction(func, functionName, warmupCount, benchmarkCount);
     } else {
-        println("NotFound,NA,NA");
+        println("NotFound,NA,NA,NA");
     }
 }
 
 function executeSingleExecFunction((function(int w, int b) returns int) f,
         string functionName, int warmupCount, int benchmarkCount) {
+    // The function runs its own warm-up, so the allocation is averaged over all of its iterations
+    int startAllocated = allocatedBytes();
     int totalTime = f(warmupCount, benchmarkCount);
+    int allocated = allocatedBytes() - startAllocated;
     float totalTimeMilli = (<float>totalTime / 1000000.0f);
     float avgLatency = (<float>totalTime / <float>benchmarkCount);
     float tps = (1000000000.0f / avgLatency);
     print(functionName + ",");
     print(sprintf("%10.2f,", totalTimeMilli));
-    println(sprintf("%10.2f", tps));
+    print(sprintf("%10.2f,", tps));
+    println(sprintf("%10.2f", <float>allocated / <float>(warmupCount + benchmarkCount)));
 }
 
 function executeMultiExecFunction(function () f, string functionName,
@@ -54,16 +58,19 @@ function executeMultiExecFunction(function () f, string functionName,
         f();
     }
     i = 0;
+    int startAllocated = allocatedBytes();
     int startTime = nanoTime();
     while (i < benchmarkCount) {
         i = i + 1;
         f();
     }
     int totalTime = (nanoTime() - startTime);
+    int allocated = allocatedBytes() - startAllocated;
     float totalTimeMilli = (<float>totalTime / 1000000.0f);
     float avgLatency = (<float>totalTime / <float>benchmarkCount);
     float tps = (1000000000.0f / avgLatency);
     print(functionName + ",");
     print(sprintf("%10.2f,", totalTimeMilli));
-    println(sprintf("%10.2f", tps));
+    print(sprintf("%10.2f,", tps));
+    println(sprintf("%10.2f", <float>allocated / <float>benchmarkCount));
 }
@@ -36,6 +36,10 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkStartAndWait", benchmarkStartAndWait);
+    addSingleExecFunction("benchmarkNonIsolatedStartAndWait", benchmarkNonIsolatedStartAndWait);
+    addSingleExecFunction("benchmarkStartBatchAndWait", benchmarkStartBatchAndWait);
+    addSingleExecFunction("benchmarkWorkerPingPong", benchmarkWorkerPingPong);
 }
 
 public function registerMultiExecFunctions() {
@@ -63,4 +67,18 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkDecimalAddition", benchmarkDecimalAddition);
+    addMultiExecFunction("benchmarkDecimalMultiplication", benchmarkDecimalMultiplication);
+    addMultiExecFunction("benchmarkDecimalSubtraction", benchmarkDecimalSubtraction);
+    addMultiExecFunction("benchmarkDecimalDivision", benchmarkDecimalDivision);
+    addMultiExecFunction("benchmarkDecimalLargeAddition", benchmarkDecimalLargeAddition);
+    addMultiExecFunction("benchmarkDecimalSum", benchmarkDecimalSum);
+    addMultiExecFunction("benchmarkDecimalAvg", benchmarkDecimalAvg);
+    addMultiExecFunction("benchmarkDecimalMax", benchmarkDecimalMax);
+    addMultiExecFunction("benchmarkDecimalAbs", benchmarkDecimalAbs);
+    addMultiExecFunction("benchmarkDecimalRound", benchmarkDecimalRound);
+    addMultiExecFunction("benchmarkDecimalFromInt", benchmarkDecimalFromInt);
+    addMultiExecFunction("benchmarkCloneWithTypeNestedRecord", benchmarkCloneWithTypeNestedRecord);
+    addMultiExecFunction("benchmarkFromJsonWithTypeNestedRecord", benchmarkFromJsonWithTypeNestedRecord);
+    addMultiExecFunction("benchmarkCloneWithTypeRecordArray", benchmarkCloneWithTypeRecordArray);
 }
@@ -27,3 +27,15 @@ public isolated function nanoTime() returns int = @java:Method {
     name: "nanoTime",
     'class: "java.lang.System"
 } external;
+
+# Returns an approximation of the total number of bytes allocated in the heap by all threads.
+#
+# ```ballerina
+#   int allocated = allocatedBytes();
+# ```
+#
+# + return - Number of bytes allocated since the JVM started, or -1 if allocation measurement is not supported
+public isolated function allocatedBytes() returns int = @java:Method {
+    name: "allocatedBytes",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
@@ -16,6 +16,7 @@
 
 package org.ballerinalang.benchmark.nativeimpl;
 
+import com.sun.management.ThreadMXBean;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Type;
@@ -26,6 +27,7 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BString;
 
 import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
 import java.util.IllegalFormatConversionException;
 
 /**
@@ -40,6 +42,16 @@ public final class Utils {
     private Utils() {
     }
 
+    /**
+     * Returns the number of bytes allocated in the heap by all threads. Virtual threads are covered as their
+     * allocations are accounted to the carrier threads.
+     *
+     * @return allocated bytes, or -1 if allocation measurement is not supported
+     */
+    public static long allocatedBytes() {
+        return ((ThreadMXBean) ManagementFactory.getThreadMXBean()).getTotalThreadAllocatedBytes();
+    }
+
     public static void print(Object... values) {
         PrintStream out = System.out;
         if (values == null) {
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.emit.BIREmitter;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+
+/**
+ * Tests the replacement of non-escaping tuple and record values with their members in the BIR.
+ *
+ * @since 2201.13.0
+ */
+public class ScalarReplacementTest {
+
+    private static final String SOURCE = "test-src/bir/scalar_replacement.bal";
+
+    private CompileResult compileResult;
+    private BCompileUtil.BIRCompileResult birResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile(SOURCE);
+        birResult = BCompileUtil.generateBIR(SOURCE);
+    }
+
+    @Test(dataProvider = "FunctionList")
+    public void testScalarReplacement(String funcName) {
+        BRunUtil.invoke(compileResult, funcName);
+    }
+
+    @DataProvider(name = "FunctionList")
+    public Object[] getTestFunctions() {
+        return new String[]{
+                "swap",
+                "swapInLoop",
+                "destructureMixedTuple",
+                "destructureRecord",
+                "destructureCastRecord",
+                "tempNamesDoNotAlias",
+                "membersAreSnapshotAtConstruction",
+                "escapingTuple",
+                "destructureCallResult",
+                "destructureCallResultInLoop",
+                "destructurePublicCallResult",
+                "destructurePanickingCallResult",
+                "escapingCallResult",
+        };
+    }
+
+    @Test(dataProvider = "ReplacedFunctionList")
+    public void testAggregateNotAllocated(String funcName) {
+        String funcBir = BIREmitter.emitFunction(getFunction(funcName), 0);
+        Assert.assertFalse(funcBir.contains("newArray"), funcBir);
+    }
+
+    @DataProvider(name = "ReplacedFunctionList")
+    public Object[] getReplacedFunctions() {
+        return new String[]{
+                "swap",
+                "swapInLoop",
+                "destructureMixedTuple",
+                "tempNamesDoNotAlias",
+                "destructureCallResult",
+                "destructureCallResultInLoop",
+        };
+    }
+
+    @Test
+    public void testRecordNotAllocated() {
+        String funcBir = BIREmitter.emitFunction(getFunction("destructureRecord"), 0);
+        Assert.assertFalse(funcBir.contains("NewMap"), funcBir);
+    }
+
+    @Test
+    public void testEscapingAggregateAllocated() {
+        String funcBir = BIREmitter.emitFunction(getFunction("escapingTuple"), 0);
+        Assert.assertTrue(funcBir.contains("newArray"), funcBir);
+    }
+
+    @Test(dataProvider = "InlinedFunctionList")
+    public void testCallInlined(String funcName, String calleeName) {
+        String funcBir = BIREmitter.emitFunction(getFunction(funcName), 0);
+        Assert.assertFalse(funcBir.contains(" " + calleeName + "("), funcBir);
+    }
+
+    @DataProvider(name = "InlinedFunctionList")
+    public Object[][] getInlinedFunctions() {
+        return new Object[][]{
+                {"destructureCallResult", "swapped"},
+                {"destructureCallResultInLoop", "swapped"},
+        };
+    }
+
+    @Test(dataProvider = "NotInlinedFunctionList")
+    public void testCallNotInlined(String funcName, String calleeName) {
+        String funcBir = BIREmitter.emitFunction(getFunction(funcName), 0);
+        Assert.assertTrue(funcBir.contains(" " + calleeName + "("), funcBir);
+    }
+
+    @DataProvider(name = "NotInlinedFunctionList")
+    public Object[][] getNotInlinedFunctions() {
+        return new Object[][]{
+                // Public functions may be called from other modules
+                {"destructurePublicCallResult", "publicSwapped"},
+                // Integer addition panics on overflow, which has to be reported from the callee
+                {"destructurePanickingCallResult", "fibonacciStep"},
+                {"escapingCallResult", "swapped"},
+        };
+    }
+
+    private BIRNode.BIRFunction getFunction(String funcName) {
+        return birResult.getExpectedBIR().functions.stream()
+                .filter(function -> function.name.value.equals(funcName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        compileResult = null;
+        birResult = null;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.typechecker;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+
+/**
+ * Tests the removal of type tests and casts made redundant by type narrowing in the BIR.
+ */
+public class TypeTestOptimizationTest {
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile(Path.of("test-src/typechecker/type_test_optimizations.bal").toString());
+    }
+
+    @Test(dataProvider = "FunctionList")
+    public void testTypeTestOptimizations(String funcName) {
+        BRunUtil.invoke(compileResult, funcName);
+    }
+
+    @DataProvider(name = "FunctionList")
+    public Object[] getTestFunctions() {
+        return new String[]{
+                "testCastAfterTypeTest",
+                "testNegatedTypeTest",
+                "testMatchNarrowing",
+                "testReassignmentInvalidatesNarrowing",
+                "testCastFailureAfterReassignment",
+                "testTrappedNarrowing",
+        };
+    }
+
+    @AfterClass
+    public void tearDown() {
+        compileResult = null;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.types.decimaltype;
+
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.DecimalValueKind;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Test the decimal arithmetic done with long values against the same operations done with BigDecimal values.
+ * <p>
+ * The results must be the same values with the same scales, including when the long arithmetic overflows and falls
+ * back to BigDecimal.
+ *
+ * @since 2201.13.0
+ */
+public class DecimalValueArithmeticTest {
+
+    private static final String MAX_18_DIGITS = "999999999999999999";
+
+    @Test(dataProvider = "operands")
+    public void testArithmetic(DecimalValue x, DecimalValue y) {
+        assertSameValue(x.add(y), x.decimalValue().add(y.decimalValue(), MathContext.DECIMAL128));
+        assertSameValue(y.add(x), y.decimalValue().add(x.decimalValue(), MathContext.DECIMAL128));
+        assertSameValue(x.subtract(y), x.decimalValue().subtract(y.decimalValue(), MathContext.DECIMAL128));
+        assertSameValue(y.subtract(x), y.decimalValue().subtract(x.decimalValue(), MathContext.DECIMAL128));
+        assertSameValue(x.multiply(y), x.decimalValue().multiply(y.decimalValue(), MathContext.DECIMAL128));
+        assertSameValue(x.negate(), x.decimalValue().negate());
+        assertSameValue(y.negate(), y.decimalValue().negate());
+    }
+
+    @DataProvider(name = "operands")
+    public Object[][] operands() {
+        DecimalValue longMinValue = decimal("2147483648").multiply(decimal("-4294967296"));
+        return new Object[][]{
+                // Both operands fit in a long
+                {decimal("1.25"), decimal("-3.5")},
+                {decimal("12345.6789"), decimal("0.0001")},
+                {decimal("1E+10"), decimal("5E-3")},
+                // Addition and multiplication overflow a long
+                {decimal(MAX_18_DIGITS), decimal(MAX_18_DIGITS)},
+                {decimal(MAX_18_DIGITS).multiply(decimal("9")), decimal(MAX_18_DIGITS)},
+                {decimal("-" + MAX_18_DIGITS).multiply(decimal("9")), decimal("-" + MAX_18_DIGITS)},
+                {decimal("4294967296"), decimal("4294967296")},
+                // Scaling up to the larger scale overflows a long
+                {decimal("1"), decimal("1E-19")},
+                {decimal("123456789.5"), decimal("0.0000000000001")},
+                {decimal("-" + MAX_18_DIGITS), decimal("0.1")},
+                // Unscaled values of Long.MIN_VALUE
+                {longMinValue, decimal("1")},
+                {longMinValue, decimal("-1")},
+                {longMinValue, longMinValue},
+                {longMinValue.multiply(decimal("0.01")), decimal("0.5")},
+                // Results of zero
+                {decimal("1.5"), decimal("-1.5")},
+                {decimal("1.50"), decimal("1.5")},
+                // Operands that do not fit in a long
+                {decimal("1234567890123456789012345678"), decimal("0.5")},
+                {decimal("9.999999999999999999999999999999999E6144"), decimal("1")},
+                {decimal("1E-6000"), decimal("1E-100")},
+        };
+    }
+
+    @Test
+    public void testLongMinValueUnscaledValue() {
+        DecimalValue longMinValue = decimal("2147483648").multiply(decimal("-4294967296"));
+        assertSameValue(longMinValue, BigDecimal.valueOf(Long.MIN_VALUE));
+        assertSameValue(longMinValue.negate(), BigDecimal.valueOf(Long.MIN_VALUE).negate());
+        assertSameValue(decimal("0").subtract(longMinValue), BigDecimal.valueOf(Long.MIN_VALUE).negate());
+    }
+
+    @Test(dataProvider = "longValues")
+    public void testValueOfLong(long value) {
+        DecimalValue decimalValue = DecimalValue.valueOf(value);
+        assertSameValue(decimalValue,
+                new BigDecimal(value, MathContext.DECIMAL128).setScale(1, RoundingMode.HALF_EVEN));
+        assertSameValue(decimalValue.add(decimalValue),
+                decimalValue.decimalValue().add(decimalValue.decimalValue(), MathContext.DECIMAL128));
+        assertSameValue(decimalValue.negate(), decimalValue.decimalValue().negate());
+    }
+
+    @DataProvider(name = "longValues")
+    public Object[] longValues() {
+        return new Object[]{
+                0L, 1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE / 10, Long.MIN_VALUE / 10,
+                Long.MAX_VALUE / 10 - 1, Long.MIN_VALUE / 10 + 1, Long.MAX_VALUE / 10 + 1, Long.MIN_VALUE / 10 - 1
+        };
+    }
+
+    @Test
+    public void testValueOfInt() {
+        assertSameValue(DecimalValue.valueOf(Integer.MAX_VALUE), new BigDecimal("2147483647.0"));
+        assertSameValue(DecimalValue.valueOf(Integer.MIN_VALUE), new BigDecimal("-2147483648.0"));
+        assertSameValue(DecimalValue.valueOf(0), new BigDecimal("0.0"));
+    }
+
+    @Test
+    public void testZeroResults() {
+        DecimalValue zero = decimal("1.50").subtract(decimal("1.5"));
+        assertSameValue(zero, new BigDecimal("0.00"));
+        Assert.assertEquals(zero.valueKind, DecimalValueKind.ZERO);
+        Assert.assertFalse(zero.booleanValue());
+
+        DecimalValue zeroProduct = decimal("0.5").multiply(decimal("1.5").subtract(decimal("1.5")));
+        Assert.assertEquals(zeroProduct.decimalValue().compareTo(BigDecimal.ZERO), 0);
+        Assert.assertEquals(zeroProduct.valueKind, DecimalValueKind.ZERO);
+
+        DecimalValue zeroValue = DecimalValue.valueOf(0L);
+        Assert.assertEquals(zeroValue.valueKind, DecimalValueKind.ZERO);
+        assertSameValue(zeroValue.negate(), new BigDecimal("0.0"));
+    }
+
+    private static DecimalValue decimal(String value) {
+        return new DecimalValue(value);
+    }
+
+    private static void assertSameValue(DecimalValue actual, BigDecimal expected) {
+        // BigDecimal equality compares the scale along with the value
+        Assert.assertEquals(actual.decimalValue(), expected);
+        Assert.assertEquals(actual.valueKind == DecimalValueKind.ZERO, expected.signum() == 0);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import io.ballerina.projects.NullBackend;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.test.BCompileUtil;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.PackageCache;
+import org.wso2.ballerinalang.compiler.bir.codegen.model.JIMethodCall;
+import org.wso2.ballerinalang.compiler.bir.codegen.model.JMethodCallInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.RECORD_CHECKPOINT_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.START_CALLABLE_OBSERVATION_METHOD;
+
+/**
+ * Tests the source position arguments emitted by {@link JvmObservabilityGen}.
+ *
+ * @since 2201.13.0
+ */
+public class JvmObservabilityGenTest {
+
+    private static final String SOURCE = "test-src/observability/observed_calls.bal";
+    private static final String SOURCE_FILE_NAME = "observed_calls.bal";
+
+    private BIRFunction mainFunc;
+    private final Map<BIRVariableDcl, Object> constantValues = new HashMap<>();
+
+    @BeforeClass
+    public void setup() {
+        Project project = BCompileUtil.loadProject(SOURCE);
+        NullBackend nullBackend = NullBackend.from(project.currentPackage().getCompilation());
+        Assert.assertFalse(nullBackend.hasErrors());
+        BIRPackage bir = project.currentPackage().getCompilation().defaultModuleBLangPackage().symbol.bir;
+
+        CompilerContext context = project.projectEnvironmentContext().getService(CompilerContext.class);
+        new JvmObservabilityGen(PackageCache.getInstance(context), SymbolTable.getInstance(context))
+                .instrumentPackage(bir);
+
+        for (BIRNonTerminator instruction : bir.functions.getFirst().basicBlocks.getFirst().instructions) {
+            if (instruction instanceof ConstantLoad constantLoad) {
+                constantValues.put(constantLoad.lhsOp.variableDcl, constantLoad.value);
+            }
+        }
+        mainFunc = bir.functions.stream()
+                .filter(func -> "main".equals(func.name.getValue()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    public void testFunctionBodyPositionId() {
+        JIMethodCall bodyObservation = getStartObservationCalls().stream()
+                .filter(call -> call.pos == null)
+                .findFirst()
+                .orElseThrow();
+        Assert.assertEquals(constantValue(bodyObservation.args.get(1)), SOURCE_FILE_NAME + ":23:1");
+    }
+
+    @Test
+    public void testInvocationPositionIds() {
+        List<JIMethodCall> invocationObservations = getStartObservationCalls().stream()
+                .filter(call -> call.pos != null)
+                .toList();
+        Assert.assertEquals(invocationObservations.size(), 2);
+
+        List<Integer> lines = new ArrayList<>();
+        for (JIMethodCall call : invocationObservations) {
+            Location pos = call.pos;
+            String expectedPositionId = pos.lineRange().fileName() + ":" + (pos.lineRange().startLine().line() + 1)
+                    + ":" + (pos.lineRange().startLine().offset() + 1);
+            Assert.assertEquals(constantValue(call.args.get(1)), expectedPositionId);
+            lines.add(pos.lineRange().startLine().line() + 1);
+        }
+        Assert.assertEquals(lines, List.of(25, 26));
+        Assert.assertNotSame(invocationObservations.get(0).args.get(1), invocationObservations.get(1).args.get(1));
+    }
+
+    @Test
+    public void testModuleConstantIsShared() {
+        List<JIMethodCall> observations = getStartObservationCalls();
+        Assert.assertEquals(observations.size(), 3);
+        BIROperand moduleOperand = observations.getFirst().args.getFirst();
+        Assert.assertTrue(constantValue(moduleOperand) instanceof String);
+        for (JIMethodCall call : observations) {
+            Assert.assertSame(call.args.getFirst(), moduleOperand);
+        }
+    }
+
+    @Test
+    public void testCheckpointPositionArgs() {
+        int checkpoints = 0;
+        for (BIRBasicBlock basicBlock : mainFunc.basicBlocks) {
+            List<BIRNonTerminator> instructions = basicBlock.instructions;
+            for (int i = 0; i < instructions.size(); i++) {
+                if (!(instructions.get(i) instanceof JMethodCallInstruction call)
+                        || !RECORD_CHECKPOINT_METHOD.equals(call.name)) {
+                    continue;
+                }
+                checkpoints++;
+                Assert.assertEquals(constantValue(call.args.get(1)), SOURCE_FILE_NAME);
+                if (i < 2) {
+                    // The line and column are loaded by a predecessor at the same position
+                    continue;
+                }
+                ConstantLoad startLine = (ConstantLoad) instructions.get(i - 2);
+                ConstantLoad startColumn = (ConstantLoad) instructions.get(i - 1);
+                Assert.assertSame(startLine.lhsOp, call.args.get(2));
+                Assert.assertSame(startColumn.lhsOp, call.args.get(3));
+                Assert.assertEquals(startLine.value, startLine.pos.lineRange().startLine().line() + 1);
+                Assert.assertEquals(startColumn.value, startColumn.pos.lineRange().startLine().offset() + 1);
+            }
+        }
+        Assert.assertTrue(checkpoints > 0);
+    }
+
+    private List<JIMethodCall> getStartObservationCalls() {
+        List<JIMethodCall> calls = new ArrayList<>();
+        for (BIRBasicBlock basicBlock : mainFunc.basicBlocks) {
+            if (basicBlock.terminator instanceof JIMethodCall call
+                    && START_CALLABLE_OBSERVATION_METHOD.equals(call.name)) {
+                calls.add(call);
+            }
+        }
+        return calls;
+    }
+
+    private Object constantValue(BIROperand operand) {
+        Assert.assertTrue(constantValues.containsKey(operand.variableDcl), operand.variableDcl.name.getValue());
+        return constantValues.get(operand.variableDcl);
+    }
+}
@@ -0,0 +1,143 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+type Point record {|
+    int x;
+    int y;
+|};
+
+function swap() {
+    int a = 1;
+    int b = 2;
+    [a, b] = [b, a];
+    test:assertEquals(a, 2);
+    test:assertEquals(b, 1);
+}
+
+function swapInLoop() {
+    int a = 0;
+    int b = 1;
+    foreach int i in 0 ..< 10 {
+        [a, b] = [b, a + b];
+    }
+    test:assertEquals(a, 55);
+    test:assertEquals(b, 89);
+}
+
+function destructureMixedTuple() {
+    string name;
+    int|string id;
+    float score;
+    [name, id, score] = ["Anne", 10, 5.5];
+    test:assertEquals(name, "Anne");
+    test:assertEquals(id, 10);
+    test:assertEquals(score, 5.5);
+}
+
+function destructureRecord() {
+    Point {x, y} = {x: 3, y: 4};
+    test:assertEquals(x, 3);
+    test:assertEquals(y, 4);
+}
+
+function destructureCastRecord() {
+    int x;
+    int y;
+    {x, y} = <Point>{x: 3, y: 4};
+    test:assertEquals(x, 3);
+    test:assertEquals(y, 4);
+}
+
+function tempNamesDoNotAlias() {
+    int a = 1;
+    int b = 2;
+    [a, b] = [b, a];
+    [a, b] = [b, a];
+    test:assertEquals(a, 1);
+    test:assertEquals(b, 2);
+}
+
+function membersAreSnapshotAtConstruction() {
+    int[] values = [1, 2];
+    int[] first;
+    int second;
+    [first, second] = [values, values[1]];
+    values[1] = 20;
+    test:assertEquals(first, [1, 20]);
+    test:assertEquals(second, 2);
+}
+
+function escapingTuple() {
+    [int, string] pair = [1, "one"];
+    [int, string] copy = pair;
+    copy[0] = 2;
+    test:assertEquals(pair[0], 2);
+}
+
+function swapped(int a, int b) returns [int, int] {
+    return [b, a];
+}
+
+public function publicSwapped(int a, int b) returns [int, int] {
+    return [b, a];
+}
+
+function fibonacciStep(int a, int b) returns [int, int] {
+    return [b, a + b];
+}
+
+function destructureCallResult() {
+    int a = 1;
+    int b = 2;
+    [a, b] = swapped(a, b);
+    test:assertEquals(a, 2);
+    test:assertEquals(b, 1);
+}
+
+function destructureCallResultInLoop() {
+    int a = 1;
+    int b = 2;
+    foreach int i in 0 ..< 5 {
+        [a, b] = swapped(a, b);
+    }
+    test:assertEquals(a, 2);
+    test:assertEquals(b, 1);
+}
+
+function destructurePublicCallResult() {
+    int a = 1;
+    int b = 2;
+    [a, b] = publicSwapped(a, b);
+    test:assertEquals(a, 2);
+    test:assertEquals(b, 1);
+}
+
+function destructurePanickingCallResult() {
+    int a = 0;
+    int b = 1;
+    foreach int i in 0 ..< 10 {
+        [a, b] = fibonacciStep(a, b);
+    }
+    test:assertEquals(a, 55);
+    test:assertEquals(b, 89);
+}
+
+function escapingCallResult() {
+    [int, int] pair = swapped(1, 2);
+    test:assertEquals(pair, [2, 1]);
+}
@@ -0,0 +1,134 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+type Person record {
+    string name;
+    int age;
+};
+
+type Student record {
+    string name;
+    int age;
+    string school;
+};
+
+type Shape [string, int]|[string, int, int];
+
+function testCastAfterTypeTest() {
+    any value = <Person>{name: "John", age: 30};
+    if value is Person {
+        Person person = <Person>value;
+        test:assertEquals(person.name, "John");
+    } else {
+        test:assertFail("expected a Person");
+    }
+
+    value = 10;
+    if value is Person {
+        test:assertFail("did not expect a Person");
+    }
+}
+
+function testNegatedTypeTest() {
+    Person|Student|error value = <Student>{name: "Anne", age: 20, school: "ABC"};
+    if !(value is error) {
+        Person|Student result = <Person|Student>value;
+        test:assertTrue(result is Student);
+    } else {
+        test:assertFail("did not expect an error");
+    }
+
+    value = error("invalid");
+    if !(value is error) {
+        test:assertFail("expected an error");
+    }
+}
+
+function testMatchNarrowing() {
+    test:assertEquals(describe(10), "int");
+    test:assertEquals(describe("ten"), "string");
+    test:assertEquals(describe(<Person>{name: "John", age: 30}), "person John");
+    test:assertEquals(describe(["square", 2]), "shape square");
+    test:assertEquals(describe(["rectangle", 2, 3]), "shape rectangle");
+    test:assertEquals(describe(()), "nil");
+}
+
+function describe(int|string|Person|Shape? value) returns string {
+    match value {
+        var v if v is int => {
+            return "int";
+        }
+        var v if v is string => {
+            return "string";
+        }
+        var v if v is Person => {
+            return "person " + v.name;
+        }
+        var v if v is Shape => {
+            return "shape " + v[0];
+        }
+    }
+    return "nil";
+}
+
+function testReassignmentInvalidatesNarrowing() {
+    int|string|float value = 1;
+    int count = 0;
+    while count < 3 {
+        if value is int {
+            value = "one";
+        } else if value is string {
+            value = 1.0;
+        } else {
+            value = <float>value + 1.0;
+        }
+        count += 1;
+    }
+    test:assertEquals(value, 2.0);
+}
+
+function testCastFailureAfterReassignment() {
+    any|error value = 5;
+    if value is int {
+        value = "five";
+        int|error result = trap castToInt(value);
+        test:assertTrue(result is error);
+    }
+}
+
+function castToInt(any|error value) returns int {
+    return <int>value;
+}
+
+function testTrappedNarrowing() {
+    any value = "text";
+    int|error result = trap castAndAdd(value);
+    if result is error {
+        test:assertTrue(value is string);
+    } else {
+        test:assertFail("expected a cast error");
+    }
+}
+
+function castAndAdd(any value) returns int {
+    if value is string|int {
+        int i = <int>value;
+        return i + 1;
+    }
+    return 0;
+}